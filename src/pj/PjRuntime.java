@@ -23,17 +23,27 @@
 package pj;
 
 import pj.pr.*;
+import pj.pr.backend.ExecutionBackend;
+import pj.pr.backend.ExecutionBackends;
+import pj.pr.backend.ForkJoinBackend;
 import pj.pr.exceptions.OmpCancelCurrentTaskException;
 import pj.pr.task.SingleThreadVirtualTarget;
+import pj.pr.task.TaskGroup;
 import pj.pr.task.TargetExecutor;
 import pj.pr.task.TargetTask;
 import pj.pr.task.TargetWorkerThread;
 import pj.pr.task.VirtualTarget;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 public class PjRuntime {
@@ -41,9 +51,13 @@ public class PjRuntime {
 	private static Pyjama.Platform platform;
 	
 	private static InternalControlVariables initial_icv = new InternalControlVariables();
+	
+	/*the backend running the slave threads of parallel regions*/
+	private static volatile ExecutionBackend executionBackend = ExecutionBackends.createConfigured();
 		
-	/*Xing added this for store of Thread real id and related icv copy 2014.3.4*/
-	public static ConcurrentHashMap<Long, InternalControlVariables> threadICVMap = new ConcurrentHashMap<Long, InternalControlVariables>();
+	/* ICVs of threads not owned by Pyjama (encountering threads, EDT, pooled threads of an execution
+	 * backend). PjWorkerThreads keep their ICV in a field instead. Entries go away with their threads. */
+	private static final ThreadLocal<InternalControlVariables> threadICV = new ThreadLocal<InternalControlVariables>();
 
 	/*Xing added this to substitute critical region, using as lock 2014.4.30*/
 	public static ReentrantLock OMP_lock = new ReentrantLock();
@@ -57,7 +71,12 @@ public class PjRuntime {
 //	private static int ThreadsBusy;
 //	private static int ActiveParRegions;
 	
+	/* adaptive schedules of schedule(auto) loops, keyed by class name and worksharing id */
+	private static ConcurrentHashMap<String, AdaptiveSchedule> adaptiveSchedules = new ConcurrentHashMap<String, AdaptiveSchedule>();
+	
 	/*Xing added this to used as a monitor for reduction in worksharing block 2014.8.4*/
+	/* reductions are combined at the team barrier now, see combineReduction, the lock is kept for code generated before */
+	@Deprecated
 	public static ReentrantLock reductionLockForWorksharing = new ReentrantLock();
 	
 	@Deprecated
@@ -66,7 +85,18 @@ public class PjRuntime {
 	
 
 	public static void submit(int id, Callable<Void> task, InternalControlVariables parent_icv){
-		PjExecutor.submit(id, task, parent_icv);
+		executionBackend.submit(id, task, parent_icv);
+	}
+	
+	public static void setExecutionBackend(ExecutionBackend backend) {
+		if (null == backend) {
+			throw new NullPointerException("Execution backend is null.");
+		}
+		executionBackend = backend;
+	}
+	
+	public static ExecutionBackend getExecutionBackend() {
+		return executionBackend;
 	}
 	
 	public static InternalControlVariables inheritICV(InternalControlVariables current_icv){
@@ -87,19 +117,38 @@ public class PjRuntime {
 	
 	
 	public static void recoverParentICV(InternalControlVariables parent_icv) {
-		threadICVMap.put(Thread.currentThread().getId(), parent_icv);
+		setCurrentThreadICV(parent_icv);
 	}
 	
 	public static void setCurrentThreadICV(InternalControlVariables icv) {
-		threadICVMap.put(Thread.currentThread().getId(), icv);
+		Thread currentThread = Thread.currentThread();
+		if (currentThread instanceof PjWorkerThread) {
+			((PjWorkerThread)currentThread).icv = icv;
+		} else if (null == icv) {
+			threadICV.remove();
+		} else {
+			threadICV.set(icv);
+		}
 	}
 	
 	public static void setEDTThreadICV(InternalControlVariables icv) {
-		threadICVMap.put(Thread.currentThread().getId(), icv);
+		setCurrentThreadICV(icv);
+	}
+	
+	/*
+	 * Returns the ICV bound to current thread, or null if current thread has never been
+	 * bound to any ICV.
+	 */
+	public static InternalControlVariables getBoundThreadICV() {
+		Thread currentThread = Thread.currentThread();
+		if (currentThread instanceof PjWorkerThread) {
+			return ((PjWorkerThread)currentThread).icv;
+		}
+		return threadICV.get();
 	}
 	
 	public static InternalControlVariables getCurrentThreadICV() {
-		InternalControlVariables icv = threadICVMap.get(Thread.currentThread().getId());
+		InternalControlVariables icv = getBoundThreadICV();
 		if (null == icv) {
 			icv = initial_icv;
 		}
@@ -142,7 +191,10 @@ public class PjRuntime {
 		if (null == icv.OMP_CurrentParallelRegionBarrier) {
 			throw new pj.pr.exceptions.OmpBrokenBarrierException();
 		}
-		icv.OMP_CurrentParallelRegionBarrier.decreaseParties();
+		icv.OMP_CurrentParallelRegionBarrier.decreaseParties(icv.currentThreadAliasID);
+		if (null != icv.OMP_CurrentWorkShareRing) {
+			icv.OMP_CurrentWorkShareRing.retire(icv.currentThreadAliasID, icv.worksharingEncounter);
+		}
 	}
 	
 	/*Xing added this to substitute to using as openMP flush directive 2014.4.30*/
@@ -158,9 +210,103 @@ public class PjRuntime {
 			throw new pj.pr.exceptions.OmpBrokenBarrierException();
 		}
 		checkParallelCancellationPoint();
-		try {icv.OMP_CurrentParallelRegionBarrier.await();}
+		try {
+			if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+				ForkJoinBackend.managedAwait(icv.OMP_CurrentParallelRegionBarrier, icv.currentThreadAliasID);
+			} else {
+				icv.OMP_CurrentParallelRegionBarrier.await(icv.currentThreadAliasID);
+			}
+		}
+		catch (InterruptedException e) {e.printStackTrace();}
+		catch (BrokenBarrierException e) {e.printStackTrace();}
+	}
+	
+	/*
+	 * Returns the empty reduction slot of the current thread, for the partials of the reductions
+	 * that end at the next barrier. Outside of any parallel region the thread gets a slot of its own.
+	 */
+	public static ReductionSlot getReductionSlot() {
+		InternalControlVariables icv = getCurrentThreadICV();
+		ReductionSlot slot;
+		if (null == icv.OMP_CurrentParallelRegionBarrier) {
+			slot = new ReductionSlot();
+		} else {
+			slot = icv.OMP_CurrentParallelRegionBarrier.reductionSlotOf(icv.currentThreadAliasID);
+		}
+		slot.clear();
+		return slot;
+	}
+	
+	/*
+	 * The barrier at the end of reductions, it combines the reduction slots of the team in the
+	 * barrier's combining tree instead of serialising the threads on a lock. Returns true in the
+	 * one thread whose slot then holds the totals of the team, which applies them to the reduction
+	 * variables and calls endReduction() to release the team. The other threads return false once
+	 * the team is released.
+	 */
+	public static boolean combineReduction(ReductionSlot slot) {
+		InternalControlVariables icv = getCurrentThreadICV();
+		if (null == icv.OMP_CurrentParallelRegionBarrier) {
+			return true;
+		}
+		checkParallelCancellationPoint();
+		try {
+			if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+				return ForkJoinBackend.managedAwaitCombining(icv.OMP_CurrentParallelRegionBarrier, icv.currentThreadAliasID, slot);
+			} else {
+				return icv.OMP_CurrentParallelRegionBarrier.awaitCombining(icv.currentThreadAliasID, slot);
+			}
+		}
 		catch (InterruptedException e) {e.printStackTrace();}
 		catch (BrokenBarrierException e) {e.printStackTrace();}
+		return false;
+	}
+	
+	public static void endReduction() {
+		InternalControlVariables icv = getCurrentThreadICV();
+		if (null != icv.OMP_CurrentParallelRegionBarrier) {
+			icv.OMP_CurrentParallelRegionBarrier.release();
+		}
+	}
+	
+	/*
+	 * Combines the private copies of an array section into the array once combineReduction()
+	 * has returned, every thread of the team combines its share of the section. The array must
+	 * not be read before the threads met at another barrier.
+	 */
+	public static void combineReductionSection(ReductionSlot slot, int section, Object array, int lower, int length) {
+		InternalControlVariables icv = getCurrentThreadICV();
+		if (null == icv.OMP_CurrentParallelRegionBarrier) {
+			slot.combineSection(section, array, lower, lower + length);
+		} else {
+			icv.OMP_CurrentParallelRegionBarrier.combineSection(icv.currentThreadAliasID, slot, section, array, lower, length);
+		}
+	}
+	
+	/*
+	 * Grows a list by the private lists of a concat reduction, called by the thread that holds the
+	 * totals of combineReduction() before it ends the reduction.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void growReductionList(ReductionSlot slot, int section, List<?> list) {
+		InternalControlVariables icv = getCurrentThreadICV();
+		if (null == icv.OMP_CurrentParallelRegionBarrier) {
+			((List<Object>) list).addAll(slot.getSectionList(section));
+		} else {
+			icv.OMP_CurrentParallelRegionBarrier.growSection(slot, section, list);
+		}
+	}
+	
+	/*
+	 * Copies the private list of a concat reduction into the list grown by growReductionList()
+	 * once combineReduction() has returned, every thread of the team copies its own list. The list
+	 * must not be read before the threads met at another barrier.
+	 */
+	public static void concatReductionList(ReductionSlot slot, int section, List<?> list) {
+		InternalControlVariables icv = getCurrentThreadICV();
+		if (null != icv.OMP_CurrentParallelRegionBarrier) {
+			icv.OMP_CurrentParallelRegionBarrier.concatSection(icv.currentThreadAliasID, slot, section, list);
+		}
 	}
 	
 	public static void setCurrentParallelRegionThreadNumber(int num) {
@@ -178,6 +324,267 @@ public class PjRuntime {
 		icv.OMP_loopCursor.set(0);
 	}
 	
+	/*
+	 * Enters the next worksharing loop of the current thread, returns the slot of the team's
+	 * work-share ring that holds the cursors of this loop. The caller must leave the slot when
+	 * it is done with the loop. A loop outside of any parallel region gets a ring of its own.
+	 */
+	public static WorkShareRing.Slot enterWorkShare() {
+		InternalControlVariables icv = getCurrentThreadICV();
+		if (null == icv.OMP_CurrentWorkShareRing) {
+			icv.OMP_CurrentWorkShareRing = new WorkShareRing(1);
+		}
+		return icv.OMP_CurrentWorkShareRing.enter(icv.worksharingEncounter++);
+	}
+
+	/*
+	 * Guided schedule: grab the next chunk of a loop whose normalised iteration space is [cursor, end].
+	 * The chunk size only depends on the grabbed start, so a single successful CAS both claims the
+	 * chunk and fixes its size; the caller recovers the size by getGuidedChunkSize(start, ...).
+	 * Returns the start of the chunk, or a value greater than end when the loop is exhausted.
+	 */
+	public static int getGuidedChunkStart(AtomicInteger cursor, int end, int threadNumber, int minChunk) {
+		for (;;) {
+			int start = cursor.get();
+			if (start > end) {
+				return start;
+			}
+			int next = start + getGuidedChunkSize(start, end, threadNumber, minChunk);
+			if (next < start) {
+				next = Integer.MAX_VALUE;
+			}
+			if (cursor.compareAndSet(start, next)) {
+				return start;
+			}
+		}
+	}
+
+	/*
+	 * Chunk size for a guided grab starting at start: ceil(remaining/threadNumber), at least minChunk.
+	 */
+	public static int getGuidedChunkSize(int start, int end, int threadNumber, int minChunk) {
+		long remaining = (long)end - start + 1;
+		if (threadNumber < 1) {
+			threadNumber = 1;
+		}
+		long size = (remaining + threadNumber - 1) / threadNumber;
+		if (size < minChunk) {
+			size = minChunk;
+		}
+		if (size < 1) {
+			size = 1;
+		}
+		return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)size;
+	}
+
+	/*
+	 * Guided schedule of a 64-bit iteration space, see getGuidedChunkStart(AtomicInteger, ...).
+	 */
+	public static long getGuidedChunkStart(AtomicLong cursor, long end, int threadNumber, long minChunk) {
+		for (;;) {
+			long start = cursor.get();
+			if (start > end) {
+				return start;
+			}
+			long next = start + getGuidedChunkSize(start, end, threadNumber, minChunk);
+			if (next < start) {
+				next = Long.MAX_VALUE;
+			}
+			if (cursor.compareAndSet(start, next)) {
+				return start;
+			}
+		}
+	}
+
+	public static long getGuidedChunkSize(long start, long end, int threadNumber, long minChunk) {
+		long remaining = end - start + 1;
+		if (threadNumber < 1) {
+			threadNumber = 1;
+		}
+		long size = remaining / threadNumber + ((0 == remaining % threadNumber) ? 0 : 1);
+		if (size < minChunk) {
+			size = minChunk;
+		}
+		return (size < 1) ? 1 : size;
+	}
+
+	/*
+	 * Called by every thread entering a schedule(runtime) loop, returns the schedule of this
+	 * execution. The first thread of the team decides it and publishes it in the loop's slot.
+	 * A runtime schedule set to auto adapts like schedule(auto).
+	 */
+	public static AdaptiveSchedule.Plan beginRunSchedule(WorkShareRing.Slot slot, String loopName, long end, int threadNumber) {
+		InternalControlVariables icv = getCurrentThreadICV();
+		if (Pyjama.omp_sched_auto == icv.run_sched_var) {
+			return beginAutoSchedule(slot, loopName, end, threadNumber);
+		}
+		if (slot.claim()) {
+			slot.publish(new AdaptiveSchedule.Plan(icv.run_sched_var, icv.run_sched_chunk_var));
+		}
+		return (AdaptiveSchedule.Plan) slot.getSchedule();
+	}
+
+	/*
+	 * Called by every thread entering a schedule(auto) loop. Each loop, named by its class and
+	 * worksharing id, learns its schedule from the previous executions.
+	 */
+	public static AdaptiveSchedule.Plan beginAutoSchedule(WorkShareRing.Slot slot, String loopName, long end, int threadNumber) {
+		if (slot.claim()) {
+			AdaptiveSchedule schedule = adaptiveSchedules.get(loopName);
+			if (null == schedule) {
+				AdaptiveSchedule created = new AdaptiveSchedule(loopName);
+				schedule = adaptiveSchedules.putIfAbsent(loopName, created);
+				if (null == schedule) {
+					schedule = created;
+				}
+			}
+			slot.publish(schedule.nextPlan(end, threadNumber));
+		}
+		return (AdaptiveSchedule.Plan) slot.getSchedule();
+	}
+
+	/*
+	 * Called by every thread entering a schedule(steal) loop, the first thread of the team splits
+	 * [0, end] into one block per thread.
+	 */
+	public static StealingLoopRanges beginStealSchedule(WorkShareRing.Slot slot, long end, int threadNumber) {
+		if (slot.claim()) {
+			slot.publish(new StealingLoopRanges(end, threadNumber));
+		}
+		return (StealingLoopRanges) slot.getSchedule();
+	}
+
+	/*
+	 * Called by every thread entering a worksharing loop over the elements of a collection, the loop
+	 * is shared out by the indices of the returned list. Lists with random access are used as they are,
+	 * other collections are copied once, by the first thread of the team entering the loop.
+	 */
+	public static List<?> beginElementWorkShare(WorkShareRing.Slot slot, Iterable<?> elements) {
+		if (elements instanceof List && elements instanceof RandomAccess) {
+			return (List<?>) elements;
+		}
+		if (slot.claimElements()) {
+			ArrayList<Object> copy;
+			if (elements instanceof Collection) {
+				copy = new ArrayList<Object>((Collection<?>) elements);
+			} else {
+				copy = new ArrayList<Object>();
+				for (Object element: elements) {
+					copy.add(element);
+				}
+			}
+			slot.publishElements(copy);
+		}
+		return slot.getElements();
+	}
+
+	/*
+	 * Called by every thread entering a stream loop, the first thread of the team creates the stream
+	 * the team claims its batches from. Queues are consumed, other sources are iterated once.
+	 */
+	public static WorkShareStream beginStream(WorkShareRing.Slot slot, Iterable<?> source) {
+		if (slot.claim()) {
+			slot.publish(new WorkShareStream(source, getCurrentThreadICV().OMP_CurrentWorksharingRegionCancellationFlag));
+		}
+		return (WorkShareStream) slot.getSchedule();
+	}
+
+	public static WorkShareStream beginStream(WorkShareRing.Slot slot, Iterator<?> source) {
+		if (slot.claim()) {
+			slot.publish(new WorkShareStream(source, getCurrentThreadICV().OMP_CurrentWorksharingRegionCancellationFlag));
+		}
+		return (WorkShareStream) slot.getSchedule();
+	}
+
+	/*
+	 * The adaptive schedule learnt for a schedule(auto) loop, or null if the loop has not run yet.
+	 */
+	public static AdaptiveSchedule getAdaptiveSchedule(String loopName) {
+		return adaptiveSchedules.get(loopName);
+	}
+
+	/*
+	 * Scheduling routine for loops whose schedule is only known at run time. Returns the start of
+	 * the calling thread's next chunk in the normalised iteration space [0, end], or a value greater
+	 * than end when the thread has no more chunk. previous is the start returned by the last call
+	 * of this thread, or -1 for the first call. chunk less than 1 means the default of the kind.
+	 * Dynamic and guided kinds grab from cursor, which the team must have reset before the loop.
+	 */
+	public static int getRunScheduleChunkStart(int kind, int chunk, AtomicInteger cursor, int previous, int end, int threadNumber, int threadID) {
+		long start;
+		switch (kind) {
+		case Pyjama.omp_sched_dynamic:
+			return cursor.getAndAdd(chunk < 1 ? 1 : chunk);
+		case Pyjama.omp_sched_guided:
+			return getGuidedChunkStart(cursor, end, threadNumber, chunk < 1 ? 1 : chunk);
+		case Pyjama.omp_sched_static:
+			if (chunk < 1) {
+				start = (previous < 0) ? (long)threadID * getRunScheduleChunkSize(kind, chunk, 0, end, threadNumber) : (long)end + 1;
+			} else {
+				start = (previous < 0) ? (long)threadID * chunk : (long)previous + (long)threadNumber * chunk;
+			}
+			return start > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)start;
+		default:
+			throw new RuntimeException("Pyjama: illegal schedule kind " + kind + " at run time");
+		}
+	}
+
+	/*
+	 * Size of the chunk starting at start, which getRunScheduleChunkStart has returned.
+	 */
+	public static int getRunScheduleChunkSize(int kind, int chunk, int start, int end, int threadNumber) {
+		switch (kind) {
+		case Pyjama.omp_sched_guided:
+			return getGuidedChunkSize(start, end, threadNumber, chunk < 1 ? 1 : chunk);
+		case Pyjama.omp_sched_static:
+			if (chunk < 1) {
+				long block = ((long)end + threadNumber) / (threadNumber < 1 ? 1 : threadNumber);
+				return block < 1 ? 1 : (block > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)block);
+			}
+			return chunk;
+		default:
+			return chunk < 1 ? 1 : chunk;
+		}
+	}
+
+	/*
+	 * Scheduling routine of a 64-bit iteration space, see getRunScheduleChunkStart(int, int, AtomicInteger, ...).
+	 */
+	public static long getRunScheduleChunkStart(int kind, int chunk, AtomicLong cursor, long previous, long end, int threadNumber, int threadID) {
+		switch (kind) {
+		case Pyjama.omp_sched_dynamic:
+			return cursor.getAndAdd(chunk < 1 ? 1 : chunk);
+		case Pyjama.omp_sched_guided:
+			return getGuidedChunkStart(cursor, end, threadNumber, chunk < 1 ? 1 : chunk);
+		case Pyjama.omp_sched_static:
+			if (chunk < 1) {
+				return (previous < 0) ? threadID * getRunScheduleChunkSize(kind, chunk, 0L, end, threadNumber) : end + 1;
+			}
+			return (previous < 0) ? (long)threadID * chunk : previous + (long)threadNumber * chunk;
+		default:
+			throw new RuntimeException("Pyjama: illegal schedule kind " + kind + " at run time");
+		}
+	}
+
+	public static long getRunScheduleChunkSize(int kind, int chunk, long start, long end, int threadNumber) {
+		switch (kind) {
+		case Pyjama.omp_sched_guided:
+			return getGuidedChunkSize(start, end, threadNumber, chunk < 1 ? 1 : chunk);
+		case Pyjama.omp_sched_static:
+			if (chunk < 1) {
+				if (threadNumber < 1) {
+					threadNumber = 1;
+				}
+				long iterations = end + 1;
+				long block = iterations / threadNumber + ((0 == iterations % threadNumber) ? 0 : 1);
+				return block < 1 ? 1 : block;
+			}
+			return chunk;
+		default:
+			return chunk < 1 ? 1 : chunk;
+		}
+	}
+
 	public static AtomicInteger get_OMP_orderCursor() {
 		InternalControlVariables icv = getCurrentThreadICV();
 		return icv.OMP_orderCursor;
@@ -245,6 +652,78 @@ public class PjRuntime {
 		setBarrier();
 	}
 	
+	/*
+	 * taskWait() at the end of a parallel region with reductions, its barrier combines the
+	 * reduction slots of the team, see combineReduction.
+	 */
+	public static boolean taskWait(ReductionSlot slot) {
+		InternalControlVariables icv = getCurrentThreadICV();
+		icv.OMP_TaskPool.runTillTaskPoolEmpty();
+		return combineReduction(slot);
+	}
+	
+	/*
+	 * Runs the chunk tasks of a taskloop. They are queued in the task pool, the parked threads of
+	 * the team are woken to run them from their barrier, and the encountering thread runs queued
+	 * tasks as well until all chunks of the loop are finished.
+	 */
+	public static void runTaskGroup(TaskGroup group) {
+		InternalControlVariables icv = getCurrentThreadICV();
+		group.submitTo(icv.OMP_TaskPool);
+		if (group.size() > 1 && null != icv.OMP_CurrentParallelRegionBarrier) {
+			icv.OMP_CurrentParallelRegionBarrier.wakeWaiters();
+		}
+		group.join(icv.OMP_TaskPool);
+	}
+
+	/*
+	 * Number of iterations of a taskloop, the sign of stride gives the direction of the compare.
+	 */
+	public static long getTaskloopTripCount(long init, long end, long stride, boolean inclusive) {
+		if (0 == stride) {
+			throw new RuntimeException("Pyjama: the stride of taskloop cannot be 0");
+		}
+		long distance = (stride > 0) ? end - init : init - end;
+		if (!inclusive) {
+			distance--;
+		}
+		if (distance < 0) {
+			return 0;
+		}
+		return distance / Math.abs(stride) + 1;
+	}
+
+	/*
+	 * Number of chunk tasks of a taskloop of count iterations. num_tasks(n) makes n tasks and
+	 * grainsize(n) tasks of n to 2n-1 iterations, without either clause there is one task per
+	 * thread of the team. The clause values are 0 when absent.
+	 */
+	public static int getTaskloopTaskCount(long count, long grainsize, long numTasks) {
+		if (grainsize < 0 || numTasks < 0) {
+			throw new RuntimeException("Pyjama: grainsize and num_tasks of taskloop have to be positive");
+		}
+		if (count <= 0) {
+			return 0;
+		}
+		long tasks;
+		if (numTasks > 0) {
+			tasks = numTasks;
+		} else if (grainsize > 0) {
+			tasks = Math.max(1, count / grainsize);
+		} else {
+			tasks = getCurrentThreadICV().currentParallelRegionThreadNumber;
+		}
+		return (int) Math.max(1, Math.min(Math.min(tasks, count), Integer.MAX_VALUE));
+	}
+
+	/*
+	 * First iteration of chunk task of a taskloop of count iterations split into tasks chunks,
+	 * the first count % tasks chunks have one iteration more.
+	 */
+	public static long getTaskloopChunkStart(long count, int tasks, long task) {
+		return task * (count / tasks) + Math.min(task, count % tasks);
+	}
+
 	public static void taskCancel() {
 		InternalControlVariables icv = getCurrentThreadICV();
 		icv.OMP_TaskPool.cancelAllTasks();	
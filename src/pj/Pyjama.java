@@ -23,6 +23,8 @@
 package pj;
 
 import pj.pr.*;
+import pj.pr.backend.ExecutionBackends;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * This is the main class which implements the OpenMP 2.5
@@ -89,6 +91,12 @@ public class Pyjama {
 	/*****************************************************************************
 	 * ***************************************************************************
 	 */
+	/* schedule kinds used by omp_set_schedule/omp_get_schedule, same values as omp_sched_t */
+	public static final int omp_sched_static = 1;
+	public static final int omp_sched_dynamic = 2;
+	public static final int omp_sched_guided = 3;
+	public static final int omp_sched_auto = 4;
+	
 	protected static InternalControlVariables icv;
 	
 	/**
@@ -295,16 +303,41 @@ public class Pyjama {
 	 * @return Time duration in (ns) since the last call
 	 */
 	
+	/**
+	 * Set the schedule used by loops with schedule(runtime), the chunk size is left
+	 * as the default of the schedule kind.
+	 * @param scheduleType one of omp_sched_static, omp_sched_dynamic, omp_sched_guided, omp_sched_auto
+	 */
 	public static void omp_set_schedule(int scheduleType)
 	{
+		omp_set_schedule(scheduleType, 0);
+	}
+	
+	/**
+	 * Set the schedule used by loops with schedule(runtime).
+	 * @param scheduleType one of omp_sched_static, omp_sched_dynamic, omp_sched_guided, omp_sched_auto
+	 * @param chunkSize chunk size, a value less than 1 means the default of the schedule kind
+	 */
+	public static void omp_set_schedule(int scheduleType, int chunkSize)
+	{
+		if (scheduleType < omp_sched_static || scheduleType > omp_sched_auto) {
+			throw new RuntimeException("Pyjama: illegal schedule kind " + scheduleType + " in omp_set_schedule");
+		}
 		InternalControlVariables icv = PjRuntime.getCurrentThreadICV();
-		icv.def_sched_var = scheduleType;
+		icv.run_sched_var = scheduleType;
+		icv.run_sched_chunk_var = (chunkSize < 1) ? 0 : chunkSize;
 	}
 	
 	public static int omp_get_schedule()
 	{
 		InternalControlVariables icv = PjRuntime.getCurrentThreadICV();
-		return icv.def_sched_var;
+		return icv.run_sched_var;
+	}
+	
+	public static int omp_get_schedule_chunk_size()
+	{
+		InternalControlVariables icv = PjRuntime.getCurrentThreadICV();
+		return icv.run_sched_chunk_var;
 	}
 	
 	public static int omp_get_thread_limit()
@@ -411,7 +444,63 @@ public class Pyjama {
 		return System.nanoTime();
 	}
 	/**XING TRs (Time Routines) definition END*/
-	
+
+	/**
+	 * Pyjama worker team pool supports
+	 */
+
+	/**
+	 * Set the time (in milliseconds) an idle team worker spins
+	 * before it parks waiting for the next parallel region.
+	 * @param blocktime Specifies the spin time, 0 parks idle workers immediately
+	 */
+	public static void omp_set_blocktime(int blocktime) {
+		if (blocktime < 0) {
+			System.err.println("Pyjama Error:omp_set_blocktime: cannot set blocktime below 0");
+			return;
+		}
+		InternalControlVariables.PJ_BLOCKTIME = blocktime;
+	}
+
+	public static int omp_get_blocktime() {
+		return InternalControlVariables.PJ_BLOCKTIME;
+	}
+
+	/**
+	 * Start idle team workers in advance, so that following parallel
+	 * regions are handed to existing threads.
+	 * @param threadNumber Specifies the number of idle workers to keep ready
+	 */
+	public static void omp_prewarm_team(int threadNumber) {
+		PjExecutor.prewarmTeam(threadNumber);
+	}
+
+	/**
+	 * Select the backend which runs the threads of following parallel regions.
+	 * @param backendName Specifies "platform", "forkjoin", "virtual" or the class name of
+	 * a pj.pr.backend.ExecutionBackend implementation
+	 */
+	public static void omp_set_execution_backend(String backendName) {
+		PjRuntime.setExecutionBackend(ExecutionBackends.create(backendName));
+	}
+
+	public static String omp_get_execution_backend() {
+		return PjRuntime.getExecutionBackend().getName();
+	}
+
+	/**
+	 * Pyjama stream worksharing supports
+	 */
+
+	/**
+	 * End the stream loops (omp for stream) consuming queue, once they
+	 * have taken the items put before.
+	 * @param queue Specifies the queue fed to the stream loop
+	 */
+	public static void omp_end_stream(BlockingQueue<?> queue) {
+		WorkShareStream.end(queue);
+	}
+
 	/**
 	 * Pyjama executor model supports
 	 * Xing Fan 2015.8.31 
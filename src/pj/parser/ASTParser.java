@@ -55,9 +55,13 @@ public final class ASTParser implements ASTParserConstants {
  * THE AUXILARY FUNCTION IS HERE *
  *****************************************/
 
+    /* the reductions declared by the declare reduction directives of the compilation unit, by name and type */
+    private Map<String, OmpDeclareReduction> declaredReductions = new HashMap<String, OmpDeclareReduction>();
+
     void reset(InputStream in, String encoding) {
         ReInit(in, encoding);
         token_source.clearComments();
+        declaredReductions = new HashMap<String, OmpDeclareReduction>();
     }
 
     private List add(List list, Object obj) {
@@ -124,6 +128,22 @@ public final class ASTParser implements ASTParserConstants {
         throw e;
     }
 
+    /*
+     * A stream loop hands out the items of its source in the order they come, in batches,
+     * so it cannot be scheduled, ordered or collapsed.
+     */
+    private void checkStreamClauses(boolean stream, Expression batch, boolean scheduled, boolean ordered, int collapse) throws ParseException {
+        if (!stream) {
+            if (null != batch) {
+                throw new ParseException("Pyjama Parsing Error: batch clause needs the stream clause");
+            }
+            return;
+        }
+        if (scheduled || ordered || collapse > 1) {
+            throw new ParseException("Pyjama Parsing Error: stream clause cannot be combined with schedule, ordered or collapse clause");
+        }
+    }
+
     static final class GTToken extends Token {
 
         int realKind = ASTParserConstants.GT;
@@ -572,40 +592,9 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(SEMICOLON);
       label_8:
       while (true) {
-        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-        case ABSTRACT:
-        case BOOLEAN:
-        case BYTE:
-        case CHAR:
-        case CLASS:
-        case DOUBLE:
-        case ENUM:
-        case FINAL:
-        case FLOAT:
-        case INT:
-        case INTERFACE:
-        case LONG:
-        case NATIVE:
-        case PRIVATE:
-        case PROTECTED:
-        case PUBLIC:
-        case SHORT:
-        case STATIC:
-        case STRICTFP:
-        case SYNCHRONIZED:
-        case TRANSIENT:
-        case VOID:
-        case VOLATILE:
-        case OPENMP_PRAGMA:
-        case IDENTIFIER:
-        case LBRACE:
-        case SEMICOLON:
-        case AT:
-        case LT:
+        if (jj_2_4(1)) {
           ;
-          break;
-        default:
-          jj_la1[18] = jj_gen;
+        } else {
           break label_8;
         }
         member = ClassOrInterfaceBodyDeclaration(false);
@@ -613,7 +602,7 @@ public final class ASTParser implements ASTParserConstants {
       }
       break;
     default:
-      jj_la1[19] = jj_gen;
+      jj_la1[18] = jj_gen;
       ;
     }
     jj_consume_token(RBRACE);
@@ -637,7 +626,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[20] = jj_gen;
+        jj_la1[19] = jj_gen;
         break label_9;
       }
       ann = Annotation();
@@ -650,7 +639,7 @@ public final class ASTParser implements ASTParserConstants {
       args = Arguments();
       break;
     default:
-      jj_la1[21] = jj_gen;
+      jj_la1[20] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -658,7 +647,7 @@ public final class ASTParser implements ASTParserConstants {
       classBody = ClassOrInterfaceBody(false);
       break;
     default:
-      jj_la1[22] = jj_gen;
+      jj_la1[21] = jj_gen;
       ;
     }
     {if (true) return new EnumConstantDeclaration(line, column, token.endLine, token.endColumn,popJavadoc(), annotations, name, args, classBody);}
@@ -679,7 +668,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[23] = jj_gen;
+        jj_la1[22] = jj_gen;
         break label_10;
       }
       jj_consume_token(COMMA);
@@ -703,7 +692,7 @@ public final class ASTParser implements ASTParserConstants {
       typeBound = TypeBound();
       break;
     default:
-      jj_la1[24] = jj_gen;
+      jj_la1[23] = jj_gen;
       ;
     }
      {if (true) return new TypeParameter(line, column, token.endLine, token.endColumn,name, typeBound);}
@@ -723,7 +712,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[25] = jj_gen;
+        jj_la1[24] = jj_gen;
         break label_11;
       }
       jj_consume_token(BIT_AND);
@@ -740,40 +729,9 @@ public final class ASTParser implements ASTParserConstants {
     jj_consume_token(LBRACE);
     label_12:
     while (true) {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case ABSTRACT:
-      case BOOLEAN:
-      case BYTE:
-      case CHAR:
-      case CLASS:
-      case DOUBLE:
-      case ENUM:
-      case FINAL:
-      case FLOAT:
-      case INT:
-      case INTERFACE:
-      case LONG:
-      case NATIVE:
-      case PRIVATE:
-      case PROTECTED:
-      case PUBLIC:
-      case SHORT:
-      case STATIC:
-      case STRICTFP:
-      case SYNCHRONIZED:
-      case TRANSIENT:
-      case VOID:
-      case VOLATILE:
-      case OPENMP_PRAGMA:
-      case IDENTIFIER:
-      case LBRACE:
-      case SEMICOLON:
-      case AT:
-      case LT:
+      if (jj_2_5(1)) {
         ;
-        break;
-      default:
-        jj_la1[26] = jj_gen;
+      } else {
         break label_12;
       }
       member = ClassOrInterfaceBodyDeclaration(isInterface);
@@ -790,10 +748,12 @@ public final class ASTParser implements ASTParserConstants {
    Modifier modifier;
    BodyDeclaration ret;
     pushJavadoc();
-    if (jj_2_6(2)) {
+    if (jj_2_8(2)) {
       ret = InitializerDeclaration();
              if (isInterface)
                 throwParseException(token, "An interface cannot have initializers");
+    } else if (getToken(1).kind == OPENMP_PRAGMA && getToken(2).kind == IDENTIFIER && "declare".equals(getToken(2).image)) {
+      ret = OmpDeclareReduction();
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case ABSTRACT:
@@ -830,7 +790,7 @@ public final class ASTParser implements ASTParserConstants {
                                      isAsyncMethod = true;
           break;
         default:
-          jj_la1[27] = jj_gen;
+          jj_la1[25] = jj_gen;
           ;
         }
         modifier = Modifiers();
@@ -846,10 +806,10 @@ public final class ASTParser implements ASTParserConstants {
           ret = AnnotationTypeDeclaration(modifier);
           break;
         default:
-          jj_la1[28] = jj_gen;
-          if (jj_2_4(2147483647)) {
+          jj_la1[26] = jj_gen;
+          if (jj_2_6(2147483647)) {
             ret = ConstructorDeclaration(modifier);
-          } else if (jj_2_5(2147483647)) {
+          } else if (jj_2_7(2147483647)) {
             ret = FieldDeclaration(modifier);
           } else {
             switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -867,7 +827,7 @@ public final class ASTParser implements ASTParserConstants {
               ret = MethodDeclaration(modifier, isAsyncMethod);
               break;
             default:
-              jj_la1[29] = jj_gen;
+              jj_la1[27] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
@@ -879,7 +839,7 @@ public final class ASTParser implements ASTParserConstants {
                 ret = new EmptyMemberDeclaration(token.beginLine, token.beginColumn, token.endLine, token.endColumn, popJavadoc());
         break;
       default:
-        jj_la1[30] = jj_gen;
+        jj_la1[28] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -903,7 +863,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[31] = jj_gen;
+        jj_la1[29] = jj_gen;
         break label_13;
       }
       jj_consume_token(COMMA);
@@ -928,7 +888,7 @@ public final class ASTParser implements ASTParserConstants {
       init = VariableInitializer();
       break;
     default:
-      jj_la1[32] = jj_gen;
+      jj_la1[30] = jj_gen;
       ;
     }
     {if (true) return new  VariableDeclarator(id.getBeginLine(), id.getBeginColumn(), token.endLine, token.endColumn, id, init);}
@@ -949,7 +909,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[33] = jj_gen;
+        jj_la1[31] = jj_gen;
         break label_14;
       }
       jj_consume_token(LBRACKET);
@@ -997,7 +957,7 @@ public final class ASTParser implements ASTParserConstants {
       ret = Expression();
       break;
     default:
-      jj_la1[34] = jj_gen;
+      jj_la1[32] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1046,7 +1006,7 @@ public final class ASTParser implements ASTParserConstants {
                                                                                         values = add(values, val);
       label_15:
       while (true) {
-        if (jj_2_7(2)) {
+        if (jj_2_9(2)) {
           ;
         } else {
           break label_15;
@@ -1057,7 +1017,7 @@ public final class ASTParser implements ASTParserConstants {
       }
       break;
     default:
-      jj_la1[35] = jj_gen;
+      jj_la1[33] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1065,7 +1025,7 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(COMMA);
       break;
     default:
-      jj_la1[36] = jj_gen;
+      jj_la1[34] = jj_gen;
       ;
     }
     jj_consume_token(RBRACE);
@@ -1089,7 +1049,7 @@ public final class ASTParser implements ASTParserConstants {
                                         int[] lineCol=(int[])typeParameters.remove(0); if(line==-1){ line=lineCol[0]; column=lineCol[1];}
       break;
     default:
-      jj_la1[37] = jj_gen;
+      jj_la1[35] = jj_gen;
       ;
     }
     type = ResultType();
@@ -1104,7 +1064,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[38] = jj_gen;
+        jj_la1[36] = jj_gen;
         break label_16;
       }
       jj_consume_token(LBRACKET);
@@ -1117,7 +1077,7 @@ public final class ASTParser implements ASTParserConstants {
       throws_ = NameList();
       break;
     default:
-      jj_la1[39] = jj_gen;
+      jj_la1[37] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1128,7 +1088,7 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(SEMICOLON);
       break;
     default:
-      jj_la1[40] = jj_gen;
+      jj_la1[38] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1171,7 +1131,7 @@ public final class ASTParser implements ASTParserConstants {
           ;
           break;
         default:
-          jj_la1[41] = jj_gen;
+          jj_la1[39] = jj_gen;
           break label_17;
         }
         jj_consume_token(COMMA);
@@ -1180,7 +1140,7 @@ public final class ASTParser implements ASTParserConstants {
       }
       break;
     default:
-      jj_la1[42] = jj_gen;
+      jj_la1[40] = jj_gen;
       ;
     }
     jj_consume_token(RPAREN);
@@ -1201,7 +1161,7 @@ public final class ASTParser implements ASTParserConstants {
                                                  isVarArg = true;
       break;
     default:
-      jj_la1[43] = jj_gen;
+      jj_la1[41] = jj_gen;
       ;
     }
     id = VariableDeclaratorId();
@@ -1231,7 +1191,7 @@ public final class ASTParser implements ASTParserConstants {
                                         int[] lineCol=(int[])typeParameters.remove(0); if(line==-1){ line=lineCol[0]; column=lineCol[1];}
       break;
     default:
-      jj_la1[44] = jj_gen;
+      jj_la1[42] = jj_gen;
       ;
     }
     jj_consume_token(IDENTIFIER);
@@ -1243,12 +1203,12 @@ public final class ASTParser implements ASTParserConstants {
       throws_ = NameList();
       break;
     default:
-      jj_la1[45] = jj_gen;
+      jj_la1[43] = jj_gen;
       ;
     }
     jj_consume_token(LBRACE);
         bbLine=token.beginLine; bbColumn=token.beginColumn;
-    if (jj_2_8(2147483647)) {
+    if (jj_2_10(2147483647)) {
       exConsInv = ExplicitConstructorInvocation();
     } else {
       ;
@@ -1269,14 +1229,14 @@ public final class ASTParser implements ASTParserConstants {
         List typeArgs = null;
         int line = -1;
         int column = 0;
-    if (jj_2_10(2147483647)) {
+    if (jj_2_12(2147483647)) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case LT:
         typeArgs = TypeArguments();
                                          int[] lineCol=(int[])typeArgs.remove(0); line=lineCol[0]; column=lineCol[1];
         break;
       default:
-        jj_la1[46] = jj_gen;
+        jj_la1[44] = jj_gen;
         ;
       }
       jj_consume_token(THIS);
@@ -1308,7 +1268,7 @@ public final class ASTParser implements ASTParserConstants {
       case IDENTIFIER:
       case LPAREN:
       case LT:
-        if (jj_2_9(2147483647)) {
+        if (jj_2_11(2147483647)) {
           expr = PrimaryExpressionWithoutSuperSuffix();
           jj_consume_token(DOT);
                   line=expr.getBeginLine(); column=expr.getBeginColumn();
@@ -1321,7 +1281,7 @@ public final class ASTParser implements ASTParserConstants {
                                         int[] lineCol=(int[])typeArgs.remove(0); if (line == -1) {line=lineCol[0]; column=lineCol[1];}
           break;
         default:
-          jj_la1[47] = jj_gen;
+          jj_la1[45] = jj_gen;
           ;
         }
         jj_consume_token(SUPER);
@@ -1330,7 +1290,7 @@ public final class ASTParser implements ASTParserConstants {
         jj_consume_token(SEMICOLON);
         break;
       default:
-        jj_la1[48] = jj_gen;
+        jj_la1[46] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1344,63 +1304,9 @@ public final class ASTParser implements ASTParserConstants {
         Statement stmt;
     label_18:
     while (true) {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case ABSTRACT:
-      case ASSERT:
-      case BOOLEAN:
-      case BREAK:
-      case BYTE:
-      case CHAR:
-      case CLASS:
-      case CONTINUE:
-      case DO:
-      case DOUBLE:
-      case FALSE:
-      case FINAL:
-      case FLOAT:
-      case FOR:
-      case IF:
-      case INT:
-      case INTERFACE:
-      case LONG:
-      case NATIVE:
-      case NEW:
-      case NULL:
-      case PRIVATE:
-      case PROTECTED:
-      case PUBLIC:
-      case RETURN:
-      case SHORT:
-      case STATIC:
-      case STRICTFP:
-      case SUPER:
-      case SWITCH:
-      case SYNCHRONIZED:
-      case THIS:
-      case THROW:
-      case TRANSIENT:
-      case TRUE:
-      case TRY:
-      case VOID:
-      case VOLATILE:
-      case WHILE:
-      case OPENMP_PRAGMA:
-      case LONG_LITERAL:
-      case INTEGER_LITERAL:
-      case FLOATING_POINT_LITERAL:
-      case CHARACTER_LITERAL:
-      case STRING_LITERAL:
-      case IDENTIFIER:
-      case LPAREN:
-      case LBRACE:
-      case SEMICOLON:
-      case AT:
-      case INCR:
-      case DECR:
+      if (jj_2_13(1)) {
         ;
-        break;
-      default:
-        jj_la1[49] = jj_gen;
+      } else {
         break label_18;
       }
       stmt = BlockStatement();
@@ -1421,7 +1327,7 @@ public final class ASTParser implements ASTParserConstants {
                isStatic = true; line=token.beginLine; column=token.beginColumn;
       break;
     default:
-      jj_la1[50] = jj_gen;
+      jj_la1[47] = jj_gen;
       ;
     }
     block = Block();
@@ -1435,7 +1341,7 @@ public final class ASTParser implements ASTParserConstants {
  */
   final public Type Type() throws ParseException {
         Type ret;
-    if (jj_2_11(2)) {
+    if (jj_2_14(2)) {
       ret = ReferenceType();
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1450,7 +1356,7 @@ public final class ASTParser implements ASTParserConstants {
         ret = PrimitiveType();
         break;
       default:
-        jj_la1[51] = jj_gen;
+        jj_la1[48] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1477,7 +1383,7 @@ public final class ASTParser implements ASTParserConstants {
         jj_consume_token(LBRACKET);
         jj_consume_token(RBRACKET);
                                                    arrayCount++;
-        if (jj_2_12(2)) {
+        if (jj_2_15(2)) {
           ;
         } else {
           break label_19;
@@ -1488,7 +1394,7 @@ public final class ASTParser implements ASTParserConstants {
       type = ClassOrInterfaceType();
       label_20:
       while (true) {
-        if (jj_2_13(2)) {
+        if (jj_2_16(2)) {
           ;
         } else {
           break label_20;
@@ -1499,7 +1405,7 @@ public final class ASTParser implements ASTParserConstants {
       }
       break;
     default:
-      jj_la1[52] = jj_gen;
+      jj_la1[49] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1516,7 +1422,7 @@ public final class ASTParser implements ASTParserConstants {
     jj_consume_token(IDENTIFIER);
                 line=token.beginLine; column=token.beginColumn;
                                                                    name = token.image;
-    if (jj_2_14(2)) {
+    if (jj_2_17(2)) {
       typeArgs = TypeArguments();
                                              typeArgs.remove(0);
     } else {
@@ -1525,7 +1431,7 @@ public final class ASTParser implements ASTParserConstants {
     ret = new ClassOrInterfaceType(line, column, token.endLine, token.endColumn,null, name, typeArgs);
     label_21:
     while (true) {
-      if (jj_2_15(2)) {
+      if (jj_2_18(2)) {
         ;
       } else {
         break label_21;
@@ -1533,7 +1439,7 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(DOT);
       jj_consume_token(IDENTIFIER);
                                           name = token.image;
-      if (jj_2_16(2)) {
+      if (jj_2_19(2)) {
         typeArgs = TypeArguments();
                                                      typeArgs.remove(0);
       } else {
@@ -1559,7 +1465,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[53] = jj_gen;
+        jj_la1[50] = jj_gen;
         break label_22;
       }
       jj_consume_token(COMMA);
@@ -1589,7 +1495,7 @@ public final class ASTParser implements ASTParserConstants {
       ret = Wildcard();
       break;
     default:
-      jj_la1[54] = jj_gen;
+      jj_la1[51] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1617,13 +1523,13 @@ public final class ASTParser implements ASTParserConstants {
         sup = ReferenceType();
         break;
       default:
-        jj_la1[55] = jj_gen;
+        jj_la1[52] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
       break;
     default:
-      jj_la1[56] = jj_gen;
+      jj_la1[53] = jj_gen;
       ;
     }
      {if (true) return new WildcardType(line, column, token.endLine, token.endColumn,ext, sup);}
@@ -1666,7 +1572,7 @@ public final class ASTParser implements ASTParserConstants {
              ret = new PrimitiveType(token.beginLine, token.beginColumn, token.endLine, token.endColumn, PrimitiveType.Primitive.Double);
       break;
     default:
-      jj_la1[57] = jj_gen;
+      jj_la1[54] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1693,7 +1599,7 @@ public final class ASTParser implements ASTParserConstants {
       ret = Type();
       break;
     default:
-      jj_la1[58] = jj_gen;
+      jj_la1[55] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1707,7 +1613,7 @@ public final class ASTParser implements ASTParserConstants {
                  ret = new NameExpr(token.beginLine, token.beginColumn, token.endLine, token.endColumn, token.image);
     label_23:
     while (true) {
-      if (jj_2_17(2)) {
+      if (jj_2_20(2)) {
         ;
       } else {
         break label_23;
@@ -1732,7 +1638,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[59] = jj_gen;
+        jj_la1[56] = jj_gen;
         break label_24;
       }
       jj_consume_token(COMMA);
@@ -1751,7 +1657,7 @@ public final class ASTParser implements ASTParserConstants {
         AssignExpr.Operator op;
         Expression value;
     ret = ConditionalExpression();
-    if (jj_2_18(2)) {
+    if (jj_2_21(2)) {
       op = AssignmentOperator();
       value = Expression();
                                                      ret = new AssignExpr(ret.getBeginLine(), ret.getBeginColumn(), token.endLine, token.endColumn, ret, value, op);
@@ -1814,7 +1720,7 @@ public final class ASTParser implements ASTParserConstants {
                ret = AssignExpr.Operator.or;
       break;
     default:
-      jj_la1[60] = jj_gen;
+      jj_la1[57] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1836,7 +1742,7 @@ public final class ASTParser implements ASTParserConstants {
                                                                   ret = new ConditionalExpr(ret.getBeginLine(), ret.getBeginColumn(), token.endLine, token.endColumn, ret, left, right);
       break;
     default:
-      jj_la1[61] = jj_gen;
+      jj_la1[58] = jj_gen;
       ;
     }
     {if (true) return ret;}
@@ -1854,7 +1760,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[62] = jj_gen;
+        jj_la1[59] = jj_gen;
         break label_25;
       }
       jj_consume_token(SC_OR);
@@ -1876,7 +1782,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[63] = jj_gen;
+        jj_la1[60] = jj_gen;
         break label_26;
       }
       jj_consume_token(SC_AND);
@@ -1898,7 +1804,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[64] = jj_gen;
+        jj_la1[61] = jj_gen;
         break label_27;
       }
       jj_consume_token(BIT_OR);
@@ -1920,7 +1826,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[65] = jj_gen;
+        jj_la1[62] = jj_gen;
         break label_28;
       }
       jj_consume_token(XOR);
@@ -1942,7 +1848,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[66] = jj_gen;
+        jj_la1[63] = jj_gen;
         break label_29;
       }
       jj_consume_token(BIT_AND);
@@ -1966,7 +1872,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[67] = jj_gen;
+        jj_la1[64] = jj_gen;
         break label_30;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1979,7 +1885,7 @@ public final class ASTParser implements ASTParserConstants {
              op = BinaryExpr.Operator.notEquals;
         break;
       default:
-        jj_la1[68] = jj_gen;
+        jj_la1[65] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2001,7 +1907,7 @@ public final class ASTParser implements ASTParserConstants {
                                                               ret = new InstanceOfExpr(ret.getBeginLine(), ret.getBeginColumn(), token.endLine, token.endColumn, ret, type);
       break;
     default:
-      jj_la1[69] = jj_gen;
+      jj_la1[66] = jj_gen;
       ;
     }
     {if (true) return ret;}
@@ -2023,7 +1929,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[70] = jj_gen;
+        jj_la1[67] = jj_gen;
         break label_31;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2044,7 +1950,7 @@ public final class ASTParser implements ASTParserConstants {
                  op = BinaryExpr.Operator.greaterEquals;
         break;
       default:
-        jj_la1[71] = jj_gen;
+        jj_la1[68] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2062,7 +1968,7 @@ public final class ASTParser implements ASTParserConstants {
     ret = AdditiveExpression();
     label_32:
     while (true) {
-      if (jj_2_19(1)) {
+      if (jj_2_22(1)) {
         ;
       } else {
         break label_32;
@@ -2073,11 +1979,11 @@ public final class ASTParser implements ASTParserConstants {
                              op = BinaryExpr.Operator.lShift;
         break;
       default:
-        jj_la1[72] = jj_gen;
-        if (jj_2_20(1)) {
+        jj_la1[69] = jj_gen;
+        if (jj_2_23(1)) {
           RSIGNEDSHIFT();
                              op = BinaryExpr.Operator.rSignedShift;
-        } else if (jj_2_21(1)) {
+        } else if (jj_2_24(1)) {
           RUNSIGNEDSHIFT();
                              op = BinaryExpr.Operator.rUnsignedShift;
         } else {
@@ -2105,7 +2011,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[73] = jj_gen;
+        jj_la1[70] = jj_gen;
         break label_33;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2118,7 +2024,7 @@ public final class ASTParser implements ASTParserConstants {
                 op = BinaryExpr.Operator.minus;
         break;
       default:
-        jj_la1[74] = jj_gen;
+        jj_la1[71] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2143,7 +2049,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[75] = jj_gen;
+        jj_la1[72] = jj_gen;
         break label_34;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2160,7 +2066,7 @@ public final class ASTParser implements ASTParserConstants {
                 op = BinaryExpr.Operator.remainder;
         break;
       default:
-        jj_la1[76] = jj_gen;
+        jj_la1[73] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2195,7 +2101,7 @@ public final class ASTParser implements ASTParserConstants {
                   op = UnaryExpr.Operator.negative; line=token.beginLine; column=token.beginColumn;
         break;
       default:
-        jj_la1[77] = jj_gen;
+        jj_la1[74] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2239,7 +2145,7 @@ public final class ASTParser implements ASTParserConstants {
       ret = UnaryExpressionNotPlusMinus();
       break;
     default:
-      jj_la1[78] = jj_gen;
+      jj_la1[75] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2289,7 +2195,7 @@ public final class ASTParser implements ASTParserConstants {
                   op = UnaryExpr.Operator.not;     line=token.beginLine; column=token.beginColumn;
         break;
       default:
-        jj_la1[79] = jj_gen;
+        jj_la1[76] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2297,8 +2203,8 @@ public final class ASTParser implements ASTParserConstants {
                                       ret = new UnaryExpr(line, column, token.endLine, token.endColumn,ret, op);
       break;
     default:
-      jj_la1[80] = jj_gen;
-      if (jj_2_22(2147483647)) {
+      jj_la1[77] = jj_gen;
+      if (jj_2_25(2147483647)) {
         ret = CastExpression();
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2327,7 +2233,7 @@ public final class ASTParser implements ASTParserConstants {
           ret = PostfixExpression();
           break;
         default:
-          jj_la1[81] = jj_gen;
+          jj_la1[78] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -2341,7 +2247,7 @@ public final class ASTParser implements ASTParserConstants {
         Expression ret;
         UnaryExpr.Operator op;
     ret = PrimaryExpression();
-    if (jj_2_23(2)) {
+    if (jj_2_26(2)) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case INCR:
         jj_consume_token(INCR);
@@ -2352,7 +2258,7 @@ public final class ASTParser implements ASTParserConstants {
              op = UnaryExpr.Operator.posDecrement;
         break;
       default:
-        jj_la1[82] = jj_gen;
+        jj_la1[79] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2371,7 +2277,7 @@ public final class ASTParser implements ASTParserConstants {
         int column;
     jj_consume_token(LPAREN);
        line=token.beginLine; column=token.beginColumn;
-    if (jj_2_24(2)) {
+    if (jj_2_27(2)) {
       type = PrimitiveType();
       jj_consume_token(RPAREN);
       ret = UnaryExpression();
@@ -2393,7 +2299,7 @@ public final class ASTParser implements ASTParserConstants {
                                                                            ret = new CastExpr(line, column, token.endLine, token.endColumn,type, ret);
         break;
       default:
-        jj_la1[83] = jj_gen;
+        jj_la1[80] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2408,7 +2314,7 @@ public final class ASTParser implements ASTParserConstants {
     ret = PrimaryPrefix();
     label_35:
     while (true) {
-      if (jj_2_25(2)) {
+      if (jj_2_28(2)) {
         ;
       } else {
         break label_35;
@@ -2425,7 +2331,7 @@ public final class ASTParser implements ASTParserConstants {
     ret = PrimaryPrefix();
     label_36:
     while (true) {
-      if (jj_2_26(2147483647)) {
+      if (jj_2_29(2147483647)) {
         ;
       } else {
         break label_36;
@@ -2470,7 +2376,7 @@ public final class ASTParser implements ASTParserConstants {
                                         typeArgs.remove(0);
         break;
       default:
-        jj_la1[84] = jj_gen;
+        jj_la1[81] = jj_gen;
         ;
       }
       jj_consume_token(IDENTIFIER);
@@ -2481,7 +2387,7 @@ public final class ASTParser implements ASTParserConstants {
                                 hasArgs=true;
         break;
       default:
-        jj_la1[85] = jj_gen;
+        jj_la1[82] = jj_gen;
         ;
       }
                         ret = hasArgs
@@ -2499,8 +2405,8 @@ public final class ASTParser implements ASTParserConstants {
       ret = AllocationExpression(null);
       break;
     default:
-      jj_la1[87] = jj_gen;
-      if (jj_2_27(2147483647)) {
+      jj_la1[84] = jj_gen;
+      if (jj_2_30(2147483647)) {
         type = ResultType();
         jj_consume_token(DOT);
         jj_consume_token(CLASS);
@@ -2516,7 +2422,7 @@ public final class ASTParser implements ASTParserConstants {
                                       hasArgs=true;
             break;
           default:
-            jj_la1[86] = jj_gen;
+            jj_la1[83] = jj_gen;
             ;
           }
                         ret = hasArgs
@@ -2524,7 +2430,7 @@ public final class ASTParser implements ASTParserConstants {
                                 : new NameExpr(line, column, token.endLine, token.endColumn, name);
           break;
         default:
-          jj_la1[88] = jj_gen;
+          jj_la1[85] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -2536,7 +2442,7 @@ public final class ASTParser implements ASTParserConstants {
 
   final public Expression PrimarySuffix(Expression scope) throws ParseException {
         Expression ret;
-    if (jj_2_28(2)) {
+    if (jj_2_31(2)) {
       ret = PrimarySuffixWithoutSuper(scope);
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2546,7 +2452,7 @@ public final class ASTParser implements ASTParserConstants {
                       ret = new SuperExpr(scope.getBeginLine(), scope.getBeginColumn(), token.endLine, token.endColumn, scope);
         break;
       default:
-        jj_la1[89] = jj_gen;
+        jj_la1[86] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2573,15 +2479,15 @@ public final class ASTParser implements ASTParserConstants {
         ret = AllocationExpression(scope);
         break;
       default:
-        jj_la1[92] = jj_gen;
-        if (jj_2_29(2147483647)) {
+        jj_la1[89] = jj_gen;
+        if (jj_2_32(2147483647)) {
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
           case LT:
             typeArgs = TypeArguments();
                                               typeArgs.remove(0);
             break;
           default:
-            jj_la1[90] = jj_gen;
+            jj_la1[87] = jj_gen;
             ;
           }
           jj_consume_token(IDENTIFIER);
@@ -2592,7 +2498,7 @@ public final class ASTParser implements ASTParserConstants {
                                       hasArgs=true;
             break;
           default:
-            jj_la1[91] = jj_gen;
+            jj_la1[88] = jj_gen;
             ;
           }
                         ret = hasArgs
@@ -2611,7 +2517,7 @@ public final class ASTParser implements ASTParserConstants {
                                       ret = new ArrayAccessExpr(scope.getBeginLine(), scope.getBeginColumn(), token.endLine, token.endColumn, scope, ret);
       break;
     default:
-      jj_la1[93] = jj_gen;
+      jj_la1[90] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2650,7 +2556,7 @@ public final class ASTParser implements ASTParserConstants {
       ret = NullLiteral();
       break;
     default:
-      jj_la1[94] = jj_gen;
+      jj_la1[91] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2670,7 +2576,7 @@ public final class ASTParser implements ASTParserConstants {
                     ret = new BooleanLiteralExpr(token.beginLine, token.beginColumn, token.endLine, token.endColumn, false);
       break;
     default:
-      jj_la1[95] = jj_gen;
+      jj_la1[92] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -2719,7 +2625,7 @@ public final class ASTParser implements ASTParserConstants {
       ret = ArgumentList();
       break;
     default:
-      jj_la1[96] = jj_gen;
+      jj_la1[93] = jj_gen;
       ;
     }
     jj_consume_token(RPAREN);
@@ -2739,7 +2645,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[97] = jj_gen;
+        jj_la1[94] = jj_gen;
         break label_37;
       }
       jj_consume_token(COMMA);
@@ -2779,8 +2685,8 @@ public final class ASTParser implements ASTParserConstants {
                 }
       break;
     default:
-      jj_la1[99] = jj_gen;
-      if (jj_2_31(2147483647)) {
+      jj_la1[96] = jj_gen;
+      if (jj_2_34(2147483647)) {
         type = ClassOrInterfaceType();
         arr = ArrayDimsAndInits();
                 if (arr[0] instanceof Integer) {
@@ -2798,12 +2704,12 @@ public final class ASTParser implements ASTParserConstants {
                                         typeArgs.remove(0);
             break;
           default:
-            jj_la1[98] = jj_gen;
+            jj_la1[95] = jj_gen;
             ;
           }
           type = ClassOrInterfaceType();
           args = Arguments();
-          if (jj_2_30(2)) {
+          if (jj_2_33(2)) {
             anonymousBody = ClassOrInterfaceBody(false);
           } else {
             ;
@@ -2811,7 +2717,7 @@ public final class ASTParser implements ASTParserConstants {
         ret = new ObjectCreationExpr(line, column, token.endLine, token.endColumn, scope, (ClassOrInterfaceType) type, typeArgs, args, anonymousBody);
           break;
         default:
-          jj_la1[100] = jj_gen;
+          jj_la1[97] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -2830,14 +2736,14 @@ public final class ASTParser implements ASTParserConstants {
         Expression expr;
         List inits = null;
         int i = 0;
-    if (jj_2_34(2)) {
+    if (jj_2_37(2)) {
       label_38:
       while (true) {
         jj_consume_token(LBRACKET);
         expr = Expression();
                                                    inits = add(inits, expr);
         jj_consume_token(RBRACKET);
-        if (jj_2_32(2)) {
+        if (jj_2_35(2)) {
           ;
         } else {
           break label_38;
@@ -2845,7 +2751,7 @@ public final class ASTParser implements ASTParserConstants {
       }
       label_39:
       while (true) {
-        if (jj_2_33(2)) {
+        if (jj_2_36(2)) {
           ;
         } else {
           break label_39;
@@ -2868,7 +2774,7 @@ public final class ASTParser implements ASTParserConstants {
             ;
             break;
           default:
-            jj_la1[101] = jj_gen;
+            jj_la1[98] = jj_gen;
             break label_40;
           }
         }
@@ -2876,7 +2782,7 @@ public final class ASTParser implements ASTParserConstants {
                                                             ret[0] = new Integer(i); ret[1] = expr;
         break;
       default:
-        jj_la1[102] = jj_gen;
+        jj_la1[99] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2890,8 +2796,10 @@ public final class ASTParser implements ASTParserConstants {
  */
   final public Statement Statement() throws ParseException {
         Statement ret;
-    if (jj_2_35(2)) {
+    if (jj_2_38(2)) {
       ret = LabeledStatement();
+    } else if (getToken(1).kind == OPENMP_PRAGMA && getToken(2).kind == IDENTIFIER && "tile".equals(getToken(2).image)) {
+      ret = OmpTileStatement();
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case OPENMP_PRAGMA:
@@ -2967,7 +2875,7 @@ public final class ASTParser implements ASTParserConstants {
         ret = TryStatement();
         break;
       default:
-        jj_la1[103] = jj_gen;
+        jj_la1[100] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2990,7 +2898,7 @@ public final class ASTParser implements ASTParserConstants {
       msg = Expression();
       break;
     default:
-      jj_la1[104] = jj_gen;
+      jj_la1[101] = jj_gen;
       ;
     }
     jj_consume_token(SEMICOLON);
@@ -3032,63 +2940,20 @@ public final class ASTParser implements ASTParserConstants {
         Expression expr;
         ClassOrInterfaceDeclaration typeDecl;
         Modifier modifier;
-    if (jj_2_36(2147483647)) {
+    if (jj_2_39(2147483647)) {
             pushJavadoc();
       modifier = Modifiers();
       typeDecl = ClassOrInterfaceDeclaration(modifier);
                                                              ret = new TypeDeclarationStmt(typeDecl.getBeginLine(), typeDecl.getBeginColumn(), token.endLine, token.endColumn, typeDecl);
-    } else if (jj_2_37(2147483647)) {
+    } else if (jj_2_40(2147483647)) {
       expr = VariableDeclarationExpression();
       jj_consume_token(SEMICOLON);
             ret = new ExpressionStmt(expr.getBeginLine(), expr.getBeginColumn(), token.endLine, token.endColumn, expr);
+    } else if (jj_2_41(1)) {
+      ret = Statement();
     } else {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case ASSERT:
-      case BOOLEAN:
-      case BREAK:
-      case BYTE:
-      case CHAR:
-      case CONTINUE:
-      case DO:
-      case DOUBLE:
-      case FALSE:
-      case FLOAT:
-      case FOR:
-      case IF:
-      case INT:
-      case LONG:
-      case NEW:
-      case NULL:
-      case RETURN:
-      case SHORT:
-      case SUPER:
-      case SWITCH:
-      case SYNCHRONIZED:
-      case THIS:
-      case THROW:
-      case TRUE:
-      case TRY:
-      case VOID:
-      case WHILE:
-      case OPENMP_PRAGMA:
-      case LONG_LITERAL:
-      case INTEGER_LITERAL:
-      case FLOATING_POINT_LITERAL:
-      case CHARACTER_LITERAL:
-      case STRING_LITERAL:
-      case IDENTIFIER:
-      case LPAREN:
-      case LBRACE:
-      case SEMICOLON:
-      case INCR:
-      case DECR:
-        ret = Statement();
-        break;
-      default:
-        jj_la1[105] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
-      }
+      jj_consume_token(-1);
+      throw new ParseException();
     }
     {if (true) return ret;}
     throw new Error("Missing return statement in function");
@@ -3110,7 +2975,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[106] = jj_gen;
+        jj_la1[102] = jj_gen;
         break label_41;
       }
       jj_consume_token(COMMA);
@@ -3205,18 +3070,18 @@ public final class ASTParser implements ASTParserConstants {
                                                              expr = new AssignExpr(expr.getBeginLine(), expr.getBeginColumn(), token.endLine, token.endColumn, expr, value, op);
           break;
         default:
-          jj_la1[107] = jj_gen;
+          jj_la1[103] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[108] = jj_gen;
+        jj_la1[104] = jj_gen;
         ;
       }
       break;
     default:
-      jj_la1[109] = jj_gen;
+      jj_la1[105] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -3245,7 +3110,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[110] = jj_gen;
+        jj_la1[106] = jj_gen;
         break label_42;
       }
       entry = SwitchEntry();
@@ -3272,7 +3137,7 @@ public final class ASTParser implements ASTParserConstants {
                      line=token.beginLine; column=token.beginColumn;
       break;
     default:
-      jj_la1[111] = jj_gen;
+      jj_la1[107] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -3300,7 +3165,7 @@ public final class ASTParser implements ASTParserConstants {
       elseStmt = Statement();
       break;
     default:
-      jj_la1[112] = jj_gen;
+      jj_la1[108] = jj_gen;
       ;
     }
     {if (true) return new IfStmt(line, column, token.endLine, token.endColumn,condition, thenStmt, elseStmt);}
@@ -3351,7 +3216,7 @@ public final class ASTParser implements ASTParserConstants {
     jj_consume_token(FOR);
          line=token.beginLine; column=token.beginColumn;
     jj_consume_token(LPAREN);
-    if (jj_2_38(2147483647)) {
+    if (jj_2_42(2147483647)) {
       varExpr = VariableDeclarationExpression();
       jj_consume_token(COLON);
       expr = Expression();
@@ -3442,7 +3307,7 @@ public final class ASTParser implements ASTParserConstants {
           init = ForInit();
           break;
         default:
-          jj_la1[113] = jj_gen;
+          jj_la1[109] = jj_gen;
           ;
         }
         jj_consume_token(SEMICOLON);
@@ -3478,7 +3343,7 @@ public final class ASTParser implements ASTParserConstants {
           expr = Expression();
           break;
         default:
-          jj_la1[114] = jj_gen;
+          jj_la1[110] = jj_gen;
           ;
         }
         jj_consume_token(SEMICOLON);
@@ -3514,12 +3379,12 @@ public final class ASTParser implements ASTParserConstants {
           update = ForUpdate();
           break;
         default:
-          jj_la1[115] = jj_gen;
+          jj_la1[111] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[116] = jj_gen;
+        jj_la1[112] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3536,7 +3401,7 @@ public final class ASTParser implements ASTParserConstants {
   final public List ForInit() throws ParseException {
         List ret;
         Expression expr;
-    if (jj_2_39(2147483647)) {
+    if (jj_2_43(2147483647)) {
       expr = VariableDeclarationExpression();
                                                    ret = new LinkedList(); ret.add(expr);
     } else {
@@ -3572,7 +3437,7 @@ public final class ASTParser implements ASTParserConstants {
         ret = ExpressionList();
         break;
       default:
-        jj_la1[117] = jj_gen;
+        jj_la1[113] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3593,7 +3458,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[118] = jj_gen;
+        jj_la1[114] = jj_gen;
         break label_43;
       }
       jj_consume_token(COMMA);
@@ -3623,7 +3488,7 @@ public final class ASTParser implements ASTParserConstants {
                                                                              id = token.image;
       break;
     default:
-      jj_la1[119] = jj_gen;
+      jj_la1[115] = jj_gen;
       ;
     }
     jj_consume_token(SEMICOLON);
@@ -3643,7 +3508,7 @@ public final class ASTParser implements ASTParserConstants {
                                                                                 id = token.image;
       break;
     default:
-      jj_la1[120] = jj_gen;
+      jj_la1[116] = jj_gen;
       ;
     }
     jj_consume_token(SEMICOLON);
@@ -3689,7 +3554,7 @@ public final class ASTParser implements ASTParserConstants {
       expr = Expression();
       break;
     default:
-      jj_la1[121] = jj_gen;
+      jj_la1[117] = jj_gen;
       ;
     }
     jj_consume_token(SEMICOLON);
@@ -3753,7 +3618,7 @@ public final class ASTParser implements ASTParserConstants {
           ;
           break;
         default:
-          jj_la1[122] = jj_gen;
+          jj_la1[118] = jj_gen;
           break label_44;
         }
       }
@@ -3763,7 +3628,7 @@ public final class ASTParser implements ASTParserConstants {
         finallyBlock = Block();
         break;
       default:
-        jj_la1[123] = jj_gen;
+        jj_la1[119] = jj_gen;
         ;
       }
       break;
@@ -3772,7 +3637,7 @@ public final class ASTParser implements ASTParserConstants {
       finallyBlock = Block();
       break;
     default:
-      jj_la1[124] = jj_gen;
+      jj_la1[120] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -3811,9 +3676,9 @@ public final class ASTParser implements ASTParserConstants {
 /* Annotation syntax follows. */
   final public AnnotationExpr Annotation() throws ParseException {
         AnnotationExpr ret;
-    if (jj_2_40(2147483647)) {
+    if (jj_2_44(2147483647)) {
       ret = NormalAnnotation();
-    } else if (jj_2_41(2147483647)) {
+    } else if (jj_2_45(2147483647)) {
       ret = SingleMemberAnnotation();
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3821,7 +3686,7 @@ public final class ASTParser implements ASTParserConstants {
         ret = MarkerAnnotation();
         break;
       default:
-        jj_la1[125] = jj_gen;
+        jj_la1[121] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3844,7 +3709,7 @@ public final class ASTParser implements ASTParserConstants {
       pairs = MemberValuePairs();
       break;
     default:
-      jj_la1[126] = jj_gen;
+      jj_la1[122] = jj_gen;
       ;
     }
     jj_consume_token(RPAREN);
@@ -3890,7 +3755,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[127] = jj_gen;
+        jj_la1[123] = jj_gen;
         break label_45;
       }
       jj_consume_token(COMMA);
@@ -3954,7 +3819,7 @@ public final class ASTParser implements ASTParserConstants {
       ret = ConditionalExpression();
       break;
     default:
-      jj_la1[128] = jj_gen;
+      jj_la1[124] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4004,7 +3869,7 @@ public final class ASTParser implements ASTParserConstants {
                                  ret.add(member);
       label_46:
       while (true) {
-        if (jj_2_42(2)) {
+        if (jj_2_46(2)) {
           ;
         } else {
           break label_46;
@@ -4015,7 +3880,7 @@ public final class ASTParser implements ASTParserConstants {
       }
       break;
     default:
-      jj_la1[129] = jj_gen;
+      jj_la1[125] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4023,7 +3888,7 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(COMMA);
       break;
     default:
-      jj_la1[130] = jj_gen;
+      jj_la1[126] = jj_gen;
       ;
     }
     jj_consume_token(RBRACE);
@@ -4082,7 +3947,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[131] = jj_gen;
+        jj_la1[127] = jj_gen;
         break label_47;
       }
       member = AnnotationBodyDeclaration();
@@ -4127,7 +3992,7 @@ public final class ASTParser implements ASTParserConstants {
     case IDENTIFIER:
     case AT:
       modifier = Modifiers();
-      if (jj_2_43(2147483647)) {
+      if (jj_2_47(2147483647)) {
         ret = AnnotationTypeMemberDeclaration(modifier);
       } else {
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4153,14 +4018,14 @@ public final class ASTParser implements ASTParserConstants {
           ret = FieldDeclaration(modifier);
           break;
         default:
-          jj_la1[132] = jj_gen;
+          jj_la1[128] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
       }
       break;
     default:
-      jj_la1[133] = jj_gen;
+      jj_la1[129] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -4182,7 +4047,7 @@ public final class ASTParser implements ASTParserConstants {
       defaultVal = DefaultValue();
       break;
     default:
-      jj_la1[134] = jj_gen;
+      jj_la1[130] = jj_gen;
       ;
     }
     jj_consume_token(SEMICOLON);
@@ -4205,17 +4070,17 @@ public final class ASTParser implements ASTParserConstants {
   final public OpenMPStatement OpenMPStatement() throws ParseException {
         OpenMPStatement  ret = null;
     jj_consume_token(OPENMP_PRAGMA);
-    if (jj_2_44(2)) {
+    if (jj_2_48(2)) {
           OmpParallelForConstruct parallelForConstruct;
       //#omp parallel needs normalisation; Xing Fan at 2014.9.29
                       parallelForConstruct = OmpParallelForConstruct();
           ret = parallelForConstruct.normalisation();
-    } else if (jj_2_45(2)) {
+    } else if (jj_2_49(2)) {
           OmpParallelSectionsConstruct parallelSectionsConstruct;
       //#omp parallel sections needs normalisation; Xing Fan at 2014.9.29
                       parallelSectionsConstruct = OmpParallelSectionsConstruct();
           ret = parallelSectionsConstruct.normalisation();
-    } else if (jj_2_46(2)) {
+    } else if (jj_2_50(2)) {
       ret = OmpParallelConstruct();
     } else {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4252,37 +4117,47 @@ public final class ASTParser implements ASTParserConstants {
       case TASK:
         ret = OmpTaskConstruct();
         break;
-      case TASKWAIT:
-        ret = OmpTaskwaitDirective();
-        break;
-      case TASKCANCEL:
-        ret = OmpTaskcancelDirective();
-        break;
-      case BARRIER:
-        ret = OmpBarrierDirective();
-        break;
-      case FLUSH:
-        ret = OmpFlushDirective();
-        break;
-      case ORDERED:
-        ret = OmpOrderedConstruct();
-        break;
-      case CANCELLATION_POINT:
-        ret = OmpCancellationPointDirective();
-        break;
-      case CANCEL:
-        ret = OmpCancelDirective();
-        break;
-      case TARGET:
-        ret = OmpTargetConstruct();
-        break;
-      case ASYNC_CALL:
-        ret = OmpAsyncCallConstruct();
-        break;
       default:
-        jj_la1[135] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
+        jj_la1[131] = jj_gen;
+        if (getToken(1).kind == IDENTIFIER && "taskloop".equals(getToken(1).image)) {
+          ret = OmpTaskloopConstruct();
+        } else if (getToken(1).kind == IDENTIFIER && "simd".equals(getToken(1).image)) {
+          ret = OmpSimdConstruct();
+        } else {
+          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+          case TASKWAIT:
+            ret = OmpTaskwaitDirective();
+            break;
+          case TASKCANCEL:
+            ret = OmpTaskcancelDirective();
+            break;
+          case BARRIER:
+            ret = OmpBarrierDirective();
+            break;
+          case FLUSH:
+            ret = OmpFlushDirective();
+            break;
+          case ORDERED:
+            ret = OmpOrderedConstruct();
+            break;
+          case CANCELLATION_POINT:
+            ret = OmpCancellationPointDirective();
+            break;
+          case CANCEL:
+            ret = OmpCancelDirective();
+            break;
+          case TARGET:
+            ret = OmpTargetConstruct();
+            break;
+          case ASYNC_CALL:
+            ret = OmpAsyncCallConstruct();
+            break;
+          default:
+            jj_la1[132] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+        }
       }
     }
          {if (true) return ret;}
@@ -4318,7 +4193,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[136] = jj_gen;
+        jj_la1[133] = jj_gen;
         break label_48;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4356,7 +4231,7 @@ public final class ASTParser implements ASTParserConstants {
                                                          if((++defaultDataClauseCount)>1) {if (true) throw new ParseException("Pyjama Parsing Error: More than one default clause found");}
         break;
       default:
-        jj_la1[137] = jj_gen;
+        jj_la1[134] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4379,29 +4254,28 @@ public final class ASTParser implements ASTParserConstants {
         OmpNeglectExceptionClause exceptionClause = null;
         OmpScheduleClause scheduleClause = null;
         boolean ordered = false;
+        int collapse = 1;
+        int collapseClauseCount = 0;
+        boolean stream = false;
+        Expression batch = null;
+        boolean simd = false;
+        OmpParallelForConstruct ret;
         int line;
         int column;
     jj_consume_token(PARALLEL);
                     line=token.beginLine; column=token.beginColumn;
     jj_consume_token(FOR);
+    if (getToken(1).kind == IDENTIFIER && "simd".equals(getToken(1).image)) {
+      jj_consume_token(IDENTIFIER);
+                                 simd = true;
+    } else {
+      ;
+    }
     label_49:
     while (true) {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case _DEFAULT:
-      case IF:
-      case PRIVATE:
-      case NEGLECT:
-      case FIRSTPRIVATE:
-      case LASTPRIVATE:
-      case SHARED:
-      case REDUCTION:
-      case SCHEDULE:
-      case ORDERED:
-      case NUMTHREADS:
+      if (jj_2_51(1)) {
         ;
-        break;
-      default:
-        jj_la1[138] = jj_gen;
+      } else {
         break label_49;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4421,39 +4295,55 @@ public final class ASTParser implements ASTParserConstants {
         jj_consume_token(ORDERED);
                                                          ordered = true;
         break;
-      case PRIVATE:
-      case FIRSTPRIVATE:
-        dataClause = OmpPrivateDataClause();
+      default:
+        jj_la1[135] = jj_gen;
+        if (getToken(1).kind == IDENTIFIER && "collapse".equals(getToken(1).image)) {
+          collapse = OmpCollapseClause();
+                                                 if((++collapseClauseCount)>1) {if (true) throw new ParseException("Pyjama Parsing Error: More than one collapse clause");}
+        } else if (getToken(1).kind == IDENTIFIER && "stream".equals(getToken(1).image)) {
+          jj_consume_token(IDENTIFIER);
+                                 if(stream) {if (true) throw new ParseException("Pyjama Parsing Error: More than one stream clause");} stream = true;
+        } else if (getToken(1).kind == IDENTIFIER && "batch".equals(getToken(1).image)) {
+                 if(null != batch) {if (true) throw new ParseException("Pyjama Parsing Error: More than one batch clause");}
+          batch = OmpExpressionClause();
+        } else {
+          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+          case PRIVATE:
+          case FIRSTPRIVATE:
+            dataClause = OmpPrivateDataClause();
                                                          dataClauseList.add(dataClause);
-        break;
-      case SHARED:
-        dataClause = OmpSharedDataClause();
+            break;
+          case SHARED:
+            dataClause = OmpSharedDataClause();
                                                          dataClauseList.add(dataClause);
-        break;
-      case LASTPRIVATE:
-        dataClause = OmpLastprivateDataClause();
+            break;
+          case LASTPRIVATE:
+            dataClause = OmpLastprivateDataClause();
                                                          {if (true) throw new ParseException("Pyjama Parsing Error: Lastprivate data clause cannot appear in parallel directive");}
-        break;
-      case REDUCTION:
-        dataClause = OmpReductionDataClause();
+            break;
+          case REDUCTION:
+            dataClause = OmpReductionDataClause();
                                                          dataClauseList.add(dataClause);
-        break;
-      case _DEFAULT:
-        dataClause = OmpDefaultDataClause();
+            break;
+          case _DEFAULT:
+            dataClause = OmpDefaultDataClause();
                                                          if((++defaultDataClauseCount)>1) {if (true) throw new ParseException("Pyjama Parsing Error: More than one default clause found");}
-        break;
-      case SCHEDULE:
-        scheduleClause = OmpScheduleClause();
+            break;
+          case SCHEDULE:
+            scheduleClause = OmpScheduleClause();
                                                          if((++schduleClauseCount)>1) {if (true) throw new RuntimeException("Pyjama Parsing Error: More than one schedule clause");}
-        break;
-      default:
-        jj_la1[139] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
+            break;
+          default:
+            jj_la1[136] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+        }
       }
     }
-    forBody = ForStatement();
-          {if (true) return new OmpParallelForConstruct(line, column, token.endLine, token.endColumn, forBody, dataClauseList, scheduleClause, ifExpr, numThreads, exceptionClause, ordered);}
+         checkStreamClauses(stream, batch, null != scheduleClause, ordered, collapse);
+    forBody = OmpLoopNest();
+          ret = new OmpParallelForConstruct(line, column, token.endLine, token.endColumn, forBody, dataClauseList, scheduleClause, ifExpr, numThreads, exceptionClause, ordered, collapse, stream, batch); ret.setSimd(simd); {if (true) return ret;}
     throw new Error("Missing return statement in function");
   }
 
@@ -4489,7 +4379,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[140] = jj_gen;
+        jj_la1[137] = jj_gen;
         break label_50;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4527,7 +4417,7 @@ public final class ASTParser implements ASTParserConstants {
                                                          if((++defaultDataClauseCount)>1) {if (true) throw new ParseException("Pyjama Parsing Error: More than one default clause found");}
         break;
       default:
-        jj_la1[141] = jj_gen;
+        jj_la1[138] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4540,7 +4430,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[142] = jj_gen;
+        jj_la1[139] = jj_gen;
         break label_51;
       }
       jj_consume_token(OPENMP_PRAGMA);
@@ -4563,25 +4453,25 @@ public final class ASTParser implements ASTParserConstants {
         int column;
         boolean nowait = false;
         boolean ordered = false;
+        int collapse = 1;
+        int collapseClauseCount = 0;
+        boolean stream = false;
+        Expression batch = null;
+        boolean simd = false;
+        OmpForConstruct ret;
     jj_consume_token(FOR);
                line=token.beginLine; column=token.beginColumn;
+    if (getToken(1).kind == IDENTIFIER && "simd".equals(getToken(1).image)) {
+      jj_consume_token(IDENTIFIER);
+                                 simd = true;
+    } else {
+      ;
+    }
     label_52:
     while (true) {
-      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case _DEFAULT:
-      case PRIVATE:
-      case NEGLECT:
-      case FIRSTPRIVATE:
-      case LASTPRIVATE:
-      case SHARED:
-      case REDUCTION:
-      case SCHEDULE:
-      case ORDERED:
-      case NOWAIT:
+      if (jj_2_52(1)) {
         ;
-        break;
-      default:
-        jj_la1[143] = jj_gen;
+      } else {
         break label_52;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4593,43 +4483,59 @@ public final class ASTParser implements ASTParserConstants {
         jj_consume_token(ORDERED);
                            ordered = true;
         break;
-      case PRIVATE:
-      case FIRSTPRIVATE:
-        dataClause = OmpPrivateDataClause();
+      default:
+        jj_la1[140] = jj_gen;
+        if (getToken(1).kind == IDENTIFIER && "collapse".equals(getToken(1).image)) {
+          collapse = OmpCollapseClause();
+                                                 if((++collapseClauseCount)>1) {if (true) throw new ParseException("Pyjama Parsing Error: More than one collapse clause");}
+        } else if (getToken(1).kind == IDENTIFIER && "stream".equals(getToken(1).image)) {
+          jj_consume_token(IDENTIFIER);
+                                 if(stream) {if (true) throw new ParseException("Pyjama Parsing Error: More than one stream clause");} stream = true;
+        } else if (getToken(1).kind == IDENTIFIER && "batch".equals(getToken(1).image)) {
+                 if(null != batch) {if (true) throw new ParseException("Pyjama Parsing Error: More than one batch clause");}
+          batch = OmpExpressionClause();
+        } else {
+          switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+          case PRIVATE:
+          case FIRSTPRIVATE:
+            dataClause = OmpPrivateDataClause();
                                                          dataClauseList.add(dataClause);
-        break;
-      case SHARED:
-        dataClause = OmpSharedDataClause();
+            break;
+          case SHARED:
+            dataClause = OmpSharedDataClause();
                                                          {if (true) throw new ParseException("Pyjama Parsing Error: shared data clause cannot appear in for directive");}
-        break;
-      case LASTPRIVATE:
-        dataClause = OmpLastprivateDataClause();
+            break;
+          case LASTPRIVATE:
+            dataClause = OmpLastprivateDataClause();
                                                          dataClauseList.add(dataClause);
-        break;
-      case REDUCTION:
-        dataClause = OmpReductionDataClause();
+            break;
+          case REDUCTION:
+            dataClause = OmpReductionDataClause();
                                                          dataClauseList.add(dataClause);
-        break;
-      case _DEFAULT:
-        dataClause = OmpDefaultDataClause();
+            break;
+          case _DEFAULT:
+            dataClause = OmpDefaultDataClause();
                                                          {if (true) throw new ParseException("Pyjama Parsing Error: default clause cannot appear in for directive");}
-        break;
-      case SCHEDULE:
-        scheduleClause = OmpScheduleClause();
+            break;
+          case SCHEDULE:
+            scheduleClause = OmpScheduleClause();
                                                          if((++schduleClauseCount)>1) {if (true) throw new RuntimeException("Pyjama Parsing Error: More than one schedule clause");}
-        break;
-      case NEGLECT:
-        exceptionClause = OmpNeglectExceptionClause();
+            break;
+          case NEGLECT:
+            exceptionClause = OmpNeglectExceptionClause();
 
-        break;
-      default:
-        jj_la1[144] = jj_gen;
-        jj_consume_token(-1);
-        throw new ParseException();
+            break;
+          default:
+            jj_la1[141] = jj_gen;
+            jj_consume_token(-1);
+            throw new ParseException();
+          }
+        }
       }
     }
-    forStmt = ForStatement();
-          {if (true) return new OmpForConstruct(line, column, token.endLine, token.endColumn, forStmt, dataClauseList, scheduleClause, exceptionClause, nowait, ordered);}
+         checkStreamClauses(stream, batch, null != scheduleClause, ordered, collapse);
+    forStmt = OmpLoopNest();
+          ret = new OmpForConstruct(line, column, token.endLine, token.endColumn, forStmt, dataClauseList, scheduleClause, exceptionClause, nowait, ordered, collapse, stream, batch); ret.setSimd(simd); {if (true) return ret;}
     throw new Error("Missing return statement in function");
   }
 
@@ -4658,7 +4564,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[145] = jj_gen;
+        jj_la1[142] = jj_gen;
         break label_53;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4692,7 +4598,7 @@ public final class ASTParser implements ASTParserConstants {
 
         break;
       default:
-        jj_la1[146] = jj_gen;
+        jj_la1[143] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4708,7 +4614,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[147] = jj_gen;
+        jj_la1[144] = jj_gen;
         break label_54;
       }
     }
@@ -4727,64 +4633,21 @@ public final class ASTParser implements ASTParserConstants {
         int column;
     jj_consume_token(FREEGUI);
                line=token.beginLine; column=token.beginColumn;
-    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case ASSERT:
-    case BOOLEAN:
-    case BREAK:
-    case BYTE:
-    case CHAR:
-    case CONTINUE:
-    case DO:
-    case DOUBLE:
-    case FALSE:
-    case FLOAT:
-    case FOR:
-    case IF:
-    case INT:
-    case LONG:
-    case NEW:
-    case NULL:
-    case RETURN:
-    case SHORT:
-    case SUPER:
-    case SWITCH:
-    case SYNCHRONIZED:
-    case THIS:
-    case THROW:
-    case TRUE:
-    case TRY:
-    case VOID:
-    case WHILE:
-    case OPENMP_PRAGMA:
-    case LONG_LITERAL:
-    case INTEGER_LITERAL:
-    case FLOATING_POINT_LITERAL:
-    case CHARACTER_LITERAL:
-    case STRING_LITERAL:
-    case IDENTIFIER:
-    case LPAREN:
-    case LBRACE:
-    case SEMICOLON:
-    case INCR:
-    case DECR:
+    if (jj_2_53(1)) {
       stmt = Statement();
          freeguiConstruct = new OmpFreeguiConstruct(line, column, token.endLine, token.endColumn, stmt);
-      break;
-    default:
-      jj_la1[148] = jj_gen;
-      if (jj_2_47(2)) {
-        opc = OmpParallelConstruct();
+    } else if (jj_2_54(2)) {
+      opc = OmpParallelConstruct();
          freeguiConstruct = new OmpFreeguiConstruct(line, column, token.endLine, token.endColumn, opc);
-      } else if (jj_2_48(2)) {
-        opfc = OmpParallelForConstruct();
+    } else if (jj_2_55(2)) {
+      opfc = OmpParallelForConstruct();
          freeguiConstruct = new OmpFreeguiConstruct(line, column, token.endLine, token.endColumn, opfc);
-      } else if (jj_2_49(2)) {
-        opsc = OmpParallelSectionsConstruct();
+    } else if (jj_2_56(2)) {
+      opsc = OmpParallelSectionsConstruct();
          freeguiConstruct = new OmpFreeguiConstruct(line, column, token.endLine, token.endColumn, opsc);
-      } else {
-        jj_consume_token(-1);
-        throw new ParseException();
-      }
+    } else {
+      jj_consume_token(-1);
+      throw new ParseException();
     }
    {if (true) return freeguiConstruct.normalisation();}
     throw new Error("Missing return statement in function");
@@ -4813,7 +4676,7 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(NOWAIT);
       break;
     default:
-      jj_la1[149] = jj_gen;
+      jj_la1[145] = jj_gen;
       ;
     }
                       nowait = true;
@@ -4845,7 +4708,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[150] = jj_gen;
+        jj_la1[146] = jj_gen;
         break label_55;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4879,7 +4742,7 @@ public final class ASTParser implements ASTParserConstants {
                                                          {if (true) throw new ParseException("Pyjama Parsing Error: default clause cannot appear in single directive");}
         break;
       default:
-        jj_la1[151] = jj_gen;
+        jj_la1[147] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4907,7 +4770,7 @@ public final class ASTParser implements ASTParserConstants {
         int column;
     jj_consume_token(CRITICAL);
                     line=token.beginLine; column=token.beginColumn;
-    if (jj_2_50(3)) {
+    if (jj_2_57(3)) {
       jj_consume_token(LPAREN);
       identifier = Expression();
       jj_consume_token(RPAREN);
@@ -4954,7 +4817,7 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[152] = jj_gen;
+        jj_la1[148] = jj_gen;
         break label_56;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4984,7 +4847,7 @@ public final class ASTParser implements ASTParserConstants {
                                                          if((++defaultDataClauseCount)>1) {if (true) throw new ParseException("Pyjama Parsing Error: More than one default clause found");}
         break;
       default:
-        jj_la1[153] = jj_gen;
+        jj_la1[149] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4994,38 +4857,207 @@ public final class ASTParser implements ASTParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public OmpTaskwaitDirective OmpTaskwaitDirective() throws ParseException {
+//taskloop is not reserved as keyword, grainsize(n) and num_tasks(n) size the chunk tasks
+  final public OmpTaskloopConstruct OmpTaskloopConstruct() throws ParseException {
+        Statement forStmt = null;
+        OmpDataClause dataClause = null;
+        List<OmpDataClause> dataClauseList = new ArrayList<OmpDataClause>();
+        Expression grainsize = null;
+        Expression numTasks = null;
+        int defaultDataClauseCount = 0;
         int line;
         int column;
-        NameExpr tag = null;
-        OmpIfClause ifExpr = null;
-    jj_consume_token(TASKWAIT);
-                    line=token.beginLine; column=token.beginColumn;
-    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case LPAREN:
-      jj_consume_token(LPAREN);
-      tag = Name();
-      jj_consume_token(RPAREN);
-      break;
-    default:
-      jj_la1[154] = jj_gen;
-      ;
-    }
-    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case IF:
-      ifExpr = OmpIfClause();
-      break;
-    default:
-      jj_la1[155] = jj_gen;
-      ;
+    jj_consume_token(IDENTIFIER);
+                      line=token.beginLine; column=token.beginColumn;
+    label_57:
+    while (true) {
+      if (jj_2_58(1)) {
+        ;
+      } else {
+        break label_57;
+      }
+      if (getToken(1).kind == IDENTIFIER && "grainsize".equals(getToken(1).image)) {
+                 if(null != grainsize) {if (true) throw new ParseException("Pyjama Parsing Error: More than one grainsize clause");}
+        grainsize = OmpExpressionClause();
+      } else if (getToken(1).kind == IDENTIFIER && "num_tasks".equals(getToken(1).image)) {
+                 if(null != numTasks) {if (true) throw new ParseException("Pyjama Parsing Error: More than one num_tasks clause");}
+        numTasks = OmpExpressionClause();
+      } else {
+        switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+        case PRIVATE:
+        case FIRSTPRIVATE:
+          dataClause = OmpPrivateDataClause();
+                                                         dataClauseList.add(dataClause);
+          break;
+        case SHARED:
+          dataClause = OmpSharedDataClause();
+                                                         dataClauseList.add(dataClause);
+          break;
+        case LASTPRIVATE:
+          dataClause = OmpLastprivateDataClause();
+                                                         {if (true) throw new ParseException("Pyjama Parsing Error: Lastprivate data clause cannot appear in taskloop directive");}
+          break;
+        case REDUCTION:
+          dataClause = OmpReductionDataClause();
+                                                         {if (true) throw new ParseException("Pyjama Parsing Error: Reduction data clause cannot appear in taskloop directive");}
+          break;
+        case _DEFAULT:
+          dataClause = OmpDefaultDataClause();
+                                                         if((++defaultDataClauseCount)>1) {if (true) throw new ParseException("Pyjama Parsing Error: More than one default clause found");} dataClauseList.add(dataClause);
+          break;
+        default:
+          jj_la1[150] = jj_gen;
+          jj_consume_token(-1);
+          throw new ParseException();
+        }
+      }
     }
-         {if (true) return new OmpTaskwaitDirective(line, column, token.endLine, token.endColumn, (tag==null)?null:tag.toString(), ifExpr);}
+         if(null != grainsize && null != numTasks) {if (true) throw new ParseException("Pyjama Parsing Error: grainsize and num_tasks clauses cannot be used together");}
+    forStmt = OmpLoopNest();
+         {if (true) return new OmpTaskloopConstruct(line, column, token.endLine, token.endColumn, forStmt, dataClauseList, grainsize, numTasks);}
     throw new Error("Missing return statement in function");
   }
 
-  final public OmpTaskcancelDirective OmpTaskcancelDirective() throws ParseException {
-        int line;
-        int column;
+//the loop nest of a loop construct, which may be tiled by a tile directive
+  final public Statement OmpLoopNest() throws ParseException {
+        Statement ret;
+    if (getToken(1).kind == OPENMP_PRAGMA && getToken(2).kind == IDENTIFIER && "tile".equals(getToken(2).image)) {
+      ret = OmpTileStatement();
+    } else {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case FOR:
+        ret = ForStatement();
+        break;
+      default:
+        jj_la1[151] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    }
+         {if (true) return ret;}
+    throw new Error("Missing return statement in function");
+  }
+
+//tile is not reserved as keyword, sizes(s1, ..., sk) tiles the k outermost loops of the nest,
+//the directive is normalised into the tiled loop nest
+  final public Statement OmpTileStatement() throws ParseException {
+        List<Expression> sizes = new ArrayList<Expression>();
+        Expression size;
+        Statement forStmt;
+        int line;
+        int column;
+    jj_consume_token(OPENMP_PRAGMA);
+    jj_consume_token(IDENTIFIER);
+                                      line=token.beginLine; column=token.beginColumn;
+         if (!(getToken(1).kind == IDENTIFIER && "sizes".equals(getToken(1).image))) {if (true) throw new ParseException("Pyjama Parsing Error: tile directive needs the sizes clause");}
+    jj_consume_token(IDENTIFIER);
+    jj_consume_token(LPAREN);
+    size = Expression();
+                                              sizes.add(size);
+    label_58:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case COMMA:
+        ;
+        break;
+      default:
+        jj_la1[152] = jj_gen;
+        break label_58;
+      }
+      jj_consume_token(COMMA);
+      size = Expression();
+                                                                                           sizes.add(size);
+    }
+    jj_consume_token(RPAREN);
+    forStmt = ForStatement();
+         {if (true) return new OmpTileConstruct(line, column, forStmt, sizes).normalisation();}
+    throw new Error("Missing return statement in function");
+  }
+
+//simd is not reserved as keyword, its loop runs in the encountering thread
+  final public OmpSimdConstruct OmpSimdConstruct() throws ParseException {
+        Statement forStmt = null;
+        OmpDataClause dataClause = null;
+        List<OmpDataClause> dataClauseList = new ArrayList<OmpDataClause>();
+        int line;
+        int column;
+    jj_consume_token(IDENTIFIER);
+                      line=token.beginLine; column=token.beginColumn;
+    label_59:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case PRIVATE:
+      case FIRSTPRIVATE:
+      case LASTPRIVATE:
+      case SHARED:
+      case REDUCTION:
+        ;
+        break;
+      default:
+        jj_la1[153] = jj_gen;
+        break label_59;
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case REDUCTION:
+        dataClause = OmpReductionDataClause();
+                                                         dataClauseList.add(dataClause);
+        break;
+      case PRIVATE:
+      case FIRSTPRIVATE:
+        dataClause = OmpPrivateDataClause();
+                                                         {if (true) throw new ParseException("Pyjama Parsing Error: Private data clause cannot appear in simd directive");}
+        break;
+      case SHARED:
+        dataClause = OmpSharedDataClause();
+                                                         {if (true) throw new ParseException("Pyjama Parsing Error: Shared data clause cannot appear in simd directive");}
+        break;
+      case LASTPRIVATE:
+        dataClause = OmpLastprivateDataClause();
+                                                         {if (true) throw new ParseException("Pyjama Parsing Error: Lastprivate data clause cannot appear in simd directive");}
+        break;
+      default:
+        jj_la1[154] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+    }
+    forStmt = OmpLoopNest();
+         {if (true) return new OmpSimdConstruct(line, column, token.endLine, token.endColumn, forStmt, dataClauseList);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OmpTaskwaitDirective OmpTaskwaitDirective() throws ParseException {
+        int line;
+        int column;
+        NameExpr tag = null;
+        OmpIfClause ifExpr = null;
+    jj_consume_token(TASKWAIT);
+                    line=token.beginLine; column=token.beginColumn;
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case LPAREN:
+      jj_consume_token(LPAREN);
+      tag = Name();
+      jj_consume_token(RPAREN);
+      break;
+    default:
+      jj_la1[155] = jj_gen;
+      ;
+    }
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case IF:
+      ifExpr = OmpIfClause();
+      break;
+    default:
+      jj_la1[156] = jj_gen;
+      ;
+    }
+         {if (true) return new OmpTaskwaitDirective(line, column, token.endLine, token.endColumn, (tag==null)?null:tag.toString(), ifExpr);}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OmpTaskcancelDirective OmpTaskcancelDirective() throws ParseException {
+        int line;
+        int column;
         NameExpr tag = null;
         OmpIfClause ifExpr = null;
     jj_consume_token(TASKCANCEL);
@@ -5037,7 +5069,7 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(RPAREN);
       break;
     default:
-      jj_la1[156] = jj_gen;
+      jj_la1[157] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5045,7 +5077,7 @@ public final class ASTParser implements ASTParserConstants {
       ifExpr = OmpIfClause();
       break;
     default:
-      jj_la1[157] = jj_gen;
+      jj_la1[158] = jj_gen;
       ;
     }
          {if (true) return new OmpTaskcancelDirective(line, column, token.endLine, token.endColumn, (tag==null)?null:tag.toString(), ifExpr);}
@@ -5110,7 +5142,7 @@ public final class ASTParser implements ASTParserConstants {
                           region = OmpCancellationPointDirective.Region.CurrentTask;
       break;
     default:
-      jj_la1[158] = jj_gen;
+      jj_la1[159] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5145,7 +5177,7 @@ public final class ASTParser implements ASTParserConstants {
                                   region = OmpCancelDirective.Region.Taskgroup;
       break;
     default:
-      jj_la1[159] = jj_gen;
+      jj_la1[160] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5159,7 +5191,7 @@ public final class ASTParser implements ASTParserConstants {
                                   affiliate = OmpCancelDirective.ThreadAffiliate.Global;
       break;
     default:
-      jj_la1[160] = jj_gen;
+      jj_la1[161] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5168,7 +5200,7 @@ public final class ASTParser implements ASTParserConstants {
       ifExpr = OmpIfClause();
       break;
     default:
-      jj_la1[161] = jj_gen;
+      jj_la1[162] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5179,7 +5211,7 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(RPAREN);
       break;
     default:
-      jj_la1[162] = jj_gen;
+      jj_la1[163] = jj_gen;
       ;
     }
          {if (true) return new OmpCancelDirective(line, column, token.endLine, token.endColumn, region, affiliate, ifExpr, exception);}
@@ -5217,12 +5249,12 @@ public final class ASTParser implements ASTParserConstants {
                                                      targetName = new NameExpr("gui");
       break;
     default:
-      jj_la1[163] = jj_gen;
+      jj_la1[164] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
     jj_consume_token(RPAREN);
-    label_57:
+    label_60:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case _DEFAULT:
@@ -5239,8 +5271,8 @@ public final class ASTParser implements ASTParserConstants {
         ;
         break;
       default:
-        jj_la1[164] = jj_gen;
-        break label_57;
+        jj_la1[165] = jj_gen;
+        break label_60;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case IF:
@@ -5291,7 +5323,7 @@ public final class ASTParser implements ASTParserConstants {
                                                                          if((++onCancelCallbackCount)>1) {if (true) throw new RuntimeException("more than one on_cancel clause");}
         break;
       default:
-        jj_la1[165] = jj_gen;
+        jj_la1[166] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -5313,15 +5345,15 @@ public final class ASTParser implements ASTParserConstants {
     jj_consume_token(LPAREN);
     functionDeclaration = OmpFunctionCallDeclaration();
                                                             functionList.add(functionDeclaration);
-    label_58:
+    label_61:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case COMMA:
         ;
         break;
       default:
-        jj_la1[166] = jj_gen;
-        break label_58;
+        jj_la1[167] = jj_gen;
+        break label_61;
       }
       jj_consume_token(COMMA);
       functionDeclaration = OmpFunctionCallDeclaration();
@@ -5343,15 +5375,15 @@ public final class ASTParser implements ASTParserConstants {
                        line=type.getBeginLine(); column=type.getBeginColumn();
     jj_consume_token(IDENTIFIER);
                  name = token.image;
-    label_59:
+    label_62:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case DOT:
         ;
         break;
       default:
-        jj_la1[167] = jj_gen;
-        break label_59;
+        jj_la1[168] = jj_gen;
+        break label_62;
       }
       jj_consume_token(DOT);
       jj_consume_token(IDENTIFIER);
@@ -5369,15 +5401,15 @@ public final class ASTParser implements ASTParserConstants {
         int column = token.beginColumn;
     jj_consume_token(IDENTIFIER);
                  name = token.image; line=token.beginLine; column=token.beginColumn;
-    label_60:
+    label_63:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case DOT:
         ;
         break;
       default:
-        jj_la1[168] = jj_gen;
-        break label_60;
+        jj_la1[169] = jj_gen;
+        break label_63;
       }
       jj_consume_token(DOT);
       jj_consume_token(IDENTIFIER);
@@ -5419,9 +5451,14 @@ public final class ASTParser implements ASTParserConstants {
                                   type = OmpScheduleClause.Type.Auto;
       break;
     default:
-      jj_la1[169] = jj_gen;
-      jj_consume_token(-1);
-      throw new ParseException();
+      jj_la1[170] = jj_gen;
+      if (getToken(1).kind == IDENTIFIER && "steal".equals(getToken(1).image)) {
+        jj_consume_token(IDENTIFIER);
+                                  type = OmpScheduleClause.Type.Steal;
+      } else {
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case COMMA:
@@ -5429,7 +5466,7 @@ public final class ASTParser implements ASTParserConstants {
       chunkSize = Expression();
       break;
     default:
-      jj_la1[170] = jj_gen;
+      jj_la1[171] = jj_gen;
       ;
     }
     jj_consume_token(RPAREN);
@@ -5437,6 +5474,37 @@ public final class ASTParser implements ASTParserConstants {
     throw new Error("Missing return statement in function");
   }
 
+//collapse is not reserved as keyword either, the number of loops must be a constant
+  final public int OmpCollapseClause() throws ParseException {
+        int collapse;
+    jj_consume_token(IDENTIFIER);
+    jj_consume_token(LPAREN);
+    jj_consume_token(INTEGER_LITERAL);
+                try {
+                        collapse = Integer.decode(token.image);
+                } catch (NumberFormatException e) {
+                        {if (true) throw new ParseException("Pyjama Parsing Error: illegal loop count in collapse clause: " + token.image);}
+                }
+                if (collapse < 1) {
+                        {if (true) throw new ParseException("Pyjama Parsing Error: the loop count of collapse clause must be positive");}
+                }
+    jj_consume_token(RPAREN);
+         {if (true) return collapse;}
+    throw new Error("Missing return statement in function");
+  }
+
+//neither are stream and batch, batch(n) sets how many items of a stream loop a thread claims at once,
+//nor grainsize and num_tasks of taskloop
+  final public Expression OmpExpressionClause() throws ParseException {
+        Expression argument;
+    jj_consume_token(IDENTIFIER);
+    jj_consume_token(LPAREN);
+    argument = Expression();
+    jj_consume_token(RPAREN);
+         {if (true) return argument;}
+    throw new Error("Missing return statement in function");
+  }
+
   final public OmpDataClause OmpDataClause() throws ParseException {
         OmpDataClause ret = null;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -5460,7 +5528,7 @@ public final class ASTParser implements ASTParserConstants {
       ret = OmpDefaultDataClause();
       break;
     default:
-      jj_la1[171] = jj_gen;
+      jj_la1[172] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5479,7 +5547,7 @@ public final class ASTParser implements ASTParserConstants {
       jj_consume_token(FIRSTPRIVATE);
       break;
     default:
-      jj_la1[172] = jj_gen;
+      jj_la1[173] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5487,15 +5555,15 @@ public final class ASTParser implements ASTParserConstants {
     jj_consume_token(LPAREN);
     expr = Expression();
                              ret.addArgument(expr);
-    label_61:
+    label_64:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case COMMA:
         ;
         break;
       default:
-        jj_la1[173] = jj_gen;
-        break label_61;
+        jj_la1[174] = jj_gen;
+        break label_64;
       }
       jj_consume_token(COMMA);
       expr = Expression();
@@ -5514,15 +5582,15 @@ public final class ASTParser implements ASTParserConstants {
     jj_consume_token(LPAREN);
     expr = Expression();
                              ret.addArgument(expr);
-    label_62:
+    label_65:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case COMMA:
         ;
         break;
       default:
-        jj_la1[174] = jj_gen;
-        break label_62;
+        jj_la1[175] = jj_gen;
+        break label_65;
       }
       jj_consume_token(COMMA);
       expr = Expression();
@@ -5541,15 +5609,15 @@ public final class ASTParser implements ASTParserConstants {
     jj_consume_token(LPAREN);
     expr = Expression();
                              ret.addArgument(expr);
-    label_63:
+    label_66:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case COMMA:
         ;
         break;
       default:
-        jj_la1[175] = jj_gen;
-        break label_63;
+        jj_la1[176] = jj_gen;
+        break label_66;
       }
       jj_consume_token(COMMA);
       expr = Expression();
@@ -5562,36 +5630,70 @@ public final class ASTParser implements ASTParserConstants {
 
   final public OmpReductionDataClause OmpReductionDataClause() throws ParseException {
         OmpReductionDataClause ret = new OmpReductionDataClause();
-        Expression expr;
         OmpReductionOperator operator;
     jj_consume_token(REDUCTION);
                      ret.setBeginLine(token.beginLine); ret.setBeginColumn(token.beginColumn);
     jj_consume_token(LPAREN);
     operator = OmpReductionOperator();
     jj_consume_token(COLON);
-    expr = Name();
-                                                             ret.addArgument(operator, expr);
-    label_64:
+    OmpReductionArgument(ret, operator);
+    label_67:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case COMMA:
         ;
         break;
       default:
-        jj_la1[176] = jj_gen;
-        break label_64;
+        jj_la1[177] = jj_gen;
+        break label_67;
       }
       jj_consume_token(COMMA);
       operator = OmpReductionOperator();
       jj_consume_token(COLON);
-      expr = Name();
-                                                                   ret.addArgument(operator, expr);
+      OmpReductionArgument(ret, operator);
     }
     jj_consume_token(RPAREN);
          ret.setEndLine(token.endLine); ret.setEndColumn(token.endColumn); {if (true) return ret;}
     throw new Error("Missing return statement in function");
   }
 
+/*
+ * a reduction variable, or an array section a[lower:length] of a reduction array,
+ * minloc and maxloc name the value variable followed by its location variable
+ */
+  final public void OmpReductionArgument(OmpReductionDataClause clause, OmpReductionOperator operator) throws ParseException {
+        Expression expr;
+        Expression lower = null;
+        Expression length = null;
+        Expression location = null;
+    expr = Name();
+    if (jj_2_59(2147483647)) {
+      jj_consume_token(COMMA);
+      location = Name();
+                        if (!operator.isLocation()) {
+                                {if (true) throw new ParseException("Pyjama Parsing Error: only minloc and maxloc reductions name a location variable, at line " + token.beginLine);}
+                        }
+                        clause.addLocationArgument(operator, expr, location);
+    } else {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case LBRACKET:
+        jj_consume_token(LBRACKET);
+        lower = Expression();
+        jj_consume_token(COLON);
+        length = Expression();
+        jj_consume_token(RBRACKET);
+        break;
+      default:
+        jj_la1[178] = jj_gen;
+        ;
+      }
+                        if (operator.isLocation()) {
+                                {if (true) throw new ParseException("Pyjama Parsing Error: " + operator.getOperatorString() + " reduction of '" + expr + "' needs a location variable, at line " + token.beginLine);}
+                        }
+                        clause.addArgument(operator, expr, lower, length);
+    }
+  }
+
   final public OmpCopyprivateDataClause OmpCopyprivateDataClause() throws ParseException {
         OmpCopyprivateDataClause ret = new OmpCopyprivateDataClause();
         Expression expr;
@@ -5600,15 +5702,15 @@ public final class ASTParser implements ASTParserConstants {
     jj_consume_token(LPAREN);
     expr = Expression();
                               ret.addArgument(expr);
-    label_65:
+    label_68:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case COMMA:
         ;
         break;
       default:
-        jj_la1[177] = jj_gen;
-        break label_65;
+        jj_la1[179] = jj_gen;
+        break label_68;
       }
       jj_consume_token(COMMA);
       expr = Expression();
@@ -5634,7 +5736,7 @@ public final class ASTParser implements ASTParserConstants {
                    ret.setPolicy(OmpDefaultDataClause.Policy.None);
       break;
     default:
-      jj_la1[178] = jj_gen;
+      jj_la1[180] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5672,6 +5774,7 @@ public final class ASTParser implements ASTParserConstants {
   final public OmpReductionOperator OmpReductionOperator() throws ParseException {
         OmpReductionOperator op = null;
         NameExpr userDefined = null;
+        Expression function = null;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case PLUS:
       jj_consume_token(PLUS);
@@ -5707,10 +5810,28 @@ public final class ASTParser implements ASTParserConstants {
       break;
     case IDENTIFIER:
       userDefined = Name();
-                                 op = new OmpReductionOperator(userDefined);
+                                 op = OmpReductionOperator.forName(userDefined); op.setDeclaredReductions(declaredReductions);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case LPAREN:
+        jj_consume_token(LPAREN);
+        function = Expression();
+        jj_consume_token(RPAREN);
+        break;
+      default:
+        jj_la1[181] = jj_gen;
+        ;
+      }
+            if (OmpReductionOperator.Operator.Merge == op.getOperator()) {
+              if (null == function) {
+                {if (true) throw new ParseException("Pyjama Parsing Error: merge reduction needs the function reducing the values of a key, merge(f), at line " + token.beginLine);}
+              }
+              op.setMergeFunction(function);
+            } else if (null != function) {
+              {if (true) throw new ParseException("Pyjama Parsing Error: only merge reductions take a function, at line " + token.beginLine);}
+            }
       break;
     default:
-      jj_la1[179] = jj_gen;
+      jj_la1[182] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -5718,27 +5839,90 @@ public final class ASTParser implements ASTParserConstants {
     throw new Error("Missing return statement in function");
   }
 
-  final public OmpNeglectExceptionClause OmpNeglectExceptionClause() throws ParseException {
-        OmpNeglectExceptionClause ret = new OmpNeglectExceptionClause();
-        Expression excpetionName;
-    jj_consume_token(NEGLECT);
-                   ret.setBeginLine(token.beginLine); ret.setBeginColumn(token.beginColumn);
+//declare and initializer are not reserved as keywords, the declared reduction is registered for
+//the reduction clauses of the compilation unit, the directive itself is an empty member
+  final public BodyDeclaration OmpDeclareReduction() throws ParseException {
+        Token name;
+        Type type;
+        List<Type> types = new ArrayList<Type>();
+        Expression combiner;
+        Expression initializer = null;
+        int line;
+        int column;
+    jj_consume_token(OPENMP_PRAGMA);
+                         line=token.beginLine; column=token.beginColumn;
+    jj_consume_token(IDENTIFIER);
+    jj_consume_token(REDUCTION);
     jj_consume_token(LPAREN);
-    excpetionName = Name();
-                                ret.addException(excpetionName);
-    label_66:
+    jj_consume_token(IDENTIFIER);
+                                      name = token;
+    jj_consume_token(COLON);
+    type = Type();
+                                                                        types.add(type);
+    label_69:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case COMMA:
         ;
         break;
       default:
-        jj_la1[180] = jj_gen;
-        break label_66;
+        jj_la1[183] = jj_gen;
+        break label_69;
       }
       jj_consume_token(COMMA);
-      excpetionName = Name();
-                                      ret.addException(excpetionName);
+      type = Type();
+                                                                                                               types.add(type);
+    }
+    jj_consume_token(COLON);
+    combiner = Expression();
+    jj_consume_token(RPAREN);
+    if (getToken(1).kind == IDENTIFIER && "initializer".equals(getToken(1).image)) {
+      jj_consume_token(IDENTIFIER);
+      jj_consume_token(LPAREN);
+      initializer = Expression();
+      jj_consume_token(RPAREN);
+                        if (!(initializer instanceof AssignExpr) || AssignExpr.Operator.assign != ((AssignExpr) initializer).getOperator()
+                                        || !"omp_priv".equals(((AssignExpr) initializer).getTarget().toString())) {
+                                {if (true) throw new ParseException("Pyjama Parsing Error: the initializer of declared reduction '" + name.image + "' has to be omp_priv = identity, at line " + token.beginLine);}
+                        }
+                        initializer = ((AssignExpr) initializer).getValue();
+    } else {
+      ;
+    }
+                if (null != OmpReductionOperator.forName(new NameExpr(name.image)).getOperator()) {
+                        {if (true) throw new ParseException("Pyjama Parsing Error: built-in reduction '" + name.image + "' cannot be declared, at line " + name.beginLine);}
+                }
+                for (Type t: types) {
+                        OmpDeclareReduction declared = new OmpDeclareReduction(name.image, t, combiner, initializer);
+                        if (null != declaredReductions.put(OmpDeclareReduction.key(name.image, declared.getType()), declared)) {
+                                {if (true) throw new ParseException("Pyjama Parsing Error: reduction '" + name.image + "' is declared twice for type " + declared.getType() + ", at line " + name.beginLine);}
+                        }
+                }
+                {if (true) return new EmptyMemberDeclaration(line, column, token.endLine, token.endColumn, popJavadoc());}
+    throw new Error("Missing return statement in function");
+  }
+
+  final public OmpNeglectExceptionClause OmpNeglectExceptionClause() throws ParseException {
+        OmpNeglectExceptionClause ret = new OmpNeglectExceptionClause();
+        Expression excpetionName;
+    jj_consume_token(NEGLECT);
+                   ret.setBeginLine(token.beginLine); ret.setBeginColumn(token.beginColumn);
+    jj_consume_token(LPAREN);
+    excpetionName = Name();
+                                ret.addException(excpetionName);
+    label_70:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case COMMA:
+        ;
+        break;
+      default:
+        jj_la1[184] = jj_gen;
+        break label_70;
+      }
+      jj_consume_token(COMMA);
+      excpetionName = Name();
+                                      ret.addException(excpetionName);
     }
     jj_consume_token(RPAREN);
          ret.setEndLine(token.endLine); ret.setEndColumn(token.endColumn); {if (true) return ret;}
@@ -6095,1610 +6279,2321 @@ public final class ASTParser implements ASTParserConstants {
     finally { jj_save(49, xla); }
   }
 
-  private boolean jj_3R_398() {
-    if (jj_3R_323()) return true;
-    return false;
+  private boolean jj_2_51(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_51(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(50, xla); }
   }
 
-  private boolean jj_3R_397() {
-    if (jj_3R_322()) return true;
-    return false;
+  private boolean jj_2_52(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_52(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(51, xla); }
   }
 
-  private boolean jj_3R_396() {
-    if (jj_3R_321()) return true;
-    return false;
+  private boolean jj_2_53(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_53(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(52, xla); }
   }
 
-  private boolean jj_3R_186() {
-    if (jj_3R_102()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(CLASS)) return true;
-    return false;
+  private boolean jj_2_54(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_54(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(53, xla); }
   }
 
-  private boolean jj_3R_395() {
-    if (jj_3R_400()) return true;
-    return false;
+  private boolean jj_2_55(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_55(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(54, xla); }
   }
 
-  private boolean jj_3R_197() {
+  private boolean jj_2_56(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_56(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(55, xla); }
+  }
+
+  private boolean jj_2_57(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_57(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(56, xla); }
+  }
+
+  private boolean jj_2_58(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_58(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(57, xla); }
+  }
+
+  private boolean jj_2_59(int xla) {
+    jj_la = xla; jj_lastpos = jj_scanpos = token;
+    try { return !jj_3_59(); }
+    catch(LookaheadSuccess ls) { return true; }
+    finally { jj_save(58, xla); }
+  }
+
+  private boolean jj_3R_110() {
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_6()) {
-    jj_scanpos = xsp;
-    if (jj_3R_249()) {
-    jj_scanpos = xsp;
-    if (jj_3R_250()) return true;
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_5()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_185() {
-    if (jj_3R_236()) return true;
+  private boolean jj_3R_416() {
+    if (jj_3R_426()) return true;
     return false;
   }
 
-  private boolean jj_3_42() {
+  private boolean jj_3_3() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_112()) return true;
+    if (jj_3R_84()) return true;
     return false;
   }
 
-  private boolean jj_3R_184() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_363() {
+    if (jj_scan_token(BIT_AND)) return true;
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3R_392() {
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_404() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_416()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_161() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3R_340() {
+    if (jj_scan_token(EXTENDS)) return true;
+    if (jj_3R_111()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_363()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_251() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_313()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_235() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_309() {
+    if (jj_scan_token(AT)) return true;
+    if (jj_scan_token(INTERFACE)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_3R_404()) return true;
     return false;
   }
 
-  private boolean jj_3R_393() {
-    if (jj_3R_108()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_395()) {
-    jj_scanpos = xsp;
-    if (jj_3R_396()) {
-    jj_scanpos = xsp;
-    if (jj_3R_397()) {
-    jj_scanpos = xsp;
-    if (jj_3R_398()) {
-    jj_scanpos = xsp;
-    if (jj_3R_399()) return true;
-    }
-    }
-    }
-    }
+  private boolean jj_3R_425() {
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_234() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3R_379() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_378()) return true;
     return false;
   }
 
-  private boolean jj_3R_104() {
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_382() {
+    if (jj_3R_119()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_161()) { jj_scanpos = xsp; break; }
+      if (jj_3_46()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_183() {
-    if (jj_scan_token(SUPER)) return true;
-    if (jj_scan_token(DOT)) return true;
+  private boolean jj_3R_252() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_251()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_362() {
+    if (jj_3R_371()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_161() {
+    if (jj_scan_token(LT)) return true;
+    if (jj_3R_251()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_234()) jj_scanpos = xsp;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_235()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_252()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_385() {
+  private boolean jj_3R_295() {
+    if (jj_scan_token(LBRACE)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_392()) {
-    jj_scanpos = xsp;
-    if (jj_3R_393()) return true;
-    }
+    if (jj_3R_382()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(130)) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_182() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3R_227() {
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_181() {
-    if (jj_3R_233()) return true;
+  private boolean jj_3R_226() {
+    if (jj_3R_295()) return true;
     return false;
   }
 
-  private boolean jj_3_3() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_80()) return true;
+  private boolean jj_3R_424() {
+    if (jj_3R_256()) return true;
     return false;
   }
 
-  private boolean jj_3R_128() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_225() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_375() {
-    if (jj_3R_385()) return true;
+  private boolean jj_3R_157() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_310() {
-    if (jj_scan_token(BIT_AND)) return true;
-    if (jj_3R_105()) return true;
+  private boolean jj_3_4() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3R_277() {
-    if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_84() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_310()) { jj_scanpos = xsp; break; }
+      if (jj_3R_157()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(IDENTIFIER)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_424()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_425()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_362() {
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_403() {
+    if (jj_scan_token(SEMICOLON)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_375()) { jj_scanpos = xsp; break; }
+      if (jj_3_4()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_127() {
+  private boolean jj_3R_119() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_181()) {
-    jj_scanpos = xsp;
-    if (jj_3R_182()) {
+    if (jj_3R_225()) {
     jj_scanpos = xsp;
-    if (jj_3R_183()) {
-    jj_scanpos = xsp;
-    if (jj_3R_184()) {
-    jj_scanpos = xsp;
-    if (jj_3R_185()) {
-    jj_scanpos = xsp;
-    if (jj_3R_186()) {
+    if (jj_3R_226()) {
     jj_scanpos = xsp;
-    if (jj_3R_187()) return true;
-    }
-    }
-    }
-    }
+    if (jj_3R_227()) return true;
     }
     }
     return false;
   }
 
-  private boolean jj_3R_560() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_110()) return true;
-    return false;
-  }
-
-  private boolean jj_3_25() {
-    if (jj_3R_100()) return true;
+  private boolean jj_3R_378() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(ASSIGN)) return true;
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_255() {
-    if (jj_scan_token(NEGLECT)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_402() {
+    if (jj_3R_84()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_560()) { jj_scanpos = xsp; break; }
+      if (jj_3_3()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_173() {
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3R_401() {
+    if (jj_3R_415()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_371() {
+    if (jj_3R_378()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_230()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_379()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_384() {
-    if (jj_3R_104()) return true;
+  private boolean jj_3R_308() {
+    if (jj_scan_token(ENUM)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_401()) jj_scanpos = xsp;
+    if (jj_scan_token(LBRACE)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_402()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(130)) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_403()) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_323() {
+  private boolean jj_3R_306() {
     if (jj_scan_token(AT)) return true;
-    if (jj_scan_token(INTERFACE)) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_3R_362()) return true;
+    if (jj_3R_117()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_119()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_584() {
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_118() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(ASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_583() {
-    if (jj_scan_token(SC_OR)) return true;
+  private boolean jj_3R_423() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3R_87() {
-    if (jj_3R_127()) return true;
+  private boolean jj_3R_415() {
+    if (jj_scan_token(IMPLEMENTS)) return true;
+    if (jj_3R_111()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_128()) { jj_scanpos = xsp; break; }
+      if (jj_3R_423()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_582() {
-    if (jj_scan_token(SC_AND)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_174() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_307() {
+    if (jj_scan_token(AT)) return true;
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_581() {
-    if (jj_scan_token(XOR)) return true;
+  private boolean jj_3_45() {
+    if (jj_scan_token(AT)) return true;
+    if (jj_3R_117()) return true;
+    if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_339() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_338()) return true;
+  private boolean jj_3_44() {
+    if (jj_scan_token(AT)) return true;
+    if (jj_3R_117()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_118()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(124)) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_580() {
-    if (jj_scan_token(BIT_OR)) return true;
+  private boolean jj_3R_305() {
+    if (jj_scan_token(AT)) return true;
+    if (jj_3R_117()) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_362()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_342() {
-    if (jj_3R_112()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_42()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_422() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_111()) return true;
     return false;
   }
 
-  private boolean jj_3R_119() {
-    if (jj_scan_token(LT)) return true;
-    if (jj_3R_173()) return true;
+  private boolean jj_3R_414() {
+    if (jj_scan_token(EXTENDS)) return true;
+    if (jj_3R_111()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_174()) { jj_scanpos = xsp; break; }
+      if (jj_3R_422()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_579() {
-    if (jj_scan_token(BIT_AND)) return true;
+  private boolean jj_3R_242() {
+    if (jj_3R_307()) return true;
     return false;
   }
 
-  private boolean jj_3R_578() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_241() {
+    if (jj_3R_306()) return true;
     return false;
   }
 
-  private boolean jj_3R_309() {
-    if (jj_3R_328()) return true;
+  private boolean jj_3R_320() {
+    if (jj_scan_token(INTERFACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_320() {
-    if (jj_3R_127()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_25()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_240() {
+    if (jj_3R_305()) return true;
     return false;
   }
 
-  private boolean jj_3R_577() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_400() {
+    if (jj_3R_415()) return true;
     return false;
   }
 
-  private boolean jj_3R_201() {
-    if (jj_scan_token(LBRACE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_342()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(130)) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_399() {
+    if (jj_3R_414()) return true;
     return false;
   }
 
-  private boolean jj_3R_576() {
-    if (jj_scan_token(PLUS)) return true;
+  private boolean jj_3R_398() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_147() {
-    if (jj_3R_89()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_193()) return true;
+  private boolean jj_3R_156() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_240()) {
+    jj_scanpos = xsp;
+    if (jj_3R_241()) {
+    jj_scanpos = xsp;
+    if (jj_3R_242()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_383() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_189() {
     return false;
   }
 
-  private boolean jj_3R_564() {
+  private boolean jj_3R_267() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_576()) {
-    jj_scanpos = xsp;
-    if (jj_3R_577()) {
-    jj_scanpos = xsp;
-    if (jj_3R_578()) {
-    jj_scanpos = xsp;
-    if (jj_3R_579()) {
-    jj_scanpos = xsp;
-    if (jj_3R_580()) {
-    jj_scanpos = xsp;
-    if (jj_3R_581()) {
-    jj_scanpos = xsp;
-    if (jj_3R_582()) {
-    jj_scanpos = xsp;
-    if (jj_3R_583()) {
+    if (jj_scan_token(20)) {
     jj_scanpos = xsp;
-    if (jj_3R_584()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    if (jj_3R_320()) return true;
     }
+    if (jj_scan_token(IDENTIFIER)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_398()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_399()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_400()) jj_scanpos = xsp;
+    if (jj_3R_110()) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_3R_197()) return true;
+  private boolean jj_3R_190() {
     return false;
   }
 
-  private boolean jj_3R_118() {
-    if (jj_3R_117()) return true;
+  private boolean jj_3R_100() {
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == GT &&
+                ((GTToken)getToken(1)).realKind == RSIGNEDSHIFT;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_189()) return true;
+    if (jj_scan_token(GT)) return true;
+    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3_24() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_500() {
+    if (jj_scan_token(CATCH)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_427()) return true;
     if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_192()) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_167() {
-    if (jj_3R_144()) return true;
+  private boolean jj_3R_101() {
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == GT &&
+                ((GTToken)getToken(1)).realKind == RUNSIGNEDSHIFT;
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_190()) return true;
+    if (jj_scan_token(GT)) return true;
+    if (jj_scan_token(GT)) return true;
+    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_166() {
-    if (jj_3R_201()) return true;
+  private boolean jj_3R_473() {
+    if (jj_scan_token(FINALLY)) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_80() {
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_118()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(IDENTIFIER)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_383()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_384()) jj_scanpos = xsp;
+  private boolean jj_3R_501() {
+    if (jj_scan_token(FINALLY)) return true;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_165() {
-    if (jj_3R_117()) return true;
+  private boolean jj_3R_471() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_361() {
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_472() {
     Token xsp;
+    if (jj_3R_500()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_374()) { jj_scanpos = xsp; break; }
+      if (jj_3R_500()) { jj_scanpos = xsp; break; }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_501()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_96() {
-    if (jj_scan_token(LPAREN)) return true;
+  private boolean jj_3R_470() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_294() {
+    if (jj_scan_token(TRY)) return true;
+    if (jj_3R_164()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_24()) {
+    if (jj_3R_472()) {
     jj_scanpos = xsp;
-    if (jj_3R_147()) return true;
+    if (jj_3R_473()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_254() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_83() {
+    if (jj_3R_156()) return true;
     return false;
   }
 
-  private boolean jj_3R_112() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_165()) {
-    jj_scanpos = xsp;
-    if (jj_3R_166()) {
-    jj_scanpos = xsp;
-    if (jj_3R_167()) return true;
-    }
-    }
+  private boolean jj_3R_82() {
+    if (jj_scan_token(STRICTFP)) return true;
     return false;
   }
 
-  private boolean jj_3R_98() {
-    if (jj_scan_token(DECR)) return true;
+  private boolean jj_3R_469() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_23() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_97()) {
-    jj_scanpos = xsp;
-    if (jj_3R_98()) return true;
-    }
+  private boolean jj_3R_81() {
+    if (jj_scan_token(VOLATILE)) return true;
     return false;
   }
 
-  private boolean jj_3R_360() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3R_80() {
+    if (jj_scan_token(TRANSIENT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_79() {
+    if (jj_scan_token(NATIVE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_78() {
+    if (jj_scan_token(SYNCHRONIZED)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_77() {
+    if (jj_scan_token(ABSTRACT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_76() {
+    if (jj_scan_token(FINAL)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_75() {
+    if (jj_scan_token(PRIVATE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_74() {
+    if (jj_scan_token(PROTECTED)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_293() {
+    if (jj_scan_token(SYNCHRONIZED)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_164()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_73() {
+    if (jj_scan_token(STATIC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_72() {
+    if (jj_scan_token(PUBLIC)) return true;
+    return false;
+  }
+
+  private boolean jj_3_2() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_72()) {
+    jj_scanpos = xsp;
+    if (jj_3R_73()) {
+    jj_scanpos = xsp;
+    if (jj_3R_74()) {
+    jj_scanpos = xsp;
+    if (jj_3R_75()) {
+    jj_scanpos = xsp;
+    if (jj_3R_76()) {
+    jj_scanpos = xsp;
+    if (jj_3R_77()) {
+    jj_scanpos = xsp;
+    if (jj_3R_78()) {
+    jj_scanpos = xsp;
+    if (jj_3R_79()) {
+    jj_scanpos = xsp;
+    if (jj_3R_80()) {
+    jj_scanpos = xsp;
+    if (jj_3R_81()) {
+    jj_scanpos = xsp;
+    if (jj_3R_82()) {
+    jj_scanpos = xsp;
+    if (jj_3R_83()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_114() {
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_3()) { jj_scanpos = xsp; break; }
+      if (jj_3_2()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_338() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_scan_token(ASSIGN)) return true;
-    if (jj_3R_112()) return true;
+  private boolean jj_3R_292() {
+    if (jj_scan_token(THROW)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_97() {
-    if (jj_scan_token(INCR)) return true;
+  private boolean jj_3R_291() {
+    if (jj_scan_token(RETURN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_471()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3R_592() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_253() {
-    if (jj_scan_token(NUMTHREADS)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_290() {
+    if (jj_scan_token(CONTINUE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_470()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_359() {
-    if (jj_3R_373()) return true;
+  private boolean jj_3R_466() {
+    if (jj_scan_token(ELSE)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_297() {
-    if (jj_3R_320()) return true;
+  private boolean jj_3R_155() {
+    if (jj_3R_156()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_71() {
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_155()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(PACKAGE)) return true;
+    if (jj_3R_117()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_499() {
+    if (jj_3R_540()) return true;
+    return false;
+  }
+
+  private boolean jj_3_1() {
+    if (jj_3R_71()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_289() {
+    if (jj_scan_token(BREAK)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_23()) jj_scanpos = xsp;
+    if (jj_3R_469()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_322() {
-    if (jj_scan_token(ENUM)) return true;
+  private boolean jj_3R_540() {
+    if (jj_3R_589()) return true;
+    return false;
+  }
+
+  private boolean jj_3_43() {
+    if (jj_3R_114()) return true;
+    if (jj_3R_87()) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_589() {
+    if (jj_3R_98()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_592()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_588() {
+    if (jj_3R_589()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_498() {
+    if (jj_3R_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_587() {
+    if (jj_3R_115()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_539() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_359()) jj_scanpos = xsp;
-    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_587()) {
+    jj_scanpos = xsp;
+    if (jj_3R_588()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_42() {
+    if (jj_3R_115()) return true;
+    if (jj_scan_token(COLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_497() {
+    if (jj_3R_539()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_468() {
+    Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_360()) jj_scanpos = xsp;
+    if (jj_3R_497()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
     xsp = jj_scanpos;
-    if (jj_scan_token(130)) jj_scanpos = xsp;
+    if (jj_3R_498()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_361()) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_499()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_467() {
+    if (jj_3R_115()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_288() {
+    if (jj_scan_token(FOR)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_467()) {
+    jj_scanpos = xsp;
+    if (jj_3R_468()) return true;
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_116()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_287() {
+    if (jj_scan_token(DO)) return true;
+    if (jj_3R_116()) return true;
+    if (jj_scan_token(WHILE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_286() {
+    if (jj_scan_token(WHILE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_116()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_285() {
+    if (jj_scan_token(IF)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_116()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_466()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_207() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_206()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_538() {
+    if (jj_scan_token(_DEFAULT)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_537() {
+    if (jj_scan_token(CASE)) return true;
+    if (jj_3R_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_496() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_537()) {
+    jj_scanpos = xsp;
+    if (jj_3R_538()) return true;
+    }
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_253()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_465() {
+    if (jj_3R_496()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_284() {
+    if (jj_scan_token(SWITCH)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_465()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_536() {
+    if (jj_3R_97()) return true;
+    if (jj_3R_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_535() {
+    if (jj_scan_token(DECR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_495() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_534()) {
+    jj_scanpos = xsp;
+    if (jj_3R_535()) {
+    jj_scanpos = xsp;
+    if (jj_3R_536()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_534() {
+    if (jj_scan_token(INCR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_336() {
+    if (jj_3R_360()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_495()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_335() {
+    if (jj_3R_354()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_334() {
+    if (jj_3R_353()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_283() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_334()) {
+    jj_scanpos = xsp;
+    if (jj_3R_335()) {
+    jj_scanpos = xsp;
+    if (jj_3R_336()) return true;
+    }
+    }
+    if (jj_scan_token(SEMICOLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_464() {
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_98()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_282() {
+    if (jj_scan_token(SEMICOLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3_40() {
+    if (jj_3R_115()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_115() {
+    if (jj_3R_114()) return true;
+    if (jj_3R_87()) return true;
+    if (jj_3R_206()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_207()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3_39() {
+    if (jj_3R_114()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(20)) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(40)) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3_41() {
+    if (jj_3R_116()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_172() {
+    if (jj_3R_115()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_171() {
+    if (jj_3R_114()) return true;
+    if (jj_3R_267()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_94() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_171()) {
+    jj_scanpos = xsp;
+    if (jj_3R_172()) {
+    jj_scanpos = xsp;
+    if (jj_3_41()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_164() {
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_253()) return true;
+    if (jj_scan_token(RBRACE)) return true;
+    return false;
+  }
+
+  private boolean jj_3_36() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_113() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_116()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_391() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_87()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_281() {
+    if (jj_scan_token(ASSERT)) return true;
+    if (jj_3R_98()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_464()) jj_scanpos = xsp;
+    if (jj_scan_token(SEMICOLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_224() {
+    if (jj_3R_294()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_223() {
+    if (jj_3R_293()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_222() {
+    if (jj_3R_292()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_221() {
+    if (jj_3R_291()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_220() {
+    if (jj_3R_290()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_219() {
+    if (jj_3R_289()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_218() {
+    if (jj_3R_288()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_217() {
+    if (jj_3R_287()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_216() {
+    if (jj_3R_286()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_215() {
+    if (jj_3R_285()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_214() {
+    if (jj_3R_284()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_213() {
+    if (jj_3R_283()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_212() {
+    if (jj_3R_282()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_211() {
+    if (jj_3R_164()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_210() {
+    if (jj_3R_281()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_209() {
+    if (jj_3R_280()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_208() {
+    if (jj_3R_279()) return true;
+    return false;
+  }
+
+  private boolean jj_3_38() {
+    if (jj_3R_113()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_593() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_117()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_231() {
+    if (jj_scan_token(NEGLECT)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_117()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_593()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_116() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_38()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == OPENMP_PRAGMA && getToken(2).kind == IDENTIFIER && "tile".equals(getToken(2).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_208()) {
+    jj_scanpos = xsp;
+    if (jj_3R_209()) {
+    jj_scanpos = xsp;
+    if (jj_3R_210()) {
+    jj_scanpos = xsp;
+    if (jj_3R_211()) {
+    jj_scanpos = xsp;
+    if (jj_3R_212()) {
+    jj_scanpos = xsp;
+    if (jj_3R_213()) {
+    jj_scanpos = xsp;
+    if (jj_3R_214()) {
+    jj_scanpos = xsp;
+    if (jj_3R_215()) {
+    jj_scanpos = xsp;
+    if (jj_3R_216()) {
+    jj_scanpos = xsp;
+    if (jj_3R_217()) {
+    jj_scanpos = xsp;
+    if (jj_3R_218()) {
+    jj_scanpos = xsp;
+    if (jj_3R_219()) {
+    jj_scanpos = xsp;
+    if (jj_3R_220()) {
+    jj_scanpos = xsp;
+    if (jj_3R_221()) {
+    jj_scanpos = xsp;
+    if (jj_3R_222()) {
+    jj_scanpos = xsp;
+    if (jj_3R_223()) {
+    jj_scanpos = xsp;
+    if (jj_3R_224()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_276() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_205() {
+    Token xsp;
+    if (jj_3R_276()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_276()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_3R_254()) return true;
+    return false;
+  }
+
+  private boolean jj_3_35() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RBRACKET)) return true;
+    return false;
+  }
+
+  private boolean jj_3_37() {
+    Token xsp;
+    if (jj_3_35()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_35()) { jj_scanpos = xsp; break; }
+    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_36()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3_33() {
+    if (jj_3R_110()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_392() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_112() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_37()) {
+    jj_scanpos = xsp;
+    if (jj_3R_205()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_328() {
-    if (jj_3R_338()) return true;
+  private boolean jj_3R_243() {
+    if (jj_scan_token(OPENMP_PRAGMA)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(REDUCTION)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_87()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_339()) { jj_scanpos = xsp; break; }
+      if (jj_3R_391()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_392()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_245() {
+  private boolean jj_3R_367() {
     if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_567() {
-    if (jj_scan_token(NONE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_246() {
-    if (jj_3R_297()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_296() {
-    if (jj_scan_token(BANG)) return true;
+  private boolean jj_3R_351() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_367()) jj_scanpos = xsp;
+    if (jj_3R_111()) return true;
+    if (jj_3R_256()) return true;
+    xsp = jj_scanpos;
+    if (jj_3_33()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_566() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_111()) return true;
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3R_295() {
-    if (jj_scan_token(TILDE)) return true;
+  private boolean jj_3R_364() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_244() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_295()) {
-    jj_scanpos = xsp;
-    if (jj_3R_296()) return true;
-    }
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_350() {
+    if (jj_3R_111()) return true;
+    if (jj_3R_112()) return true;
     return false;
   }
 
-  private boolean jj_3R_260() {
-    if (jj_scan_token(_DEFAULT)) return true;
+  private boolean jj_3R_622() {
     if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_566()) {
-    jj_scanpos = xsp;
-    if (jj_3R_567()) return true;
-    }
+    if (jj_3R_98()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_574() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_92()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_228() {
-    if (jj_scan_token(AT)) return true;
-    if (jj_3R_110()) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  private boolean jj_3R_349() {
+    if (jj_3R_105()) return true;
     if (jj_3R_112()) return true;
-    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_193() {
+  private boolean jj_3R_619() {
+    if (jj_3R_117()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_244()) {
-    jj_scanpos = xsp;
-    if (jj_3R_245()) {
-    jj_scanpos = xsp;
-    if (jj_3R_246()) return true;
-    }
-    }
+    if (jj_3R_622()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_557() {
-    if (jj_scan_token(COPYPRIVATE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_574()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_618() {
+    if (jj_scan_token(SC_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_382() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_617() {
+    if (jj_scan_token(SC_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_111() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_scan_token(ASSIGN)) return true;
+  private boolean jj_3R_616() {
+    if (jj_scan_token(XOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
-    if (jj_scan_token(IMPLEMENTS)) return true;
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_318() {
+    if (jj_scan_token(NEW)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_382()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_349()) {
+    jj_scanpos = xsp;
+    if (jj_3R_350()) {
+    jj_scanpos = xsp;
+    if (jj_3R_351()) return true;
+    }
     }
     return false;
   }
 
-  private boolean jj_3R_565() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_564()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_110()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_229() {
-    if (jj_scan_token(AT)) return true;
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_615() {
+    if (jj_scan_token(BIT_OR)) return true;
     return false;
   }
 
-  private boolean jj_3R_292() {
-    if (jj_scan_token(DECR)) return true;
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_614() {
+    if (jj_scan_token(BIT_AND)) return true;
     return false;
   }
 
-  private boolean jj_3R_259() {
-    if (jj_scan_token(REDUCTION)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_564()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_110()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_565()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_613() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_381() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_612() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_scan_token(AT)) return true;
-    if (jj_3R_110()) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  private boolean jj_3R_611() {
+    if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_563() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_597() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_611()) {
+    jj_scanpos = xsp;
+    if (jj_3R_612()) {
+    jj_scanpos = xsp;
+    if (jj_3R_613()) {
+    jj_scanpos = xsp;
+    if (jj_3R_614()) {
+    jj_scanpos = xsp;
+    if (jj_3R_615()) {
+    jj_scanpos = xsp;
+    if (jj_3R_616()) {
+    jj_scanpos = xsp;
+    if (jj_3R_617()) {
+    jj_scanpos = xsp;
+    if (jj_3R_618()) {
+    jj_scanpos = xsp;
+    if (jj_3R_619()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_372() {
-    if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_341() {
+    if (jj_3R_98()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_381()) { jj_scanpos = xsp; break; }
+      if (jj_3R_364()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_scan_token(AT)) return true;
-    if (jj_3R_110()) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_111()) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(124)) return true;
-    }
+  private boolean jj_3R_314() {
+    if (jj_3R_341()) return true;
     return false;
   }
 
-  private boolean jj_3R_227() {
-    if (jj_scan_token(AT)) return true;
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_230() {
+    if (jj_scan_token(IF)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_309()) jj_scanpos = xsp;
+    if (jj_3R_98()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_291() {
-    if (jj_scan_token(INCR)) return true;
-    if (jj_3R_192()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_258() {
-    if (jj_scan_token(LASTPRIVATE)) return true;
+  private boolean jj_3R_256() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_563()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_314()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_172() {
-    if (jj_3R_229()) return true;
+  private boolean jj_3R_366() {
+    if (jj_scan_token(NULL)) return true;
     return false;
   }
 
-  private boolean jj_3R_334() {
-    if (jj_scan_token(INTERFACE)) return true;
+  private boolean jj_3R_373() {
+    if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_243() {
-    if (jj_3R_193()) return true;
+  private boolean jj_3R_229() {
+    if (jj_scan_token(NUMTHREADS)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_171() {
-    if (jj_3R_228()) return true;
+  private boolean jj_3R_372() {
+    if (jj_scan_token(TRUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_562() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_365() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_372()) {
+    jj_scanpos = xsp;
+    if (jj_3R_373()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_170() {
-    if (jj_3R_227()) return true;
+  private boolean jj_3R_601() {
+    if (jj_scan_token(NONE)) return true;
     return false;
   }
 
-  private boolean jj_3R_358() {
-    if (jj_3R_373()) return true;
+  private boolean jj_3R_348() {
+    if (jj_3R_366()) return true;
     return false;
   }
 
-  private boolean jj_3R_357() {
-    if (jj_3R_372()) return true;
+  private boolean jj_3R_600() {
+    if (jj_scan_token(SHARED)) return true;
     return false;
   }
 
-  private boolean jj_3R_356() {
-    if (jj_3R_119()) return true;
+  private boolean jj_3R_347() {
+    if (jj_3R_365()) return true;
     return false;
   }
 
-  private boolean jj_3R_257() {
-    if (jj_scan_token(SHARED)) return true;
+  private boolean jj_3R_238() {
+    if (jj_scan_token(_DEFAULT)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_562()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_600()) {
+    jj_scanpos = xsp;
+    if (jj_3R_601()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_321() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(20)) {
-    jj_scanpos = xsp;
-    if (jj_3R_334()) return true;
-    }
-    if (jj_scan_token(IDENTIFIER)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_356()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_357()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_358()) jj_scanpos = xsp;
-    if (jj_3R_104()) return true;
+  private boolean jj_3R_346() {
+    if (jj_scan_token(STRING_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_294() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_609() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_117() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_170()) {
-    jj_scanpos = xsp;
-    if (jj_3R_171()) {
-    jj_scanpos = xsp;
-    if (jj_3R_172()) return true;
-    }
-    }
+  private boolean jj_3R_345() {
+    if (jj_scan_token(CHARACTER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_561() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_590() {
+    if (jj_scan_token(COPYPRIVATE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_609()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_293() {
-    if (jj_scan_token(PLUS)) return true;
+  private boolean jj_3R_344() {
+    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_145() {
+  private boolean jj_3R_623() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_242() {
+  private boolean jj_3_59() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_117()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_293()) {
+    if (jj_scan_token(124)) {
     jj_scanpos = xsp;
-    if (jj_3R_294()) return true;
+    if (jj_scan_token(130)) return true;
     }
-    if (jj_3R_192()) return true;
     return false;
   }
 
-  private boolean jj_3R_241() {
-    if (jj_3R_292()) return true;
+  private boolean jj_3R_343() {
+    if (jj_scan_token(LONG_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_256() {
+  private boolean jj_3R_621() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_scan_token(46)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(68)) return true;
-    }
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_561()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_623()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_240() {
-    if (jj_3R_291()) return true;
+  private boolean jj_3R_342() {
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_146() {
+  private boolean jj_3R_109() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_94() {
-    jj_lookingAhead = true;
-    jj_semLA = getToken(1).kind == GT &&
-                ((GTToken)getToken(1)).realKind == RSIGNEDSHIFT;
-    jj_lookingAhead = false;
-    if (!jj_semLA || jj_3R_145()) return true;
-    if (jj_scan_token(GT)) return true;
-    if (jj_scan_token(GT)) return true;
+  private boolean jj_3R_620() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_192() {
+  private boolean jj_3_32() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_240()) {
+    if (jj_3R_109()) jj_scanpos = xsp;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_315() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_342()) {
     jj_scanpos = xsp;
-    if (jj_3R_241()) {
+    if (jj_3R_343()) {
     jj_scanpos = xsp;
-    if (jj_3R_242()) {
+    if (jj_3R_344()) {
     jj_scanpos = xsp;
-    if (jj_3R_243()) return true;
+    if (jj_3R_345()) {
+    jj_scanpos = xsp;
+    if (jj_3R_346()) {
+    jj_scanpos = xsp;
+    if (jj_3R_347()) {
+    jj_scanpos = xsp;
+    if (jj_3R_348()) return true;
+    }
+    }
+    }
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3R_454() {
-    if (jj_scan_token(CATCH)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_386()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_122()) return true;
+  private boolean jj_3R_202() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_573() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_331() {
+    if (jj_3R_256()) return true;
     return false;
   }
 
-  private boolean jj_3R_455() {
-    if (jj_scan_token(FINALLY)) return true;
-    if (jj_3R_122()) return true;
+  private boolean jj_3R_330() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_429() {
-    if (jj_scan_token(FINALLY)) return true;
-    if (jj_3R_122()) return true;
+  private boolean jj_3R_598() {
+    if (jj_3R_117()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_620()) {
+    jj_scanpos = xsp;
+    if (jj_3R_621()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_391() {
-    if (jj_scan_token(REM)) return true;
+  private boolean jj_3R_275() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_330()) jj_scanpos = xsp;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_331()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_95() {
-    jj_lookingAhead = true;
-    jj_semLA = getToken(1).kind == GT &&
-                ((GTToken)getToken(1)).realKind == RUNSIGNEDSHIFT;
-    jj_lookingAhead = false;
-    if (!jj_semLA || jj_3R_146()) return true;
-    if (jj_scan_token(GT)) return true;
-    if (jj_scan_token(GT)) return true;
-    if (jj_scan_token(GT)) return true;
+  private boolean jj_3R_274() {
+    if (jj_3R_318()) return true;
     return false;
   }
 
-  private boolean jj_3R_572() {
-    if (jj_scan_token(AUTO)) return true;
+  private boolean jj_3R_273() {
+    if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_390() {
-    if (jj_scan_token(SLASH)) return true;
+  private boolean jj_3R_599() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_597()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_598()) return true;
     return false;
   }
 
-  private boolean jj_3R_571() {
-    if (jj_scan_token(RUNTIME)) return true;
+  private boolean jj_3R_201() {
+    if (jj_scan_token(DOT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_273()) {
+    jj_scanpos = xsp;
+    if (jj_3R_274()) {
+    jj_scanpos = xsp;
+    if (jj_3R_275()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_389() {
-    if (jj_scan_token(STAR)) return true;
+  private boolean jj_3R_237() {
+    if (jj_scan_token(REDUCTION)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_597()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_598()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_599()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_570() {
-    if (jj_scan_token(GUIDED)) return true;
+  private boolean jj_3R_107() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_201()) {
+    jj_scanpos = xsp;
+    if (jj_3R_202()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_569() {
-    if (jj_scan_token(DYNAMIC)) return true;
+  private boolean jj_3R_596() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_378() {
+  private boolean jj_3R_236() {
+    if (jj_scan_token(LASTPRIVATE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_389()) {
-    jj_scanpos = xsp;
-    if (jj_3R_390()) {
-    jj_scanpos = xsp;
-    if (jj_3R_391()) return true;
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_596()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_192()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_568() {
-    if (jj_scan_token(STATIC)) return true;
+  private boolean jj_3R_200() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(SUPER)) return true;
     return false;
   }
 
-  private boolean jj_3R_427() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3_31() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_428() {
-    Token xsp;
-    if (jj_3R_454()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_454()) { jj_scanpos = xsp; break; }
-    }
-    xsp = jj_scanpos;
-    if (jj_3R_455()) jj_scanpos = xsp;
+  private boolean jj_3R_595() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_370() {
-    if (jj_3R_192()) return true;
+  private boolean jj_3R_235() {
+    if (jj_scan_token(SHARED)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_378()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_556() {
-    if (jj_scan_token(SCHEDULE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_568()) {
-    jj_scanpos = xsp;
-    if (jj_3R_569()) {
-    jj_scanpos = xsp;
-    if (jj_3R_570()) {
-    jj_scanpos = xsp;
-    if (jj_3R_571()) {
-    jj_scanpos = xsp;
-    if (jj_3R_572()) return true;
-    }
-    }
-    }
+      if (jj_3R_595()) { jj_scanpos = xsp; break; }
     }
-    xsp = jj_scanpos;
-    if (jj_3R_573()) jj_scanpos = xsp;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_426() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_380() {
-    if (jj_scan_token(MINUS)) return true;
+  private boolean jj_3R_319() {
+    if (jj_3R_256()) return true;
     return false;
   }
 
-  private boolean jj_3R_379() {
-    if (jj_scan_token(PLUS)) return true;
+  private boolean jj_3_30() {
+    if (jj_3R_108()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(CLASS)) return true;
     return false;
   }
 
-  private boolean jj_3R_371() {
+  private boolean jj_3R_106() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_379()) {
+    if (jj_3_31()) {
     jj_scanpos = xsp;
-    if (jj_3R_380()) return true;
+    if (jj_3R_200()) return true;
     }
-    if (jj_3R_370()) return true;
     return false;
   }
 
-  private boolean jj_3R_79() {
-    if (jj_3R_117()) return true;
+  private boolean jj_3R_265() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_319()) jj_scanpos = xsp;
     return false;
   }
-
-  private boolean jj_3R_78() {
-    if (jj_scan_token(STRICTFP)) return true;
+
+  private boolean jj_3R_594() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_275() {
-    if (jj_scan_token(TRY)) return true;
-    if (jj_3R_122()) return true;
+  private boolean jj_3R_234() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_428()) {
+    if (jj_scan_token(46)) {
     jj_scanpos = xsp;
-    if (jj_3R_429()) return true;
+    if (jj_scan_token(68)) return true;
+    }
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_594()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_77() {
-    if (jj_scan_token(VOLATILE)) return true;
+  private boolean jj_3R_264() {
+    if (jj_3R_108()) return true;
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(CLASS)) return true;
     return false;
   }
 
-  private boolean jj_3R_76() {
-    if (jj_scan_token(TRANSIENT)) return true;
+  private boolean jj_3R_263() {
+    if (jj_3R_318()) return true;
     return false;
   }
 
-  private boolean jj_3R_351() {
-    if (jj_3R_370()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_371()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_262() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_425() {
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3_29() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_75() {
-    if (jj_scan_token(NATIVE)) return true;
+  private boolean jj_3R_317() {
+    if (jj_3R_256()) return true;
     return false;
   }
 
-  private boolean jj_3R_74() {
-    if (jj_scan_token(SYNCHRONIZED)) return true;
+  private boolean jj_3R_316() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_575() {
+  private boolean jj_3R_261() {
+    if (jj_scan_token(SUPER)) return true;
     if (jj_scan_token(DOT)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_316()) jj_scanpos = xsp;
     if (jj_scan_token(IDENTIFIER)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_317()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_73() {
-    if (jj_scan_token(ABSTRACT)) return true;
+  private boolean jj_3R_260() {
+    if (jj_scan_token(THIS)) return true;
     return false;
   }
 
-  private boolean jj_3_21() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3R_259() {
+    if (jj_3R_315()) return true;
     return false;
   }
 
-  private boolean jj_3_20() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_170() {
+    if (jj_3R_107()) return true;
     return false;
   }
 
-  private boolean jj_3R_558() {
+  private boolean jj_3R_233() {
     if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_169() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_575()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_259()) {
+    jj_scanpos = xsp;
+    if (jj_3R_260()) {
+    jj_scanpos = xsp;
+    if (jj_3R_261()) {
+    jj_scanpos = xsp;
+    if (jj_3R_262()) {
+    jj_scanpos = xsp;
+    if (jj_3R_263()) {
+    jj_scanpos = xsp;
+    if (jj_3R_264()) {
+    jj_scanpos = xsp;
+    if (jj_3R_265()) return true;
+    }
+    }
+    }
+    }
+    }
     }
-    if (jj_3R_178()) return true;
     return false;
   }
 
-  private boolean jj_3R_72() {
-    if (jj_scan_token(FINAL)) return true;
+  private boolean jj_3_28() {
+    if (jj_3R_106()) return true;
     return false;
   }
 
-  private boolean jj_3R_93() {
-    if (jj_scan_token(LSHIFT)) return true;
+  private boolean jj_3R_232() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_scan_token(INTEGER_LITERAL)) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_71() {
-    if (jj_scan_token(PRIVATE)) return true;
+  private boolean jj_3R_608() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
+  private boolean jj_3R_92() {
+    if (jj_3R_169()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_93()) {
-    jj_scanpos = xsp;
-    if (jj_3_20()) {
-    jj_scanpos = xsp;
-    if (jj_3_21()) return true;
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_170()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_351()) return true;
     return false;
   }
 
-  private boolean jj_3R_70() {
-    if (jj_scan_token(PROTECTED)) return true;
+  private boolean jj_3R_607() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_69() {
-    if (jj_scan_token(STATIC)) return true;
+  private boolean jj_3R_606() {
+    if (jj_scan_token(AUTO)) return true;
     return false;
   }
 
-  private boolean jj_3R_346() {
-    if (jj_scan_token(INSTANCEOF)) return true;
-    if (jj_3R_82()) return true;
+  private boolean jj_3R_605() {
+    if (jj_scan_token(RUNTIME)) return true;
     return false;
   }
 
-  private boolean jj_3R_68() {
-    if (jj_scan_token(PUBLIC)) return true;
+  private boolean jj_3R_604() {
+    if (jj_scan_token(GUIDED)) return true;
     return false;
   }
 
-  private boolean jj_3R_274() {
-    if (jj_scan_token(SYNCHRONIZED)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_122()) return true;
+  private boolean jj_3R_603() {
+    if (jj_scan_token(DYNAMIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_349() {
-    if (jj_3R_351()) return true;
+  private boolean jj_3R_602() {
+    if (jj_scan_token(STATIC)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_360() {
+    if (jj_3R_169()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_19()) { jj_scanpos = xsp; break; }
+      if (jj_3_28()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_552() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3R_191() {
+    if (jj_3R_95()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_272()) return true;
     return false;
   }
 
-  private boolean jj_3_2() {
+  private boolean jj_3_27() {
+    if (jj_3R_105()) return true;
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_271()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_239() {
+    if (jj_scan_token(SCHEDULE)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_68()) {
-    jj_scanpos = xsp;
-    if (jj_3R_69()) {
-    jj_scanpos = xsp;
-    if (jj_3R_70()) {
-    jj_scanpos = xsp;
-    if (jj_3R_71()) {
-    jj_scanpos = xsp;
-    if (jj_3R_72()) {
+    if (jj_3R_602()) {
     jj_scanpos = xsp;
-    if (jj_3R_73()) {
-    jj_scanpos = xsp;
-    if (jj_3R_74()) {
-    jj_scanpos = xsp;
-    if (jj_3R_75()) {
+    if (jj_3R_603()) {
     jj_scanpos = xsp;
-    if (jj_3R_76()) {
+    if (jj_3R_604()) {
     jj_scanpos = xsp;
-    if (jj_3R_77()) {
+    if (jj_3R_605()) {
     jj_scanpos = xsp;
-    if (jj_3R_78()) {
+    if (jj_3R_606()) {
     jj_scanpos = xsp;
-    if (jj_3R_79()) return true;
-    }
-    }
-    }
-    }
-    }
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "steal".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_607()) return true;
     }
     }
     }
     }
     }
+    xsp = jj_scanpos;
+    if (jj_3R_608()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_102() {
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_27()) {
+    jj_scanpos = xsp;
+    if (jj_3R_191()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_108() {
+  private boolean jj_3R_610() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3_26() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_2()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_103()) {
+    jj_scanpos = xsp;
+    if (jj_3R_104()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_485() {
-    if (jj_3R_102()) return true;
+  private boolean jj_3R_104() {
+    if (jj_scan_token(DECR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_103() {
+    if (jj_scan_token(INCR)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_591() {
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_552()) { jj_scanpos = xsp; break; }
+      if (jj_3R_610()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_363()) return true;
+    if (jj_3R_256()) return true;
     return false;
   }
 
-  private boolean jj_3R_355() {
-    if (jj_scan_token(GE)) return true;
+  private boolean jj_3_25() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_354() {
-    if (jj_scan_token(LE)) return true;
+  private boolean jj_3R_359() {
+    if (jj_3R_360()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_26()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_483() {
-    if (jj_scan_token(GUI)) return true;
+  private boolean jj_3R_586() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_353() {
-    if (jj_scan_token(GT)) return true;
+  private boolean jj_3R_328() {
+    if (jj_3R_102()) return true;
     return false;
   }
 
-  private boolean jj_3R_352() {
-    if (jj_scan_token(LT)) return true;
+  private boolean jj_3R_329() {
+    if (jj_3R_359()) return true;
     return false;
   }
 
-  private boolean jj_3R_350() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_352()) {
-    jj_scanpos = xsp;
-    if (jj_3R_353()) {
-    jj_scanpos = xsp;
-    if (jj_3R_354()) {
-    jj_scanpos = xsp;
-    if (jj_3R_355()) return true;
-    }
-    }
-    }
-    if (jj_3R_349()) return true;
+  private boolean jj_3R_358() {
+    if (jj_scan_token(BANG)) return true;
     return false;
   }
 
-  private boolean jj_3R_273() {
-    if (jj_scan_token(THROW)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_357() {
+    if (jj_scan_token(TILDE)) return true;
     return false;
   }
 
-  private boolean jj_3R_486() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_485()) return true;
+  private boolean jj_3R_327() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_357()) {
+    jj_scanpos = xsp;
+    if (jj_3R_358()) return true;
+    }
+    if (jj_3R_271()) return true;
     return false;
   }
 
-  private boolean jj_3R_448() {
-    if (jj_scan_token(ASYNC_CALL)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_485()) return true;
+  private boolean jj_3R_532() {
+    if (jj_3R_108()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_486()) { jj_scanpos = xsp; break; }
+      if (jj_3R_586()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_405()) return true;
     return false;
   }
 
-  private boolean jj_3R_345() {
-    if (jj_3R_349()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_350()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_530() {
+    if (jj_scan_token(GUI)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_533() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_532()) return true;
     return false;
   }
 
   private boolean jj_3R_272() {
-    if (jj_scan_token(RETURN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_427()) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
+    if (jj_3R_327()) {
+    jj_scanpos = xsp;
+    if (jj_3R_328()) {
+    jj_scanpos = xsp;
+    if (jj_3R_329()) return true;
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_559() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_494() {
+    if (jj_scan_token(ASYNC_CALL)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_532()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_533()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_551() {
+  private boolean jj_3R_585() {
     if (jj_scan_token(ON_CANCEL)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_558()) return true;
+    if (jj_3R_591()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_341() {
-    if (jj_scan_token(BIT_AND)) return true;
-    if (jj_3R_340()) return true;
+  private boolean jj_3R_354() {
+    if (jj_scan_token(DECR)) return true;
+    if (jj_3R_271()) return true;
     return false;
   }
 
-  private boolean jj_3R_550() {
+  private boolean jj_3R_584() {
     if (jj_scan_token(NAMEAS)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_110()) return true;
+    if (jj_3R_117()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_549() {
+  private boolean jj_3R_583() {
     if (jj_scan_token(AWAIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_548() {
-    if (jj_scan_token(NOWAIT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_482() {
-    if (jj_3R_110()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_343() {
-    if (jj_3R_345()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_346()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_547() {
-    if (jj_3R_260()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_546() {
-    if (jj_3R_259()) return true;
+  private boolean jj_3R_529() {
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_545() {
-    if (jj_3R_258()) return true;
+  private boolean jj_3R_582() {
+    if (jj_scan_token(NOWAIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_544() {
-    if (jj_3R_257()) return true;
+  private boolean jj_3R_581() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_422() {
-    if (jj_scan_token(ELSE)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_580() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_271() {
-    if (jj_scan_token(CONTINUE)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_426()) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_579() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_543() {
-    if (jj_3R_256()) return true;
+  private boolean jj_3R_578() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_542() {
-    if (jj_3R_254()) return true;
+  private boolean jj_3R_577() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_484() {
+  private boolean jj_3R_531() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_542()) {
+    if (jj_3R_576()) {
     jj_scanpos = xsp;
-    if (jj_3R_543()) {
+    if (jj_3R_577()) {
     jj_scanpos = xsp;
-    if (jj_3R_544()) {
+    if (jj_3R_578()) {
     jj_scanpos = xsp;
-    if (jj_3R_545()) {
+    if (jj_3R_579()) {
     jj_scanpos = xsp;
-    if (jj_3R_546()) {
+    if (jj_3R_580()) {
     jj_scanpos = xsp;
-    if (jj_3R_547()) {
+    if (jj_3R_581()) {
     jj_scanpos = xsp;
-    if (jj_3R_548()) {
+    if (jj_3R_582()) {
     jj_scanpos = xsp;
-    if (jj_3R_549()) {
+    if (jj_3R_583()) {
     jj_scanpos = xsp;
-    if (jj_3R_550()) {
+    if (jj_3R_584()) {
     jj_scanpos = xsp;
-    if (jj_3R_551()) return true;
-    }
-    }
+    if (jj_3R_585()) return true;
     }
     }
     }
@@ -7706,354 +8601,260 @@ public final class ASTParser implements ASTParserConstants {
     }
     }
     }
-    return false;
-  }
-
-  private boolean jj_3R_116() {
-    if (jj_3R_117()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_348() {
-    if (jj_scan_token(NE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_67() {
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_116()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(PACKAGE)) return true;
-    if (jj_3R_110()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_347() {
-    if (jj_scan_token(EQ)) return true;
-    return false;
-  }
-
-  private boolean jj_3_1() {
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_344() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_347()) {
-    jj_scanpos = xsp;
-    if (jj_3R_348()) return true;
     }
-    if (jj_3R_343()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_337() {
-    if (jj_scan_token(XOR)) return true;
-    if (jj_3R_333()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_453() {
-    if (jj_3R_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_327() {
-    if (jj_scan_token(BIT_OR)) return true;
-    if (jj_3R_319()) return true;
+  private boolean jj_3R_576() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_340() {
-    if (jj_3R_343()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_344()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_353() {
+    if (jj_scan_token(INCR)) return true;
+    if (jj_3R_271()) return true;
     return false;
   }
 
-  private boolean jj_3R_270() {
-    if (jj_scan_token(BREAK)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_425()) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_326() {
+    if (jj_3R_272()) return true;
     return false;
   }
 
-  private boolean jj_3R_447() {
+  private boolean jj_3R_493() {
     if (jj_scan_token(TARGET)) return true;
     if (jj_scan_token(VIRTUAL)) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_482()) {
+    if (jj_3R_529()) {
     jj_scanpos = xsp;
-    if (jj_3R_483()) return true;
+    if (jj_3R_530()) return true;
     }
     if (jj_scan_token(RPAREN)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_484()) { jj_scanpos = xsp; break; }
+      if (jj_3R_531()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_169()) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_308() {
-    if (jj_scan_token(SC_AND)) return true;
-    if (jj_3R_290()) return true;
+  private boolean jj_3R_356() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_333() {
-    if (jj_3R_340()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_341()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_355() {
+    if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_493() {
-    if (jj_3R_555()) return true;
+  private boolean jj_3R_325() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_355()) {
+    jj_scanpos = xsp;
+    if (jj_3R_356()) return true;
+    }
+    if (jj_3R_271()) return true;
     return false;
   }
 
-  private boolean jj_3R_276() {
-    if (jj_scan_token(SC_OR)) return true;
-    if (jj_3R_239()) return true;
+  private boolean jj_3R_324() {
+    if (jj_3R_354()) return true;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_108()) return true;
-    if (jj_3R_82()) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3R_323() {
+    if (jj_3R_353()) return true;
     return false;
   }
 
-  private boolean jj_3R_479() {
+  private boolean jj_3R_526() {
     if (jj_scan_token(GLOBAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_319() {
-    if (jj_3R_333()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_337()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_555() {
-    if (jj_3R_92()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_559()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_478() {
+  private boolean jj_3R_525() {
     if (jj_scan_token(LOCAL)) return true;
     return false;
   }
 
-  private boolean jj_3R_477() {
+  private boolean jj_3R_524() {
     if (jj_scan_token(TASKGROUP)) return true;
     return false;
   }
 
-  private boolean jj_3R_554() {
-    if (jj_3R_555()) return true;
+  private boolean jj_3R_523() {
+    if (jj_scan_token(SECTIONS)) return true;
     return false;
   }
 
-  private boolean jj_3R_481() {
+  private boolean jj_3R_528() {
     if (jj_scan_token(THROW)) return true;
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_110()) return true;
+    if (jj_3R_117()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_476() {
-    if (jj_scan_token(SECTIONS)) return true;
+  private boolean jj_3R_522() {
+    if (jj_scan_token(FOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_480() {
-    if (jj_3R_254()) return true;
+  private boolean jj_3R_527() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_475() {
-    if (jj_scan_token(FOR)) return true;
+  private boolean jj_3R_271() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_323()) {
+    jj_scanpos = xsp;
+    if (jj_3R_324()) {
+    jj_scanpos = xsp;
+    if (jj_3R_325()) {
+    jj_scanpos = xsp;
+    if (jj_3R_326()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_452() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_521() {
+    if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_474() {
-    if (jj_scan_token(PARALLEL)) return true;
+  private boolean jj_3R_432() {
+    if (jj_scan_token(REM)) return true;
     return false;
   }
 
-  private boolean jj_3R_553() {
-    if (jj_3R_109()) return true;
+  private boolean jj_3R_431() {
+    if (jj_scan_token(SLASH)) return true;
     return false;
   }
 
-  private boolean jj_3R_290() {
-    if (jj_3R_319()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_327()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_430() {
+    if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_446() {
+  private boolean jj_3R_492() {
     if (jj_scan_token(CANCEL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_474()) {
+    if (jj_3R_521()) {
     jj_scanpos = xsp;
-    if (jj_3R_475()) {
+    if (jj_3R_522()) {
     jj_scanpos = xsp;
-    if (jj_3R_476()) {
+    if (jj_3R_523()) {
     jj_scanpos = xsp;
-    if (jj_3R_477()) return true;
+    if (jj_3R_524()) return true;
     }
     }
     }
     xsp = jj_scanpos;
-    if (jj_3R_478()) {
+    if (jj_3R_525()) {
     jj_scanpos = xsp;
-    if (jj_3R_479()) return true;
+    if (jj_3R_526()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_480()) jj_scanpos = xsp;
+    if (jj_3R_527()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_481()) jj_scanpos = xsp;
+    if (jj_3R_528()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_492() {
+  private boolean jj_3R_419() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_553()) {
+    if (jj_3R_430()) {
+    jj_scanpos = xsp;
+    if (jj_3R_431()) {
     jj_scanpos = xsp;
-    if (jj_3R_554()) return true;
+    if (jj_3R_432()) return true;
     }
-    return false;
-  }
-
-  private boolean jj_3R_239() {
-    if (jj_3R_290()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_308()) { jj_scanpos = xsp; break; }
     }
+    if (jj_3R_271()) return true;
     return false;
   }
 
-  private boolean jj_3R_473() {
+  private boolean jj_3R_520() {
     if (jj_scan_token(TASK)) return true;
     return false;
   }
 
-  private boolean jj_3R_472() {
+  private boolean jj_3R_519() {
     if (jj_scan_token(TASKGROUP)) return true;
     return false;
   }
 
-  private boolean jj_3R_471() {
-    if (jj_scan_token(SECTIONS)) return true;
+  private boolean jj_3R_412() {
+    if (jj_3R_271()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_419()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_109()) return true;
-    if (jj_scan_token(COLON)) return true;
+  private boolean jj_3R_518() {
+    if (jj_scan_token(SECTIONS)) return true;
     return false;
   }
 
-  private boolean jj_3R_470() {
+  private boolean jj_3R_517() {
     if (jj_scan_token(FOR)) return true;
     return false;
   }
 
-  private boolean jj_3R_469() {
+  private boolean jj_3R_516() {
     if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_451() {
-    if (jj_3R_492()) return true;
+  private boolean jj_3R_421() {
+    if (jj_scan_token(MINUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_191() {
-    if (jj_3R_239()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_276()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_420() {
+    if (jj_scan_token(PLUS)) return true;
     return false;
   }
 
-  private boolean jj_3R_424() {
+  private boolean jj_3R_413() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_451()) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_452()) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_453()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_423() {
-    if (jj_3R_109()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_92()) return true;
+    if (jj_3R_420()) {
+    jj_scanpos = xsp;
+    if (jj_3R_421()) return true;
+    }
+    if (jj_3R_412()) return true;
     return false;
   }
 
-  private boolean jj_3R_445() {
+  private boolean jj_3R_491() {
     if (jj_scan_token(CANCELLATION_POINT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_469()) {
+    if (jj_3R_516()) {
     jj_scanpos = xsp;
-    if (jj_3R_470()) {
+    if (jj_3R_517()) {
     jj_scanpos = xsp;
-    if (jj_3R_471()) {
+    if (jj_3R_518()) {
     jj_scanpos = xsp;
-    if (jj_3R_472()) {
+    if (jj_3R_519()) {
     jj_scanpos = xsp;
-    if (jj_3R_473()) return true;
+    if (jj_3R_520()) return true;
     }
     }
     }
@@ -8061,569 +8862,437 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_scan_token(HOOK)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_144()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_144() {
-    if (jj_3R_191()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_226()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_269() {
-    if (jj_scan_token(FOR)) return true;
-    if (jj_scan_token(LPAREN)) return true;
+  private boolean jj_3R_393() {
+    if (jj_3R_412()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_423()) {
-    jj_scanpos = xsp;
-    if (jj_3R_424()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_413()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_444() {
-    if (jj_scan_token(ORDERED)) return true;
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_143() {
-    if (jj_scan_token(ORASSIGN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_142() {
-    if (jj_scan_token(XORASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_141() {
-    if (jj_scan_token(ANDASSIGN)) return true;
+  private boolean jj_3_24() {
+    if (jj_3R_101()) return true;
     return false;
   }
 
-  private boolean jj_3R_140() {
-    if (jj_scan_token(RUNSIGNEDSHIFTASSIGN)) return true;
+  private boolean jj_3_23() {
+    if (jj_3R_100()) return true;
     return false;
   }
 
-  private boolean jj_3R_139() {
-    if (jj_scan_token(RSIGNEDSHIFTASSIGN)) return true;
+  private boolean jj_3R_99() {
+    if (jj_scan_token(LSHIFT)) return true;
     return false;
   }
 
-  private boolean jj_3R_138() {
-    if (jj_scan_token(LSHIFTASSIGN)) return true;
+  private boolean jj_3R_490() {
+    if (jj_scan_token(ORDERED)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_137() {
-    if (jj_scan_token(MINUSASSIGN)) return true;
+  private boolean jj_3_22() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_99()) {
+    jj_scanpos = xsp;
+    if (jj_3_23()) {
+    jj_scanpos = xsp;
+    if (jj_3_24()) return true;
+    }
+    }
+    if (jj_3R_393()) return true;
     return false;
   }
 
-  private boolean jj_3R_136() {
-    if (jj_scan_token(PLUSASSIGN)) return true;
+  private boolean jj_3R_386() {
+    if (jj_scan_token(INSTANCEOF)) return true;
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_135() {
-    if (jj_scan_token(REMASSIGN)) return true;
+  private boolean jj_3R_389() {
+    if (jj_3R_393()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_22()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_268() {
-    if (jj_scan_token(DO)) return true;
-    if (jj_3R_169()) return true;
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_489() {
+    if (jj_scan_token(FLUSH)) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    if (jj_scan_token(SLASHASSIGN)) return true;
+  private boolean jj_3R_397() {
+    if (jj_scan_token(GE)) return true;
     return false;
   }
 
-  private boolean jj_3R_443() {
-    if (jj_scan_token(FLUSH)) return true;
+  private boolean jj_3R_396() {
+    if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_133() {
-    if (jj_scan_token(STARASSIGN)) return true;
+  private boolean jj_3R_395() {
+    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_132() {
-    if (jj_scan_token(ASSIGN)) return true;
+  private boolean jj_3R_394() {
+    if (jj_scan_token(LT)) return true;
     return false;
   }
 
-  private boolean jj_3R_91() {
+  private boolean jj_3R_390() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_132()) {
-    jj_scanpos = xsp;
-    if (jj_3R_133()) {
-    jj_scanpos = xsp;
-    if (jj_3R_134()) {
-    jj_scanpos = xsp;
-    if (jj_3R_135()) {
-    jj_scanpos = xsp;
-    if (jj_3R_136()) {
-    jj_scanpos = xsp;
-    if (jj_3R_137()) {
+    if (jj_3R_394()) {
     jj_scanpos = xsp;
-    if (jj_3R_138()) {
-    jj_scanpos = xsp;
-    if (jj_3R_139()) {
-    jj_scanpos = xsp;
-    if (jj_3R_140()) {
-    jj_scanpos = xsp;
-    if (jj_3R_141()) {
+    if (jj_3R_395()) {
     jj_scanpos = xsp;
-    if (jj_3R_142()) {
+    if (jj_3R_396()) {
     jj_scanpos = xsp;
-    if (jj_3R_143()) return true;
-    }
+    if (jj_3R_397()) return true;
     }
     }
     }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_388() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_110()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_267() {
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_169()) return true;
+    if (jj_3R_389()) return true;
     return false;
   }
 
-  private boolean jj_3R_442() {
+  private boolean jj_3R_488() {
     if (jj_scan_token(BARRIER)) return true;
     return false;
   }
 
-  private boolean jj_3_18() {
-    if (jj_3R_91()) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_443() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_92() {
-    if (jj_3R_144()) return true;
+  private boolean jj_3R_385() {
+    if (jj_3R_389()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_18()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_390()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_468() {
-    if (jj_3R_254()) return true;
+  private boolean jj_3R_515() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_467() {
+  private boolean jj_3R_514() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_110()) return true;
+    if (jj_3R_117()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_266() {
-    if (jj_scan_token(IF)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_3R_169()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_422()) jj_scanpos = xsp;
+  private boolean jj_3R_381() {
+    if (jj_scan_token(BIT_AND)) return true;
+    if (jj_3R_380()) return true;
     return false;
   }
 
-  private boolean jj_3R_441() {
+  private boolean jj_3R_487() {
     if (jj_scan_token(TASKCANCEL)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_467()) jj_scanpos = xsp;
+    if (jj_3R_514()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_468()) jj_scanpos = xsp;
+    if (jj_3R_515()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_164() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_383() {
+    if (jj_3R_385()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_386()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_491() {
-    if (jj_scan_token(_DEFAULT)) return true;
+  private boolean jj_3R_388() {
+    if (jj_scan_token(NE)) return true;
     return false;
   }
 
-  private boolean jj_3R_466() {
-    if (jj_3R_254()) return true;
+  private boolean jj_3R_387() {
+    if (jj_scan_token(EQ)) return true;
     return false;
   }
 
-  private boolean jj_3R_490() {
-    if (jj_scan_token(CASE)) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_513() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_465() {
+  private boolean jj_3R_512() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_110()) return true;
+    if (jj_3R_117()) return true;
     if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_440() {
-    if (jj_scan_token(TASKWAIT)) return true;
+  private boolean jj_3R_384() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_465()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_466()) jj_scanpos = xsp;
+    if (jj_3R_387()) {
+    jj_scanpos = xsp;
+    if (jj_3R_388()) return true;
+    }
+    if (jj_3R_383()) return true;
     return false;
   }
 
-  private boolean jj_3R_541() {
-    if (jj_3R_260()) return true;
+  private boolean jj_3R_377() {
+    if (jj_scan_token(XOR)) return true;
+    if (jj_3R_376()) return true;
     return false;
   }
 
-  private boolean jj_3R_377() {
-    if (jj_3R_110()) return true;
+  private boolean jj_3R_486() {
+    if (jj_scan_token(TASKWAIT)) return true;
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_388()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_512()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_513()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_540() {
-    if (jj_3R_259()) return true;
+  private boolean jj_3R_370() {
+    if (jj_scan_token(BIT_OR)) return true;
+    if (jj_3R_369()) return true;
     return false;
   }
 
-  private boolean jj_3R_450() {
+  private boolean jj_3R_380() {
+    if (jj_3R_383()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_490()) {
-    jj_scanpos = xsp;
-    if (jj_3R_491()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_384()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_175()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_539() {
-    if (jj_3R_258()) return true;
     return false;
   }
 
-  private boolean jj_3R_538() {
-    if (jj_3R_257()) return true;
+  private boolean jj_3R_575() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_537() {
-    if (jj_3R_256()) return true;
+  private boolean jj_3R_574() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_536() {
-    if (jj_3R_254()) return true;
+  private boolean jj_3R_573() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_464() {
+  private boolean jj_3R_511() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_536()) {
+    if (jj_3R_572()) {
     jj_scanpos = xsp;
-    if (jj_3R_537()) {
-    jj_scanpos = xsp;
-    if (jj_3R_538()) {
+    if (jj_3R_573()) {
     jj_scanpos = xsp;
-    if (jj_3R_539()) {
+    if (jj_3R_574()) {
     jj_scanpos = xsp;
-    if (jj_3R_540()) {
-    jj_scanpos = xsp;
-    if (jj_3R_541()) return true;
-    }
+    if (jj_3R_575()) return true;
     }
     }
     }
-    }
-    return false;
-  }
-
-  private boolean jj_3_17() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_421() {
-    if (jj_3R_450()) return true;
+  private boolean jj_3R_572() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_110() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_17()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_361() {
+    if (jj_scan_token(SC_AND)) return true;
+    if (jj_3R_352()) return true;
     return false;
   }
 
-  private boolean jj_3R_439() {
-    if (jj_scan_token(TASK)) return true;
+  private boolean jj_3R_376() {
+    if (jj_3R_380()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_464()) { jj_scanpos = xsp; break; }
+      if (jj_3R_381()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_265() {
-    if (jj_scan_token(SWITCH)) return true;
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_485() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_421()) { jj_scanpos = xsp; break; }
+      if (jj_3R_511()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RBRACE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_160() {
-    if (jj_3R_82()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_159() {
-    if (jj_scan_token(VOID)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_489() {
-    if (jj_3R_91()) return true;
-    if (jj_3R_92()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_488() {
-    if (jj_scan_token(DECR)) return true;
+    if (jj_3R_503()) return true;
     return false;
   }
 
-  private boolean jj_3R_487() {
-    if (jj_scan_token(INCR)) return true;
+  private boolean jj_3R_337() {
+    if (jj_scan_token(SC_OR)) return true;
+    if (jj_3R_322()) return true;
     return false;
   }
 
-  private boolean jj_3R_449() {
+  private boolean jj_3R_369() {
+    if (jj_3R_376()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_487()) {
-    jj_scanpos = xsp;
-    if (jj_3R_488()) {
-    jj_scanpos = xsp;
-    if (jj_3R_489()) return true;
-    }
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_377()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_102() {
+  private boolean jj_3R_352() {
+    if (jj_3R_369()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_159()) {
-    jj_scanpos = xsp;
-    if (jj_3R_160()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_370()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_307() {
-    if (jj_3R_320()) return true;
+  private boolean jj_3R_279() {
+    if (jj_scan_token(OPENMP_PRAGMA)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_449()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_438() {
-    if (jj_scan_token(ATOMIC)) return true;
-    if (jj_3R_169()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_306() {
-    if (jj_3R_292()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_305() {
-    if (jj_3R_291()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_443()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RPAREN)) return true;
+    if (jj_3R_288()) return true;
     return false;
   }
 
-  private boolean jj_3R_155() {
-    if (jj_scan_token(DOUBLE)) return true;
+  private boolean jj_3R_542() {
+    if (jj_3R_288()) return true;
     return false;
   }
 
-  private boolean jj_3R_154() {
-    if (jj_scan_token(FLOAT)) return true;
+  private boolean jj_3R_322() {
+    if (jj_3R_352()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_361()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_153() {
-    if (jj_scan_token(LONG)) return true;
+  private boolean jj_3R_541() {
+    if (jj_3R_279()) return true;
     return false;
   }
 
-  private boolean jj_3R_264() {
+  private boolean jj_3R_503() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_305()) {
-    jj_scanpos = xsp;
-    if (jj_3R_306()) {
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == OPENMP_PRAGMA && getToken(2).kind == IDENTIFIER && "tile".equals(getToken(2).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_541()) {
     jj_scanpos = xsp;
-    if (jj_3R_307()) return true;
+    if (jj_3R_542()) return true;
     }
-    }
-    if (jj_scan_token(SEMICOLON)) return true;
-    return false;
-  }
-
-  private boolean jj_3_50() {
-    if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RPAREN)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_152() {
-    if (jj_scan_token(INT)) return true;
     return false;
   }
 
-  private boolean jj_3R_437() {
-    if (jj_scan_token(CRITICAL)) return true;
+  private boolean jj_3R_270() {
+    if (jj_3R_322()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_50()) jj_scanpos = xsp;
-    if (jj_3R_169()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_337()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_151() {
-    if (jj_scan_token(SHORT)) return true;
+  private boolean jj_3R_154() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_150() {
-    if (jj_scan_token(BYTE)) return true;
+  private boolean jj_3R_153() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_332() {
-    if (jj_scan_token(SUPER)) return true;
-    if (jj_3R_89()) return true;
+  private boolean jj_3R_152() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_188() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_131()) return true;
+  private boolean jj_3R_151() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_149() {
-    if (jj_scan_token(CHAR)) return true;
+  private boolean jj_3R_304() {
+    if (jj_scan_token(HOOK)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(COLON)) return true;
+    if (jj_3R_188()) return true;
     return false;
   }
 
-  private boolean jj_3R_331() {
-    if (jj_scan_token(EXTENDS)) return true;
-    if (jj_3R_89()) return true;
+  private boolean jj_3R_150() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_318() {
+  private boolean jj_3R_188() {
+    if (jj_3R_270()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_331()) {
-    jj_scanpos = xsp;
-    if (jj_3R_332()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_148() {
-    if (jj_scan_token(BOOLEAN)) return true;
+    if (jj_3R_304()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_420() {
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_149() {
+    if (jj_3R_233()) return true;
     return false;
   }
 
-  private boolean jj_3R_99() {
+  private boolean jj_3_58() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_148()) {
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "grainsize".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_148()) {
     jj_scanpos = xsp;
-    if (jj_3R_149()) {
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "num_tasks".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_149()) {
     jj_scanpos = xsp;
     if (jj_3R_150()) {
     jj_scanpos = xsp;
@@ -8633,10 +9302,7 @@ public final class ASTParser implements ASTParserConstants {
     jj_scanpos = xsp;
     if (jj_3R_153()) {
     jj_scanpos = xsp;
-    if (jj_3R_154()) {
-    jj_scanpos = xsp;
-    if (jj_3R_155()) return true;
-    }
+    if (jj_3R_154()) return true;
     }
     }
     }
@@ -8646,450 +9312,437 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_436() {
-    if (jj_scan_token(MASTER)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_148() {
+    if (jj_3R_233()) return true;
     return false;
   }
 
-  private boolean jj_3R_263() {
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_187() {
+    if (jj_scan_token(ORASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_3R_260()) return true;
+  private boolean jj_3R_186() {
+    if (jj_scan_token(XORASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_534() {
-    if (jj_3R_259()) return true;
+  private boolean jj_3R_185() {
+    if (jj_scan_token(ANDASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_533() {
-    if (jj_3R_258()) return true;
+  private boolean jj_3R_184() {
+    if (jj_scan_token(RUNSIGNEDSHIFTASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
-    if (jj_3R_257()) return true;
+  private boolean jj_3R_183() {
+    if (jj_scan_token(RSIGNEDSHIFTASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_238() {
-    if (jj_scan_token(HOOK)) return true;
+  private boolean jj_3R_484() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_318()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_58()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_3R_503()) return true;
     return false;
   }
 
-  private boolean jj_3R_531() {
-    if (jj_3R_557()) return true;
+  private boolean jj_3R_182() {
+    if (jj_scan_token(LSHIFTASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_530() {
-    if (jj_3R_256()) return true;
+  private boolean jj_3R_181() {
+    if (jj_scan_token(MINUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_scan_token(NOWAIT)) return true;
+  private boolean jj_3R_180() {
+    if (jj_scan_token(PLUSASSIGN)) return true;
     return false;
   }
 
-  private boolean jj_3R_463() {
+  private boolean jj_3R_179() {
+    if (jj_scan_token(REMASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_178() {
+    if (jj_scan_token(SLASHASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_177() {
+    if (jj_scan_token(STARASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_176() {
+    if (jj_scan_token(ASSIGN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_571() {
+    if (jj_3R_238()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_97() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_529()) {
+    if (jj_3R_176()) {
     jj_scanpos = xsp;
-    if (jj_3R_530()) {
+    if (jj_3R_177()) {
     jj_scanpos = xsp;
-    if (jj_3R_531()) {
+    if (jj_3R_178()) {
     jj_scanpos = xsp;
-    if (jj_3R_532()) {
+    if (jj_3R_179()) {
     jj_scanpos = xsp;
-    if (jj_3R_533()) {
+    if (jj_3R_180()) {
     jj_scanpos = xsp;
-    if (jj_3R_534()) {
+    if (jj_3R_181()) {
+    jj_scanpos = xsp;
+    if (jj_3R_182()) {
+    jj_scanpos = xsp;
+    if (jj_3R_183()) {
+    jj_scanpos = xsp;
+    if (jj_3R_184()) {
     jj_scanpos = xsp;
-    if (jj_3R_535()) return true;
+    if (jj_3R_185()) {
+    jj_scanpos = xsp;
+    if (jj_3R_186()) {
+    jj_scanpos = xsp;
+    if (jj_3R_187()) return true;
+    }
+    }
     }
     }
     }
     }
     }
     }
-    return false;
-  }
-
-  private boolean jj_3_37() {
-    if (jj_3R_109()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_109() {
-    if (jj_3R_108()) return true;
-    if (jj_3R_82()) return true;
-    if (jj_3R_163()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_164()) { jj_scanpos = xsp; break; }
     }
-    return false;
-  }
-
-  private boolean jj_3_36() {
-    if (jj_3R_108()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(20)) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(40)) return true;
     }
-    return false;
-  }
-
-  private boolean jj_3R_435() {
-    if (jj_scan_token(SINGLE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_463()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_169()) return true;
     return false;
   }
 
-  private boolean jj_3R_313() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_570() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_190() {
-    if (jj_3R_238()) return true;
+  private boolean jj_3R_569() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_189() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3R_568() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_312() {
-    if (jj_3R_109()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_429() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_117()) return true;
     return false;
   }
 
-  private boolean jj_3R_364() {
-    if (jj_scan_token(THROWS)) return true;
-    if (jj_3R_377()) return true;
+  private boolean jj_3R_567() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_131() {
+  private boolean jj_3R_510() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_189()) {
+    if (jj_3R_566()) {
+    jj_scanpos = xsp;
+    if (jj_3R_567()) {
+    jj_scanpos = xsp;
+    if (jj_3R_568()) {
+    jj_scanpos = xsp;
+    if (jj_3R_569()) {
     jj_scanpos = xsp;
-    if (jj_3R_190()) return true;
+    if (jj_3R_570()) {
+    jj_scanpos = xsp;
+    if (jj_3R_571()) return true;
+    }
+    }
+    }
     }
-    return false;
-  }
-
-  private boolean jj_3R_311() {
-    if (jj_3R_108()) return true;
-    if (jj_3R_321()) return true;
-    return false;
-  }
-
-  private boolean jj_3_13() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_90() {
-    if (jj_scan_token(LT)) return true;
-    if (jj_3R_131()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_188()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3R_434() {
-    if (jj_scan_token(GUI)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(90)) jj_scanpos = xsp;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_566() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3_21() {
+    if (jj_3R_97()) return true;
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_278() {
+  private boolean jj_3R_98() {
+    if (jj_3R_188()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_311()) {
-    jj_scanpos = xsp;
-    if (jj_3R_312()) {
-    jj_scanpos = xsp;
-    if (jj_3R_313()) return true;
-    }
-    }
+    if (jj_3_21()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3_15() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3R_483() {
+    if (jj_scan_token(TASK)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_16()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_12() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3_14() {
-    if (jj_3R_90()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_510()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_512() {
-    if (jj_scan_token(SECTION)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_482() {
+    if (jj_scan_token(ATOMIC)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3R_418() {
+    if (jj_3R_117()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_14()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_15()) { jj_scanpos = xsp; break; }
+      if (jj_3R_429()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_122() {
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_175()) return true;
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3_57() {
+    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_98()) return true;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3_33() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_481() {
+    if (jj_scan_token(CRITICAL)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_57()) jj_scanpos = xsp;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_130() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3_20() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_117() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_13()) { jj_scanpos = xsp; break; }
+      if (jj_3_20()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_107() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_scan_token(COLON)) return true;
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_204() {
+    if (jj_3R_87()) return true;
     return false;
   }
 
-  private boolean jj_3R_129() {
-    if (jj_3R_99()) return true;
-    Token xsp;
-    if (jj_3_12()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_12()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_480() {
+    if (jj_scan_token(MASTER)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3_49() {
-    if (jj_3R_114()) return true;
+  private boolean jj_3R_203() {
+    if (jj_scan_token(VOID)) return true;
     return false;
   }
 
-  private boolean jj_3R_89() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_129()) {
-    jj_scanpos = xsp;
-    if (jj_3R_130()) return true;
-    }
+  private boolean jj_3R_565() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3_48() {
-    if (jj_3R_113()) return true;
+  private boolean jj_3R_564() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_462() {
-    if (jj_3R_169()) return true;
+  private boolean jj_3R_563() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3_47() {
-    if (jj_3R_115()) return true;
+  private boolean jj_3R_562() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_262() {
-    if (jj_scan_token(ASSERT)) return true;
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_561() {
+    if (jj_3R_590()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_108() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_420()) jj_scanpos = xsp;
-    if (jj_scan_token(SEMICOLON)) return true;
+    if (jj_3R_203()) {
+    jj_scanpos = xsp;
+    if (jj_3R_204()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_120() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_560() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_433() {
-    if (jj_scan_token(FREEGUI)) return true;
+  private boolean jj_3R_509() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_462()) {
+    if (jj_3R_559()) {
     jj_scanpos = xsp;
-    if (jj_3_47()) {
+    if (jj_3R_560()) {
     jj_scanpos = xsp;
-    if (jj_3_48()) {
+    if (jj_3R_561()) {
     jj_scanpos = xsp;
-    if (jj_3_49()) return true;
+    if (jj_3R_562()) {
+    jj_scanpos = xsp;
+    if (jj_3R_563()) {
+    jj_scanpos = xsp;
+    if (jj_3R_564()) {
+    jj_scanpos = xsp;
+    if (jj_3R_565()) return true;
+    }
+    }
+    }
     }
     }
     }
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_89()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_461() {
-    if (jj_scan_token(OPENMP_PRAGMA)) return true;
-    if (jj_3R_512()) return true;
+  private boolean jj_3R_559() {
+    if (jj_scan_token(NOWAIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_225() {
-    if (jj_3R_275()) return true;
+  private boolean jj_3R_199() {
+    if (jj_scan_token(DOUBLE)) return true;
     return false;
   }
 
-  private boolean jj_3R_82() {
+  private boolean jj_3R_479() {
+    if (jj_scan_token(SINGLE)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_11()) {
-    jj_scanpos = xsp;
-    if (jj_3R_120()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_509()) { jj_scanpos = xsp; break; }
     }
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_224() {
-    if (jj_3R_274()) return true;
+  private boolean jj_3R_198() {
+    if (jj_scan_token(FLOAT)) return true;
     return false;
   }
 
-  private boolean jj_3R_528() {
-    if (jj_3R_255()) return true;
+  private boolean jj_3R_197() {
+    if (jj_scan_token(LONG)) return true;
     return false;
   }
 
-  private boolean jj_3R_223() {
-    if (jj_3R_273()) return true;
+  private boolean jj_3R_196() {
+    if (jj_scan_token(INT)) return true;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_3R_260()) return true;
+  private boolean jj_3R_195() {
+    if (jj_scan_token(SHORT)) return true;
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_3R_259()) return true;
+  private boolean jj_3R_194() {
+    if (jj_scan_token(BYTE)) return true;
     return false;
   }
 
-  private boolean jj_3R_222() {
-    if (jj_3R_272()) return true;
+  private boolean jj_3R_266() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_175()) return true;
     return false;
   }
 
-  private boolean jj_3R_525() {
-    if (jj_3R_258()) return true;
+  private boolean jj_3R_375() {
+    if (jj_scan_token(SUPER)) return true;
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_524() {
-    if (jj_3R_257()) return true;
+  private boolean jj_3R_193() {
+    if (jj_scan_token(CHAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_221() {
-    if (jj_3R_271()) return true;
+  private boolean jj_3R_368() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_374()) {
+    jj_scanpos = xsp;
+    if (jj_3R_375()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_3R_256()) return true;
+  private boolean jj_3R_374() {
+    if (jj_scan_token(EXTENDS)) return true;
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_522() {
-    if (jj_scan_token(NOWAIT)) return true;
+  private boolean jj_3R_192() {
+    if (jj_scan_token(BOOLEAN)) return true;
     return false;
   }
 
-  private boolean jj_3R_460() {
+  private boolean jj_3R_105() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_522()) {
+    if (jj_3R_192()) {
     jj_scanpos = xsp;
-    if (jj_3R_523()) {
+    if (jj_3R_193()) {
     jj_scanpos = xsp;
-    if (jj_3R_524()) {
+    if (jj_3R_194()) {
     jj_scanpos = xsp;
-    if (jj_3R_525()) {
+    if (jj_3R_195()) {
+    jj_scanpos = xsp;
+    if (jj_3R_196()) {
     jj_scanpos = xsp;
-    if (jj_3R_526()) {
+    if (jj_3R_197()) {
     jj_scanpos = xsp;
-    if (jj_3R_527()) {
+    if (jj_3R_198()) {
     jj_scanpos = xsp;
-    if (jj_3R_528()) return true;
+    if (jj_3R_199()) return true;
+    }
     }
     }
     }
@@ -9099,470 +9752,375 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_220() {
-    if (jj_3R_270()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_121() {
-    if (jj_scan_token(STATIC)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_219() {
-    if (jj_3R_269()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_84() {
+  private boolean jj_3R_478() {
+    if (jj_scan_token(GUI)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_121()) jj_scanpos = xsp;
-    if (jj_3R_122()) return true;
+    if (jj_scan_token(90)) jj_scanpos = xsp;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_218() {
-    if (jj_3R_268()) return true;
+  private boolean jj_3R_321() {
+    if (jj_scan_token(HOOK)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_368()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_217() {
-    if (jj_3R_267()) return true;
+  private boolean jj_3R_551() {
+    if (jj_scan_token(SECTION)) return true;
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_231() {
-    if (jj_3R_278()) return true;
+  private boolean jj_3R_269() {
+    if (jj_3R_321()) return true;
     return false;
   }
 
-  private boolean jj_3R_216() {
-    if (jj_3R_266()) return true;
+  private boolean jj_3R_268() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_432() {
-    if (jj_scan_token(SECTIONS)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_460()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(LBRACE)) return true;
-    if (jj_3R_461()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_461()) { jj_scanpos = xsp; break; }
-    }
-    if (jj_scan_token(RBRACE)) return true;
+  private boolean jj_3R_406() {
+    if (jj_scan_token(THROWS)) return true;
+    if (jj_3R_418()) return true;
     return false;
   }
 
   private boolean jj_3R_175() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_231()) { jj_scanpos = xsp; break; }
+    xsp = jj_scanpos;
+    if (jj_3R_268()) {
+    jj_scanpos = xsp;
+    if (jj_3R_269()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_215() {
-    if (jj_3R_265()) return true;
+  private boolean jj_3_56() {
+    if (jj_3R_121()) return true;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_87()) return true;
-    if (jj_scan_token(DOT)) return true;
+  private boolean jj_3_55() {
+    if (jj_3R_120()) return true;
     return false;
   }
 
-  private boolean jj_3R_214() {
-    if (jj_3R_264()) return true;
+  private boolean jj_3_16() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_213() {
-    if (jj_3R_263()) return true;
+  private boolean jj_3_53() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_212() {
+  private boolean jj_3_54() {
     if (jj_3R_122()) return true;
     return false;
   }
 
-  private boolean jj_3R_211() {
-    if (jj_3R_262()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_521() {
-    if (jj_3R_255()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_88() {
-    if (jj_3R_90()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_180() {
-    if (jj_3R_90()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_520() {
-    if (jj_3R_556()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_210() {
-    if (jj_3R_261()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_519() {
-    if (jj_3R_260()) return true;
+  private boolean jj_3R_96() {
+    if (jj_scan_token(LT)) return true;
+    if (jj_3R_175()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_266()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(GT)) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_85()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3_10() {
+  private boolean jj_3_18() {
+    if (jj_scan_token(DOT)) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_88()) jj_scanpos = xsp;
-    if (jj_scan_token(THIS)) return true;
-    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3_19()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_518() {
-    if (jj_3R_259()) return true;
+  private boolean jj_3R_477() {
+    if (jj_scan_token(FREEGUI)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_53()) {
+    jj_scanpos = xsp;
+    if (jj_3_54()) {
+    jj_scanpos = xsp;
+    if (jj_3_55()) {
+    jj_scanpos = xsp;
+    if (jj_3_56()) return true;
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_517() {
-    if (jj_3R_258()) return true;
+  private boolean jj_3_15() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_179() {
-    if (jj_3R_87()) return true;
-    if (jj_scan_token(DOT)) return true;
+  private boolean jj_3R_508() {
+    if (jj_scan_token(OPENMP_PRAGMA)) return true;
+    if (jj_3R_551()) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_3R_257()) return true;
+  private boolean jj_3R_558() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_107()) return true;
+  private boolean jj_3R_557() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_515() {
-    if (jj_3R_256()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_scan_token(ORDERED)) return true;
+  private boolean jj_3R_556() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_126() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_179()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_180()) jj_scanpos = xsp;
-    if (jj_scan_token(SUPER)) return true;
-    if (jj_3R_178()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_555() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
-    if (jj_scan_token(NOWAIT)) return true;
+  private boolean jj_3R_554() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_459() {
+  private boolean jj_3R_111() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_513()) {
-    jj_scanpos = xsp;
-    if (jj_3R_514()) {
-    jj_scanpos = xsp;
-    if (jj_3R_515()) {
-    jj_scanpos = xsp;
-    if (jj_3R_516()) {
-    jj_scanpos = xsp;
-    if (jj_3R_517()) {
-    jj_scanpos = xsp;
-    if (jj_3R_518()) {
-    jj_scanpos = xsp;
-    if (jj_3R_519()) {
-    jj_scanpos = xsp;
-    if (jj_3R_520()) {
-    jj_scanpos = xsp;
-    if (jj_3R_521()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    if (jj_3_17()) jj_scanpos = xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_18()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_177() {
-    if (jj_3R_90()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_125() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_177()) jj_scanpos = xsp;
-    if (jj_scan_token(THIS)) return true;
-    if (jj_3R_178()) return true;
-    if (jj_scan_token(SEMICOLON)) return true;
+  private boolean jj_3R_553() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_169() {
+  private boolean jj_3R_507() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_35()) {
-    jj_scanpos = xsp;
-    if (jj_3R_210()) {
-    jj_scanpos = xsp;
-    if (jj_3R_211()) {
-    jj_scanpos = xsp;
-    if (jj_3R_212()) {
-    jj_scanpos = xsp;
-    if (jj_3R_213()) {
-    jj_scanpos = xsp;
-    if (jj_3R_214()) {
-    jj_scanpos = xsp;
-    if (jj_3R_215()) {
-    jj_scanpos = xsp;
-    if (jj_3R_216()) {
+    if (jj_3R_552()) {
     jj_scanpos = xsp;
-    if (jj_3R_217()) {
-    jj_scanpos = xsp;
-    if (jj_3R_218()) {
-    jj_scanpos = xsp;
-    if (jj_3R_219()) {
-    jj_scanpos = xsp;
-    if (jj_3R_220()) {
+    if (jj_3R_553()) {
     jj_scanpos = xsp;
-    if (jj_3R_221()) {
+    if (jj_3R_554()) {
     jj_scanpos = xsp;
-    if (jj_3R_222()) {
+    if (jj_3R_555()) {
     jj_scanpos = xsp;
-    if (jj_3R_223()) {
+    if (jj_3R_556()) {
     jj_scanpos = xsp;
-    if (jj_3R_224()) {
+    if (jj_3R_557()) {
     jj_scanpos = xsp;
-    if (jj_3R_225()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
-    }
+    if (jj_3R_558()) return true;
     }
     }
     }
     }
     }
-    return false;
-  }
-
-  private boolean jj_3R_431() {
-    if (jj_scan_token(FOR)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_459()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_269()) return true;
     return false;
   }
 
-  private boolean jj_3R_198() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_552() {
+    if (jj_scan_token(NOWAIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_86() {
+  private boolean jj_3R_476() {
+    if (jj_scan_token(SECTIONS)) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_125()) {
-    jj_scanpos = xsp;
-    if (jj_3R_126()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_507()) { jj_scanpos = xsp; break; }
     }
+    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_508()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_508()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3_32() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RBRACKET)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_162() {
+  private boolean jj_3R_174() {
+    if (jj_3R_111()) return true;
     Token xsp;
-    if (jj_3R_198()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_198()) { jj_scanpos = xsp; break; }
+      if (jj_3_16()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_176()) return true;
     return false;
   }
 
-  private boolean jj_3_34() {
+  private boolean jj_3R_173() {
+    if (jj_3R_105()) return true;
     Token xsp;
-    if (jj_3_32()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_32()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3_15()) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3_33()) { jj_scanpos = xsp; break; }
+      if (jj_3_15()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3_30() {
-    if (jj_3R_104()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_367() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_95() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_173()) {
+    jj_scanpos = xsp;
+    if (jj_3R_174()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_458() {
-    if (jj_scan_token(OPENMP_PRAGMA)) return true;
-    if (jj_3R_512()) return true;
+  private boolean jj_3R_147() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_387() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_386()) return true;
+  private boolean jj_3R_146() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3R_145() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_3R_260()) return true;
+  private boolean jj_3R_144() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_106() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3_34()) {
-    jj_scanpos = xsp;
-    if (jj_3R_162()) return true;
-    }
+  private boolean jj_3R_143() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_510() {
-    if (jj_3R_259()) return true;
+  private boolean jj_3R_142() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_394() {
-    if (jj_scan_token(ELLIPSIS)) return true;
+  private boolean jj_3R_162() {
+    if (jj_3R_105()) return true;
     return false;
   }
 
-  private boolean jj_3R_509() {
-    if (jj_3R_258()) return true;
+  private boolean jj_3R_141() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_508() {
-    if (jj_3R_257()) return true;
+  private boolean jj_3_14() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3R_507() {
-    if (jj_3R_256()) return true;
+  private boolean jj_3R_140() {
+    if (jj_3R_233()) return true;
     return false;
   }
 
-  private boolean jj_3R_506() {
-    if (jj_3R_255()) return true;
+  private boolean jj_3R_87() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3_14()) {
+    jj_scanpos = xsp;
+    if (jj_3R_162()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_505() {
-    if (jj_3R_254()) return true;
+  private boolean jj_3R_139() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_365() {
-    if (jj_3R_86()) return true;
+  private boolean jj_3R_138() {
+    if (jj_3R_232()) return true;
     return false;
   }
 
-  private boolean jj_3R_504() {
-    if (jj_3R_253()) return true;
+  private boolean jj_3R_137() {
+    if (jj_scan_token(ORDERED)) return true;
     return false;
   }
 
-  private boolean jj_3R_457() {
+  private boolean jj_3_52() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_504()) {
+    if (jj_3R_136()) {
+    jj_scanpos = xsp;
+    if (jj_3R_137()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "collapse".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_138()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "stream".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_139()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "batch".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_140()) {
     jj_scanpos = xsp;
-    if (jj_3R_505()) {
+    if (jj_3R_141()) {
     jj_scanpos = xsp;
-    if (jj_3R_506()) {
+    if (jj_3R_142()) {
     jj_scanpos = xsp;
-    if (jj_3R_507()) {
+    if (jj_3R_143()) {
     jj_scanpos = xsp;
-    if (jj_3R_508()) {
+    if (jj_3R_144()) {
     jj_scanpos = xsp;
-    if (jj_3R_509()) {
+    if (jj_3R_145()) {
     jj_scanpos = xsp;
-    if (jj_3R_510()) {
+    if (jj_3R_146()) {
     jj_scanpos = xsp;
-    if (jj_3R_511()) return true;
+    if (jj_3R_147()) return true;
+    }
+    }
+    }
+    }
     }
     }
     }
@@ -9573,174 +10131,179 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_317() {
-    if (jj_3R_90()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_335() {
-    if (jj_3R_119()) return true;
+  private boolean jj_3R_136() {
+    if (jj_scan_token(NOWAIT)) return true;
     return false;
   }
 
-  private boolean jj_3R_289() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_317()) jj_scanpos = xsp;
-    if (jj_3R_105()) return true;
-    if (jj_3R_178()) return true;
-    xsp = jj_scanpos;
-    if (jj_3_30()) jj_scanpos = xsp;
+  private boolean jj_3R_506() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_105()) return true;
-    if (jj_3R_106()) return true;
+  private boolean jj_3R_163() {
+    if (jj_scan_token(STATIC)) return true;
     return false;
   }
 
-  private boolean jj_3R_324() {
+  private boolean jj_3R_89() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_335()) jj_scanpos = xsp;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_3R_363()) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_364()) jj_scanpos = xsp;
-    if (jj_scan_token(LBRACE)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_365()) jj_scanpos = xsp;
-    if (jj_3R_175()) return true;
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_163()) jj_scanpos = xsp;
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_114() {
-    if (jj_scan_token(PARALLEL)) return true;
-    if (jj_scan_token(SECTIONS)) return true;
+  private boolean jj_3R_475() {
+    if (jj_scan_token(FOR)) return true;
     Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_506()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_457()) { jj_scanpos = xsp; break; }
+      if (jj_3_52()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(LBRACE)) return true;
+    if (jj_3R_503()) return true;
+    return false;
+  }
+
+  private boolean jj_3_13() {
+    if (jj_3R_94()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_253() {
+    Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_458()) { jj_scanpos = xsp; break; }
+      if (jj_3_13()) { jj_scanpos = xsp; break; }
     }
-    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_314() {
-    if (jj_scan_token(COMMA)) return true;
+  private boolean jj_3_11() {
     if (jj_3R_92()) return true;
+    if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_288() {
-    if (jj_3R_105()) return true;
-    if (jj_3R_106()) return true;
+  private boolean jj_3R_258() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_252() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_93() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_251() {
-    if (jj_3R_85()) return true;
+  private boolean jj_3_12() {
     Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3_7()) { jj_scanpos = xsp; break; }
-    }
+    xsp = jj_scanpos;
+    if (jj_3R_93()) jj_scanpos = xsp;
+    if (jj_scan_token(THIS)) return true;
+    if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_503() {
-    if (jj_3R_556()) return true;
+  private boolean jj_3_9() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_502() {
-    if (jj_3R_260()) return true;
+  private boolean jj_3R_257() {
+    if (jj_3R_92()) return true;
+    if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_501() {
-    if (jj_3R_259()) return true;
+  private boolean jj_3R_505() {
+    if (jj_scan_token(OPENMP_PRAGMA)) return true;
+    if (jj_3R_551()) return true;
     return false;
   }
 
-  private boolean jj_3R_287() {
-    if (jj_3R_99()) return true;
-    if (jj_3R_106()) return true;
+  private boolean jj_3R_168() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_257()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_258()) jj_scanpos = xsp;
+    if (jj_scan_token(SUPER)) return true;
+    if (jj_3R_256()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_500() {
-    if (jj_3R_258()) return true;
+  private boolean jj_3R_255() {
+    if (jj_3R_96()) return true;
     return false;
   }
 
-  private boolean jj_3R_499() {
-    if (jj_3R_257()) return true;
+  private boolean jj_3R_550() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
+  private boolean jj_3R_549() {
+    if (jj_3R_237()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_167() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_255()) jj_scanpos = xsp;
+    if (jj_scan_token(THIS)) return true;
     if (jj_3R_256()) return true;
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_497() {
-    if (jj_scan_token(ORDERED)) return true;
+  private boolean jj_3R_548() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_496() {
-    if (jj_3R_255()) return true;
+  private boolean jj_3R_547() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_495() {
-    if (jj_3R_254()) return true;
+  private boolean jj_3R_546() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_494() {
-    if (jj_3R_253()) return true;
+  private boolean jj_3R_545() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_456() {
+  private boolean jj_3R_544() {
+    if (jj_3R_230()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_504() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_494()) {
-    jj_scanpos = xsp;
-    if (jj_3R_495()) {
-    jj_scanpos = xsp;
-    if (jj_3R_496()) {
+    if (jj_3R_543()) {
     jj_scanpos = xsp;
-    if (jj_3R_497()) {
+    if (jj_3R_544()) {
     jj_scanpos = xsp;
-    if (jj_3R_498()) {
+    if (jj_3R_545()) {
     jj_scanpos = xsp;
-    if (jj_3R_499()) {
+    if (jj_3R_546()) {
     jj_scanpos = xsp;
-    if (jj_3R_500()) {
+    if (jj_3R_547()) {
     jj_scanpos = xsp;
-    if (jj_3R_501()) {
+    if (jj_3R_548()) {
     jj_scanpos = xsp;
-    if (jj_3R_502()) {
+    if (jj_3R_549()) {
     jj_scanpos = xsp;
-    if (jj_3R_503()) return true;
-    }
-    }
+    if (jj_3R_550()) return true;
     }
     }
     }
@@ -9751,175 +10314,194 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_386() {
-    if (jj_3R_108()) return true;
-    if (jj_3R_82()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_394()) jj_scanpos = xsp;
-    if (jj_3R_199()) return true;
+  private boolean jj_3R_543() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3R_236() {
-    if (jj_scan_token(NEW)) return true;
+  private boolean jj_3R_91() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_287()) {
-    jj_scanpos = xsp;
-    if (jj_3R_288()) {
+    if (jj_3R_167()) {
     jj_scanpos = xsp;
-    if (jj_3R_289()) return true;
-    }
+    if (jj_3R_168()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_376() {
-    if (jj_3R_386()) return true;
+  private boolean jj_3R_121() {
+    if (jj_scan_token(PARALLEL)) return true;
+    if (jj_scan_token(SECTIONS)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_387()) { jj_scanpos = xsp; break; }
+      if (jj_3R_504()) { jj_scanpos = xsp; break; }
     }
-    return false;
-  }
-
-  private boolean jj_3R_113() {
-    if (jj_scan_token(PARALLEL)) return true;
-    if (jj_scan_token(FOR)) return true;
-    Token xsp;
+    if (jj_scan_token(LBRACE)) return true;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_456()) { jj_scanpos = xsp; break; }
+      if (jj_3R_505()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_269()) return true;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_363() {
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_376()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_409() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_279() {
-    if (jj_3R_92()) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_314()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3_10() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_369() {
-    if (jj_3R_122()) return true;
+  private boolean jj_3R_428() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_427()) return true;
     return false;
   }
 
-  private boolean jj_3R_368() {
-    if (jj_scan_token(THROWS)) return true;
-    if (jj_3R_377()) return true;
+  private boolean jj_3R_435() {
+    if (jj_scan_token(ELLIPSIS)) return true;
     return false;
   }
 
-  private boolean jj_3R_232() {
-    if (jj_3R_279()) return true;
+  private boolean jj_3R_407() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
-  private boolean jj_3R_209() {
-    if (jj_3R_260()) return true;
+  private boolean jj_3R_135() {
+    if (jj_3R_239()) return true;
     return false;
   }
 
-  private boolean jj_3R_336() {
-    if (jj_3R_119()) return true;
+  private boolean jj_3R_134() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_208() {
-    if (jj_3R_259()) return true;
+  private boolean jj_3R_133() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_207() {
-    if (jj_3R_258()) return true;
+  private boolean jj_3R_338() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_326() {
+  private boolean jj_3R_132() {
+    if (jj_3R_236()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_131() {
+    if (jj_3R_235()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_310() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_336()) jj_scanpos = xsp;
-    if (jj_3R_102()) return true;
+    if (jj_3R_338()) jj_scanpos = xsp;
     if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_3R_363()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_367()) { jj_scanpos = xsp; break; }
-    }
+    if (jj_3R_405()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_368()) jj_scanpos = xsp;
+    if (jj_3R_406()) jj_scanpos = xsp;
+    if (jj_scan_token(LBRACE)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_369()) {
-    jj_scanpos = xsp;
-    if (jj_scan_token(129)) return true;
-    }
+    if (jj_3R_407()) jj_scanpos = xsp;
+    if (jj_3R_253()) return true;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_206() {
-    if (jj_3R_257()) return true;
+  private boolean jj_3R_130() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_178() {
-    if (jj_scan_token(LPAREN)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_232()) jj_scanpos = xsp;
-    if (jj_scan_token(RPAREN)) return true;
+  private boolean jj_3R_129() {
+    if (jj_3R_233()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_128() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_127() {
+    if (jj_3R_232()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_126() {
+    if (jj_scan_token(ORDERED)) return true;
     return false;
   }
 
-  private boolean jj_3R_205() {
-    if (jj_3R_256()) return true;
+  private boolean jj_3R_125() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_204() {
-    if (jj_3R_255()) return true;
+  private boolean jj_3R_333() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_203() {
-    if (jj_3R_254()) return true;
+  private boolean jj_3R_124() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_168() {
+  private boolean jj_3_51() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_202()) {
+    if (jj_3R_123()) {
     jj_scanpos = xsp;
-    if (jj_3R_203()) {
+    if (jj_3R_124()) {
+    jj_scanpos = xsp;
+    if (jj_3R_125()) {
+    jj_scanpos = xsp;
+    if (jj_3R_126()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "collapse".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_127()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "stream".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_128()) {
     jj_scanpos = xsp;
-    if (jj_3R_204()) {
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "batch".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_129()) {
     jj_scanpos = xsp;
-    if (jj_3R_205()) {
+    if (jj_3R_130()) {
     jj_scanpos = xsp;
-    if (jj_3R_206()) {
+    if (jj_3R_131()) {
+    jj_scanpos = xsp;
+    if (jj_3R_132()) {
     jj_scanpos = xsp;
-    if (jj_3R_207()) {
+    if (jj_3R_133()) {
     jj_scanpos = xsp;
-    if (jj_3R_208()) {
+    if (jj_3R_134()) {
     jj_scanpos = xsp;
-    if (jj_3R_209()) return true;
+    if (jj_3R_135()) return true;
+    }
+    }
+    }
+    }
+    }
     }
     }
     }
@@ -9930,378 +10512,428 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_202() {
-    if (jj_3R_253()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_330() {
-    if (jj_scan_token(FALSE)) return true;
+  private boolean jj_3R_123() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3R_316() {
-    if (jj_scan_token(NULL)) return true;
+  private boolean jj_3R_502() {
+    if (jj_scan_token(IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_329() {
-    if (jj_scan_token(TRUE)) return true;
+  private boolean jj_3R_332() {
+    if (jj_3R_90()) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3_9()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3R_115() {
+  private boolean jj_3R_120() {
     if (jj_scan_token(PARALLEL)) return true;
+    if (jj_scan_token(FOR)) return true;
     Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_502()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_168()) { jj_scanpos = xsp; break; }
+      if (jj_3_51()) { jj_scanpos = xsp; break; }
     }
-    if (jj_3R_169()) return true;
+    if (jj_3R_503()) return true;
     return false;
   }
 
-  private boolean jj_3R_176() {
-    if (jj_scan_token(LBRACE)) return true;
+  private boolean jj_3R_427() {
+    if (jj_3R_114()) return true;
+    if (jj_3R_87()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_251()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(130)) jj_scanpos = xsp;
-    if (jj_scan_token(RBRACE)) return true;
+    if (jj_3R_435()) jj_scanpos = xsp;
+    if (jj_3R_277()) return true;
     return false;
   }
 
-  private boolean jj_3R_315() {
+  private boolean jj_3R_417() {
+    if (jj_3R_427()) return true;
     Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_329()) {
-    jj_scanpos = xsp;
-    if (jj_3R_330()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_428()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
 
-  private boolean jj_3R_124() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3R_405() {
+    if (jj_scan_token(LPAREN)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_417()) jj_scanpos = xsp;
+    if (jj_scan_token(RPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_286() {
-    if (jj_3R_316()) return true;
+  private boolean jj_3R_303() {
+    if (jj_3R_238()) return true;
     return false;
   }
 
-  private boolean jj_3R_419() {
-    if (jj_3R_448()) return true;
+  private boolean jj_3R_302() {
+    if (jj_3R_237()) return true;
     return false;
   }
 
-  private boolean jj_3R_123() {
-    if (jj_3R_176()) return true;
+  private boolean jj_3R_301() {
+    if (jj_3R_236()) return true;
     return false;
   }
 
-  private boolean jj_3R_200() {
-    if (jj_scan_token(ASSIGN)) return true;
-    if (jj_3R_85()) return true;
+  private boolean jj_3R_411() {
+    if (jj_3R_164()) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_3R_315()) return true;
+  private boolean jj_3R_300() {
+    if (jj_3R_235()) return true;
     return false;
   }
 
-  private boolean jj_3R_418() {
-    if (jj_3R_447()) return true;
+  private boolean jj_3R_410() {
+    if (jj_scan_token(THROWS)) return true;
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_417() {
-    if (jj_3R_446()) return true;
+  private boolean jj_3R_299() {
+    if (jj_3R_234()) return true;
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_3R_445()) return true;
+  private boolean jj_3R_298() {
+    if (jj_3R_231()) return true;
     return false;
   }
 
-  private boolean jj_3R_415() {
-    if (jj_3R_444()) return true;
+  private boolean jj_3R_297() {
+    if (jj_3R_230()) return true;
     return false;
   }
 
-  private boolean jj_3R_284() {
-    if (jj_scan_token(STRING_LITERAL)) return true;
+  private boolean jj_3R_339() {
+    if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_414() {
-    if (jj_3R_443()) return true;
+  private boolean jj_3R_296() {
+    if (jj_3R_229()) return true;
     return false;
   }
 
-  private boolean jj_3R_413() {
-    if (jj_3R_442()) return true;
+  private boolean jj_3R_228() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_296()) {
+    jj_scanpos = xsp;
+    if (jj_3R_297()) {
+    jj_scanpos = xsp;
+    if (jj_3R_298()) {
+    jj_scanpos = xsp;
+    if (jj_3R_299()) {
+    jj_scanpos = xsp;
+    if (jj_3R_300()) {
+    jj_scanpos = xsp;
+    if (jj_3R_301()) {
+    jj_scanpos = xsp;
+    if (jj_3R_302()) {
+    jj_scanpos = xsp;
+    if (jj_3R_303()) return true;
+    }
+    }
+    }
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_412() {
-    if (jj_3R_441()) return true;
+  private boolean jj_3R_312() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_339()) jj_scanpos = xsp;
+    if (jj_3R_108()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_3R_405()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_409()) { jj_scanpos = xsp; break; }
+    }
+    xsp = jj_scanpos;
+    if (jj_3R_410()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_411()) {
+    jj_scanpos = xsp;
+    if (jj_scan_token(129)) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_411() {
-    if (jj_3R_440()) return true;
+  private boolean jj_3R_122() {
+    if (jj_scan_token(PARALLEL)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_228()) { jj_scanpos = xsp; break; }
+    }
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_283() {
-    if (jj_scan_token(CHARACTER_LITERAL)) return true;
+  private boolean jj_3R_254() {
+    if (jj_scan_token(LBRACE)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_332()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(130)) jj_scanpos = xsp;
+    if (jj_scan_token(RBRACE)) return true;
     return false;
   }
 
-  private boolean jj_3R_410() {
-    if (jj_3R_439()) return true;
+  private boolean jj_3R_463() {
+    if (jj_3R_494()) return true;
     return false;
   }
 
-  private boolean jj_3R_85() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_123()) {
-    jj_scanpos = xsp;
-    if (jj_3R_124()) return true;
-    }
+  private boolean jj_3R_462() {
+    if (jj_3R_493()) return true;
     return false;
   }
 
-  private boolean jj_3R_409() {
-    if (jj_3R_438()) return true;
+  private boolean jj_3R_461() {
+    if (jj_3R_492()) return true;
     return false;
   }
 
-  private boolean jj_3R_408() {
-    if (jj_3R_437()) return true;
+  private boolean jj_3R_460() {
+    if (jj_3R_491()) return true;
     return false;
   }
 
-  private boolean jj_3R_407() {
-    if (jj_3R_436()) return true;
+  private boolean jj_3R_166() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_282() {
-    if (jj_scan_token(FLOATING_POINT_LITERAL)) return true;
+  private boolean jj_3R_459() {
+    if (jj_3R_490()) return true;
     return false;
   }
 
-  private boolean jj_3R_401() {
-    if (jj_3R_430()) return true;
+  private boolean jj_3R_458() {
+    if (jj_3R_489()) return true;
     return false;
   }
 
-  private boolean jj_3R_405() {
-    if (jj_3R_434()) return true;
+  private boolean jj_3R_278() {
+    if (jj_scan_token(ASSIGN)) return true;
+    if (jj_3R_90()) return true;
     return false;
   }
 
-  private boolean jj_3R_281() {
-    if (jj_scan_token(LONG_LITERAL)) return true;
+  private boolean jj_3R_165() {
+    if (jj_3R_254()) return true;
     return false;
   }
 
-  private boolean jj_3R_404() {
-    if (jj_3R_433()) return true;
+  private boolean jj_3R_457() {
+    if (jj_3R_488()) return true;
     return false;
   }
 
-  private boolean jj_3R_199() {
-    if (jj_scan_token(IDENTIFIER)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_252()) { jj_scanpos = xsp; break; }
-    }
+  private boolean jj_3R_456() {
+    if (jj_3R_487()) return true;
     return false;
   }
 
-  private boolean jj_3R_280() {
-    if (jj_scan_token(INTEGER_LITERAL)) return true;
+  private boolean jj_3R_455() {
+    if (jj_3R_486()) return true;
     return false;
   }
 
-  private boolean jj_3R_402() {
-    if (jj_3R_431()) return true;
+  private boolean jj_3R_454() {
+    if (jj_3R_485()) return true;
     return false;
   }
 
-  private boolean jj_3R_406() {
-    if (jj_3R_435()) return true;
+  private boolean jj_3R_453() {
+    if (jj_3R_484()) return true;
     return false;
   }
 
-  private boolean jj_3R_83() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_452() {
+    if (jj_3R_483()) return true;
     return false;
   }
 
-  private boolean jj_3R_103() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3R_451() {
+    if (jj_3R_482()) return true;
     return false;
   }
 
-  private boolean jj_3_29() {
+  private boolean jj_3R_90() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_103()) jj_scanpos = xsp;
-    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_3R_165()) {
+    jj_scanpos = xsp;
+    if (jj_3R_166()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_403() {
-    if (jj_3R_432()) return true;
+  private boolean jj_3R_450() {
+    if (jj_3R_481()) return true;
     return false;
   }
 
-  private boolean jj_3R_233() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_280()) {
-    jj_scanpos = xsp;
-    if (jj_3R_281()) {
-    jj_scanpos = xsp;
-    if (jj_3R_282()) {
-    jj_scanpos = xsp;
-    if (jj_3R_283()) {
-    jj_scanpos = xsp;
-    if (jj_3R_284()) {
-    jj_scanpos = xsp;
-    if (jj_3R_285()) {
-    jj_scanpos = xsp;
-    if (jj_3R_286()) return true;
-    }
-    }
-    }
-    }
-    }
-    }
+  private boolean jj_3R_449() {
+    if (jj_3R_480()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_442() {
+    if (jj_3R_474()) return true;
     return false;
   }
 
-  private boolean jj_3R_163() {
-    if (jj_3R_199()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_200()) jj_scanpos = xsp;
+  private boolean jj_3R_447() {
+    if (jj_3R_478()) return true;
     return false;
   }
 
-  private boolean jj_3R_158() {
-    if (jj_scan_token(LBRACKET)) return true;
-    if (jj_3R_92()) return true;
-    if (jj_scan_token(RBRACKET)) return true;
+  private boolean jj_3R_446() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_248() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_277() {
+    if (jj_scan_token(IDENTIFIER)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_333()) { jj_scanpos = xsp; break; }
+    }
     return false;
   }
 
-  private boolean jj_3_46() {
-    if (jj_3R_115()) return true;
+  private boolean jj_3R_444() {
+    if (jj_3R_475()) return true;
     return false;
   }
 
-  private boolean jj_3R_247() {
-    if (jj_3R_90()) return true;
+  private boolean jj_3R_448() {
+    if (jj_3R_479()) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
-    if (jj_3R_277()) return true;
+  private boolean jj_3R_88() {
+    if (jj_scan_token(LBRACKET)) return true;
+    if (jj_scan_token(RBRACKET)) return true;
     return false;
   }
 
-  private boolean jj_3R_196() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_247()) jj_scanpos = xsp;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    xsp = jj_scanpos;
-    if (jj_3R_248()) jj_scanpos = xsp;
+  private boolean jj_3R_445() {
+    if (jj_3R_476()) return true;
     return false;
   }
 
-  private boolean jj_3_45() {
-    if (jj_3R_114()) return true;
+  private boolean jj_3_50() {
+    if (jj_3R_122()) return true;
     return false;
   }
 
-  private boolean jj_3R_195() {
-    if (jj_3R_236()) return true;
+  private boolean jj_3R_206() {
+    if (jj_3R_277()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_278()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_194() {
-    if (jj_scan_token(THIS)) return true;
+  private boolean jj_3_49() {
+    if (jj_3R_121()) return true;
     return false;
   }
 
-  private boolean jj_3_44() {
-    if (jj_3R_113()) return true;
+  private boolean jj_3R_313() {
+    if (jj_3R_340()) return true;
     return false;
   }
 
-  private boolean jj_3R_261() {
+  private boolean jj_3_48() {
+    if (jj_3R_120()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_280() {
     if (jj_scan_token(OPENMP_PRAGMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_44()) {
+    if (jj_3_48()) {
     jj_scanpos = xsp;
-    if (jj_3_45()) {
+    if (jj_3_49()) {
     jj_scanpos = xsp;
-    if (jj_3_46()) {
+    if (jj_3_50()) {
     jj_scanpos = xsp;
-    if (jj_3R_402()) {
+    if (jj_3R_444()) {
     jj_scanpos = xsp;
-    if (jj_3R_403()) {
+    if (jj_3R_445()) {
     jj_scanpos = xsp;
-    if (jj_3R_404()) {
+    if (jj_3R_446()) {
     jj_scanpos = xsp;
-    if (jj_3R_405()) {
+    if (jj_3R_447()) {
     jj_scanpos = xsp;
-    if (jj_3R_406()) {
+    if (jj_3R_448()) {
     jj_scanpos = xsp;
-    if (jj_3R_407()) {
+    if (jj_3R_449()) {
     jj_scanpos = xsp;
-    if (jj_3R_408()) {
+    if (jj_3R_450()) {
     jj_scanpos = xsp;
-    if (jj_3R_409()) {
+    if (jj_3R_451()) {
     jj_scanpos = xsp;
-    if (jj_3R_410()) {
+    if (jj_3R_452()) {
     jj_scanpos = xsp;
-    if (jj_3R_411()) {
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "taskloop".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_453()) {
+    jj_scanpos = xsp;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == IDENTIFIER && "simd".equals(getToken(1).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_454()) {
     jj_scanpos = xsp;
-    if (jj_3R_412()) {
+    if (jj_3R_455()) {
     jj_scanpos = xsp;
-    if (jj_3R_413()) {
+    if (jj_3R_456()) {
     jj_scanpos = xsp;
-    if (jj_3R_414()) {
+    if (jj_3R_457()) {
     jj_scanpos = xsp;
-    if (jj_3R_415()) {
+    if (jj_3R_458()) {
     jj_scanpos = xsp;
-    if (jj_3R_416()) {
+    if (jj_3R_459()) {
     jj_scanpos = xsp;
-    if (jj_3R_417()) {
+    if (jj_3R_460()) {
     jj_scanpos = xsp;
-    if (jj_3R_418()) {
+    if (jj_3R_461()) {
+    jj_scanpos = xsp;
+    if (jj_3R_462()) {
     jj_scanpos = xsp;
-    if (jj_3R_419()) return true;
+    if (jj_3R_463()) return true;
+    }
+    }
     }
     }
     }
@@ -10325,19 +10957,13 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_366() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_163()) return true;
-    return false;
-  }
-
-  private boolean jj_3_5() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3_7() {
+    if (jj_3R_87()) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_83()) { jj_scanpos = xsp; break; }
+      if (jj_3R_88()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
     if (jj_scan_token(130)) {
@@ -10350,131 +10976,102 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_81() {
-    if (jj_3R_119()) return true;
+  private boolean jj_3R_408() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_206()) return true;
     return false;
   }
 
-  private boolean jj_3_4() {
+  private boolean jj_3R_86() {
+    if (jj_3R_161()) return true;
+    return false;
+  }
+
+  private boolean jj_3_6() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_81()) jj_scanpos = xsp;
+    if (jj_3R_86()) jj_scanpos = xsp;
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(LPAREN)) return true;
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_3R_82()) return true;
-    if (jj_3R_163()) return true;
+  private boolean jj_3R_311() {
+    if (jj_3R_87()) return true;
+    if (jj_3R_206()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_366()) { jj_scanpos = xsp; break; }
+      if (jj_3R_408()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_157() {
-    if (jj_scan_token(DOT)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_194()) {
-    jj_scanpos = xsp;
-    if (jj_3R_195()) {
-    jj_scanpos = xsp;
-    if (jj_3R_196()) return true;
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_304() {
-    if (jj_3R_326()) return true;
-    return false;
-  }
-
   private boolean jj_3R_250() {
-    if (jj_scan_token(SEMICOLON)) return true;
+    if (jj_3R_312()) return true;
     return false;
   }
 
-  private boolean jj_3R_303() {
-    if (jj_3R_325()) return true;
+  private boolean jj_3R_160() {
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_302() {
-    if (jj_3R_324()) return true;
+  private boolean jj_3R_249() {
+    if (jj_3R_311()) return true;
     return false;
   }
 
-  private boolean jj_3R_101() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_157()) {
-    jj_scanpos = xsp;
-    if (jj_3R_158()) return true;
-    }
+  private boolean jj_3R_248() {
+    if (jj_3R_310()) return true;
     return false;
   }
 
-  private boolean jj_3R_430() {
+  private boolean jj_3R_474() {
     if (jj_scan_token(_DEFAULT)) return true;
-    if (jj_3R_112()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_301() {
-    if (jj_3R_323()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_300() {
-    if (jj_3R_322()) return true;
+    if (jj_3R_119()) return true;
     return false;
   }
 
-  private boolean jj_3R_299() {
-    if (jj_3R_321()) return true;
+  private boolean jj_3R_247() {
+    if (jj_3R_309()) return true;
     return false;
   }
 
-  private boolean jj_3R_156() {
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(SUPER)) return true;
+  private boolean jj_3R_246() {
+    if (jj_3R_308()) return true;
     return false;
   }
 
-  private boolean jj_3_28() {
-    if (jj_3R_101()) return true;
+  private boolean jj_3R_245() {
+    if (jj_3R_267()) return true;
     return false;
   }
 
-  private boolean jj_3R_298() {
+  private boolean jj_3R_244() {
     if (jj_scan_token(OPENMP_PRAGMA)) return true;
     if (jj_scan_token(ASYNC)) return true;
     return false;
   }
 
-  private boolean jj_3R_249() {
+  private boolean jj_3R_159() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_298()) jj_scanpos = xsp;
-    if (jj_3R_108()) return true;
+    if (jj_3R_244()) jj_scanpos = xsp;
+    if (jj_3R_114()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_299()) {
+    if (jj_3R_245()) {
     jj_scanpos = xsp;
-    if (jj_3R_300()) {
+    if (jj_3R_246()) {
     jj_scanpos = xsp;
-    if (jj_3R_301()) {
+    if (jj_3R_247()) {
     jj_scanpos = xsp;
-    if (jj_3R_302()) {
+    if (jj_3R_248()) {
     jj_scanpos = xsp;
-    if (jj_3R_303()) {
+    if (jj_3R_249()) {
     jj_scanpos = xsp;
-    if (jj_3R_304()) return true;
+    if (jj_3R_250()) return true;
     }
     }
     }
@@ -10483,62 +11080,122 @@ public final class ASTParser implements ASTParserConstants {
     return false;
   }
 
-  private boolean jj_3R_400() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3R_441() {
+    if (jj_3R_87()) return true;
     if (jj_scan_token(IDENTIFIER)) return true;
     if (jj_scan_token(LPAREN)) return true;
     if (jj_scan_token(RPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_401()) jj_scanpos = xsp;
+    if (jj_3R_442()) jj_scanpos = xsp;
     if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_237() {
-    if (jj_3R_178()) return true;
+  private boolean jj_3R_158() {
+    if (jj_3R_243()) return true;
     return false;
   }
 
-  private boolean jj_3R_100() {
+  private boolean jj_3_47() {
+    if (jj_3R_87()) return true;
+    if (jj_scan_token(IDENTIFIER)) return true;
+    if (jj_scan_token(LPAREN)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_440() {
+    if (jj_3R_311()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_439() {
+    if (jj_3R_309()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_438() {
+    if (jj_3R_308()) return true;
+    return false;
+  }
+
+  private boolean jj_3_8() {
+    if (jj_3R_89()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_437() {
+    if (jj_3R_267()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_436() {
+    if (jj_3R_441()) return true;
+    return false;
+  }
+
+  private boolean jj_3_46() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_119()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_85() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3_28()) {
+    if (jj_3_8()) {
     jj_scanpos = xsp;
-    if (jj_3R_156()) return true;
+    jj_lookingAhead = true;
+    jj_semLA = getToken(1).kind == OPENMP_PRAGMA && getToken(2).kind == IDENTIFIER && "declare".equals(getToken(2).image);
+    jj_lookingAhead = false;
+    if (!jj_semLA || jj_3R_158()) {
+    jj_scanpos = xsp;
+    if (jj_3R_159()) {
+    jj_scanpos = xsp;
+    if (jj_3R_160()) return true;
+    }
+    }
     }
     return false;
   }
 
-  private boolean jj_3_27() {
-    if (jj_3R_102()) return true;
-    if (jj_scan_token(DOT)) return true;
-    if (jj_scan_token(CLASS)) return true;
+  private boolean jj_3R_433() {
+    if (jj_scan_token(SEMICOLON)) return true;
     return false;
   }
 
-  private boolean jj_3R_187() {
-    if (jj_scan_token(IDENTIFIER)) return true;
+  private boolean jj_3R_434() {
+    if (jj_3R_114()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_237()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3_43() {
-    if (jj_3R_82()) return true;
-    if (jj_scan_token(IDENTIFIER)) return true;
-    if (jj_scan_token(LPAREN)) return true;
+    if (jj_3R_436()) {
+    jj_scanpos = xsp;
+    if (jj_3R_437()) {
+    jj_scanpos = xsp;
+    if (jj_3R_438()) {
+    jj_scanpos = xsp;
+    if (jj_3R_439()) {
+    jj_scanpos = xsp;
+    if (jj_3R_440()) return true;
+    }
+    }
+    }
+    }
     return false;
   }
 
-  private boolean jj_3R_399() {
-    if (jj_3R_325()) return true;
+  private boolean jj_3_5() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_84()) return true;
+  private boolean jj_3R_426() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_433()) {
+    jj_scanpos = xsp;
+    if (jj_3R_434()) return true;
+    }
     return false;
   }
 
@@ -10556,7 +11213,7 @@ public final class ASTParser implements ASTParserConstants {
   private boolean jj_lookingAhead = false;
   private boolean jj_semLA;
   private int jj_gen;
-  final private int[] jj_la1 = new int[181];
+  final private int[] jj_la1 = new int[185];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -10572,24 +11229,24 @@ public final class ASTParser implements ASTParserConstants {
       jj_la1_init_5();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x48101000,0x1,0x0,0x0,0x0,0x40001000,0x8100000,0x48101000,0x100000,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x4a195000,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x4a195000,0x0,0x8100000,0x2094000,0x4a195000,0x0,0x0,0x0,0x22094000,0x22094000,0x0,0x0,0x0,0x0,0x0,0x0,0x42095000,0x0,0x0,0x0,0x0,0x0,0x22094000,0x6359f000,0x0,0x2094000,0x2094000,0x0,0x2094000,0x10000000,0x10000000,0x2094000,0x2094000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x22094000,0x0,0x0,0x22094000,0x0,0x2094000,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x22094000,0x0,0x0,0x2094000,0x0,0x0,0x0,0x2349e000,0x0,0x2349e000,0x0,0x0,0x0,0x22094000,0x820000,0x820000,0x4000000,0x62095000,0x22094000,0x22094000,0x62095000,0x22094000,0x0,0x0,0x0,0x22094000,0x40000,0x80000000,0x80040000,0x0,0x0,0x0,0x22094000,0x22094000,0x0,0x4a195000,0xa194000,0x4a195000,0x800000,0x0,0x800000,0x800000,0x800000,0x800000,0x800000,0x800000,0x0,0x800000,0x800000,0x800000,0x800000,0x0,0x2349e000,0x0,0x800000,0x800000,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_0 = new int[] {0x0,0x48101000,0x1,0x0,0x0,0x0,0x40001000,0x8100000,0x48101000,0x100000,0x0,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x0,0x0,0x8100000,0x2094000,0x4a195000,0x0,0x0,0x0,0x22094000,0x22094000,0x0,0x0,0x0,0x0,0x0,0x0,0x42095000,0x0,0x0,0x0,0x0,0x0,0x22094000,0x0,0x2094000,0x2094000,0x0,0x2094000,0x10000000,0x10000000,0x2094000,0x2094000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x22094000,0x0,0x0,0x22094000,0x0,0x2094000,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x20000000,0x22094000,0x0,0x0,0x2094000,0x0,0x0,0x0,0x2349e000,0x0,0x0,0x0,0x0,0x22094000,0x820000,0x820000,0x4000000,0x62095000,0x22094000,0x22094000,0x62095000,0x22094000,0x0,0x0,0x0,0x22094000,0x40000,0x80000000,0x80040000,0x0,0x0,0x0,0x22094000,0x22094000,0x0,0x4a195000,0xa194000,0x4a195000,0x800000,0x0,0x0,0x800000,0x800000,0x0,0x800000,0x800000,0x800000,0x0,0x0,0x800000,0x800000,0x800000,0x0,0x0,0x800000,0x800000,0x800000,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x800000,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x20,0x1099c500,0x0,0x0,0x80000,0x0,0x1099c400,0x100,0x1099c500,0x100,0x0,0x0,0x10,0x0,0x0,0x10,0x0,0x0,0x909dc781,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x909dc781,0x0,0x100,0x80040281,0x909dc781,0x0,0x0,0x0,0xa1241a81,0xa1241a81,0x0,0x0,0x0,0x8000000,0x0,0x0,0x109dc681,0x0,0x0,0x8000000,0x0,0x0,0xa1241a81,0xf3ffdf8b,0x80000,0x40281,0x40281,0x0,0x40281,0x200000,0x200000,0x40281,0x80040281,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1241a81,0x0,0x0,0xa1241a81,0x0,0x40281,0x0,0x0,0x0,0x21201800,0x0,0x0,0x0,0x0,0x1000800,0x0,0x20001000,0x20000000,0xa1241a81,0x0,0x0,0x40281,0x0,0x0,0x0,0xe3e61a8b,0x0,0xe3e61a8b,0x0,0x0,0x0,0xa1241a81,0x0,0x0,0x0,0xb1bdde81,0xa1241a81,0xa1241a81,0xb1bdde81,0xa1241a81,0x0,0x0,0x0,0xa1241a81,0x0,0x0,0x0,0x0,0x0,0x0,0xa1241a81,0xa1241a81,0x0,0x109dc781,0x40381,0x109dc781,0x0,0x2,0x4004008,0x4004008,0x4004008,0x4004008,0x4004008,0x4004008,0x0,0x4004000,0x4004000,0x4004000,0x4004000,0x0,0xe3e61a8b,0x0,0x4000,0x4000,0x4008,0x4008,0x0,0x8,0x0,0x8,0x2,0x2,0x0,0x8,0x2000000,0x0,0x4008,0x4008,0x0,0x0,0x0,0x80000,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_1 = new int[] {0x20,0x1099c500,0x0,0x0,0x80000,0x0,0x1099c400,0x100,0x1099c500,0x100,0x0,0x0,0x10,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x80040281,0x909dc781,0x0,0x0,0x0,0xa1241a81,0xa1241a81,0x0,0x0,0x0,0x8000000,0x0,0x0,0x109dc681,0x0,0x0,0x8000000,0x0,0x0,0xa1241a81,0x80000,0x40281,0x40281,0x0,0x40281,0x200000,0x200000,0x40281,0x80040281,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xa1241a81,0x0,0x0,0xa1241a81,0x0,0x40281,0x0,0x0,0x0,0x21201800,0x0,0x0,0x0,0x0,0x1000800,0x0,0x20001000,0x20000000,0xa1241a81,0x0,0x0,0x40281,0x0,0x0,0x0,0xe3e61a8b,0x0,0x0,0x0,0x0,0xa1241a81,0x0,0x0,0x0,0xb1bdde81,0xa1241a81,0xa1241a81,0xb1bdde81,0xa1241a81,0x0,0x0,0x0,0xa1241a81,0x0,0x0,0x0,0x0,0x0,0x0,0xa1241a81,0xa1241a81,0x0,0x109dc781,0x40381,0x109dc781,0x0,0x2,0x0,0x4004008,0x4004008,0x4000008,0x4000,0x4004008,0x4004008,0x0,0x0,0x4004000,0x4004000,0x4004000,0x0,0x0,0x4000,0x4000,0x4008,0x4008,0x4000,0x2,0x0,0x4000,0x4000,0x0,0x8,0x0,0x8,0x2,0x2,0x0,0x8,0x2000000,0x0,0x4008,0x4008,0x0,0x0,0x0,0x80000,0x0,0x4000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x1,0x0,0x0,0x0,0x0,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x5,0x4,0x0,0x0,0x5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x1,0x0,0x43ec0e00,0x80000170,0x80000170,0x80042170,0x80042170,0x80000170,0x80000170,0x4,0x4042170,0x4042170,0x4000170,0x4000170,0x4,0x6,0x4000000,0x4000170,0x4000170,0x170,0x170,0x0,0x0,0x0,0x0,0x80008,0x80008,0x0,0x0,0x0,0x400,0x1c000170,0x1c000170,0x0,0x0,0x0,0x3c000,0x0,0x170,0x10,0x0,0x0,0x0,0x0,0x0,0xc0,0x0,0x0,};
+      jj_la1_2 = new int[] {0x0,0x1,0x0,0x0,0x0,0x0,0x1,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x5,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x1,0x0,0xe80600,0x43040800,0x80000170,0x80000170,0x80040000,0x2170,0x80000170,0x80000170,0x4,0x4040000,0x2170,0x4000170,0x4000170,0x4,0x4000000,0x4000170,0x4000170,0x170,0x170,0x170,0x0,0x0,0x170,0x170,0x0,0x0,0x0,0x0,0x80008,0x80008,0x0,0x0,0x0,0x400,0x1c000170,0x1c000170,0x0,0x0,0x0,0x3c000,0x0,0x170,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0xc0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x21000000,0x0,0x0,0x8000000,0x20000000,0x0,0x0,0x0,0x21000000,0x0,0x0,0x1000000,0x1000000,0x0,0x0,0x80000000,0x29c23000,0x29c23000,0x0,0x0,0x80000000,0x0,0x20000000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x9c23000,0x29c23000,0x0,0x0,0x1000000,0x0,0x1000000,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9c23000,0x0,0x0,0x9c23000,0x0,0x1000000,0x0,0x8000000,0x8000000,0x8c23000,0x1000000,0x0,0x0,0x8000000,0x0,0x80000000,0xc23000,0x0,0x9c23000,0x0,0x0,0x0,0x1000000,0x80000000,0x80000000,0x29c23000,0x0,0x29c23000,0x0,0x0,0x0,0x9c23000,0x0,0x0,0x0,0x9c23000,0x9c23000,0x9c23000,0x9c23000,0x9c23000,0x0,0x1000000,0x1000000,0x9c23000,0x0,0x0,0x0,0x0,0x1000000,0x0,0x29c23000,0x29c23000,0x0,0x1000000,0x1000000,0x1000000,0x0,0x8d6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x29c23000,0x0,0x1,0x1,0x0,0x0,0x8000000,0x0,0x8000000,0x0,0x30,0x20,0x300,0x0,0x0,0x1000000,0x8,0x8,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,};
+      jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x8000000,0x20000000,0x0,0x0,0x0,0x0,0x0,0x1000000,0x1000000,0x0,0x0,0x80000000,0x29c23000,0x29c23000,0x0,0x0,0x80000000,0x0,0x20000000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x9c23000,0x0,0x0,0x1000000,0x0,0x1000000,0x0,0x0,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9c23000,0x0,0x0,0x9c23000,0x0,0x1000000,0x0,0x8000000,0x8000000,0x8c23000,0x1000000,0x0,0x0,0x8000000,0x0,0x80000000,0xc23000,0x0,0x9c23000,0x0,0x0,0x0,0x1000000,0x80000000,0x80000000,0x29c23000,0x0,0x0,0x0,0x0,0x9c23000,0x0,0x0,0x0,0x9c23000,0x9c23000,0x9c23000,0x9c23000,0x9c23000,0x0,0x1000000,0x1000000,0x9c23000,0x0,0x0,0x0,0x0,0x1000000,0x0,0x29c23000,0x29c23000,0x0,0x1000000,0x1000000,0x1000000,0x0,0x810,0xc6,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x1,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8000000,0x0,0x8000000,0x0,0x30,0x20,0x300,0x0,0x0,0x1000000,0x8,0x8,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x8000000,0x1000000,0x0,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x12,0x0,0x10,0x0,0x8,0x10,0x10,0x12,0x0,0x40,0x0,0x0,0x4,0x4,0x0,0x10,0x4,0x52,0x2,0x10,0x0,0x0,0x4,0x0,0x800000,0x52,0x0,0x10,0x40,0x52,0x4,0x20,0x0,0x1e0180,0x1e0180,0x4,0x40,0x0,0x0,0x2,0x4,0x10,0x0,0x40,0x0,0x40,0x40,0x40,0x60012,0x0,0x0,0x0,0x4,0x200,0x0,0x0,0x0,0x0,0x4,0xf0000020,0x200,0x8000,0x10000,0x1000000,0x2000000,0x800000,0x4800,0x4800,0x0,0x3040,0x3040,0x8000000,0x180000,0x180000,0x4600000,0x4600000,0x180000,0x1e0180,0x180,0x180,0x0,0x60000,0x0,0x40,0x0,0x0,0x0,0x0,0x8,0x40,0x0,0x0,0x8,0x0,0x0,0x1e0180,0x4,0x40,0x0,0x40,0x0,0x0,0x60002,0x400,0x60002,0x4,0xf0060020,0xf0060020,0x60000,0x0,0x0,0x0,0x1e0190,0x1e0180,0x1e0180,0x1e0192,0x1e0180,0x4,0x0,0x0,0x1e0180,0x0,0x0,0x0,0x10,0x0,0x4,0x1e0190,0x1e0190,0x4,0x12,0x10,0x12,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x60002,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x8,0x8,0x0,0x4,0x0,0x0,0x4,0x4,0x4,0x4,0x4,0x0,0x3b98000,0x4,};
+      jj_la1_4 = new int[] {0x0,0x12,0x0,0x10,0x0,0x8,0x10,0x10,0x12,0x0,0x40,0x0,0x0,0x4,0x4,0x0,0x10,0x4,0x2,0x10,0x0,0x0,0x4,0x0,0x800000,0x0,0x10,0x40,0x52,0x4,0x20,0x0,0x1e0180,0x1e0180,0x4,0x40,0x0,0x0,0x2,0x4,0x10,0x0,0x40,0x0,0x40,0x40,0x40,0x0,0x0,0x0,0x4,0x200,0x0,0x0,0x0,0x0,0x4,0xf0000020,0x200,0x8000,0x10000,0x1000000,0x2000000,0x800000,0x4800,0x4800,0x0,0x3040,0x3040,0x8000000,0x180000,0x180000,0x4600000,0x4600000,0x180000,0x1e0180,0x180,0x180,0x0,0x60000,0x0,0x40,0x0,0x0,0x0,0x0,0x8,0x40,0x0,0x0,0x8,0x0,0x0,0x1e0180,0x4,0x40,0x0,0x40,0x0,0x0,0x60002,0x400,0x4,0xf0060020,0xf0060020,0x60000,0x0,0x0,0x0,0x1e0190,0x1e0180,0x1e0180,0x1e0192,0x1e0180,0x4,0x0,0x0,0x1e0180,0x0,0x0,0x0,0x10,0x0,0x4,0x1e0190,0x1e0190,0x4,0x12,0x10,0x12,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x8,0x8,0x0,0x4,0x0,0x0,0x4,0x4,0x4,0x4,0x0,0x4,0x0,0x0,0x3b98000,0x4,0x4,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7f,0x7f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_5 = new int[] {0x0,0x0,0x800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x7f,0x7f,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
-  final private JJCalls[] jj_2_rtns = new JJCalls[50];
+  final private JJCalls[] jj_2_rtns = new JJCalls[59];
   private boolean jj_rescan = false;
   private int jj_gc = 0;
 
@@ -10604,7 +11261,7 @@ public final class ASTParser implements ASTParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 181; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -10619,7 +11276,7 @@ public final class ASTParser implements ASTParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 181; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -10630,7 +11287,7 @@ public final class ASTParser implements ASTParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 181; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -10641,7 +11298,7 @@ public final class ASTParser implements ASTParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 181; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -10651,7 +11308,7 @@ public final class ASTParser implements ASTParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 181; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -10661,7 +11318,7 @@ public final class ASTParser implements ASTParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 181; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 185; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -10781,7 +11438,7 @@ public final class ASTParser implements ASTParserConstants {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 181; i++) {
+    for (int i = 0; i < 185; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -10832,7 +11489,7 @@ public final class ASTParser implements ASTParserConstants {
 
   private void jj_rescan_token() {
     jj_rescan = true;
-    for (int i = 0; i < 50; i++) {
+    for (int i = 0; i < 59; i++) {
     try {
       JJCalls p = jj_2_rtns[i];
       do {
@@ -10889,6 +11546,15 @@ public final class ASTParser implements ASTParserConstants {
             case 47: jj_3_48(); break;
             case 48: jj_3_49(); break;
             case 49: jj_3_50(); break;
+            case 50: jj_3_51(); break;
+            case 51: jj_3_52(); break;
+            case 52: jj_3_53(); break;
+            case 53: jj_3_54(); break;
+            case 54: jj_3_55(); break;
+            case 55: jj_3_56(); break;
+            case 56: jj_3_57(); break;
+            case 57: jj_3_58(); break;
+            case 58: jj_3_59(); break;
           }
         }
         p = p.next;
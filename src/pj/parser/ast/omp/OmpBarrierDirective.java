@@ -27,6 +27,9 @@ import pj.parser.ast.visitor.VoidVisitor;
 
 public class OmpBarrierDirective extends OpenMPStatement{
 	
+	/* set by BarrierEliminationVisitor if another barrier directly follows this one */
+	public boolean redundant = false;
+	
 	public OmpBarrierDirective() {
 	}
 	
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ *
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.parser.ast.omp;
+
+import java.util.List;
+
+import pj.parser.ast.expr.Expression;
+import pj.parser.ast.type.Type;
+import pj.parser.ast.visitor.SourcePrinter;
+import pj.parser.ast.visitor.dataclausehandler.DataClauseHandlerUtils;
+
+/*
+ * declare reduction(name : type : combiner) initializer(omp_priv = identity) declares a reduction
+ * operator for the variables of a type, e.g.
+ *      //#omp declare reduction(add : Histogram : omp_out.merge(omp_in)) initializer(omp_priv = new Histogram(omp_orig.bins()))
+ * The combiner merges omp_in into omp_out, it is an expression statement that updates omp_out or
+ * assigns it. Every private copy starts at the identity, which may refer to the reduction variable
+ * as omp_orig. Without initializer the private copies start at the default value of a primitive
+ * type, or at a default constructed object.
+ *
+ * It is never part of the AST, the parser collects the declarations of the compilation unit by
+ * name and type, and the reduction clauses naming a declared operator look it up for the types
+ * of their variables. The partials are combined pairwise in the combining tree of the team, in
+ * no particular order, so the combiner has to be associative and commutative.
+ */
+public class OmpDeclareReduction {
+
+	private String name;
+	private String type;
+	private Expression combiner;
+	private Expression initializer; //the identity assigned to omp_priv, null for the default value
+
+	public OmpDeclareReduction(String name, Type type, Expression combiner, Expression initializer) {
+		this.name = name;
+		this.type = type.toString();
+		this.combiner = combiner;
+		this.initializer = initializer;
+	}
+
+	/*
+	 * The declarations of the compilation unit are found by name and type.
+	 */
+	public static String key(String name, String type) {
+		return name + ":" + type;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public Expression getCombiner() {
+		return combiner;
+	}
+
+	public Expression getInitializer() {
+		return initializer;
+	}
+
+	/*
+	 * Prints the declaration of a private copy, which starts at the identity, e.g.
+	 *   Histogram OMP_WoRkShArInG_PRIVATE_1h;
+	 *   {
+	 *       Histogram omp_orig = h;
+	 *       OMP_WoRkShArInG_PRIVATE_1h = new Histogram(omp_orig.bins());
+	 *   }
+	 * The block is an instance initializer if the private copy is a field.
+	 */
+	public void printPrivateCopy(String declaration, String privateCopy, String original, SourcePrinter printer) {
+		if (null == this.initializer) {
+			String identity = DataClauseHandlerUtils.isPrimitiveType(this.type) ? DataClauseHandlerUtils.getDefaultValuesForPrimitiveType(this.type) : "new " + this.type + "()";
+			printer.printLn(declaration + " = " + identity + ";");
+			return;
+		}
+		printer.printLn(declaration + ";");
+		printer.printLn("{");
+		printer.indent();
+		printer.printLn(this.type + " omp_orig = " + original + ";");
+		printer.printLn(privateCopy + " = " + this.initializer + ";");
+		printer.unindent();
+		printer.printLn("}");
+	}
+
+	/*
+	 * Adds the lines merging the partial in into out to the code, the combiner runs on omp_out and
+	 * omp_in declared from out and in, the result is left in omp_out.
+	 */
+	public void addCombination(String out, String in, List<String> code) {
+		String objectType = DataClauseHandlerUtils.autoBox(this.type);
+		code.add(this.type + " omp_out = (" + objectType + ") " + out + ";");
+		code.add(this.type + " omp_in = (" + objectType + ") " + in + ";");
+		code.add(this.combiner + ";");
+	}
+}
@@ -24,6 +24,7 @@ package pj.parser.ast.omp;
 
 import java.util.List;
 
+import pj.parser.ast.expr.Expression;
 import pj.parser.ast.stmt.Statement;
 import pj.parser.ast.visitor.GenericVisitor;
 import pj.parser.ast.visitor.VoidVisitor;
@@ -37,6 +38,14 @@ public class OmpForConstruct extends OpenMPStatement{
 	
 	private boolean nowait;
 	private boolean ordered;
+	private int collapse = 1; //number of perfectly nested loops sharing one iteration space
+	private boolean stream = false; //items of an unbounded source are claimed in batches
+	private Expression batch = null; //batch size of a stream loop, null for the default
+	private boolean simd = false; //for simd, the chunks run as loops the JIT can vectorise
+	
+	/* barrier analysis results, set by BarrierEliminationVisitor for loops inside a parallel region */
+	public boolean entryBarrierRequired = true;
+	public boolean endBarrierRequired = true;
 	
 	public OmpForConstruct(int beginLine, int beginColumn, int endLine, int endColumn, 
 			Statement statement,  
@@ -46,6 +55,32 @@ public class OmpForConstruct extends OpenMPStatement{
 			boolean nowait,
 			boolean ordered
 			){
+		this(beginLine, beginColumn, endLine, endColumn, statement, dataClausesList, scheduleClause, neglectException, nowait, ordered, 1);
+	}
+	
+	public OmpForConstruct(int beginLine, int beginColumn, int endLine, int endColumn, 
+			Statement statement,  
+			List<OmpDataClause> dataClausesList, 
+			OmpScheduleClause scheduleClause,
+			OmpNeglectExceptionClause neglectException,
+			boolean nowait,
+			boolean ordered,
+			int collapse
+			){
+		this(beginLine, beginColumn, endLine, endColumn, statement, dataClausesList, scheduleClause, neglectException, nowait, ordered, collapse, false, null);
+	}
+	
+	public OmpForConstruct(int beginLine, int beginColumn, int endLine, int endColumn, 
+			Statement statement,  
+			List<OmpDataClause> dataClausesList, 
+			OmpScheduleClause scheduleClause,
+			OmpNeglectExceptionClause neglectException,
+			boolean nowait,
+			boolean ordered,
+			int collapse,
+			boolean stream,
+			Expression batch
+			){
 		super(beginLine, beginColumn, endLine, endColumn);
 		this.forStmt = statement;
 		this.dataClauseList = dataClausesList;
@@ -53,6 +88,9 @@ public class OmpForConstruct extends OpenMPStatement{
 		this.neglectException = neglectException;
 		this.nowait = nowait;
 		this.ordered = ordered;
+		this.collapse = collapse;
+		this.stream = stream;
+		this.batch = batch;
 	}
 	
 	public OmpForConstruct( 
@@ -63,12 +101,41 @@ public class OmpForConstruct extends OpenMPStatement{
 			boolean nowait,
 			boolean ordered
 			){
+		this(statement, dataClausesList, scheduleClause, neglectException, nowait, ordered, 1);
+	}
+	
+	public OmpForConstruct( 
+			Statement statement,  
+			List<OmpDataClause> dataClausesList, 
+			OmpScheduleClause scheduleClause,
+			OmpNeglectExceptionClause neglectException,
+			boolean nowait,
+			boolean ordered,
+			int collapse
+			){
+		this(statement, dataClausesList, scheduleClause, neglectException, nowait, ordered, collapse, false, null);
+	}
+	
+	public OmpForConstruct( 
+			Statement statement,  
+			List<OmpDataClause> dataClausesList, 
+			OmpScheduleClause scheduleClause,
+			OmpNeglectExceptionClause neglectException,
+			boolean nowait,
+			boolean ordered,
+			int collapse,
+			boolean stream,
+			Expression batch
+			){
 		this.forStmt = statement;
 		this.dataClauseList = dataClausesList;
 		this.scheduleClause = scheduleClause;
 		this.neglectException = neglectException;
 		this.nowait = nowait;
 		this.ordered = ordered;
+		this.collapse = collapse;
+		this.stream = stream;
+		this.batch = batch;
 	}
 	
 	public Statement  getForStmt() {
@@ -94,6 +161,26 @@ public class OmpForConstruct extends OpenMPStatement{
 		return this.ordered;
 	}
 	
+	public int getCollapse() {
+		return this.collapse;
+	}
+	
+	public boolean isStream() {
+		return this.stream;
+	}
+	
+	public Expression getBatch() {
+		return this.batch;
+	}
+	
+	public boolean isSimd() {
+		return this.simd;
+	}
+	
+	public void setSimd(boolean simd) {
+		this.simd = simd;
+	}
+	
 	@Override
 	public <R, A> R accept(GenericVisitor<R, A> v, A arg) {
 		return v.visit(this, arg);
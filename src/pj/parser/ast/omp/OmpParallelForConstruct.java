@@ -39,6 +39,10 @@ public class OmpParallelForConstruct extends OpenMPStatement{
 	private List<OmpDataClause> dataClauseList;
 	private OmpScheduleClause scheduleClause = null;
 	private boolean ordered;
+	private int collapse = 1;
+	private boolean stream = false;
+	private boolean simd = false;
+	private Expression batch = null;
 	
 	public OmpParallelForConstruct(int beginLine, int beginColumn, int endLine, int endColumn, 
 			Statement statement,  
@@ -48,6 +52,32 @@ public class OmpParallelForConstruct extends OpenMPStatement{
 			OmpNumthreadsClause numThreads,
 			OmpNeglectExceptionClause neglectException,
 			boolean ordered){
+		this(beginLine, beginColumn, endLine, endColumn, statement, dataClausesList, scheduleClause, ifExpr, numThreads, neglectException, ordered, 1);
+	}
+	
+	public OmpParallelForConstruct(int beginLine, int beginColumn, int endLine, int endColumn, 
+			Statement statement,  
+			List<OmpDataClause> dataClausesList, 
+			OmpScheduleClause scheduleClause,
+			OmpIfClause ifExpr,
+			OmpNumthreadsClause numThreads,
+			OmpNeglectExceptionClause neglectException,
+			boolean ordered,
+			int collapse){
+		this(beginLine, beginColumn, endLine, endColumn, statement, dataClausesList, scheduleClause, ifExpr, numThreads, neglectException, ordered, collapse, false, null);
+	}
+	
+	public OmpParallelForConstruct(int beginLine, int beginColumn, int endLine, int endColumn, 
+			Statement statement,  
+			List<OmpDataClause> dataClausesList, 
+			OmpScheduleClause scheduleClause,
+			OmpIfClause ifExpr,
+			OmpNumthreadsClause numThreads,
+			OmpNeglectExceptionClause neglectException,
+			boolean ordered,
+			int collapse,
+			boolean stream,
+			Expression batch){
 		super(beginLine, beginColumn, endLine, endColumn);
 		this.forStmt = statement;
 		this.dataClauseList = dataClausesList;
@@ -56,6 +86,9 @@ public class OmpParallelForConstruct extends OpenMPStatement{
 		this.numThreads = numThreads;
 		this.neglectException = neglectException;
 		this.ordered = ordered;
+		this.collapse = collapse;
+		this.stream = stream;
+		this.batch = batch;
 	}
 	
 	public OmpParallelForConstruct(
@@ -95,6 +128,26 @@ public class OmpParallelForConstruct extends OpenMPStatement{
 		return numThreads;
 	}
 	
+	public int getCollapse() {
+		return collapse;
+	}
+	
+	public boolean isStream() {
+		return stream;
+	}
+	
+	public Expression getBatch() {
+		return batch;
+	}
+	
+	public boolean isSimd() {
+		return simd;
+	}
+	
+	public void setSimd(boolean simd) {
+		this.simd = simd;
+	}
+	
 	public OmpParallelConstruct normalisation() {
 		List<OmpDataClause> forDataClauseList = new ArrayList<OmpDataClause>();
 		List<OmpDataClause> parallelDataClauseList = new ArrayList<OmpDataClause>();
@@ -120,7 +173,7 @@ public class OmpParallelForConstruct extends OpenMPStatement{
 				forDataClauseList.add(clause);
 				break;
 			case Reduction:
-				for (Expression arg: ((OmpReductionDataClause)clause).getArgumentMap().keySet()) {
+				for (Expression arg: ((OmpReductionDataClause)clause).getVariables()) {
 					sharedClauseParallel.addArgument(arg);
 				}
 				forDataClauseList.add(clause);
@@ -130,7 +183,8 @@ public class OmpParallelForConstruct extends OpenMPStatement{
 			}
 		}
 		
-		OmpForConstruct forConstruct = new OmpForConstruct(forStmt, forDataClauseList, this.scheduleClause, null, false, this.ordered);
+		OmpForConstruct forConstruct = new OmpForConstruct(forStmt, forDataClauseList, this.scheduleClause, null, false, this.ordered, this.collapse, this.stream, this.batch);
+		forConstruct.setSimd(this.simd);
 		OmpParallelConstruct normalised = new OmpParallelConstruct(forConstruct, parallelDataClauseList, this.ifExpr, this.numThreads, this.neglectException);
 		return normalised;
 	}
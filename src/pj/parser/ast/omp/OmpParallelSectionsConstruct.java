@@ -106,7 +106,7 @@ public class OmpParallelSectionsConstruct extends OpenMPStatement{
 				sectionDataClauseList.add(clause);
 				break;
 			case Reduction:
-				for (Expression arg: ((OmpReductionDataClause)clause).getArgumentMap().keySet()) {
+				for (Expression arg: ((OmpReductionDataClause)clause).getVariables()) {
 					sharedClauseParallel.addArgument(arg);
 				}
 				sectionDataClauseList.add(clause);
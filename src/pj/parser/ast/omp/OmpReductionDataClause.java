@@ -22,8 +22,10 @@
 
 package pj.parser.ast.omp;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -33,11 +35,17 @@ import pj.parser.ast.symbolscope.Symbol;
 import pj.parser.ast.visitor.GenericVisitor;
 import pj.parser.ast.visitor.SourcePrinter;
 import pj.parser.ast.visitor.VoidVisitor;
+import pj.parser.ast.visitor.dataclausehandler.DataClauseHandlerUtils;
 
 
 public class OmpReductionDataClause extends OmpDataClause{
 
 	Map<Expression, OmpReductionOperator> argumentMap;
+	/* the array sections [lower:length] of the reduction arrays that name a section */
+	Map<Expression, Expression> sectionLowers = new HashMap<Expression, Expression>();
+	Map<Expression, Expression> sectionLengths = new HashMap<Expression, Expression>();
+	/* the location variables of minloc and maxloc reductions, by their value variables */
+	Map<Expression, Expression> locations = new HashMap<Expression, Expression>();
 	
 	public OmpReductionDataClause() {
 		this.type = OmpDataClause.Type.Reduction;
@@ -63,15 +71,91 @@ public class OmpReductionDataClause extends OmpDataClause{
 		this.argumentMap.put(argument, operator);
 	}
 	
+	public void addArgument(OmpReductionOperator operator, Expression argument, Expression lower, Expression length) {
+		this.argumentMap.put(argument, operator);
+		if (null != lower) {
+			this.sectionLowers.put(argument, lower);
+			this.sectionLengths.put(argument, length);
+		}
+	}
+	
+	public void addLocationArgument(OmpReductionOperator operator, Expression argument, Expression location) {
+		this.argumentMap.put(argument, operator);
+		this.locations.put(argument, location);
+	}
+	
+	/*
+	 * Returns the location variable of a minloc or maxloc reduction, null for other reductions.
+	 */
+	public Expression getLocation(Expression argument) {
+		return this.locations.get(argument);
+	}
+	
+	/*
+	 * All variables the clause privatises, the reduction variables and their location variables.
+	 */
+	public List<Expression> getVariables() {
+		List<Expression> variables = new ArrayList<Expression>();
+		for (Expression v: this.argumentMap.keySet()) {
+			variables.add(v);
+			if (this.locations.containsKey(v)) {
+				variables.add(this.locations.get(v));
+			}
+		}
+		return variables;
+	}
+	
+	/*
+	 * An array reduction reduces the elements of a section of a one dimensional array, the whole
+	 * array unless the clause names a section a[lower:length]. A declared reduction for the array
+	 * type reduces the arrays as objects.
+	 */
+	public boolean isArrayReduction(Expression argument, String varType) {
+		if (this.sectionLowers.containsKey(argument)) {
+			return true;
+		}
+		return null != varType && varType.endsWith("[]") && null == this.argumentMap.get(argument).getDeclaredReduction(varType);
+	}
+	
+	/*
+	 * Returns the section [lower, length] the clause names of a reduction array, null if the
+	 * clause names the array.
+	 */
+	public Expression[] getSection(Expression argument) {
+		if (!this.sectionLowers.containsKey(argument)) {
+			return null;
+		}
+		return new Expression[] {this.sectionLowers.get(argument), this.sectionLengths.get(argument)};
+	}
+	
+	public String getSectionLower(Expression argument) {
+		Expression lower = this.sectionLowers.get(argument);
+		return (null == lower) ? "0" : "(" + lower + ")";
+	}
+	
+	public String getSectionLength(Expression argument) {
+		Expression length = this.sectionLengths.get(argument);
+		return (null == length) ? argument + ".length" : "(" + length + ")";
+	}
+	
 	@Override
 	public void printVariableDefination(OpenMPStatement n, SourcePrinter printer, String prefix) {
 		if (null == prefix) {
 			prefix = "";
 		}
 		HashMap<String, String> args = this.getArgsTypes(n);
-		for (String varName: args.keySet()) {
+		for (Expression v: this.argumentMap.keySet()) {
+			String varName = v.toString();
 			String varType = args.get(varName);
 			printer.printLn("public " + varType + " " + prefix + varName + ";");
+			if (this.isArrayReduction(v, varType)) {
+				printer.printLn("public int " + prefix + varName + "_lower;");
+				printer.printLn("public int " + prefix + varName + "_length;");
+			}
+			if (this.locations.containsKey(v)) {
+				String location = this.locations.get(v).toString();
+				printer.printLn("public " + args.get(location) + " " + prefix + location + ";");
+			}
 		}
 		
 	}
@@ -85,9 +169,34 @@ public class OmpReductionDataClause extends OmpDataClause{
 			right_prefix = "";
 		}
 		HashMap<String, String> args = this.getArgsTypes(n);
-		for (String varName: args.keySet()) {
+		for (Expression v: this.argumentMap.keySet()) {
+			String varName = v.toString();
 			String varType = args.get(varName);
-			printer.printLn("public " + varType + " " + left_prefix + varName + " = " + right_prefix + varName + ";");
+			String operator = this.argumentMap.get(v).getOperatorString();
+			if (this.isArrayReduction(v, varType)) {
+				//every thread reduces into a private copy of the section
+				String section = right_prefix + varName;
+				printer.printLn("public " + varType + " " + left_prefix + varName + " = ReductionSlot.partialSection("
+						+ section + ", " + section + "_lower, " + section + "_length, ReductionSlot."
+						+ DataClauseHandlerUtils.getArrayReductionOperator(varType, operator) + ");");
+				continue;
+			}
+			if (this.locations.containsKey(v)) {
+				String location = this.locations.get(v).toString();
+				String locationType = args.get(location);
+				printer.printLn("public " + locationType + " " + left_prefix + location + " = " + DataClauseHandlerUtils.getLocationIdentity(locationType) + ";");
+			}
+			String identity = DataClauseHandlerUtils.isPrimitiveReductionOperator(operator) ? DataClauseHandlerUtils.getReductionIdentity(varType, operator)
+					: DataClauseHandlerUtils.isCollectionOperator(operator) ? DataClauseHandlerUtils.getCollectionIdentity(varType, operator) : null;
+			OmpDeclareReduction declared = this.argumentMap.get(v).getDeclaredReduction(varType);
+			if (null != identity) {
+				//the private copies start at the identity, they are combined with the variable at the end
+				printer.printLn("public " + varType + " " + left_prefix + varName + " = " + identity + ";");
+			} else if (null != declared) {
+				declared.printPrivateCopy("public " + varType + " " + left_prefix + varName, left_prefix + varName, right_prefix + varName, printer);
+			} else {
+				printer.printLn("public " + varType + " " + left_prefix + varName + " = " + right_prefix + varName + ";");
+			}
 		}
 	}
 		
@@ -95,7 +204,7 @@ public class OmpReductionDataClause extends OmpDataClause{
 		HashMap<String, String> varTypes = new HashMap<String, String>();
 		ScopeInfo scope = n.scope;
 		LinkedList<Symbol> symbols = scope.getAllReachableSymbols();
-		for (Expression v: this.argumentMap.keySet()) {
+		for (Expression v: this.getVariables()) {
 			String varName = v.toString();
 			boolean findVarName = false;
 			for (Symbol s: symbols) {
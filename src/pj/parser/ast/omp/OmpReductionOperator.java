@@ -22,6 +22,9 @@
 
 package pj.parser.ast.omp;
 
+import java.util.Map;
+
+import pj.parser.ast.expr.Expression;
 import pj.parser.ast.expr.NameExpr;
 import pj.parser.ast.visitor.GenericVisitor;
 import pj.parser.ast.visitor.VoidVisitor;
@@ -38,6 +41,28 @@ import pj.parser.ast.visitor.VoidVisitor;
  * ^ 0
  * && 1
  * || 0
+ * min    largest value of the type
+ * max    smallest value of the type
+ * minloc largest value of the type, at the largest location
+ * maxloc smallest value of the type, at the largest location
+ * concat    empty list
+ * union     empty set
+ * merge(f)  empty map
+ *
+ * minloc and maxloc reduce a value together with its location, the index
+ * variable named after the value variable, e.g. reduction(maxloc: best, at).
+ * Of equal values the one at the smaller location wins.
+ *
+ * concat, union and merge reduce java.util collections. concat appends the
+ * lists of the threads of a region in the order of the threads, and the lists
+ * of a loop in the order of the chunks they were filled by, which keeps the
+ * order of the iterations under any schedule. merge(f) puts
+ * the entries of the maps, the values of a key in more than one map are
+ * reduced by f, a pi.reductions.Reduction of the value type.
+ *
+ * Other names are user defined reductions, declared by a declare reduction
+ * directive of the compilation unit for the type of the variable, or else
+ * the name of a method combining two values.
  * 
  * However, not all operations are valid in the object
  * oriented context, where the variable types are 
@@ -54,10 +79,14 @@ public class OmpReductionOperator extends OpenMPStatement{
 	 * defined in OpenMP 2.5, but they may be crucially
 	 * important operations.
 	 */
-	public static enum Operator { Plus, Mult, Minus, BitAND, BitOR, BitXOR, LogAND, LogOR };
+	public static enum Operator { Plus, Mult, Minus, BitAND, BitOR, BitXOR, LogAND, LogOR, Min, Max, MinLoc, MaxLoc, Concat, Union, Merge };
 	
 	private Operator primitiveOperator = null;
 	private NameExpr userDefinedReduction = null;
+	/* the function reducing the values of a key in more than one map of a merge reduction */
+	private Expression mergeFunction = null;
+	/* the declare reduction directives of the compilation unit, by name and type */
+	private Map<String, OmpDeclareReduction> declaredReductions = null;
 	
 	public OmpReductionOperator(Operator operator) {
 		this.primitiveOperator = operator;
@@ -77,6 +106,71 @@ public class OmpReductionOperator extends OpenMPStatement{
 		this.userDefinedReduction = userDefinedReduction;
 	}
 	
+	/*
+	 * min, max, minloc, maxloc, concat, union and merge are identifiers, they name built-in
+	 * operators rather than user defined reductions.
+	 */
+	public static OmpReductionOperator forName(NameExpr name) {
+		switch (name.toString()) {
+		case "min":
+			return new OmpReductionOperator(Operator.Min);
+		case "max":
+			return new OmpReductionOperator(Operator.Max);
+		case "minloc":
+			return new OmpReductionOperator(Operator.MinLoc);
+		case "maxloc":
+			return new OmpReductionOperator(Operator.MaxLoc);
+		case "concat":
+			return new OmpReductionOperator(Operator.Concat);
+		case "union":
+			return new OmpReductionOperator(Operator.Union);
+		case "merge":
+			return new OmpReductionOperator(Operator.Merge);
+		default:
+			return new OmpReductionOperator(name);
+		}
+	}
+	
+	/*
+	 * minloc and maxloc reduce a value together with its location.
+	 */
+	public boolean isLocation() {
+		return Operator.MinLoc == primitiveOperator || Operator.MaxLoc == primitiveOperator;
+	}
+	
+	public Expression getMergeFunction() {
+		return mergeFunction;
+	}
+	
+	public void setMergeFunction(Expression mergeFunction) {
+		this.mergeFunction = mergeFunction;
+	}
+	
+	public void setDeclaredReductions(Map<String, OmpDeclareReduction> declaredReductions) {
+		this.declaredReductions = declaredReductions;
+	}
+	
+	/*
+	 * Returns the declare reduction directive of a user defined reduction for a type, null if
+	 * the reduction names a method. A name declared for other types only is an error.
+	 */
+	public OmpDeclareReduction getDeclaredReduction(String type) {
+		if (null == userDefinedReduction || null == declaredReductions) {
+			return null;
+		}
+		String name = userDefinedReduction.toString();
+		OmpDeclareReduction declared = declaredReductions.get(OmpDeclareReduction.key(name, type));
+		if (null != declared) {
+			return declared;
+		}
+		for (OmpDeclareReduction d: declaredReductions.values()) {
+			if (d.getName().equals(name)) {
+				throw new RuntimeException("Pyjama: reduction '" + name + "' is not declared for type " + type);
+			}
+		}
+		return null;
+	}
+	
 	public NameExpr getUserDefinedReduction() {
 		return userDefinedReduction;
 	}
@@ -105,6 +199,20 @@ public class OmpReductionOperator extends OpenMPStatement{
 			return "&&";
 		case LogOR:
 			return "||";
+		case Min:
+			return "min";
+		case Max:
+			return "max";
+		case MinLoc:
+			return "minloc";
+		case MaxLoc:
+			return "maxloc";
+		case Concat:
+			return "concat";
+		case Union:
+			return "union";
+		case Merge:
+			return "merge";
 		}
 		throw new RuntimeException("Invalid reduction: " + primitiveOperator);
 	}
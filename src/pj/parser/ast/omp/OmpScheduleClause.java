@@ -28,7 +28,7 @@ import pj.parser.ast.visitor.GenericVisitor;
 import pj.parser.ast.visitor.VoidVisitor;
 
 public class OmpScheduleClause extends Node{
-	public static enum Type { Static, Dynamic, Guided, Runtime, Ordered, Auto };
+	public static enum Type { Static, Dynamic, Guided, Runtime, Ordered, Auto, Steal };
 	
 	private OmpScheduleClause.Type type;
 	private Expression chunkSize;
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.parser.ast.omp;
+
+import java.util.List;
+
+import pj.parser.ast.stmt.Statement;
+import pj.parser.ast.visitor.GenericVisitor;
+import pj.parser.ast.visitor.VoidVisitor;
+
+/*
+ * simd runs its loop in the encountering thread, in a shape the JIT can vectorise. The 
+ * reduction clauses allow the iterations to accumulate into separate partial results.
+ */
+public class OmpSimdConstruct extends OpenMPStatement{
+	
+	private Statement forStmt = null;
+	private List<OmpDataClause> dataClauseList;
+	
+	public OmpSimdConstruct(int beginLine, int beginColumn, int endLine, int endColumn, 
+			Statement forStmt, 
+			List<OmpDataClause> dataClausesList){
+		super(beginLine, beginColumn, endLine, endColumn);
+		this.forStmt = forStmt;
+		this.dataClauseList = dataClausesList;
+	}
+	
+	public OmpSimdConstruct(
+			Statement forStmt, 
+			List<OmpDataClause> dataClausesList){
+		this.forStmt = forStmt;
+		this.dataClauseList = dataClausesList;
+	}
+	
+	public Statement getForStmt() {
+		return this.forStmt;
+	}
+	
+	public List<OmpDataClause> getDataClauseList() {
+		return this.dataClauseList;
+	}
+
+	@Override
+	public <R, A> R accept(GenericVisitor<R, A> v, A arg) {
+		return v.visit(this, arg);
+	}
+
+	@Override
+	public <A> void accept(VoidVisitor<A> v, A arg) {
+		v.visit(this, arg);	
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.parser.ast.omp;
+
+import java.util.List;
+
+import pj.parser.ast.expr.Expression;
+import pj.parser.ast.stmt.Statement;
+import pj.parser.ast.visitor.GenericVisitor;
+import pj.parser.ast.visitor.VoidVisitor;
+
+/*
+ * taskloop splits its loop into chunk tasks, grainsize(n) sets the iterations of a chunk,
+ * num_tasks(n) the number of chunks. The data clauses are those of task, the body is the loop.
+ */
+public class OmpTaskloopConstruct extends OmpTaskConstruct{
+	
+	private Expression grainsize = null;
+	private Expression numTasks = null;
+	
+	public OmpTaskloopConstruct(
+			Statement forStmt, 
+			List<OmpDataClause> dataClausesList, 
+			Expression grainsize,
+			Expression numTasks){
+		super(forStmt, dataClausesList, null);
+		this.grainsize = grainsize;
+		this.numTasks = numTasks;
+	}
+	
+	public OmpTaskloopConstruct(int beginLine, int beginColumn, int endLine, int endColumn, 
+			Statement forStmt, 
+			List<OmpDataClause> dataClausesList, 
+			Expression grainsize,
+			Expression numTasks){
+		super(beginLine, beginColumn, endLine, endColumn, forStmt, dataClausesList, null);
+		this.grainsize = grainsize;
+		this.numTasks = numTasks;
+	}
+	
+	public Statement getForStmt() {
+		return getBody();
+	}
+	
+	public Expression getGrainsize() {
+		return this.grainsize;
+	}
+	
+	public Expression getNumTasks() {
+		return this.numTasks;
+	}
+
+	@Override
+	public <R, A> R accept(GenericVisitor<R, A> v, A arg) {
+		return v.visit(this, arg);
+	}
+
+	@Override
+	public <A> void accept(VoidVisitor<A> v, A arg) {
+		v.visit(this, arg);	
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ *
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.parser.ast.omp;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import pj.parser.ast.Node;
+import pj.parser.ast.body.VariableDeclarator;
+import pj.parser.ast.body.VariableDeclaratorId;
+import pj.parser.ast.expr.AssignExpr;
+import pj.parser.ast.expr.BinaryExpr;
+import pj.parser.ast.expr.ConditionalExpr;
+import pj.parser.ast.expr.EnclosedExpr;
+import pj.parser.ast.expr.Expression;
+import pj.parser.ast.expr.IntegerLiteralExpr;
+import pj.parser.ast.expr.NameExpr;
+import pj.parser.ast.expr.UnaryExpr;
+import pj.parser.ast.expr.VariableDeclarationExpr;
+import pj.parser.ast.stmt.BlockStmt;
+import pj.parser.ast.stmt.ForStmt;
+import pj.parser.ast.stmt.Statement;
+import pj.parser.ast.type.Type;
+import pj.parser.ast.visitor.VoidVisitorAdapter;
+
+/*
+ * tile sizes(s1, ..., sk) blocks the k outermost loops of a perfectly nested loop nest. It is
+ * never part of the AST, the parser replaces it by the blocked nest: k tile loops stepping over
+ * the tiles, around k loops running the iterations of one tile. A loop construct in front of the
+ * tile directive shares out the outermost tile loop, or the tile loops it collapses.
+ *
+ * e.g. //#omp tile sizes(64, 32)
+ *      for (int i = a; i < b; i++)
+ *        for (int j = c; j <= d; j += 2)
+ * becomes
+ *      for (int OMP_tile_i = a; OMP_tile_i < b; OMP_tile_i += (64))
+ *        for (int OMP_tile_j = c; OMP_tile_j <= d; OMP_tile_j += (32) * (2))
+ *          for (int i = OMP_tile_i, OMP_tileEnd_i = (b) - OMP_tile_i < (64) ? (b) : OMP_tile_i + (64); i < OMP_tileEnd_i; i++)
+ *            for (int j = OMP_tile_j, OMP_tileEnd_j = ...; j <= OMP_tileEnd_j; j += 2)
+ * where the remainder tiles at the end of each loop are cut short by the end of the loop.
+ */
+public class OmpTileConstruct {
+
+	private int line;
+	private int column;
+	private Statement forStmt;
+	private List<Expression> sizes;
+
+	/*
+	 * One loop of the tiled nest, counting its declared induction variable up by stride.
+	 */
+	private static class TiledLoop {
+		ForStmt forStmt;
+		Type type;
+		String name;
+		Expression init;
+		Expression bound;
+		boolean inclusive; //<= compare
+		Expression stride; //null for a stride of one
+		Expression step; //iterations of one tile times the stride
+	}
+
+	public OmpTileConstruct(int line, int column, Statement forStmt, List<Expression> sizes) {
+		this.line = line;
+		this.column = column;
+		this.forStmt = forStmt;
+		this.sizes = sizes;
+	}
+
+	public Statement normalisation() {
+		List<TiledLoop> loops = new ArrayList<TiledLoop>();
+		Statement stmt = this.forStmt;
+		for (int level = 0; level < this.sizes.size(); level++) {
+			if (level > 0 && stmt instanceof BlockStmt && null != ((BlockStmt) stmt).getStmts() && 1 == ((BlockStmt) stmt).getStmts().size()) {
+				stmt = ((BlockStmt) stmt).getStmts().get(0);
+			}
+			if (!(stmt instanceof ForStmt)) {
+				throw new RuntimeException("Pyjama Parsing Error: tile sizes with " + this.sizes.size()
+						+ " sizes needs " + this.sizes.size() + " perfectly nested for loops, at line " + this.line + ", column " + this.column);
+			}
+			TiledLoop loop = parseLoop((ForStmt) stmt);
+			Expression size = new EnclosedExpr(this.sizes.get(level));
+			loop.step = (null == loop.stride) ? size : new BinaryExpr(size, new EnclosedExpr(loop.stride), BinaryExpr.Operator.times);
+			for (TiledLoop outer: loops) {
+				if (usesName(loop.init, outer.name) || usesName(loop.bound, outer.name) || usesName(loop.stride, outer.name)) {
+					throw new RuntimeException("Pyjama Parsing Error: the bounds of tiled loop '" + loop.name
+							+ "' depend on the induction variable of loop '" + outer.name + "', at line " + this.line);
+				}
+			}
+			loops.add(loop);
+			stmt = loop.forStmt.getBody();
+		}
+
+		Statement nest = stmt;
+		for (int level = loops.size() - 1; level >= 0; level--) {
+			nest = createTileLoop(loops.get(level), nest);
+		}
+		for (int level = loops.size() - 1; level >= 0; level--) {
+			nest = createTilesLoop(loops.get(level), nest);
+		}
+		return nest;
+	}
+
+	private TiledLoop parseLoop(ForStmt forStmt) {
+		TiledLoop loop = new TiledLoop();
+		loop.forStmt = forStmt;
+		if (null == forStmt.getInit() || 1 != forStmt.getInit().size()
+				|| !(forStmt.getInit().get(0) instanceof VariableDeclarationExpr)
+				|| 1 != ((VariableDeclarationExpr) forStmt.getInit().get(0)).getVars().size()) {
+			throw new RuntimeException("Pyjama Parsing Error: a tiled loop has to declare its induction variable, at line " + forStmt.getBeginLine());
+		}
+		VariableDeclarationExpr declaration = (VariableDeclarationExpr) forStmt.getInit().get(0);
+		VariableDeclarator declarator = declaration.getVars().get(0);
+		loop.type = declaration.getType();
+		loop.name = declarator.getId().getName();
+		loop.init = declarator.getInit();
+
+		if (!(forStmt.getCompare() instanceof BinaryExpr)
+				|| !loop.name.equals(((BinaryExpr) forStmt.getCompare()).getLeft().toString())) {
+			throw new RuntimeException("Pyjama Parsing Error: cannot parse the compare expression of tiled loop '" + loop.name + "'");
+		}
+		BinaryExpr compare = (BinaryExpr) forStmt.getCompare();
+		if (BinaryExpr.Operator.less != compare.getOperator() && BinaryExpr.Operator.lessEquals != compare.getOperator()) {
+			throw new RuntimeException("Pyjama Parsing Error: tiled loop '" + loop.name + "' has to count up to a < or <= bound");
+		}
+		loop.inclusive = BinaryExpr.Operator.lessEquals == compare.getOperator();
+		loop.bound = compare.getRight();
+
+		Expression update = (null != forStmt.getUpdate() && 1 == forStmt.getUpdate().size()) ? forStmt.getUpdate().get(0) : null;
+		if (update instanceof UnaryExpr
+				&& (UnaryExpr.Operator.posIncrement == ((UnaryExpr) update).getOperator() || UnaryExpr.Operator.preIncrement == ((UnaryExpr) update).getOperator())) {
+			loop.stride = null;
+		} else if (update instanceof AssignExpr && AssignExpr.Operator.plus == ((AssignExpr) update).getOperator()) {
+			loop.stride = ((AssignExpr) update).getValue();
+		} else if (update instanceof AssignExpr && AssignExpr.Operator.assign == ((AssignExpr) update).getOperator()
+				&& ((AssignExpr) update).getValue() instanceof BinaryExpr
+				&& BinaryExpr.Operator.plus == ((BinaryExpr) ((AssignExpr) update).getValue()).getOperator()
+				&& loop.name.equals(((BinaryExpr) ((AssignExpr) update).getValue()).getLeft().toString())) {
+			loop.stride = ((BinaryExpr) ((AssignExpr) update).getValue()).getRight();
+		} else {
+			throw new RuntimeException("Pyjama Parsing Error: tiled loop '" + loop.name + "' has to count up by ++, += or = " + loop.name + " +");
+		}
+		return loop;
+	}
+
+	/*
+	 * The loop stepping over the tiles of a loop, from its first iteration on.
+	 */
+	private ForStmt createTilesLoop(TiledLoop loop, Statement body) {
+		String tiles = "OMP_tile_" + loop.name;
+		List<VariableDeclarator> vars = new ArrayList<VariableDeclarator>();
+		vars.add(new VariableDeclarator(new VariableDeclaratorId(tiles), loop.init));
+		List<Expression> init = new ArrayList<Expression>();
+		init.add(new VariableDeclarationExpr(loop.type, vars));
+		Expression compare = new BinaryExpr(new NameExpr(tiles), loop.bound,
+				loop.inclusive ? BinaryExpr.Operator.lessEquals : BinaryExpr.Operator.less);
+		List<Expression> update = new ArrayList<Expression>();
+		update.add(new AssignExpr(new NameExpr(tiles), loop.step, AssignExpr.Operator.plus));
+		ForStmt forStmt = loop.forStmt;
+		return new ForStmt(forStmt.getBeginLine(), forStmt.getBeginColumn(), forStmt.getEndLine(), forStmt.getEndColumn(), init, compare, update, body);
+	}
+
+	/*
+	 * The loop running the iterations of one tile, the tile ends at the loop's bound or after
+	 * step, whichever comes first, without overflowing past the bound.
+	 */
+	private ForStmt createTileLoop(TiledLoop loop, Statement body) {
+		String tiles = "OMP_tile_" + loop.name;
+		String tileEnd = "OMP_tileEnd_" + loop.name;
+		Expression bound = new EnclosedExpr(loop.bound);
+		Expression remaining = new BinaryExpr(bound, new NameExpr(tiles), BinaryExpr.Operator.minus);
+		Expression full = new BinaryExpr(new NameExpr(tiles), loop.step, BinaryExpr.Operator.plus);
+		if (loop.inclusive) {
+			full = new BinaryExpr(full, new IntegerLiteralExpr("1"), BinaryExpr.Operator.minus);
+		}
+		Expression end = new ConditionalExpr(new BinaryExpr(remaining, loop.step, BinaryExpr.Operator.less), bound, full);
+
+		List<VariableDeclarator> vars = new ArrayList<VariableDeclarator>();
+		vars.add(new VariableDeclarator(new VariableDeclaratorId(loop.name), new NameExpr(tiles)));
+		vars.add(new VariableDeclarator(new VariableDeclaratorId(tileEnd), end));
+		List<Expression> init = new ArrayList<Expression>();
+		init.add(new VariableDeclarationExpr(loop.type, vars));
+		Expression compare = new BinaryExpr(new NameExpr(loop.name), new NameExpr(tileEnd),
+				loop.inclusive ? BinaryExpr.Operator.lessEquals : BinaryExpr.Operator.less);
+		ForStmt forStmt = loop.forStmt;
+		return new ForStmt(forStmt.getBeginLine(), forStmt.getBeginColumn(), forStmt.getEndLine(), forStmt.getEndColumn(), init, compare, forStmt.getUpdate(), body);
+	}
+
+	private static boolean usesName(Node code, String name) {
+		if (null == code) {
+			return false;
+		}
+		final Set<String> names = new HashSet<String>();
+		code.accept(new VoidVisitorAdapter<Object>() {
+			@Override
+			public void visit(NameExpr n, Object arg) {
+				names.add(n.getName());
+			}
+		}, null);
+		return names.contains(name);
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package pj.parser.ast.visitor;
+
+import java.util.Collections;
+import java.util.List;
+
+import pj.parser.ast.omp.OmpBarrierDirective;
+import pj.parser.ast.omp.OmpDataClause;
+import pj.parser.ast.omp.OmpForConstruct;
+import pj.parser.ast.omp.OmpGuiConstruct;
+import pj.parser.ast.omp.OmpParallelConstruct;
+import pj.parser.ast.omp.OmpTargetConstruct;
+import pj.parser.ast.stmt.BlockStmt;
+import pj.parser.ast.stmt.EmptyStmt;
+import pj.parser.ast.stmt.Statement;
+
+/**
+ * Barrier analysis of one parallel region. It marks the barriers of worksharing
+ * loops and barrier directives that are provably redundant, the marks are read by
+ * WorkShareBlockBuilder and PyjamaToJavaVisitor when the code is generated.
+ * 
+ * A barrier is redundant if another barrier follows it with no code in between that
+ * touches shared state, e.g. the implicit barrier of an omp for that is the last
+ * statement of the region (the region ends with PjRuntime.taskWait()). The entry
+ * barrier of an omp for is only needed if a redeclared private copy is initialised
+ * from a shared variable that a faster thread may write meanwhile. Ordered loops need
+ * neither barrier for their order cursor, it lives in the loop's slot of the team's
+ * work-share ring, which is reset by the last thread leaving the loop.
+ * 
+ * Nested parallel regions, tasks, target and gui blocks are analysed on their own.
+ *
+ */
+public class BarrierEliminationVisitor extends VoidVisitorAdapter<Object> {
+	
+	private int removedBarrierCount = 0;
+	
+	private BarrierEliminationVisitor() {
+	}
+	
+	/*
+	 * Analyse the region and mark its redundant barriers, returns how many barriers
+	 * the generated code of the region saves.
+	 */
+	public static int eliminate(OmpParallelConstruct region) {
+		BarrierEliminationVisitor visitor = new BarrierEliminationVisitor();
+		Statement body = region.getBody();
+		List<Statement> regionStmts;
+		if (body instanceof BlockStmt) {
+			regionStmts = ((BlockStmt) body).getStmts();
+		} else {
+			regionStmts = Collections.singletonList(body);
+		}
+		if (null == regionStmts) {
+			return 0;
+		}
+		//the region ends with a barrier
+		visitor.scanStatements(regionStmts, true);
+		for (Statement stmt: regionStmts) {
+			stmt.accept(visitor, null);
+		}
+		return visitor.removedBarrierCount;
+	}
+	
+	/*
+	 * Scan a statement sequence backwards, tracking whether a barrier follows the
+	 * current statement with nothing in between.
+	 */
+	private void scanStatements(List<Statement> stmts, boolean barrierFollows) {
+		for (int i = stmts.size() - 1; i >= 0; i--) {
+			Statement stmt = stmts.get(i);
+			if (stmt instanceof OmpForConstruct) {
+				OmpForConstruct forConstruct = (OmpForConstruct) stmt;
+				forConstruct.entryBarrierRequired = requiresEntryBarrier(forConstruct);
+				if (!forConstruct.entryBarrierRequired) {
+					this.removedBarrierCount++;
+				}
+				//the former order cursor reset barrier
+				this.removedBarrierCount++;
+				forConstruct.endBarrierRequired = !barrierFollows;
+				if (!forConstruct.isNowait() && !forConstruct.endBarrierRequired) {
+					this.removedBarrierCount++;
+				}
+				//an entry barrier comes after the private copies have read the shared variables
+				barrierFollows = false;
+			} else if (stmt instanceof OmpBarrierDirective) {
+				OmpBarrierDirective barrier = (OmpBarrierDirective) stmt;
+				barrier.redundant = barrierFollows;
+				if (barrier.redundant) {
+					this.removedBarrierCount++;
+				}
+				barrierFollows = true;
+			} else if (!(stmt instanceof EmptyStmt)) {
+				barrierFollows = false;
+			}
+		}
+	}
+	
+	private static boolean hasDataClause(OmpForConstruct forConstruct, OmpDataClause.Type type) {
+		if (null == forConstruct.getDataClauseList()) {
+			return false;
+		}
+		for (OmpDataClause dataClause: forConstruct.getDataClauseList()) {
+			if (type == dataClause.DataClauseType()) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/*
+	 * Private and reduction copies are initialised from the shared variable. A reduction
+	 * variable is written back by the first thread finishing the loop, a private one by
+	 * code after a nowait loop.
+	 */
+	private static boolean requiresEntryBarrier(OmpForConstruct forConstruct) {
+		return hasDataClause(forConstruct, OmpDataClause.Type.Reduction)
+			|| (hasDataClause(forConstruct, OmpDataClause.Type.Private) && forConstruct.isNowait());
+	}
+	
+	@Override
+	public void visit(BlockStmt n, Object arg) {
+		if (null != n.getStmts()) {
+			//nothing is known about the code after a nested block
+			scanStatements(n.getStmts(), false);
+		}
+		super.visit(n, arg);
+	}
+	
+	@Override
+	public void visit(OmpParallelConstruct n, Object arg) {
+		//a nested region is analysed when it is translated
+	}
+	
+	@Override
+	public void visit(OmpTargetConstruct n, Object arg) {
+	}
+	
+	@Override
+	public void visit(OmpGuiConstruct n, Object arg) {
+	}
+}
@@ -131,9 +131,11 @@ import pj.parser.ast.omp.OmpScheduleClause;
 import pj.parser.ast.omp.OmpSectionConstruct;
 import pj.parser.ast.omp.OmpSectionsConstruct;
 import pj.parser.ast.omp.OmpSharedDataClause;
+import pj.parser.ast.omp.OmpSimdConstruct;
 import pj.parser.ast.omp.OmpSingleConstruct;
 import pj.parser.ast.omp.OmpTargetConstruct;
 import pj.parser.ast.omp.OmpTaskConstruct;
+import pj.parser.ast.omp.OmpTaskloopConstruct;
 import pj.parser.ast.omp.OmpTaskcancelDirective;
 import pj.parser.ast.omp.OmpTaskwaitDirective;
 import pj.parser.ast.omp.OpenMPStatement;
@@ -1432,6 +1434,8 @@ public final class DumpVisitor implements VoidVisitor<Object> {
 	@Override
 	public void visit(OmpForConstruct n, Object arg) {
 		printer.print("//#omp for ");
+		if (n.isSimd())
+			printer.print("simd ");
 		if (n.getDataClauseList() != null) {
 			for (OmpDataClause dataClause: n.getDataClauseList()) {
 				dataClause.accept(this, arg);
@@ -1443,6 +1447,12 @@ public final class DumpVisitor implements VoidVisitor<Object> {
 			printer.print("nowait ");
 		if (n.isOrdered())
 			printer.print("ordered ");
+		if (n.getCollapse() > 1)
+			printer.print("collapse(" + n.getCollapse() + ") ");
+		if (n.isStream())
+			printer.print("stream ");
+		if (null != n.getBatch())
+			printer.print("batch(" + n.getBatch() + ") ");
 		printer.printLn();
 		n.getForStmt().accept(this, arg);
 	}
@@ -1566,6 +1576,17 @@ public final class DumpVisitor implements VoidVisitor<Object> {
 			n.getArgumentMap().get(var).accept(this, arg);
 			printer.print(":");
 			var.accept(this, arg);
+			if (null != n.getSection(var)) {
+				printer.print("[");
+				n.getSection(var)[0].accept(this, arg);
+				printer.print(":");
+				n.getSection(var)[1].accept(this, arg);
+				printer.print("]");
+			}
+			if (null != n.getLocation(var)) {
+				printer.print(", ");
+				n.getLocation(var).accept(this, arg);
+			}
 			if (varIter.hasNext())
 				printer.print(", ");
 		}
@@ -1578,6 +1599,11 @@ public final class DumpVisitor implements VoidVisitor<Object> {
 			printer.print(n.getUserDefinedReduction().toString());
 		} else {
 			printer.print(n.getOperatorString());
+			if (null != n.getMergeFunction()) {
+				printer.print("(");
+				n.getMergeFunction().accept(this, arg);
+				printer.print(")");
+			}
 		}
 	}
 
@@ -1601,6 +1627,9 @@ public final class DumpVisitor implements VoidVisitor<Object> {
 		case Auto:
 			printer.print("auto");
 			break;
+		case Steal:
+			printer.print("steal");
+			break;
 		default:
 			throw new RuntimeException("Unexpected schedule type.");
 		}
@@ -1823,6 +1852,40 @@ public final class DumpVisitor implements VoidVisitor<Object> {
 		
 	}
 
+	@Override
+	public void visit(OmpTaskloopConstruct n, Object arg) {
+		printer.print("//#omp taskloop ");
+		if (n.getGrainsize() != null) {
+			printer.print("grainsize(");
+			n.getGrainsize().accept(this, arg);
+			printer.print(") ");
+		}
+		if (n.getNumTasks() != null) {
+			printer.print("num_tasks(");
+			n.getNumTasks().accept(this, arg);
+			printer.print(") ");
+		}
+		if (n.getDataClauseList() != null) {
+			for (OmpDataClause clause: n.getDataClauseList()) {
+				clause.accept(this, arg);
+			}
+		}
+		printer.printLn();
+		n.getForStmt().accept(this, arg);
+	}
+
+	@Override
+	public void visit(OmpSimdConstruct n, Object arg) {
+		printer.print("//#omp simd ");
+		if (n.getDataClauseList() != null) {
+			for (OmpDataClause dataClause: n.getDataClauseList()) {
+				dataClause.accept(this, arg);
+			}
+		}
+		printer.printLn();
+		n.getForStmt().accept(this, arg);
+	}
+
 	@Override
 	public void visit(OmpTaskwaitDirective n, Object arg) {
 		printer.print("//#omp taskwait ");
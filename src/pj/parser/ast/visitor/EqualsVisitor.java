@@ -109,9 +109,11 @@ import pj.parser.ast.omp.OmpScheduleClause;
 import pj.parser.ast.omp.OmpSectionConstruct;
 import pj.parser.ast.omp.OmpSectionsConstruct;
 import pj.parser.ast.omp.OmpSharedDataClause;
+import pj.parser.ast.omp.OmpSimdConstruct;
 import pj.parser.ast.omp.OmpSingleConstruct;
 import pj.parser.ast.omp.OmpTargetConstruct;
 import pj.parser.ast.omp.OmpTaskConstruct;
+import pj.parser.ast.omp.OmpTaskloopConstruct;
 import pj.parser.ast.omp.OmpTaskcancelDirective;
 import pj.parser.ast.omp.OmpTaskwaitDirective;
 import pj.parser.ast.omp.OpenMPStatement;
@@ -1602,6 +1604,18 @@ public class EqualsVisitor implements GenericVisitor<Boolean, Node> {
 		return null;
 	}
 
+	@Override
+	public Boolean visit(OmpTaskloopConstruct n, Node arg) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
+	@Override
+	public Boolean visit(OmpSimdConstruct n, Node arg) {
+		// TODO Auto-generated method stub
+		return null;
+	}
+
 	@Override
 	public Boolean visit(OmpTaskwaitDirective n, Node arg) {
 		// TODO Auto-generated method stub
@@ -126,9 +126,11 @@ import pj.parser.ast.omp.OmpScheduleClause;
 import pj.parser.ast.omp.OmpSectionConstruct;
 import pj.parser.ast.omp.OmpSectionsConstruct;
 import pj.parser.ast.omp.OmpSharedDataClause;
+import pj.parser.ast.omp.OmpSimdConstruct;
 import pj.parser.ast.omp.OmpSingleConstruct;
 import pj.parser.ast.omp.OmpTargetConstruct;
 import pj.parser.ast.omp.OmpTaskConstruct;
+import pj.parser.ast.omp.OmpTaskloopConstruct;
 import pj.parser.ast.omp.OmpTaskcancelDirective;
 import pj.parser.ast.omp.OmpTaskwaitDirective;
 import pj.parser.ast.omp.OpenMPStatement;
@@ -404,6 +406,10 @@ public interface GenericVisitor<R, A> {
     
     public R visit(OmpTaskConstruct n, A arg);
     
+    public R visit(OmpTaskloopConstruct n, A arg);
+    
+    public R visit(OmpSimdConstruct n, A arg);
+    
     public R visit(OmpTaskwaitDirective n, A arg);
         
 }
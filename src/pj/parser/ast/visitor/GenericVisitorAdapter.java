@@ -132,9 +132,11 @@ import pj.parser.ast.omp.OmpScheduleClause;
 import pj.parser.ast.omp.OmpSectionConstruct;
 import pj.parser.ast.omp.OmpSectionsConstruct;
 import pj.parser.ast.omp.OmpSharedDataClause;
+import pj.parser.ast.omp.OmpSimdConstruct;
 import pj.parser.ast.omp.OmpSingleConstruct;
 import pj.parser.ast.omp.OmpTargetConstruct;
 import pj.parser.ast.omp.OmpTaskConstruct;
+import pj.parser.ast.omp.OmpTaskloopConstruct;
 import pj.parser.ast.omp.OmpTaskcancelDirective;
 import pj.parser.ast.omp.OmpTaskwaitDirective;
 import pj.parser.ast.omp.OpenMPStatement;
@@ -1016,11 +1018,21 @@ public abstract class GenericVisitorAdapter<R, A> implements GenericVisitor<R, A
 			Expression var = varIter.next();
 			n.getArgumentMap().get(var).accept(this, arg);
 			var.accept(this, arg);
+			if (null != n.getSection(var)) {
+				n.getSection(var)[0].accept(this, arg);
+				n.getSection(var)[1].accept(this, arg);
+			}
+			if (null != n.getLocation(var)) {
+				n.getLocation(var).accept(this, arg);
+			}
 		}
 		return null;
 	}
 	
 	public R visit(OmpReductionOperator n, A arg) {
+		if (n.getMergeFunction() != null) {
+			n.getMergeFunction().accept(this, arg);
+		}
 		return null;
 	}
 
@@ -1106,6 +1118,20 @@ public abstract class GenericVisitorAdapter<R, A> implements GenericVisitor<R, A
     	return null;
     }
     
+    public R visit(OmpTaskloopConstruct n, A arg) {
+    	return null;
+    }
+    
+    public R visit(OmpSimdConstruct n, A arg) {
+		if (n.getDataClauseList() != null) {
+			for (OmpDataClause dataClause: n.getDataClauseList()) {
+				dataClause.accept(this, arg);
+			}
+		}
+		n.getForStmt().accept(this, arg);
+		return null;
+    }
+    
     public R visit(OmpTaskwaitDirective n, A arg) {
     	return null;
     }
@@ -56,9 +56,12 @@ public class PyjamaToJavaVisitor implements VoidVisitor<SourcePrinter> {
 	static protected int nextTaskBlockID = 0;
 	static protected int nextWorkShareID = 0;
 	static protected int nextGuiCodeID = 0;
+	//qualified name of the compilation unit being translated, names runtime state of its constructs(e.g. adaptive schedules)
+	static protected String currentCompilationUnitName = "";
 	protected static final String prefixTaskNameForParallelRegion = "_OMP_ParallelRegion_";
 	protected static final String prefixTaskNameForTargetTaskRegion = "_OMP_TargetTaskRegion_";
 	protected static final String prefixTaskNameForTaskRegion = "_OMP_TaskRegion_";
+	protected static final String prefixTaskNameForTaskloopRegion = "_OMP_TaskloopRegion_";
 	protected static final String prefixTaskNameForWorkShare = "_OMP_WorkShare_";
 	protected static final String prefixTaskNameForGuiCode = "_OMP_GuiCode_";
 	
@@ -105,6 +108,10 @@ public class PyjamaToJavaVisitor implements VoidVisitor<SourcePrinter> {
 		return symbolTable;
 	}
 	
+	public String getCompilationUnitName() {
+		return currentCompilationUnitName;
+	}
+	
 	public Stack<Boolean> getVisitingModeTrack() {
 		return this.stateMachineVisitingMode;
 	}
@@ -129,10 +136,14 @@ public class PyjamaToJavaVisitor implements VoidVisitor<SourcePrinter> {
     		uniqueOpenMPRegionID = OpenMPStatementIDPairing.get(n);
     	}
 		
+		//must run before the region code is generated
+		int removedBarrierCount = BarrierEliminationVisitor.eliminate(n);
+		
 		ParallelRegionClassBuilder currentPRClass = ParallelRegionClassBuilder.create(n, this.currentMethodIsStatic, this, this.currentMethodOrConstructorStmts);
 		currentPRClass.className = prefixTaskNameForParallelRegion + uniqueOpenMPRegionID;
 		
 		printer.printLn("/*OpenMP Parallel region (#" + uniqueOpenMPRegionID + ") -- START */");
+		printer.printLn("//#barrier elimination: " + removedBarrierCount + " barrier(s) removed");
 
 		this.PrinterForAuxiliaryClasses.printLn(currentPRClass.getSource());
 		
@@ -199,9 +210,6 @@ public class PyjamaToJavaVisitor implements VoidVisitor<SourcePrinter> {
 		
     	//Print Work Share Region
 		printer.printLn(currentWSBlock.getSource());
-		
-		printer.printLn("PjRuntime.setBarrier();");
-		printer.printLn("PjRuntime.reset_OMP_orderCursor();");
 	
     	printer.printLn("/*OpenMP Work Share region (#" + uniqueWorkShareRegionID + ") -- END */");
     }
@@ -234,10 +242,10 @@ public class PyjamaToJavaVisitor implements VoidVisitor<SourcePrinter> {
     	printer.printLn("}");
     }
     public void visit(OmpOrderedConstruct n, SourcePrinter printer){
-    	printer.printLn("while (PjRuntime.get_OMP_orderCursor().get() < OMP_local_iterator) {}");
+    	//the ticket passes on at the end of the chunk, see WorkShareBlockBuilder
+    	printer.printLn("OMP_workShareSlot.ordered.await(OMP_orderedChunkStart);");
     	n.getStatement().accept(this, printer);
     	printer.printLn();
-    	printer.printLn("PjRuntime.get_OMP_orderCursor().incrementAndGet();");
     }
     public void visit(OmpAtomicConstruct n, SourcePrinter printer){
     	//    	throw new RuntimeException("//#omp atomic: This should have been normalised.");
@@ -278,7 +286,42 @@ public class PyjamaToJavaVisitor implements VoidVisitor<SourcePrinter> {
     	this.PrinterForAuxiliaryClasses.printLn(currentTClass.getSource());
 	}
 	
+	public void visit(OmpTaskloopConstruct n, SourcePrinter printer) {
+		
+		//get current OmpTaskloopConstruct's scope info from symbolTable
+		n.scope = this.symbolTable.getScopeOfNode(n);
+		n.processAllReachableVariablesIfNecessary();
+		
+		int uniqueTaskBlockID = -1;
+		if (OpenMPStatementIDPairing.get(n) == null) {
+			uniqueTaskBlockID = nextTaskBlockID++;
+			OpenMPStatementIDPairing.put(n, uniqueTaskBlockID);
+		} else {
+			uniqueTaskBlockID = OpenMPStatementIDPairing.get(n);
+		}
+		
+		TaskloopCodeClassBuilder currentTClass = TaskloopCodeClassBuilder.create(n, this.currentMethodIsStatic, this, prefixTaskNameForTaskloopRegion + uniqueTaskBlockID);
+		printer.printLn("/*OpenMP Taskloop block (#" + uniqueTaskBlockID + ") -- START */");
+		currentTClass.printTaskCreation(printer);
+		printer.printLn("/*OpenMP Taskloop block (#" + uniqueTaskBlockID + ") -- END */");
+		
+		this.PrinterForAuxiliaryClasses.printLn(currentTClass.getSource());
+	}
+	
+	public void visit(OmpSimdConstruct n, SourcePrinter printer) {
+		//get current OmpSimdConstruct's scope info from symbolTable, the reduction variables are looked up in it
+		n.scope = this.symbolTable.getScopeOfNode(n);
+		
+		printer.printLn("/*OpenMP simd loop -- START */");
+		SimdLoopBuilder.printSimdConstruct(n, this, printer);
+		printer.printLn("/*OpenMP simd loop -- END */");
+	}
+	
     public void visit(OmpBarrierDirective n, SourcePrinter printer){
+    	if (n.redundant) {
+    		printer.printLn("//#barrier eliminated, the next barrier follows directly");
+    		return;
+    	}
     	printer.printLn("PjRuntime.setBarrier();");
     }
     public void visit(OmpFlushDirective n, SourcePrinter printer){
@@ -589,6 +632,13 @@ public class PyjamaToJavaVisitor implements VoidVisitor<SourcePrinter> {
 	   public void visit(CompilationUnit n, SourcePrinter printer) {
 		   //print the compiler information at the beginning of the file.
 		   this.CodePrinter.printLn("//Pyjama compiler version:" + pj.Version.getCompilerVersion());
+		   currentCompilationUnitName = "";
+		   if (n.getPackage() != null) {
+			   currentCompilationUnitName = n.getPackage().getName().toString() + ".";
+		   }
+		   if (n.getTypes() != null && !n.getTypes().isEmpty()) {
+			   currentCompilationUnitName += n.getTypes().get(0).getName();
+		   }
 	        if (n.getPackage() != null) {
 	            n.getPackage().accept(this, this.CodePrinter);
 	        }
@@ -43,8 +43,10 @@ import pj.parser.ast.omp.OmpForConstruct;
 import pj.parser.ast.omp.OmpGuiConstruct;
 import pj.parser.ast.omp.OmpNeglectExceptionClause;
 import pj.parser.ast.omp.OmpParallelConstruct;
+import pj.parser.ast.omp.OmpSimdConstruct;
 import pj.parser.ast.omp.OmpTargetConstruct;
 import pj.parser.ast.omp.OmpTaskConstruct;
+import pj.parser.ast.omp.OmpTaskloopConstruct;
 import pj.parser.ast.omp.OmpTaskwaitDirective;
 import pj.parser.ast.stmt.CatchClause;
 import pj.parser.ast.stmt.ForStmt;
@@ -481,6 +483,24 @@ public class SymbolScopingVisitor extends GenericVisitorAdapter<String,Object>{
 		return null;
 	}
 	
+	public String visit(OmpTaskloopConstruct n, Object arg) {
+		this.symbolTable.enterNewScope(n, "OmpTaskloop", ScopeInfo.Type.OpenMPConstructScope);
+		if (n.getBody() != null) {
+            n.getBody().accept(this, arg);
+        }
+        this.symbolTable.exitScope();
+		return null;
+	}
+	
+	public String visit(OmpSimdConstruct n, Object arg) {
+		this.symbolTable.enterNewScope(n, "OmpSimd", ScopeInfo.Type.OpenMPConstructScope);
+		if (n.getForStmt() != null) {
+			n.getForStmt().accept(this, arg);
+        }
+        this.symbolTable.exitScope();
+        return null;
+	}
+	
 	public String visit(OmpTaskwaitDirective n, Object arg) {
 		return null;
 	}
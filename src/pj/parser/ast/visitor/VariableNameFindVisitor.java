@@ -111,9 +111,11 @@ import pj.parser.ast.omp.OmpScheduleClause;
 import pj.parser.ast.omp.OmpSectionConstruct;
 import pj.parser.ast.omp.OmpSectionsConstruct;
 import pj.parser.ast.omp.OmpSharedDataClause;
+import pj.parser.ast.omp.OmpSimdConstruct;
 import pj.parser.ast.omp.OmpSingleConstruct;
 import pj.parser.ast.omp.OmpTargetConstruct;
 import pj.parser.ast.omp.OmpTaskConstruct;
+import pj.parser.ast.omp.OmpTaskloopConstruct;
 import pj.parser.ast.omp.OmpTaskcancelDirective;
 import pj.parser.ast.omp.OmpTaskwaitDirective;
 import pj.parser.ast.omp.OpenMPStatement;
@@ -1001,6 +1003,18 @@ public class VariableNameFindVisitor implements VoidVisitor<Object> {
 		
 	}
 
+	@Override
+	public void visit(OmpTaskloopConstruct n, Object arg) {
+		// TODO Auto-generated method stub
+		
+	}
+
+	@Override
+	public void visit(OmpSimdConstruct n, Object arg) {
+		// TODO Auto-generated method stub
+		
+	}
+
 	@Override
 	public void visit(OmpTaskwaitDirective n, Object arg) {
 		// TODO Auto-generated method stub
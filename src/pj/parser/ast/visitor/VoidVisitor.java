@@ -368,6 +368,10 @@ public interface VoidVisitor<A> {
     
     public void visit(OmpTaskConstruct n, A arg);
     
+    public void visit(OmpTaskloopConstruct n, A arg);
+    
+    public void visit(OmpSimdConstruct n, A arg);
+    
     public void visit(OmpTaskwaitDirective n, A arg);
             
 }
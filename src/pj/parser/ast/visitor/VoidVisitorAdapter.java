@@ -132,9 +132,11 @@ import pj.parser.ast.omp.OmpScheduleClause;
 import pj.parser.ast.omp.OmpSectionConstruct;
 import pj.parser.ast.omp.OmpSectionsConstruct;
 import pj.parser.ast.omp.OmpSharedDataClause;
+import pj.parser.ast.omp.OmpSimdConstruct;
 import pj.parser.ast.omp.OmpSingleConstruct;
 import pj.parser.ast.omp.OmpTargetConstruct;
 import pj.parser.ast.omp.OmpTaskConstruct;
+import pj.parser.ast.omp.OmpTaskloopConstruct;
 import pj.parser.ast.omp.OmpTaskcancelDirective;
 import pj.parser.ast.omp.OmpTaskwaitDirective;
 import pj.parser.ast.omp.OpenMPStatement;
@@ -919,10 +921,20 @@ public abstract class VoidVisitorAdapter<A> implements VoidVisitor<A> {
 			Expression var = varIter.next();
 			n.getArgumentMap().get(var).accept(this, arg);
 			var.accept(this, arg);
+			if (null != n.getSection(var)) {
+				n.getSection(var)[0].accept(this, arg);
+				n.getSection(var)[1].accept(this, arg);
+			}
+			if (null != n.getLocation(var)) {
+				n.getLocation(var).accept(this, arg);
+			}
 		}
 	}
 	
 	public void visit(OmpReductionOperator n, A arg) {
+		if (n.getMergeFunction() != null) {
+			n.getMergeFunction().accept(this, arg);
+		}
 	}
 
 	public void visit(OmpScheduleClause n, A arg) {
@@ -985,6 +997,18 @@ public abstract class VoidVisitorAdapter<A> implements VoidVisitor<A> {
     public void visit(OmpTaskConstruct n, A arg) {
     }
     
+    public void visit(OmpTaskloopConstruct n, A arg) {
+    }
+    
+    public void visit(OmpSimdConstruct n, A arg) {
+		if (n.getDataClauseList() != null) {
+			for (OmpDataClause dataClause: n.getDataClauseList()) {
+				dataClause.accept(this, arg);
+			}
+		}
+		n.getForStmt().accept(this, arg);
+    }
+    
     public void visit(OmpTaskwaitDirective n, A arg) {
     }
     
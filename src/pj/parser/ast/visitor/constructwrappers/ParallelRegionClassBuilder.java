@@ -147,8 +147,6 @@ public class ParallelRegionClassBuilder extends ConstructWrapper  {
 		printer.printLn("private int OMP_threadNumber = 1;");
 		printer.printLn("private InternalControlVariables icv;");
 		printer.printLn("private ReentrantLock OMP_lock;");
-		printer.printLn("private Object OMP_reduction_lock = new Object();");
-		printer.printLn("private ParIterator<?> OMP__ParIteratorCreator;");
 		printer.printLn("public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);");
 		printer.printLn();
 		//#BEGIN variables defined here
@@ -180,6 +178,7 @@ public class ParallelRegionClassBuilder extends ConstructWrapper  {
 		printer.printLn("}");
 		printer.printLn("icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;");
 		printer.printLn("icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);");
+		printer.printLn("icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);");
 		printer.unindent();
 		printer.printLn("}");
 		printer.printLn();
@@ -219,11 +218,15 @@ public class ParallelRegionClassBuilder extends ConstructWrapper  {
 		printer.printLn("/****User Code END***/");
 		//BEGIN reduction procedure
 		printer.printLn("//BEGIN reduction procedure");
-		DataClausesHandler.reductionForPRClass(this, printer);
+		boolean reduction = DataClausesHandler.reductionForPRClass(this, printer);
 		printer.printLn("//END reduction procedure");
 		//END reduction procedure
-		printer.printLn("//There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();");
-		printer.printLn("PjRuntime.taskWait();");
+		if (reduction) {
+			printer.printLn("//The barrier inside PjRuntime.taskWait(OMP_reductionSlot) combined the reductions");
+		} else {
+			printer.printLn("//There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();");
+			printer.printLn("PjRuntime.taskWait();");
+		}
 		//BEGIN Master thread updateOutputList
 		printer.unindent();
 		printer.printLn("} catch (OmpParallelRegionLocalCancellationException e) {");
@@ -0,0 +1,454 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ *
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.parser.ast.visitor.constructwrappers;
+/**
+ * This prints the loops of <code>simd</code> and <code>for simd</code>
+ * constructs.
+ *
+ * The loop runs over an int induction variable with stride one and nothing
+ * but the user code in its body, the shape the JIT vectorises element-wise
+ * loops in. A body that only accumulates into reduction variables is unrolled
+ * by LANES instead, each unrolled iteration accumulating into a partial result
+ * of its own, so the iterations no longer wait on each other's additions. The
+ * partial results are combined into the reduction variables after the loop.
+ */
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import pj.parser.ast.Node;
+import pj.parser.ast.body.VariableDeclarator;
+import pj.parser.ast.expr.AssignExpr;
+import pj.parser.ast.expr.BinaryExpr;
+import pj.parser.ast.expr.Expression;
+import pj.parser.ast.expr.IntegerLiteralExpr;
+import pj.parser.ast.expr.NameExpr;
+import pj.parser.ast.expr.UnaryExpr;
+import pj.parser.ast.expr.VariableDeclarationExpr;
+import pj.parser.ast.omp.OmpDataClause;
+import pj.parser.ast.omp.OmpReductionDataClause;
+import pj.parser.ast.omp.OmpSimdConstruct;
+import pj.parser.ast.stmt.BlockStmt;
+import pj.parser.ast.stmt.BreakStmt;
+import pj.parser.ast.stmt.ContinueStmt;
+import pj.parser.ast.stmt.ExpressionStmt;
+import pj.parser.ast.stmt.ForStmt;
+import pj.parser.ast.stmt.ReturnStmt;
+import pj.parser.ast.stmt.Statement;
+import pj.parser.ast.symbolscope.Symbol;
+import pj.parser.ast.visitor.PyjamaToJavaVisitor;
+import pj.parser.ast.visitor.SourcePrinter;
+import pj.parser.ast.visitor.VoidVisitorAdapter;
+
+public class SimdLoopBuilder {
+
+	public static final int LANES = 4;
+
+	private PyjamaToJavaVisitor visitor;
+	private Expression identifier;
+	private Statement forBody;
+	private Map<String, String> reductionTypes; //type of each reduction variable, by its name in the loop body
+
+	private List<Statement> bodyStmts = new ArrayList<Statement>();
+	//the reduction variables the body accumulates into, with the operator combining their partial results
+	private LinkedHashMap<String, AssignExpr.Operator> accumulators = null;
+
+	public SimdLoopBuilder(PyjamaToJavaVisitor visitor, Expression identifier, Statement forBody, Map<String, String> reductionTypes) {
+		this.visitor = visitor;
+		this.identifier = identifier;
+		this.forBody = forBody;
+		this.reductionTypes = reductionTypes;
+		if (forBody instanceof BlockStmt) {
+			if (null != ((BlockStmt) forBody).getStmts()) {
+				this.bodyStmts.addAll(((BlockStmt) forBody).getStmts());
+			}
+		} else {
+			this.bodyStmts.add(forBody);
+		}
+		this.accumulators = findAccumulators();
+	}
+
+	/*
+	 * Prints the loop from first while the induction variable is less than bound, or less or equal
+	 * when inclusive. The induction variable has to be declared already, it ends as the for-loop
+	 * would leave it.
+	 */
+	public void printLoop(SourcePrinter printer, String first, String bound, boolean inclusive) {
+		String compare = inclusive ? " <= " : " < ";
+		printer.printLn("{");
+		printer.indent();
+		printer.printLn("final int OMP_simdFirst = " + first + ";");
+		printer.printLn("final int OMP_simdBound = " + bound + ";");
+		if (null == this.accumulators) {
+			printer.printLn("for (" + identifier + " = OMP_simdFirst; " + identifier + compare + "OMP_simdBound; " + identifier + "++) {");
+			printer.indent();
+			printBody(printer, 0);
+			printer.unindent();
+			printer.printLn("}");
+		} else {
+			for (String var: this.accumulators.keySet()) {
+				String identity = getIdentity(this.reductionTypes.get(var), this.accumulators.get(var));
+				StringBuilder declaration = new StringBuilder(this.reductionTypes.get(var));
+				for (int lane = 1; lane < LANES; lane++) {
+					declaration.append(lane > 1 ? ", " : " ").append(laneName(var, lane)).append(" = ").append(identity);
+				}
+				printer.printLn(declaration + ";");
+			}
+			//the block count is taken in 64 bits, an int loop can have more than 2^31 iterations
+			printer.printLn("final int OMP_simdBlocks = (int) (((long) OMP_simdBound - OMP_simdFirst" + (inclusive ? " + 1" : "") + ") / " + LANES + ");");
+			//the unrolled loop counts with OMP_simdIndex alone, so the JIT can drop the array bound checks
+			printer.printLn("final int OMP_simdBlockEnd = OMP_simdFirst + OMP_simdBlocks * " + LANES + ";");
+			printer.printLn("int OMP_simdIndex = OMP_simdFirst;");
+			printer.printLn("for (; OMP_simdIndex < OMP_simdBlockEnd; OMP_simdIndex += " + LANES + ") {");
+			printer.indent();
+			for (int lane = 0; lane < LANES; lane++) {
+				printer.printLn(identifier + " = OMP_simdIndex" + (lane > 0 ? " + " + lane : "") + ";");
+				printBody(printer, lane);
+			}
+			printer.unindent();
+			printer.printLn("}");
+			//the remaining iterations accumulate into the reduction variables themselves
+			printer.printLn("for (" + identifier + " = OMP_simdIndex; " + identifier + compare + "OMP_simdBound; " + identifier + "++) {");
+			printer.indent();
+			printBody(printer, 0);
+			printer.unindent();
+			printer.printLn("}");
+			for (String var: this.accumulators.keySet()) {
+				String combine = getOperatorString(this.accumulators.get(var));
+				for (int lane = 1; lane < LANES; lane++) {
+					printer.printLn(var + " " + combine + " " + laneName(var, lane) + ";");
+				}
+			}
+		}
+		printer.unindent();
+		printer.printLn("}");
+	}
+
+	/*
+	 * Prints the standalone simd construct. Loops other than an int induction variable counting up
+	 * by one to a less or less-equal bound stay as they are written.
+	 */
+	public static void printSimdConstruct(OmpSimdConstruct n, PyjamaToJavaVisitor visitor, SourcePrinter printer) {
+		ForStmt forStmt = (ForStmt) n.getForStmt();
+
+		Expression identifier = null;
+		Expression init = null;
+		boolean declaration = false;
+		if (null != forStmt.getInit() && 1 == forStmt.getInit().size()) {
+			Expression initExpr = forStmt.getInit().get(0);
+			if (initExpr instanceof VariableDeclarationExpr
+					&& "int".equals(((VariableDeclarationExpr) initExpr).getType().toString())
+					&& 1 == ((VariableDeclarationExpr) initExpr).getVars().size()) {
+				VariableDeclarator declarator = ((VariableDeclarationExpr) initExpr).getVars().get(0);
+				identifier = new NameExpr(declarator.getId().getName());
+				init = declarator.getInit();
+				declaration = true;
+			} else if (initExpr instanceof AssignExpr
+					&& AssignExpr.Operator.assign == ((AssignExpr) initExpr).getOperator()
+					&& ((AssignExpr) initExpr).getTarget() instanceof NameExpr) {
+				Symbol symbol = visitor.getSymbolTable().getScopeOfNode(forStmt).getSymbolByName(((AssignExpr) initExpr).getTarget().toString());
+				if (null != symbol && "int".equals(symbol.getSymbolDataType().toString())) {
+					identifier = ((AssignExpr) initExpr).getTarget();
+					init = ((AssignExpr) initExpr).getValue();
+				}
+			}
+		}
+		boolean inclusive = false;
+		boolean canonical = null != identifier && null != init && forStmt.getCompare() instanceof BinaryExpr;
+		if (canonical) {
+			BinaryExpr compare = (BinaryExpr) forStmt.getCompare();
+			inclusive = BinaryExpr.Operator.lessEquals == compare.getOperator();
+			canonical = (inclusive || BinaryExpr.Operator.less == compare.getOperator())
+					&& identifier.toString().equals(compare.getLeft().toString())
+					&& isUnitIncrement(identifier, forStmt.getUpdate());
+		}
+		if (!canonical) {
+			forStmt.accept(visitor, printer);
+			printer.printLn();
+			return;
+		}
+
+		Map<String, String> reductionTypes = new HashMap<String, String>();
+		if (null != n.getDataClauseList()) {
+			for (OmpDataClause clause: n.getDataClauseList()) {
+				if (OmpDataClause.Type.Reduction == clause.DataClauseType()) {
+					reductionTypes.putAll(((OmpReductionDataClause) clause).getArgsTypes(n));
+				}
+			}
+		}
+
+		//an induction variable declared by the for statement is local to the simd construct
+		if (declaration) {
+			printer.printLn("{");
+			printer.indent();
+			printer.printLn("int " + identifier + ";");
+		}
+		SimdLoopBuilder builder = new SimdLoopBuilder(visitor, identifier, forStmt.getBody(), reductionTypes);
+		builder.printLoop(printer, init.toString(), ((BinaryExpr) forStmt.getCompare()).getRight().toString(), inclusive);
+		if (declaration) {
+			printer.unindent();
+			printer.printLn("}");
+		}
+	}
+
+	private static boolean isUnitIncrement(Expression identifier, List<Expression> updates) {
+		if (null == updates || 1 != updates.size()) {
+			return false;
+		}
+		Expression update = updates.get(0);
+		if (update instanceof UnaryExpr) {
+			UnaryExpr.Operator opt = ((UnaryExpr) update).getOperator();
+			return (UnaryExpr.Operator.posIncrement == opt || UnaryExpr.Operator.preIncrement == opt)
+					&& identifier.toString().equals(((UnaryExpr) update).getExpr().toString());
+		}
+		if (update instanceof AssignExpr) {
+			AssignExpr assign = (AssignExpr) update;
+			return AssignExpr.Operator.plus == assign.getOperator()
+					&& identifier.toString().equals(assign.getTarget().toString())
+					&& assign.getValue() instanceof IntegerLiteralExpr
+					&& "1".equals(assign.getValue().toString());
+		}
+		return false;
+	}
+
+	/*
+	 * Prints the loop body for one lane, lane 0 is the body as it is written, the other lanes
+	 * accumulate into their partial results.
+	 */
+	private void printBody(SourcePrinter printer, int lane) {
+		if (0 == lane) {
+			this.forBody.accept(visitor, printer);
+			printer.printLn();
+			return;
+		}
+		printer.printLn("{");
+		printer.indent();
+		for (Statement stmt: this.bodyStmts) {
+			AssignExpr update = getUpdate(stmt);
+			if (null == update) {
+				stmt.accept(visitor, printer);
+				printer.printLn();
+				continue;
+			}
+			String var = update.getTarget().toString();
+			printer.print(laneName(var, lane) + " " + getOperatorString(getUpdateOperator(update)) + " ");
+			getUpdateValue(update).accept(visitor, printer);
+			printer.printLn(";");
+		}
+		printer.unindent();
+		printer.printLn("}");
+	}
+
+	/*
+	 * The body is a reduction pattern when some of its statements accumulate into reduction
+	 * variables, with one combining operator for each variable, and nothing else in the body reads
+	 * them. The body must not leave its iteration with break, continue or return either, since the
+	 * lanes of one unrolled iteration follow each other in the same block.
+	 */
+	private LinkedHashMap<String, AssignExpr.Operator> findAccumulators() {
+		if (this.reductionTypes.isEmpty() || leavesIteration(this.forBody)) {
+			return null;
+		}
+		LinkedHashMap<String, AssignExpr.Operator> found = new LinkedHashMap<String, AssignExpr.Operator>();
+		List<Node> otherCode = new ArrayList<Node>();
+		for (Statement stmt: this.bodyStmts) {
+			AssignExpr update = getUpdate(stmt);
+			if (null == update) {
+				otherCode.add(stmt);
+				continue;
+			}
+			String var = update.getTarget().toString();
+			AssignExpr.Operator combine = getCombineOperator(getUpdateOperator(update));
+			if (null == combine || null == getIdentity(this.reductionTypes.get(var), combine)) {
+				return null;
+			}
+			if (found.containsKey(var) && combine != found.get(var)) {
+				return null;
+			}
+			found.put(var, combine);
+			otherCode.add(getUpdateValue(update));
+		}
+		if (found.isEmpty()) {
+			return null;
+		}
+		for (Node code: otherCode) {
+			for (String name: findNames(code)) {
+				if (this.reductionTypes.containsKey(name)) {
+					return null;
+				}
+			}
+		}
+		return found;
+	}
+
+	/*
+	 * An update is var op= value or var = var op value for a reduction variable.
+	 */
+	private AssignExpr getUpdate(Statement stmt) {
+		if (!(stmt instanceof ExpressionStmt) || !(((ExpressionStmt) stmt).getExpression() instanceof AssignExpr)) {
+			return null;
+		}
+		AssignExpr assign = (AssignExpr) ((ExpressionStmt) stmt).getExpression();
+		if (!(assign.getTarget() instanceof NameExpr) || !this.reductionTypes.containsKey(assign.getTarget().toString())) {
+			return null;
+		}
+		if (AssignExpr.Operator.assign == assign.getOperator()) {
+			if (!(assign.getValue() instanceof BinaryExpr)) {
+				return null;
+			}
+			BinaryExpr value = (BinaryExpr) assign.getValue();
+			if (!assign.getTarget().toString().equals(value.getLeft().toString()) || null == getUpdateOperator(assign)) {
+				return null;
+			}
+		}
+		return assign;
+	}
+
+	private static AssignExpr.Operator getUpdateOperator(AssignExpr update) {
+		if (AssignExpr.Operator.assign != update.getOperator()) {
+			return update.getOperator();
+		}
+		switch (((BinaryExpr) update.getValue()).getOperator()) {
+		case plus:
+			return AssignExpr.Operator.plus;
+		case minus:
+			return AssignExpr.Operator.minus;
+		case times:
+			return AssignExpr.Operator.star;
+		case binAnd:
+			return AssignExpr.Operator.and;
+		case binOr:
+			return AssignExpr.Operator.or;
+		case xor:
+			return AssignExpr.Operator.xor;
+		default:
+			return null;
+		}
+	}
+
+	private static Expression getUpdateValue(AssignExpr update) {
+		if (AssignExpr.Operator.assign != update.getOperator()) {
+			return update.getValue();
+		}
+		return ((BinaryExpr) update.getValue()).getRight();
+	}
+
+	//partial results of subtractions are sums of negative terms
+	private static AssignExpr.Operator getCombineOperator(AssignExpr.Operator opt) {
+		switch (opt) {
+		case plus:
+		case minus:
+			return AssignExpr.Operator.plus;
+		case star:
+		case and:
+		case or:
+		case xor:
+			return opt;
+		default:
+			return null;
+		}
+	}
+
+	private static String getOperatorString(AssignExpr.Operator opt) {
+		switch (opt) {
+		case plus:
+			return "+=";
+		case minus:
+			return "-=";
+		case star:
+			return "*=";
+		case and:
+			return "&=";
+		case or:
+			return "|=";
+		case xor:
+			return "^=";
+		default:
+			throw new RuntimeException("Pyjama: unexpected reduction operator in simd loop");
+		}
+	}
+
+	/*
+	 * The value a partial result starts with, null if the type cannot be combined by the operator.
+	 */
+	private static String getIdentity(String type, AssignExpr.Operator combine) {
+		if (null == type) {
+			return null;
+		}
+		type = type.trim();
+		boolean integral = type.equals("int") || type.equals("long") || type.equals("short") || type.equals("byte");
+		boolean floating = type.equals("double") || type.equals("float");
+		switch (combine) {
+		case plus:
+			return (integral || floating) ? "0" : null;
+		case star:
+			return (integral || floating) ? "1" : null;
+		case and:
+			return integral ? "-1" : (type.equals("boolean") ? "true" : null);
+		case or:
+		case xor:
+			return integral ? "0" : (type.equals("boolean") ? "false" : null);
+		default:
+			return null;
+		}
+	}
+
+	private static String laneName(String var, int lane) {
+		return "OMP_simdLane" + lane + "_" + var;
+	}
+
+	private static boolean leavesIteration(Node code) {
+		final boolean[] leaves = {false};
+		code.accept(new VoidVisitorAdapter<Object>() {
+			@Override
+			public void visit(BreakStmt n, Object arg) {
+				leaves[0] = true;
+			}
+			@Override
+			public void visit(ContinueStmt n, Object arg) {
+				leaves[0] = true;
+			}
+			@Override
+			public void visit(ReturnStmt n, Object arg) {
+				leaves[0] = true;
+			}
+		}, null);
+		return leaves[0];
+	}
+
+	private static Set<String> findNames(Node code) {
+		final Set<String> names = new HashSet<String>();
+		code.accept(new VoidVisitorAdapter<Object>() {
+			@Override
+			public void visit(NameExpr n, Object arg) {
+				names.add(n.getName());
+			}
+		}, null);
+		return names;
+	}
+}
@@ -86,7 +86,7 @@ public class TaskCodeClassBuilder extends ConstructWrapper  {
 		return tb;
 	}
 	
-	private TaskCodeClassBuilder(OmpTaskConstruct taskConstruct, 
+	protected TaskCodeClassBuilder(OmpTaskConstruct taskConstruct, 
 			boolean isStatic, 
 			PyjamaToJavaVisitor visitor,
 			String className)
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.parser.ast.visitor.constructwrappers;
+/**
+ * This is the representation for <code>omp taskloop</code>
+ * construct. The loop is split into chunks of its iteration space, each chunk
+ * runs as a task of the class built here.
+ */
+
+import java.util.HashMap;
+import pj.parser.ast.body.VariableDeclarator;
+import pj.parser.ast.expr.AssignExpr;
+import pj.parser.ast.expr.BinaryExpr;
+import pj.parser.ast.expr.Expression;
+import pj.parser.ast.expr.NameExpr;
+import pj.parser.ast.expr.UnaryExpr;
+import pj.parser.ast.expr.VariableDeclarationExpr;
+import pj.parser.ast.omp.OmpDataClause;
+import pj.parser.ast.omp.OmpPrivateDataClause;
+import pj.parser.ast.omp.OmpSharedDataClause;
+import pj.parser.ast.omp.OmpTaskloopConstruct;
+import pj.parser.ast.stmt.ForStmt;
+import pj.parser.ast.stmt.Statement;
+import pj.parser.ast.visitor.PyjamaToJavaVisitor;
+import pj.parser.ast.visitor.SourcePrinter;
+import pj.parser.ast.visitor.dataclausehandler.DataClausesHandler;
+
+public class TaskloopCodeClassBuilder extends TaskCodeClassBuilder {
+	
+	private static HashMap<OmpTaskloopConstruct, TaskloopCodeClassBuilder> pairs = new HashMap<OmpTaskloopConstruct, TaskloopCodeClassBuilder>();
+	
+	private OmpTaskloopConstruct taskloopConstruct;
+	
+	private String iteratorType = null; //int or long, the type of the induction variable
+	private String identifier = null; //the induction variable, declared in the for statement
+	private Expression init_expression = null;
+	private Expression end_expression = null;
+	private boolean inclusive = false; //<= or >= compare
+	private String stride = null;
+	private Statement forBody = null;
+	
+	public static TaskloopCodeClassBuilder create(OmpTaskloopConstruct taskloopConstruct, 
+			boolean isStatic, 
+			PyjamaToJavaVisitor visitor,
+			String className) {
+		TaskloopCodeClassBuilder tb = pairs.get(taskloopConstruct);
+		if (null == tb) {
+			tb = new TaskloopCodeClassBuilder(taskloopConstruct, isStatic, visitor, className);
+			pairs.put(taskloopConstruct, tb);
+		}
+		return tb;
+	}
+	
+	private TaskloopCodeClassBuilder(OmpTaskloopConstruct taskloopConstruct, 
+			boolean isStatic, 
+			PyjamaToJavaVisitor visitor,
+			String className)
+	{
+		super(taskloopConstruct, isStatic, visitor, className);
+		this.taskloopConstruct = taskloopConstruct;
+		parseForLoop();
+	}
+	
+	/*
+	 * The loop has to declare its induction variable, an int or a long, compared with <, <=, > or >=
+	 * and stepped by a constant stride, like the loops of omp for.
+	 */
+	private void parseForLoop() {
+		if (!(this.taskloopConstruct.getForStmt() instanceof ForStmt)) {
+			throw new RuntimeException("Pyjama: taskloop needs a for loop with an induction variable");
+		}
+		ForStmt forStmt = (ForStmt) this.taskloopConstruct.getForStmt();
+		this.forBody = forStmt.getBody();
+		
+		if (null == forStmt.getInit() || 1 != forStmt.getInit().size() || !(forStmt.getInit().get(0) instanceof VariableDeclarationExpr)) {
+			throw new RuntimeException("Pyjama: the for loop of taskloop has to declare its induction variable");
+		}
+		VariableDeclarationExpr declaration = (VariableDeclarationExpr) forStmt.getInit().get(0);
+		VariableDeclarator declarator = declaration.getVars().get(0);
+		this.iteratorType = declaration.getType().toString().trim();
+		if (!this.iteratorType.equals("int") && !this.iteratorType.equals("long")) {
+			throw new RuntimeException("Pyjama: the induction variable of taskloop has to be an int or a long");
+		}
+		this.identifier = declarator.getId().getName();
+		this.init_expression = declarator.getInit();
+		
+		if (!(forStmt.getCompare() instanceof BinaryExpr)) {
+			throw new RuntimeException("Pyjama cannot parse the compare expression in omp taskloop");
+		}
+		BinaryExpr compareExpr = (BinaryExpr) forStmt.getCompare();
+		BinaryExpr.Operator opt = compareExpr.getOperator();
+		if (!(   (opt == BinaryExpr.Operator.greater) 
+			  || (opt == BinaryExpr.Operator.greaterEquals)
+			  || (opt == BinaryExpr.Operator.less)
+			  || (opt == BinaryExpr.Operator.lessEquals) )) {
+			throw new RuntimeException("Pyjama: illegal compare operator '" + opt.toString() + "' in omp taskloop");
+		}
+		this.inclusive = (opt == BinaryExpr.Operator.greaterEquals) || (opt == BinaryExpr.Operator.lessEquals);
+		this.end_expression = compareExpr.getRight();
+		
+		if (null == forStmt.getUpdate() || 1 != forStmt.getUpdate().size()) {
+			throw new RuntimeException("Pyjama cannot parse the update expression in omp taskloop");
+		}
+		Expression update = forStmt.getUpdate().get(0);
+		if (update instanceof UnaryExpr) {
+			UnaryExpr.Operator unaryOpt = ((UnaryExpr)update).getOperator();
+			if ((UnaryExpr.Operator.posDecrement == unaryOpt) || (UnaryExpr.Operator.preDecrement == unaryOpt)) {
+				this.stride = "-1";
+			} else if ((UnaryExpr.Operator.posIncrement == unaryOpt) || (UnaryExpr.Operator.preIncrement == unaryOpt)) {
+				this.stride = "1";
+			}
+		} else if (update instanceof AssignExpr) {
+			AssignExpr assign = (AssignExpr) update;
+			if (AssignExpr.Operator.plus == assign.getOperator()) {
+				this.stride = assign.getValue().toString();
+			} else if (AssignExpr.Operator.minus == assign.getOperator()) {
+				this.stride = "-(" + assign.getValue() + ")";
+			} else if (AssignExpr.Operator.assign == assign.getOperator() && assign.getValue() instanceof BinaryExpr) {
+				BinaryExpr value = (BinaryExpr) assign.getValue();
+				if (value.getLeft() instanceof NameExpr && this.identifier.equals(value.getLeft().toString())) {
+					if (BinaryExpr.Operator.plus == value.getOperator()) {
+						this.stride = value.getRight().toString();
+					} else if (BinaryExpr.Operator.minus == value.getOperator()) {
+						this.stride = "-(" + value.getRight() + ")";
+					}
+				}
+			}
+		}
+		if (null == this.stride) {
+			throw new RuntimeException("Pyjama cannot parse the update expression in omp taskloop");
+		}
+	}
+	
+	/*
+	 * Prints the creation of the chunk tasks where the taskloop is encountered. The bounds of a
+	 * chunk are firstprivate fields of its task, computed here, so the task does not read the
+	 * locals of the loop bounds. The encountering thread waits for all chunks of the loop, see
+	 * PjRuntime.runTaskGroup.
+	 */
+	public void printTaskCreation(SourcePrinter printer) {
+		String it = this.iteratorType;
+		Expression grainsize = this.taskloopConstruct.getGrainsize();
+		Expression numTasks = this.taskloopConstruct.getNumTasks();
+		String instance = this.className + "_in";
+		printer.printLn("{");
+		printer.indent();
+		printer.printLn("final " + it + " OMP_taskloopInit = " + this.init_expression + ";");
+		printer.printLn("final " + it + " OMP_taskloopStride = " + this.stride + ";");
+		printer.printLn("final long OMP_taskloopCount = PjRuntime.getTaskloopTripCount(OMP_taskloopInit, " + this.end_expression + ", OMP_taskloopStride, " + this.inclusive + ");");
+		printer.printLn("final int OMP_taskloopTasks = PjRuntime.getTaskloopTaskCount(OMP_taskloopCount, "
+						+ (null == grainsize ? "0" : grainsize.toString()) + ", " 
+						+ (null == numTasks ? "0" : numTasks.toString()) + ");");
+		printer.printLn("final pj.pr.task.TaskGroup OMP_taskGroup = new pj.pr.task.TaskGroup(OMP_taskloopTasks);");
+		printer.printLn("for (int OMP_taskloopTask = 0; OMP_taskloopTask < OMP_taskloopTasks; OMP_taskloopTask++) {");
+		printer.indent();
+		printer.printLn("final long OMP_taskloopChunkStart = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask);");
+		printer.printLn(this.className + " " + instance + " = new " + this.className + "();");
+		printer.printLn(instance + ".OMP_chunkFirst = (" + it + ")(OMP_taskloopInit + OMP_taskloopChunkStart * OMP_taskloopStride);");
+		printer.printLn(instance + ".OMP_stride = OMP_taskloopStride;");
+		printer.printLn(instance + ".OMP_chunkCount = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask + 1) - OMP_taskloopChunkStart;");
+		DataClausesHandler.processDataClausesBeforeTaskClassInvocation(this, printer);
+		printer.printLn("OMP_taskGroup.add(" + instance + ");");
+		printer.unindent();
+		printer.printLn("}");
+		//shared variables are passed to the chunks like those of task blocks, the chunks update shared arrays or objects
+		printer.printLn("PjRuntime.runTaskGroup(OMP_taskGroup);");
+		printer.unindent();
+		printer.printLn("}");
+	}
+	
+	@Override
+	protected void generateClass() {
+		printer.printLn();
+		//////////////////////////////////////////////
+		printer.printLn(this.staticPrefix +"class " + this.className + " extends pj.pr.task.TargetTask<Void>{");
+		printer.indent();
+		printer.printLn();
+		//#BEGIN shared variables defined here
+		printer.printLn("//#BEGIN shared, private variables defined here");
+		for(OmpDataClause clause: this.taskloopConstruct.getDataClauseList()) {
+			if (clause instanceof OmpSharedDataClause) {
+				clause.printVariableDefination(taskloopConstruct, printer, null);
+			} else if (clause instanceof OmpPrivateDataClause) {
+				clause.printVariableDefination(taskloopConstruct, printer, null);
+			}
+		}
+		printer.printLn("//#END shared, private variables defined here");
+		//#END shared variables defined here
+		printer.printLn("//#BEGIN firstprivate chunk bounds");
+		printer.printLn(this.iteratorType + " OMP_chunkFirst;");
+		printer.printLn(this.iteratorType + " OMP_stride;");
+		printer.printLn("long OMP_chunkCount;");
+		printer.printLn("//#END firstprivate chunk bounds");
+
+		printer.printLn();
+		printer.printLn("@Override");
+		printer.printLn("public Void call() {");
+		printer.indent();
+		printer.printLn(this.iteratorType + " " + this.identifier + " = this.OMP_chunkFirst;");
+		printer.printLn("for (long OMP_local_iterator = 0; OMP_local_iterator < this.OMP_chunkCount; OMP_local_iterator++, " + this.identifier + " += this.OMP_stride) {");
+		printer.indent();
+		//BEGIN get construct user code
+		printer.printLn("/****User Code BEGIN***/");
+		this.forBody.accept(visitor, printer);
+		printer.printLn();
+		printer.printLn("/****User Code END***/");
+		//END get construct user code
+		printer.unindent();
+		printer.printLn("}");
+		printer.printLn("this.setFinish();");
+		printer.printLn("return null;");
+		printer.unindent();
+		printer.printLn("}");
+		printer.unindent();
+		printer.printLn("}");
+	}
+
+}
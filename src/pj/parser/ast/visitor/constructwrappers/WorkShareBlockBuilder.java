@@ -37,7 +37,9 @@ package pj.parser.ast.visitor.constructwrappers;
  * @version 1.0
  */
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -50,9 +52,13 @@ import pj.parser.ast.expr.MethodCallExpr;
 import pj.parser.ast.expr.NameExpr;
 import pj.parser.ast.expr.UnaryExpr;
 import pj.parser.ast.expr.VariableDeclarationExpr;
+import pj.parser.ast.omp.OmpDataClause;
 import pj.parser.ast.omp.OmpForConstruct;
 import pj.parser.ast.omp.OmpNeglectExceptionClause;
+import pj.parser.ast.omp.OmpOrderedConstruct;
+import pj.parser.ast.omp.OmpReductionDataClause;
 import pj.parser.ast.omp.OmpScheduleClause;
+import pj.parser.ast.stmt.BlockStmt;
 import pj.parser.ast.stmt.ForStmt;
 import pj.parser.ast.stmt.ForeachStmt;
 import pj.parser.ast.stmt.Statement;
@@ -62,6 +68,7 @@ import pj.parser.ast.symbolscope.SymbolTable;
 import pj.parser.ast.visitor.PyjamaToJavaVisitor;
 import pj.parser.ast.visitor.SourcePrinter;
 import pj.parser.ast.visitor.SymbolSubstitutionVisitor;
+import pj.parser.ast.visitor.VoidVisitorAdapter;
 import pj.parser.ast.visitor.dataclausehandler.DataClauseHandlerUtils;
 import pj.parser.ast.visitor.dataclausehandler.DataClausesHandler;
 
@@ -94,8 +101,31 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 	private Expression end_expression = null; //the ending number of the iterations
 	private BinaryExpr.Operator compareOperator = null; //compare operator
 	private Expression stride = null; //the increment after each iteration
+	private boolean longIteration = false; //long induction variable, the iteration space needs 64 bits
+	private boolean orderedLoop = false; //ordered clause or ordered regions in the loop body
+	private boolean elementLoop = false; //loop over a collection, shared out by the indices of its elements
+	
+	//These fields are used for collapse(n) loops, one level for each loop of the nest, outermost first
+	private int collapse = 1;
+	private List<CollapsedLoop> collapsedLoops = null;
 	
 	private Statement forBody = null;
+	
+	private SimdLoopBuilder simdLoop = null; //prints the chunks of for simd loops
+	
+	/*
+	 * One loop of a collapsed nest. Its trip count is computed once before the loop, and its
+	 * induction variable is recovered from the linear iteration number.
+	 */
+	private static class CollapsedLoop {
+		String type; //type of the induction variable, null if not declared in the for-loop
+		boolean longIteration;
+		Expression identifier;
+		Expression init;
+		Expression end;
+		BinaryExpr.Operator compareOperator;
+		Expression stride;
+	}
 		
 	public WorkShareBlockBuilder(OmpForConstruct forNode, PyjamaToJavaVisitor visitor, int id) {	
 		this.ompForConstruct = forNode;
@@ -132,10 +162,17 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 	
 	private void parseForLoop() {
 		Statement forStmt = this.ompForConstruct.getForStmt();
+		this.collapse = this.ompForConstruct.getCollapse();
 		if (forStmt instanceof ForStmt) {
 			this.loopStyle = LoopStyle.SimpleFor;
 			parseSimpleForStmt(forStmt);
+			if (this.collapse > 1) {
+				parseCollapsedLoops((ForStmt)forStmt);
+			}
 		} else if (forStmt instanceof ForeachStmt) {
+			if (this.collapse > 1) {
+				throw new RuntimeException("Pyjama: collapse clause cannot be used on a for-each loop");
+			}
 			this.loopStyle = LoopStyle.Foreach;
 			parseForEachStmt(forStmt);
 		} else {
@@ -143,6 +180,64 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 		}
 	}
 	
+	/*
+	 * Parses the n perfectly nested loops of a collapse(n) loop, starting from the already parsed
+	 * outermost one. Each inner loop is parsed the same way as the outermost loop, afterwards the
+	 * fields of the outermost loop are restored and forBody is the body of the innermost loop.
+	 * The nest must be rectangular, so the bounds and strides of an inner loop cannot use the
+	 * induction variables of the loops around it.
+	 */
+	private void parseCollapsedLoops(ForStmt forStmt) {
+		this.collapsedLoops = new ArrayList<CollapsedLoop>();
+		ForStmt loop = forStmt;
+		for (int level = 0; level < this.collapse; level++) {
+			if (level > 0) {
+				Statement body = this.forBody;
+				if (body instanceof BlockStmt && null != ((BlockStmt)body).getStmts() && 1 == ((BlockStmt)body).getStmts().size()) {
+					body = ((BlockStmt)body).getStmts().get(0);
+				}
+				if (!(body instanceof ForStmt)) {
+					throw new RuntimeException("Pyjama: collapse(" + this.collapse + ") needs " + this.collapse + " perfectly nested for-loops");
+				}
+				loop = (ForStmt)body;
+				this.iteratorDeclaration = false;
+				this.longIteration = false;
+				parseSimpleForStmt(loop);
+			}
+			if (LoopType.Numerical != this.loopType) {
+				throw new RuntimeException("Pyjama: loops collapsed by collapse clause must be numerical for-loops");
+			}
+			CollapsedLoop collapsed = new CollapsedLoop();
+			if (loop.getInit().get(0) instanceof VariableDeclarationExpr) {
+				collapsed.type = ((VariableDeclarationExpr)loop.getInit().get(0)).getType().toString();
+			}
+			collapsed.longIteration = this.longIteration;
+			collapsed.identifier = this.identifier;
+			collapsed.init = this.init_expression;
+			collapsed.end = this.end_expression;
+			collapsed.compareOperator = this.compareOperator;
+			collapsed.stride = this.stride;
+			for (CollapsedLoop outer: this.collapsedLoops) {
+				Pattern outerIdentifier = Pattern.compile("\\b" + Pattern.quote(outer.identifier.toString()) + "\\b");
+				if (outerIdentifier.matcher(collapsed.init.toString()).find() 
+						|| outerIdentifier.matcher(collapsed.end.toString()).find() 
+						|| outerIdentifier.matcher(collapsed.stride.toString()).find()) {
+					throw new RuntimeException("Pyjama: the bounds of a collapsed loop cannot depend on '" + outer.identifier + "'");
+				}
+			}
+			this.collapsedLoops.add(collapsed);
+		}
+		CollapsedLoop outermost = this.collapsedLoops.get(0);
+		this.iteratorDeclaration = (null != outermost.type);
+		this.identifier = outermost.identifier;
+		this.init_expression = outermost.init;
+		this.end_expression = outermost.end;
+		this.compareOperator = outermost.compareOperator;
+		this.stride = outermost.stride;
+		//the product of the trip counts can overflow int
+		this.longIteration = true;
+	}
+	
 	private void parseForEachStmt(Statement forStmt) {
 		
 		ForeachStmt foreachStmt = (ForeachStmt) forStmt;
@@ -197,6 +292,7 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 			VariableDeclarator declarator = ((VariableDeclarationExpr) firstInitExpr).getVars().get(0);
 			iteratorDeclaration = true;
 			String initType = ((VariableDeclarationExpr) firstInitExpr).getType().toString();
+			longIteration = isLongType(initType);
 			Pattern pattern = Pattern.compile("<(.*?)>");
 			Matcher matcher = pattern.matcher(initType);
 			if (matcher.find()) {
@@ -209,6 +305,7 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 			ScopeInfo scope = symbolTable.getScopeOfNode(forStmt);
 			Symbol iteratorSymbol = scope.getSymbolByName(((AssignExpr)firstInitExpr).getTarget().toString());
 			String initType = iteratorSymbol.getSymbolDataType().toString();
+			longIteration = isLongType(initType);
 			Pattern pattern = Pattern.compile("<(.*?)>");
 			Matcher matcher = pattern.matcher(initType);
 			if (matcher.find()) {
@@ -235,7 +332,11 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 			if (null == hasNextExpr) {
 				throw new RuntimeException("Pyjama cannot parse the iterator hasNext expression in omp for");
 			}
-			this.iterOnCollection = ((MethodCallExpr)init_expression).getScope();
+			if (init_expression instanceof MethodCallExpr && null != ((MethodCallExpr)init_expression).getScope()) {
+				this.iterOnCollection = ((MethodCallExpr)init_expression).getScope();
+			} else if (!this.ompForConstruct.isStream()) {
+				throw new RuntimeException("Pyjama: the iterator loop in omp for needs the iterator of a collection, or the stream clause");
+			}
 			loopType = LoopType.Iterator;
 			return;
 		} else {
@@ -313,12 +414,24 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 		}
 	}
 	
+	private static boolean isLongType(String type) {
+		type = type.trim();
+		return type.equals("long") || type.equals("Long") || type.equals("java.lang.Long");
+	}
+	
 	private void varSubstitution() {
 		SymbolSubstitutionVisitor substitutionVisitor = new SymbolSubstitutionVisitor(this.varSubstitutionSet);
 		this.forBody.accept(substitutionVisitor, null);
 	}
 	
 	private void generateLoop() {
+		if (this.ompForConstruct.isStream()) {
+			if (LoopType.Iterator != this.loopType) {
+				throw new RuntimeException("Pyjama: stream clause needs a for-each loop over a collection or queue, or an iterator loop");
+			}
+			generateStreamLoop();
+			return;
+		}
 		switch(this.loopType) {
 		case Numerical:
 			generateNumericalLoop();
@@ -329,79 +442,54 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 		}
 	}
 	
+	/*
+	 * Loops over a collection, for-each loops and iterator loops, are shared out by the indices of
+	 * the elements, like numerical loops of any schedule. Lists with random access are indexed as
+	 * they are, other collections are copied into a list by the first thread entering the loop, see
+	 * PjRuntime.beginElementWorkShare, so no thread waits for a master to set the loop up.
+	 */
 	private void generateIteratorLoop() {
-
-		this.varSubstitution();
-		
-		String ParIteratorSufix = "";
-		if (this.loopStyle == LoopStyle.Foreach) {
-			ParIteratorSufix = "_OMP_ParIterator";
-		}
-		
-		OmpScheduleClause schClause = this.ompForConstruct.getScheduleClause();
-		//For iterators, we set default schedule type as dynamic, and default chunkSize is 1.
-		OmpScheduleClause.Type schType = OmpScheduleClause.Type.Dynamic;
-		Expression chunkSize = new NameExpr("1");
-		
-		if (null != schClause) {
-			schType = schClause.getScheduleType();
-			if (schClause.getChunkSize() != null) {
-				chunkSize = schClause.getChunkSize();
-			}
-		}
-		
-		String chunkSizeStr = chunkSize.toString();
-		String schTypeStr = null;
-		switch (schType) {
-		case Static:
-			schTypeStr = "STATIC";
-			break;
-		case Dynamic:
-			schTypeStr = "DYNAMIC";
-			break;
-		case Guided:
-			schTypeStr = "GUIDED";
-			break;
-		default:
-		}
-
-		/*
-		 * using Parallel Iterator to ensure thread-safety
-		 */
-		
-		/*
-		 * Master thread is responsible for creating Parallel Iterator
-		 * iter = ParIteratorFactory.createParIterator(list, this.OMP_threadNumber, ParIterator.Schedule.STATIC, 3);
-		 */
-		boolean iteratorIsPrimitiveType = false;
-		if (this.loopStyle == LoopStyle.Foreach && this.iteratorDeclaration) {
-			iteratorIsPrimitiveType = DataClauseHandlerUtils.isPrimitiveType(iteratorType);
-			printer.printLn(this.iteratorType + " " + identifier + " = " +
-							(iteratorIsPrimitiveType ? 
-							 DataClauseHandlerUtils.getDefaultValuesForPrimitiveType(iteratorType)
-							 :"null") + ";");
+		this.elementLoop = true;
+		this.init_expression = new NameExpr("0");
+		this.end_expression = new NameExpr("OMP_elements.size()");
+		this.compareOperator = BinaryExpr.Operator.less;
+		this.stride = new NameExpr("1");
+		this.longIteration = false;
+		printer.printLn("final java.util.List<?> OMP_elements = PjRuntime.beginElementWorkShare(OMP_workShareSlot, " + this.iterOnCollection + ");");
+		generateNumericalLoop();
+	}
+	
+	/*
+	 * Stream loops take their elements from a source of unknown length, a queue being filled while
+	 * the loop runs or an iterator, so there is no iteration space to share out. Each thread claims
+	 * batches of elements from the WorkShareStream of the loop until the stream ends, see
+	 * PjRuntime.beginStream. For-each loops take the iterable as source, iterator loops the
+	 * iterator itself. Lastprivate variables are written back by the thread that claimed the
+	 * stream's last batch.
+	 */
+	private void generateStreamLoop() {
+		if (this.orderedLoop) {
+			throw new RuntimeException("Pyjama: ordered regions cannot be used in a stream loop");
 		}
-		printer.printLn("ParIterator<"  
-						+ (iteratorIsPrimitiveType ? DataClauseHandlerUtils.autoBox(iteratorType): this.iteratorType) 
-						+ "> " + identifier + ParIteratorSufix + " = null;");
-		printer.printLn("if (0 == Pyjama.omp_get_thread_num()) {");
+		this.varSubstitution();
+		Expression source = (LoopStyle.Foreach == this.loopStyle) ? this.iterOnCollection : this.init_expression;
+		Expression batch = this.ompForConstruct.getBatch();
+		String elementType = getElementType();
+		printer.printLn("final WorkShareStream OMP_stream = PjRuntime.beginStream(OMP_workShareSlot, " + source + ");");
+		printer.printLn("final int OMP_streamBatchSize = " + (null == batch ? "WorkShareStream.DEFAULT_BATCH" : batch.toString()) + ";");
+		printer.printLn("final java.util.ArrayList<Object> OMP_elements = new java.util.ArrayList<Object>(Math.max(OMP_streamBatchSize, 1));");
+		printer.printLn("long OMP_streamClaim = -1;");
+		printer.printLn("long OMP_streamLastClaim = -1;");
+		printElementVariable();
+		printer.printLn("while ((OMP_streamClaim = OMP_stream.claim(OMP_elements, OMP_streamBatchSize)) >= 0) {");
 		printer.indent();
-		printer.printLn("OMP__ParIteratorCreator = " + "ParIteratorFactory.createParIterator("
-					+ this.iterOnCollection + ", Pyjama.omp_get_num_threads(), ParIterator.Schedule." 
-					+ schTypeStr + ", "
-					+ chunkSizeStr + ");");
-		printer.unindent();
-		printer.printLn("}");
-		printer.printLn("PjRuntime.setBarrier();");
-		///////////
-		printer.printLn(identifier + ParIteratorSufix +" = (ParIterator<" 
-						+ (iteratorIsPrimitiveType ? DataClauseHandlerUtils.autoBox(iteratorType): this.iteratorType) 
-						+ ">)" + "OMP__ParIteratorCreator;");
-		printer.printLn("while (" + identifier + ParIteratorSufix + ".hasNext()) {");
+		printer.printLn("OMP_streamLastClaim = OMP_streamClaim;");
+		printer.printLn("for (int OMP_local_iterator = 0; OMP_local_iterator < OMP_elements.size(); OMP_local_iterator++) {");
 		printer.indent();
-		if (this.loopStyle == LoopStyle.Foreach) {
-			//If this is a for-each style loop, we need using x = x_OMP_ParIterator.next() to get next element
-			printer.printLn(identifier + " = " + identifier + ParIteratorSufix + ".next();");
+		if (LoopStyle.Foreach == this.loopStyle) {
+			printer.printLn(identifier + " = (" + elementType + ") OMP_elements.get(OMP_local_iterator);");
+		} else {
+			printer.printLn("OMP_elementIterator.moveTo(OMP_local_iterator);");
 		}
 		//BEGIN user code 
 		this.forBody.accept(visitor, printer);
@@ -409,6 +497,17 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 		printer.printLn();
 		printer.unindent();
 		printer.printLn("}");
+		printer.unindent();
+		printer.printLn("}");
+		//BEGIN lastprivate value return
+		printer.printLn("if (OMP_stream.isLast(OMP_streamLastClaim)) {");
+		printer.indent();
+		printer.printLn("//BEGIN lastprivate variables value set");
+		DataClausesHandler.updateLastprivateForWorksharingBlock(this, printer);
+		printer.printLn("//END lastprivate variables value set");
+		printer.unindent();
+		printer.printLn("}");
+		//END lastprivate value return
 	}
 	
 	private void generateNumericalLoop() {
@@ -426,50 +525,56 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 			}
 		}
 		
-		printer.printLn((iteratorDeclaration?"int ":"")+identifier+"=0;");
+		/*
+		 * A long induction variable gets a 64-bit iteration space, with the AtomicLong cursor for
+		 * the schedules sharing one.
+		 */
+		String it = this.longIteration ? "long" : "int";
+		String widen = this.longIteration ? "(long)" : "";
+		String cursorType = this.longIteration ? "java.util.concurrent.atomic.AtomicLong" : "AtomicInteger";
+		String cursor = this.longIteration ? "OMP_workShareSlot.cursorLong" : "OMP_workShareSlot.cursor";
 		
-		printer.printLn("int OMP_iterator = 0;");
-		printer.printLn("int OMP_end = (int)((" + end_expression + ")-(" + init_expression + "))/(" + stride + ");");
-		if (BinaryExpr.Operator.less == compareOperator || BinaryExpr.Operator.greater == compareOperator) {
-			printer.printLn("if (((" + end_expression + ")-(" + init_expression + "))%(" + stride + ") == 0) {");
-			printer.indent();
-			printer.printLn("OMP_end = OMP_end - 1;");
-			printer.unindent();
-			printer.printLn("}");
+		if (this.collapse > 1) {
+			printCollapsedIterationSpace();
+		} else {
+			if (this.elementLoop) {
+				printElementVariable();
+			} else {
+				printer.printLn((iteratorDeclaration?it+" ":"")+identifier+"=0;");
+			}
+			
+			printer.printLn(it + " OMP_iterator = 0;");
+			printer.printLn(it + " OMP_end = (" + it + ")((" + end_expression + ")-(" + init_expression + "))/(" + stride + ");");
+			if (BinaryExpr.Operator.less == compareOperator || BinaryExpr.Operator.greater == compareOperator) {
+				printer.printLn("if (((" + end_expression + ")-(" + init_expression + "))%(" + stride + ") == 0) {");
+				printer.indent();
+				printer.printLn("OMP_end = OMP_end - 1;");
+				printer.unindent();
+				printer.printLn("}");
+			}
 		}
 		/*
 		 * Default scheduling type
 		 */
 		if(null == schClause){
-			printer.printLn("int OMP_local_iterator = 0;");
-			printer.printLn("int OMP_Chunk_Starting_point = 0;");
-			printer.printLn("int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/Pyjama.omp_get_num_threads();");
-			printer.printLn("if (Pyjama.omp_get_thread_num() < (OMP_end+1) % Pyjama.omp_get_num_threads()) {");
+			printer.printLn("final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();");
+			printer.printLn("final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();");
+			printer.printLn(it + " OMP_Chunk_Starting_point = 0;");
+			printer.printLn(it + " OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;");
+			printer.printLn("if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {");
 			printer.indent();
 			printer.printLn("++OMP_Default_chunkSize_autoGenerated;");
-			printer.printLn("OMP_Chunk_Starting_point = Pyjama.omp_get_thread_num() * OMP_Default_chunkSize_autoGenerated;");
+			printer.printLn("OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;");
 			printer.unindent();
 			printer.printLn("} else {");
 			printer.indent();
-			printer.printLn("OMP_Chunk_Starting_point = Pyjama.omp_get_thread_num() * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % Pyjama.omp_get_num_threads();");
+			printer.printLn("OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;");
 			printer.unindent();
 			printer.printLn("}");
 
-			printer.printLn("for (OMP_local_iterator=OMP_Chunk_Starting_point; OMP_local_iterator<OMP_Chunk_Starting_point+OMP_Default_chunkSize_autoGenerated && OMP_Default_chunkSize_autoGenerated>0; ++OMP_local_iterator) {");
-			printer.indent();
-			printer.printLn(identifier+" = " + init_expression + " + OMP_local_iterator * (" + stride + ");");
-			//BEGIN user code 
-			this.forBody.accept(visitor, printer);
-			//END user code
-			//BEGIN lastprivate value return
-			printer.printLn("if (OMP_end == OMP_local_iterator) {");
+			printer.printLn("if (OMP_Default_chunkSize_autoGenerated > 0) {");
 			printer.indent();
-			printer.printLn("//BEGIN lastprivate variables value set");
-			DataClausesHandler.updateLastprivateForWorksharingBlock(this, printer);
-			printer.printLn("//END lastprivate variables value set");
-			printer.unindent();
-			printer.printLn("}");
-			//END lastprivate value return
+			printChunkLoop("OMP_Chunk_Starting_point", "OMP_Default_chunkSize_autoGenerated");
 			printer.unindent();
 			printer.printLn("}");
 		}	
@@ -482,29 +587,13 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 				chunkSize= new NameExpr("1");
 			}
 			
-			printer.printLn("int __omp_loop_thread_num = Pyjama.omp_get_thread_num();");
-			printer.printLn("int __omp_loop_num_threads = Pyjama.omp_get_num_threads();");
+			printer.printLn("final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();");
+			printer.printLn("final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();");
+			printer.printLn("final " + it + " OMP_chunkSize = " + chunkSize + ";");
 			
-			printer.printLn("for (OMP_iterator=__omp_loop_thread_num*"+chunkSize+"; OMP_iterator<="+"OMP_end && " + chunkSize +">0; OMP_iterator=OMP_iterator+__omp_loop_num_threads*"+chunkSize+") {");
-			printer.indent();
-			printer.printLn("for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<OMP_iterator+"+chunkSize+" && OMP_local_iterator<=OMP_end; "
-							+"OMP_local_iterator++){");
+			printer.printLn("for (OMP_iterator="+widen+"__omp_loop_thread_num*OMP_chunkSize; OMP_iterator<=OMP_end && OMP_chunkSize>0; OMP_iterator=OMP_iterator+"+widen+"__omp_loop_num_threads*OMP_chunkSize) {");
 			printer.indent();
-			printer.printLn(identifier+" = " + init_expression + " + OMP_local_iterator * (" + stride + ");");
-			//BEGIN user code 
-			this.forBody.accept(visitor, printer);
-			//END user code
-			//BEGIN lastprivate value return
-			printer.printLn("if (OMP_end == OMP_local_iterator) {");
-			printer.indent();
-			printer.printLn("//BEGIN lastprivate variables value set");
-			DataClausesHandler.updateLastprivateForWorksharingBlock(this, printer);
-			printer.printLn("//END lastprivate variables value set");
-			printer.unindent();
-			printer.printLn("}");
-			//END lastprivate value return
-			printer.unindent();
-			printer.printLn("}");
+			printChunkLoop("OMP_iterator", "OMP_chunkSize");
 			printer.unindent();
 			printer.printLn("}");
 		}	
@@ -518,34 +607,12 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 				chunkSize= new NameExpr("1");
 			}
 			
-			printer.printLn("if (0 == Pyjama.omp_get_thread_num()) {");
+			//the cursor of the loop's slot is reset when the team left the slot's previous loop
+			printer.printLn("final " + cursorType + " OMP_dynamicCursor = " + cursor + ";");
+			printer.printLn("final " + it + " OMP_chunkSize = " + chunkSize + ";");
+			printer.printLn("while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {");	
 			printer.indent();
-			printer.print("PjRuntime.get_OMP_loopCursor().getAndSet(0);");
-			printer.unindent();
-			printer.printLn("}");
-			printer.printLn("PjRuntime.setBarrier();");
-
-			printer.printLn("while ((OMP_iterator = PjRuntime.get_OMP_loopCursor().getAndAdd("+chunkSize+")) <= OMP_end) {");	
-			printer.indent();
-			printer.printLn("for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<OMP_iterator+"+chunkSize+" && OMP_local_iterator<=OMP_end; "
-							+"OMP_local_iterator++){");
-			printer.indent();
-			printer.printLn(identifier+" = " + init_expression + " + OMP_local_iterator * (" + stride + ");");
-			//BEGIN user code 
-			this.forBody.accept(visitor, printer);
-			//END user code
-			//BEGIN lastprivate value return
-			printer.printLn("if (OMP_end == OMP_local_iterator) {");
-			printer.indent();
-			printer.printLn("//BEGIN lastprivate variables value set");
-			DataClausesHandler.updateLastprivateForWorksharingBlock(this, printer);
-			printer.printLn("//END lastprivate variables value set");
-			printer.unindent();
-			printer.printLn("}");
-			//END lastprivate value return
-			printer.printLn();
-			printer.unindent();
-			printer.printLn("}");
+			printChunkLoop("OMP_iterator", "OMP_chunkSize");
 			///
 			printer.unindent();
 			printer.printLn("}");
@@ -560,39 +627,305 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 				chunkSize= new NameExpr("1");
 			}
 						
-			printer.printLn("int OMP_chunkSize = " + chunkSize + ";");
-			printer.print("if (0 == Pyjama.omp_get_thread_num()) {");
-			printer.printLn("PjRuntime.get_OMP_loopCursor().getAndSet(0);}");
-			printer.printLn("PjRuntime.setBarrier();");
+			/*
+			 * Each grab takes ceil(remaining/threads) iterations, never less than the clause's chunk size.
+			 * The grab is one CAS on the shared cursor, and the chunk size is a function of the grabbed
+			 * start alone, so the winning thread recomputes it locally instead of reading it back.
+			 */
+			printer.printLn(it + " OMP_chunkSize = 0;");
+			printer.printLn("final " + it + " OMP_guidedMinChunk = " + chunkSize + ";");
+			printer.printLn("final int OMP_guidedThreads = Pyjama.omp_get_num_threads();");
+			printer.printLn("final " + cursorType + " OMP_guidedCursor = " + cursor + ";");
 
-			printer.printLn("while ((OMP_iterator = PjRuntime.get_OMP_loopCursor().getAndAdd(OMP_chunkSize)) <= OMP_end) {");	
-			printer.indent();
-			printer.printLn("for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<OMP_iterator+OMP_chunkSize && OMP_local_iterator<=OMP_end; "
-							+"OMP_local_iterator++){");
+			printer.printLn("while ((OMP_iterator = PjRuntime.getGuidedChunkStart(OMP_guidedCursor, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk)) <= OMP_end) {");	
 			printer.indent();
-			printer.printLn(identifier+" = " + init_expression + " + OMP_local_iterator * (" + stride + ");");
-			//BEGIN user code 
-			this.forBody.accept(visitor, printer);
-			//END user code
-			//BEGIN lastprivate value return
-			printer.printLn("if (OMP_end == OMP_local_iterator) {");
-			printer.indent();
-			printer.printLn("//BEGIN lastprivate variables value set");
-			DataClausesHandler.updateLastprivateForWorksharingBlock(this, printer);
-			printer.printLn("//END lastprivate variables value set");
+			printer.printLn("OMP_chunkSize = PjRuntime.getGuidedChunkSize(OMP_iterator, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk);");
+			printChunkLoop("OMP_iterator", "OMP_chunkSize");
+			///
 			printer.unindent();
 			printer.printLn("}");
-			//END lastprivate value return
-			printer.printLn();
+			
+		}	
+		/*
+		 * steal scheduling type, each thread works on its own block and steals half of
+		 * the largest remaining block of another thread when its own one runs out.
+		 */
+		if(OmpScheduleClause.Type.Steal == schType){
+			
+			printer.printLn(it + " OMP_chunkSize = 0;");
+			printer.printLn("final " + it + " OMP_stealChunk = " + (null == chunkSize ? "0" : chunkSize.toString()) + ";");
+			printer.printLn("final int OMP_stealThreadID = Pyjama.omp_get_thread_num();");
+			printer.printLn("final StealingLoopRanges OMP_stealRanges = PjRuntime.beginStealSchedule(OMP_workShareSlot, OMP_end, Pyjama.omp_get_num_threads());");
+
+			printer.printLn("while ((OMP_iterator = OMP_stealRanges." + (this.longIteration ? "nextLong" : "next") + "(OMP_stealThreadID, OMP_stealChunk)) <= OMP_end) {");	
+			printer.indent();
+			printer.printLn("OMP_chunkSize = OMP_stealRanges." + (this.longIteration ? "chunkSizeLong" : "chunkSize") + "(OMP_stealThreadID);");
+			printChunkLoop("OMP_iterator", "OMP_chunkSize");
+			///
 			printer.unindent();
 			printer.printLn("}");
-			printer.printLn("if(OMP_chunkSize>1)OMP_chunkSize--;");
+			
+		}	
+		/*
+		 * runtime and auto scheduling type, the schedule is chosen at run time and each chunk
+		 * comes from the runtime scheduling routine.
+		 */
+		if(OmpScheduleClause.Type.Runtime == schType || OmpScheduleClause.Type.Auto == schType){
+			
+			/*
+			 * The first thread entering the loop decides the schedule of this execution, schedule(auto) loops
+			 * learn it from their previous executions, so every thread reports its busy time when it runs out
+			 * of chunks.
+			 */
+			String loopName = "\"" + this.visitor.getCompilationUnitName() + "#" + this.workshareId + "\"";
+			printer.printLn(it + " OMP_chunkSize = 0;");
+			printer.printLn("final int OMP_scheduleThreads = Pyjama.omp_get_num_threads();");
+			printer.printLn("final int OMP_scheduleThreadID = Pyjama.omp_get_thread_num();");
+			printer.printLn("final " + cursorType + " OMP_scheduleCursor = " + cursor + ";");
+			printer.printLn("final AdaptiveSchedule.Plan OMP_schedulePlan = PjRuntime."
+							+ (OmpScheduleClause.Type.Runtime == schType ? "beginRunSchedule" : "beginAutoSchedule") 
+							+ "(OMP_workShareSlot, " + loopName + ", OMP_end, OMP_scheduleThreads);");
+			printer.printLn("final int OMP_scheduleKind = OMP_schedulePlan.kind;");
+			printer.printLn("final int OMP_scheduleChunk = OMP_schedulePlan.chunk;");
+			printer.printLn("final long OMP_scheduleBusyStart = System.nanoTime();");
+
+			printer.printLn("for (OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, -1, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID); "
+							+ "OMP_iterator <= OMP_end; "
+							+ "OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, OMP_iterator, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID)) {");	
+			printer.indent();
+			printer.printLn("OMP_chunkSize = PjRuntime.getRunScheduleChunkSize(OMP_scheduleKind, OMP_scheduleChunk, OMP_iterator, OMP_end, OMP_scheduleThreads);");
+			printChunkLoop("OMP_iterator", "OMP_chunkSize");
 			///
 			printer.unindent();
 			printer.printLn("}");
+			printer.printLn("OMP_schedulePlan.report(System.nanoTime() - OMP_scheduleBusyStart);");
 			
 		}	
 	}
+	/*
+	 * The iteration space of collapse(n) loops is the product of the trip counts of the n loops, 
+	 * iteration k of it runs the loop indices that k has as a mixed radix number.
+	 */
+	private void printCollapsedIterationSpace() {
+		StringBuilder product = new StringBuilder();
+		for (int level = 0; level < this.collapse; level++) {
+			CollapsedLoop loop = this.collapsedLoops.get(level);
+			String lt = loop.longIteration ? "long" : "int";
+			String trip = "OMP_collapseTrip_" + level;
+			printer.printLn((null != loop.type ? loop.type + " " : "") + loop.identifier + "=0;");
+			printer.printLn(lt + " " + trip + " = (" + lt + ")((" + loop.end + ")-(" + loop.init + "))/(" + loop.stride + ");");
+			if (BinaryExpr.Operator.less == loop.compareOperator || BinaryExpr.Operator.greater == loop.compareOperator) {
+				printer.printLn("if (((" + loop.end + ")-(" + loop.init + "))%(" + loop.stride + ") == 0) {");
+				printer.indent();
+				printer.printLn(trip + " = " + trip + " - 1;");
+				printer.unindent();
+				printer.printLn("}");
+			}
+			//a loop without iterations empties the whole nest
+			printer.printLn(trip + " = Math.max(" + trip + " + 1, 0);");
+			printer.printLn(lt + " OMP_collapseIndex_" + level + " = 0;");
+			product.append(level > 0 ? " * " : "(long)").append(trip);
+		}
+		printer.printLn("long OMP_iterator = 0;");
+		printer.printLn("long OMP_end = " + product + " - 1;");
+	}
+	
+	/*
+	 * Prints the loop over the iterations of the chunk starting at chunkStart. The chunk's last 
+	 * iteration is computed once, the induction variable steps by the stride instead of being 
+	 * recomputed from OMP_local_iterator, and lastprivate variables are written back after the 
+	 * chunk holding the loop's last iteration, so the iterations carry no bookkeeping of their own.
+	 * chunkSize has to be positive.
+	 */
+	private void printChunkLoop(String chunkStart, String chunkSize) {
+		String it = this.longIteration ? "long" : "int";
+		String step = "";
+		printOrderedChunkBegin(chunkStart);
+		DataClausesHandler.markReductionChunksForWorksharingBlock(this, chunkStart, printer);
+		//the chunk's last iteration without overflowing past OMP_end
+		printer.printLn("final " + it + " OMP_chunkLast = " + chunkSize + " > OMP_end - " + chunkStart + " ? OMP_end : " + chunkStart + " + " + chunkSize + " - 1;");
+		if (isSimdChunk()) {
+			//the induction variable is the only counter of the chunk loop
+			getSimdLoop().printLoop(printer, "(" + init_expression + ") + " + chunkStart, "(" + init_expression + ") + OMP_chunkLast", true);
+		} else {
+			if (this.collapse <= 1 && !this.elementLoop) {
+				printer.printLn(identifier + " = " + init_expression + " + " + chunkStart + " * (" + stride + ");");
+				step = ", " + identifier + " += (" + stride + ")";
+			}
+			printer.printLn("for (" + it + " OMP_local_iterator = " + chunkStart + "; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++" + step + ") {");
+			printer.indent();
+			if (this.collapse > 1) {
+				printCollapsedIndices(chunkStart);
+			} else if (this.elementLoop) {
+				if (LoopStyle.Foreach == this.loopStyle) {
+					printer.printLn(identifier + " = (" + getElementType() + ") OMP_elements.get(OMP_local_iterator);");
+				} else {
+					printer.printLn("OMP_elementIterator.moveTo(OMP_local_iterator);");
+				}
+			}
+			//BEGIN user code 
+			this.forBody.accept(visitor, printer);
+			//END user code
+			printer.printLn();
+			printer.unindent();
+			printer.printLn("}");
+		}
+		//BEGIN lastprivate value return
+		printer.printLn("if (OMP_end == OMP_chunkLast) {");
+		printer.indent();
+		printer.printLn("//BEGIN lastprivate variables value set");
+		DataClausesHandler.updateLastprivateForWorksharingBlock(this, printer);
+		printer.printLn("//END lastprivate variables value set");
+		printer.unindent();
+		printer.printLn("}");
+		//END lastprivate value return
+		printOrderedChunkEnd();
+	}
+	
+	/*
+	 * The chunks of for simd loops are printed by SimdLoopBuilder when they are ranges of an int 
+	 * induction variable counting up by one, other for simd loops run their chunks as for loops do.
+	 */
+	private boolean isSimdChunk() {
+		return this.ompForConstruct.isSimd() && this.collapse <= 1 && !this.elementLoop && !this.orderedLoop
+				&& !this.longIteration && "1".equals(this.stride.toString().trim());
+	}
+	
+	/*
+	 * The reduction variables are known to the loop body by their worksharing private names.
+	 */
+	private SimdLoopBuilder getSimdLoop() {
+		if (null == this.simdLoop) {
+			HashMap<String, String> reductionTypes = new HashMap<String, String>();
+			if (null != this.ompForConstruct.getDataClauseList()) {
+				for (OmpDataClause dataClause: this.ompForConstruct.getDataClauseList()) {
+					if (OmpDataClause.Type.Reduction != dataClause.DataClauseType()) {
+						continue;
+					}
+					HashMap<String, String> argsTypes = ((OmpReductionDataClause) dataClause).getArgsTypes(this.ompForConstruct);
+					for (String varName: argsTypes.keySet()) {
+						String bodyName = this.varSubstitutionSet.containsKey(varName) ? this.varSubstitutionSet.get(varName) : varName;
+						reductionTypes.put(bodyName, argsTypes.get(varName));
+					}
+				}
+			}
+			this.simdLoop = new SimdLoopBuilder(this.visitor, this.identifier, this.forBody, reductionTypes);
+		}
+		return this.simdLoop;
+	}
+	
+	/*
+	 * Declares the element variable of a for-each loop over a collection, or the iterator of
+	 * an iterator loop, which the loop body steps with next().
+	 */
+	private void printElementVariable() {
+		String elementType = getElementType();
+		if (LoopStyle.Foreach == this.loopStyle) {
+			printer.printLn(elementType + " " + identifier + " = " +
+							(DataClauseHandlerUtils.isPrimitiveType(elementType) ? 
+							 DataClauseHandlerUtils.getDefaultValuesForPrimitiveType(elementType)
+							 :"null") + ";");
+		} else {
+			printer.printLn("final ElementIterator<" + elementType + "> OMP_elementIterator = new ElementIterator<" + elementType + ">(OMP_elements);");
+			printer.printLn((iteratorDeclaration ? "java.util.Iterator<" + elementType + "> " : "") + identifier + " = OMP_elementIterator;");
+		}
+	}
+	
+	private String getElementType() {
+		return (null == this.iteratorType) ? "Object" : this.iteratorType;
+	}
+	
+	/*
+	 * Prints the assignment of the collapsed loops' induction variables for iteration OMP_local_iterator.
+	 * The indices are recovered by division at the start of a chunk only, the following iterations
+	 * of the chunk advance the innermost index and carry outwards.
+	 */
+	private void printCollapsedIndices(String chunkStart) {
+		int innermost = this.collapse - 1;
+		printer.printLn("if (OMP_local_iterator == " + chunkStart + ") {");
+		printer.indent();
+		printer.printLn("long OMP_collapseRest = OMP_local_iterator;");
+		for (int level = innermost; level > 0; level--) {
+			String lt = this.collapsedLoops.get(level).longIteration ? "long" : "int";
+			printer.printLn("OMP_collapseIndex_" + level + " = (" + lt + ")(OMP_collapseRest % OMP_collapseTrip_" + level + ");");
+			printer.printLn("OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_" + level + ";");
+		}
+		printer.printLn("OMP_collapseIndex_0 = (" + (this.collapsedLoops.get(0).longIteration ? "long" : "int") + ")OMP_collapseRest;");
+		printer.unindent();
+		printer.print("} else ");
+		for (int level = innermost; level > 0; level--) {
+			printer.printLn("if (++OMP_collapseIndex_" + level + " == OMP_collapseTrip_" + level + ") {");
+			printer.indent();
+			printer.printLn("OMP_collapseIndex_" + level + " = 0;");
+			if (1 == level) {
+				printer.printLn("++OMP_collapseIndex_0;");
+			}
+		}
+		for (int level = innermost; level > 0; level--) {
+			printer.unindent();
+			printer.printLn("}");
+		}
+		for (int level = 0; level < this.collapse; level++) {
+			CollapsedLoop loop = this.collapsedLoops.get(level);
+			printer.printLn(loop.identifier + " = " + loop.init + " + OMP_collapseIndex_" + level + " * (" + loop.stride + ");");
+		}
+	}
+	
+	/*
+	 * Ordered regions wait for the start of the chunk of their iteration, the ticket passes on
+	 * when the thread is done with the chunk.
+	 */
+	private void printOrderedChunkBegin(String chunkStart) {
+		if (this.orderedLoop) {
+			printer.printLn("final long OMP_orderedChunkStart = " + chunkStart + ";");
+		}
+	}
+	
+	private void printOrderedChunkEnd() {
+		if (this.orderedLoop) {
+			printer.printLn("OMP_workShareSlot.ordered.pass(OMP_orderedChunkStart, OMP_chunkLast + 1L);");
+		}
+	}
+	
+	/*
+	 * Loops whose threads share a cursor or a schedule take them from a slot of the team's 
+	 * work-share ring instead of resetting shared ones behind a barrier, and so do loops with
+	 * ordered regions for their order cursor.
+	 */
+	private boolean usesWorkShareSlot() {
+		if (this.orderedLoop) {
+			return true;
+		}
+		if (LoopType.Iterator == this.loopType) {
+			//for the copy of the elements, or the stream
+			return true;
+		}
+		if (null == this.ompForConstruct.getScheduleClause()) {
+			return false;
+		}
+		switch (this.ompForConstruct.getScheduleClause().getScheduleType()) {
+		case Dynamic:
+		case Guided:
+		case Runtime:
+		case Auto:
+		case Steal:
+			return true;
+		default:
+			return false;
+		}
+	}
+	
+	private boolean containsOrderedRegion() {
+		final boolean[] found = {false};
+		this.forBody.accept(new VoidVisitorAdapter<Object>() {
+			@Override
+			public void visit(OmpOrderedConstruct n, Object arg) {
+				found[0] = true;
+			}
+		}, null);
+		return found[0];
+	}
+	
 	private void generateBlock() {
 		printer.printLn();
 		printer.indent();printer.indent();printer.indent();printer.indent();
@@ -602,10 +935,19 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 		/////////////////BEGIN parallel worksharing code conversion///////////////////
 		printer.printLn("//#BEGIN firstprivate lastprivate reduction variables defined and initialized here");
 		DataClausesHandler.redeclarePrivateVariablesForWorksharingBlock(this, printer);
-		printer.printLn("//#set implicit barrier here, otherwise unexpected initial value happens");
-		printer.printLn("PjRuntime.setBarrier();");
+		if (this.ompForConstruct.entryBarrierRequired) {
+			printer.printLn("//#set implicit barrier here, otherwise unexpected initial value happens");
+			printer.printLn("PjRuntime.setBarrier();");
+		} else {
+			printer.printLn("//#entry barrier eliminated, no private copy reads a variable written during the loop");
+		}
 		printer.printLn("//#END firstprivate lastprivate reduction variables defined and initialized here");
 		
+		this.orderedLoop = this.ompForConstruct.isOrdered() || containsOrderedRegion();
+		boolean workShareSlot = usesWorkShareSlot();
+		if (workShareSlot) {
+			printer.printLn("final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();");
+		}
 		// print the real for-loop code and enclosed user code
 		printer.printLn("try{");
 		printer.indent();
@@ -637,15 +979,24 @@ public class WorkShareBlockBuilder extends ConstructWrapper{
 				}
 			}
 		}
-		printer.printLn("} catch (Exception e){throw e;}");
+		if (workShareSlot) {
+			printer.printLn("} catch (Exception e){throw e;");
+			printer.printLn("} finally {");
+			printer.printLn("    OMP_workShareSlot.leave();");
+			printer.printLn("}");
+		} else {
+			printer.printLn("} catch (Exception e){throw e;}");
+		}
 		printer.printLn("//BEGIN  reduction");
-		printer.printLn("PjRuntime.reductionLockForWorksharing.lock();");
-		DataClausesHandler.reductionForWorksharingBlock(this, printer);
-		printer.print("PjRuntime.reductionLockForWorksharing.unlock();");
+		boolean reduction = DataClausesHandler.reductionForWorksharingBlock(this, printer);
 		printer.printLn("//END reduction");
 
-		if (!this.ompForConstruct.isNowait()) {
+		if (reduction) {
+			printer.printLn("//#the barrier combining the reductions is the end barrier");
+		} else if (!this.ompForConstruct.isNowait() && this.ompForConstruct.endBarrierRequired) {
 			printer.printLn("PjRuntime.setBarrier();");
+		} else if (!this.ompForConstruct.isNowait()) {
+			printer.printLn("//#implicit barrier eliminated, the next barrier follows directly");
 		}
 		printer.unindent();
 		printer.printLn("}");
@@ -242,6 +242,200 @@ public class DataClauseHandlerUtils {
 		return type;
 	}
 	
+	/*
+	 * Returns the getter of pj.pr.ReductionSlot for the totals of a reduction variable of primitive
+	 * or wrapper type, or null if its partials are combined as objects.
+	 */
+	public static String getReductionSlotGetter(String type) {
+		if (type.equals("int") || type.equals("Integer")
+				|| type.equals("long") || type.equals("Long")
+				|| type.equals("short") || type.equals("Short")
+				|| type.equals("byte") || type.equals("Byte")
+				|| type.equals("char") || type.equals("Character"))
+			return "getLong";
+		if (type.equals("double") || type.equals("Double"))
+			return "getDouble";
+		if (type.equals("float") || type.equals("Float"))
+			return "getFloat";
+		if (type.equals("boolean") || type.equals("Boolean"))
+			return "getBoolean";
+		return null;
+	}
+	
+	/*
+	 * Returns the identity of a primitive reduction operator for a variable of primitive or wrapper
+	 * type, the private copies of the reduction variable start at it. Returns null for other types.
+	 */
+	public static String getReductionIdentity(String type, String operator) {
+		if (null == getReductionSlotGetter(type)) {
+			return null;
+		}
+		String primitiveType = unBox(type);
+		if (primitiveType.equals("boolean")) {
+			return (operator.equals("&") || operator.equals("&&") || operator.equals("min")) ? "true" : "false";
+		}
+		if (isExtremumOperator(operator)) {
+			String prefix = primitiveType.equals("int") ? "Integer" : primitiveType.equals("char") ? "Character"
+					: Character.toUpperCase(primitiveType.charAt(0)) + primitiveType.substring(1);
+			boolean floating = primitiveType.equals("double") || primitiveType.equals("float");
+			if (operator.startsWith("min")) {
+				return prefix + (floating ? ".POSITIVE_INFINITY" : ".MAX_VALUE");
+			} else {
+				return prefix + (floating ? ".NEGATIVE_INFINITY" : ".MIN_VALUE");
+			}
+		}
+		String identity;
+		if (operator.equals("*")) {
+			identity = "1";
+		} else if (operator.equals("&")) {
+			identity = "~0";
+		} else {
+			identity = "0";
+		}
+		if (primitiveType.equals("long"))
+			identity += "L";
+		else if (primitiveType.equals("double"))
+			identity = identity.equals("~0") ? identity : identity + ".0d";
+		else if (primitiveType.equals("float"))
+			identity = identity.equals("~0") ? identity : identity + ".0f";
+		else if (!primitiveType.equals("int"))
+			identity = "(" + primitiveType + ") " + identity;
+		return identity;
+	}
+	
+	/*
+	 * The location variable of a minloc or maxloc reduction starts after every location, so of
+	 * equal values the one at the smaller location wins.
+	 */
+	public static String getLocationIdentity(String type) {
+		String primitiveType = unBox(type);
+		if (primitiveType.equals("int")) {
+			return "Integer.MAX_VALUE";
+		} else if (primitiveType.equals("long")) {
+			return "Long.MAX_VALUE";
+		}
+		throw new RuntimeException("Unsupported: location variable of type " + type + ", minloc and maxloc need an int or long location");
+	}
+	
+	/*
+	 * min, max, minloc and maxloc keep one of the values they reduce instead of computing one.
+	 */
+	public static boolean isExtremumOperator(String operator) {
+		return operator.equals("min") || operator.equals("max") || operator.equals("minloc") || operator.equals("maxloc");
+	}
+	
+	/*
+	 * concat, union and merge reduce the elements of lists, sets and maps.
+	 */
+	public static boolean isCollectionOperator(String operator) {
+		return operator.equals("concat") || operator.equals("union") || operator.equals("merge");
+	}
+	
+	/*
+	 * Returns the empty container the private copies of a collection reduction variable start at,
+	 * an ArrayList, HashSet or HashMap for a variable of interface type Collection, List, Set or
+	 * Map, otherwise a default constructed object of the type of the variable.
+	 */
+	public static String getCollectionIdentity(String type, String operator) {
+		if (null != getReductionSlotGetter(type)) {
+			throw new RuntimeException("Unsupported: " + operator + " reduction on variable of type " + type + ", collection reductions need a list, set or map");
+		}
+		int generic = type.indexOf('<');
+		String rawType = (generic < 0) ? type : type.substring(0, generic).trim();
+		String typeArguments = (generic < 0) ? "" : type.substring(generic);
+		if (rawType.startsWith("java.util.")) {
+			rawType = rawType.substring("java.util.".length());
+		}
+		switch (rawType) {
+		case "Collection":
+		case "List":
+			return "new java.util.ArrayList" + typeArguments + "()";
+		case "Set":
+			return "new java.util.HashSet" + typeArguments + "()";
+		case "Map":
+			return "new java.util.HashMap" + typeArguments + "()";
+		default:
+			return "new " + type + "()";
+		}
+	}
+	
+	/*
+	 * Returns the primitive type of a primitive or wrapper type.
+	 */
+	public static String unBox(String type) {
+		if (type.equals("Integer"))
+			return "int";
+		if (type.equals("Character"))
+			return "char";
+		if (isWrapperType(type))
+			return type.toLowerCase();
+		return type;
+	}
+	
+	/*
+	 * Returns the pj.pr.ReductionSlot operator the partials of a primitive reduction operator are
+	 * combined by, the partials of a - reduction are summed up and subtracted at once.
+	 */
+	public static String getReductionSlotOperator(String operator) {
+		switch (operator) {
+		case "+":
+		case "-":
+			return "SUM";
+		case "*":
+			return "PRODUCT";
+		case "&":
+		case "&&":
+			return "AND";
+		case "|":
+		case "||":
+			return "OR";
+		case "^":
+			return "XOR";
+		case "min":
+			return "MIN";
+		case "max":
+			return "MAX";
+		case "minloc":
+			return "MINLOC";
+		case "maxloc":
+			return "MAXLOC";
+		default:
+			throw new RuntimeException("Undefined Operation");
+		}
+	}
+	
+	/*
+	 * The ReductionSlot operator of a reduction over the elements of a one dimensional array,
+	 * array reductions are supported on int, long, float and double arrays by the primitive
+	 * arithmetic operators, min and max, and on int and long arrays by the bitwise operators.
+	 */
+	public static String getArrayReductionOperator(String arrayType, String operator) {
+		String elementType = arrayType.endsWith("[]") ? arrayType.substring(0, arrayType.length() - 2).trim() : arrayType;
+		boolean integral = "int".equals(elementType) || "long".equals(elementType);
+		boolean floating = "float".equals(elementType) || "double".equals(elementType);
+		if (!integral && !floating) {
+			throw new RuntimeException("Unsupported: reductions on arrays of " + elementType + ", array reductions need an int, long, float or double array");
+		}
+		switch (operator) {
+		case "+":
+		case "-":
+		case "*":
+		case "min":
+		case "max":
+			return getReductionSlotOperator(operator);
+		case "&":
+		case "|":
+		case "^":
+			if (integral) {
+				return getReductionSlotOperator(operator);
+			}
+			break;
+		default:
+			break;
+		}
+		throw new RuntimeException("Unsupported: reduction operator " + operator + " on arrays of " + elementType);
+	}
+	
 	public static boolean isPrimitiveReductionOperator(String operator) {
 		boolean isprimitive = false;
 		switch (operator) {
@@ -253,6 +447,10 @@ public class DataClauseHandlerUtils {
 		case "^":
 		case "&&":
 		case "||":
+		case "min":
+		case "max":
+		case "minloc":
+		case "maxloc":
 			isprimitive = true;
 			break;
 		default:
@@ -29,6 +29,7 @@ import java.util.List;
 
 import pj.parser.ast.expr.Expression;
 import pj.parser.ast.omp.OmpDataClause;
+import pj.parser.ast.omp.OmpDeclareReduction;
 import pj.parser.ast.omp.OmpForConstruct;
 import pj.parser.ast.omp.OmpGuiConstruct;
 import pj.parser.ast.omp.OmpLastprivateDataClause;
@@ -36,6 +37,7 @@ import pj.parser.ast.omp.OmpParallelConstruct;
 import pj.parser.ast.omp.OmpPrivateDataClause;
 import pj.parser.ast.omp.OmpReductionDataClause;
 import pj.parser.ast.omp.OmpReductionOperator;
+import pj.parser.ast.omp.OpenMPStatement;
 import pj.parser.ast.stmt.BlockStmt;
 import pj.parser.ast.stmt.Statement;
 import pj.parser.ast.symbolscope.ScopeInfo;
@@ -100,10 +102,18 @@ public class DataClausesHandler {
 				 */
 				break;
 			case Reduction:
-				for(Expression varExpression: ((OmpReductionDataClause)dataClause).getArgumentMap().keySet()) {
+				OmpReductionDataClause reductionClause = (OmpReductionDataClause)dataClause;
+				HashMap<String, String> reductionArgs = reductionClause.getArgsTypes(parallelWrapper.parallelConstruct);
+				for(Expression varExpression: reductionClause.getVariables()) {
 					String varName = varExpression.toString();
-					printer.printLn(classInstanceName + "." + REDUCTION_VARIABLE_DECLARATION_PREFIX + varName + " = " + varName + ";");
+					String reductionVar = classInstanceName + "." + REDUCTION_VARIABLE_DECLARATION_PREFIX + varName;
+					printer.printLn(reductionVar + " = " + varName + ";");
 					//e.g. ParallelRegion_0_in.sp = sp;
+					if (reductionClause.isArrayReduction(varExpression, reductionArgs.get(varName))) {
+						printer.printLn(reductionVar + "_lower = " + reductionClause.getSectionLower(varExpression) + ";");
+						printer.printLn(reductionVar + "_length = " + reductionClause.getSectionLength(varExpression) + ";");
+						//e.g. ParallelRegion_0_in.OMP_REDUCTION_hist_lower = (0);
+					}
 				}
 				break;
 			case Copyprivate:
@@ -150,7 +160,7 @@ public class DataClausesHandler {
 				break;
 				
 			case Reduction:
-				for(Expression varExpression: ((OmpReductionDataClause)dataClause).getArgumentMap().keySet()) {
+				for(Expression varExpression: ((OmpReductionDataClause)dataClause).getVariables()) {
 					String varName = varExpression.toString();
 					printer.printLn(varName + " = " + classInstanceName + "." + REDUCTION_VARIABLE_DECLARATION_PREFIX + varName + ";");
 					//e.g. sp = ParallelRegion_0_in.sp;
@@ -301,7 +311,7 @@ public class DataClausesHandler {
 					break;
 					
 				case Reduction:
-					for(Expression varExpression: ((OmpReductionDataClause)dataClause).getArgumentMap().keySet()) {
+					for(Expression varExpression: ((OmpReductionDataClause)dataClause).getVariables()) {
 						String varName = varExpression.toString();
 						privateVariableSet.put(varName, WORKSHARING_PRIVATE_VARIABLE_RENAMING_PREFIX + varName);
 					}
@@ -380,7 +390,40 @@ public class DataClausesHandler {
 					String varName = varExpression.toString();
 					String varType = reductionArgs.get(varName);
 					worksharingWrapper.varSubstitutionSet.put(varName, RENAMING_PREFIX + varName);
-					if (DataClauseHandlerUtils.isPrimitiveType(varType)) {
+					String reductionOpr = ((OmpReductionDataClause)dataClause).getArgumentMap().get(varExpression).getOperatorString();
+					if (((OmpReductionDataClause)dataClause).isArrayReduction(varExpression, varType)) {
+						String section = RENAMING_PREFIX + varName;
+						printer.printLn("int " + section + "_lower = " + ((OmpReductionDataClause)dataClause).getSectionLower(varExpression) + ";");
+						printer.printLn("int " + section + "_length = " + ((OmpReductionDataClause)dataClause).getSectionLength(varExpression) + ";");
+						printer.printLn(varType + " " + section + " = ReductionSlot.partialSection(" + varName + ", " + section + "_lower, " + section + "_length, ReductionSlot."
+								+ DataClauseHandlerUtils.getArrayReductionOperator(varType, reductionOpr) + ");");
+						//e.g. int[] OMP_WoRkShArInG_PRIVATE_1hist = ReductionSlot.partialSection(hist, OMP_WoRkShArInG_PRIVATE_1hist_lower, OMP_WoRkShArInG_PRIVATE_1hist_length, ReductionSlot.SUM);
+						continue;
+					}
+					Expression location = ((OmpReductionDataClause)dataClause).getLocation(varExpression);
+					if (null != location) {
+						String locationType = reductionArgs.get(location.toString());
+						worksharingWrapper.varSubstitutionSet.put(location.toString(), RENAMING_PREFIX + location);
+						printer.printLn(locationType + " " + RENAMING_PREFIX + location + " = " + DataClauseHandlerUtils.getLocationIdentity(locationType) + ";");
+						//e.g. int OMP_WoRkShArInG_PRIVATE_1at = Integer.MAX_VALUE;
+					}
+					String identity = DataClauseHandlerUtils.isPrimitiveReductionOperator(reductionOpr) ? DataClauseHandlerUtils.getReductionIdentity(varType, reductionOpr)
+							: DataClauseHandlerUtils.isCollectionOperator(reductionOpr) ? DataClauseHandlerUtils.getCollectionIdentity(varType, reductionOpr) : null;
+					OmpDeclareReduction declared = ((OmpReductionDataClause)dataClause).getArgumentMap().get(varExpression).getDeclaredReduction(varType);
+					if (null != identity) {
+						printer.printLn(varType+ " " + RENAMING_PREFIX + varName + " = " + identity + ";");
+						//e.g. int OMP_WoRkShArInG_PRIVATE_a = 0;
+						//e.g. List<Integer> OMP_WoRkShArInG_PRIVATE_1list = new java.util.ArrayList<Integer>();
+						if ("concat".equals(reductionOpr)) {
+							printer.printLn("final ReductionSlot.ListChunks " + RENAMING_PREFIX + varName + "_chunks = new ReductionSlot.ListChunks();");
+							//e.g. final ReductionSlot.ListChunks OMP_WoRkShArInG_PRIVATE_1list_chunks = new ReductionSlot.ListChunks();
+						}
+					}
+					else if (null != declared) {
+						declared.printPrivateCopy(varType + " " + RENAMING_PREFIX + varName, RENAMING_PREFIX + varName, varName, printer);
+						//e.g. Histogram OMP_WoRkShArInG_PRIVATE_1h; {Histogram omp_orig = h; OMP_WoRkShArInG_PRIVATE_1h = new Histogram(omp_orig.bins());}
+					}
+					else if (DataClauseHandlerUtils.isPrimitiveType(varType)) {
 						printer.printLn(varType+ " " + RENAMING_PREFIX + varName + " = " + varName + ";");
 						//e.g. int OMP_WoRkShArInG_PRIVATE_a = a;
 					}
@@ -430,79 +473,284 @@ public class DataClausesHandler {
 		}
 	}
 	
-	public static void reductionForPRClass(ParallelRegionClassBuilder wrapper, SourcePrinter printer) {
-		List<OmpDataClause> dataClauseList = wrapper.parallelConstruct.getDataClauseList();
+	/*
+	 * Prints the marks of the chunk starting at chunkStart in the private lists of the concat
+	 * reductions of a worksharing block, so the lists of the team are concatenated in the order of
+	 * the chunks whatever the schedule of the loop.
+	 */
+	public static void markReductionChunksForWorksharingBlock(WorkShareBlockBuilder worksharingWrapper, String chunkStart, SourcePrinter printer) {
+		OmpForConstruct forConstruct = worksharingWrapper.getForConstruct();
+		final String RENAMING_PREFIX  = WORKSHARING_PRIVATE_VARIABLE_RENAMING_PREFIX+ Integer.toString(worksharingWrapper.getID());
+		List<OmpDataClause> dataClauseList = forConstruct.getDataClauseList();
 		if (null == dataClauseList) {
 			return;
 		}
 		
 		for (OmpDataClause dataClause: dataClauseList) {
-			if (OmpDataClause.Type.Reduction == dataClause.DataClauseType()) {
-				for(Expression varExpression: ((OmpReductionDataClause)dataClause).getArgumentMap().keySet()) {
-					String varName = varExpression.toString();
-					OmpReductionOperator operator = ((OmpReductionDataClause)dataClause).getArgumentMap().get(varExpression);
-					String reductionOpr = operator.getOperatorString();
-					if (DataClauseHandlerUtils.isPrimitiveReductionOperator(reductionOpr)) {
-						/*
-						 * primitive type reduction operation
-						 */
-						printer.print("synchronized(OMP_reduction_lock){ ");
-						printer.print(REDUCTION_VARIABLE_DECLARATION_PREFIX + varName + " " + reductionOpr + "= " + varName + ";");
-						printer.printLn(" }");
-						//e.g. this.outputList.s + s;
-					}
-					else {
-						/*
-						 * user defined reduction operation
-						 */
-						printer.print("synchronized(OMP_reduction_lock){ ");
-						printer.print(reductionOpr + "(" + REDUCTION_VARIABLE_DECLARATION_PREFIX + varName + "," + varName + ");");
-						printer.printLn(" }");
-						//e.g. reductionxing(this.val,val);
-					}		
+			if (OmpDataClause.Type.Reduction != dataClause.DataClauseType()) {
+				continue;
+			}
+			HashMap<String, String> reductionArgs = ((OmpReductionDataClause)dataClause).getArgsTypes(forConstruct);
+			for(Expression varExpression: ((OmpReductionDataClause)dataClause).getArgumentMap().keySet()) {
+				String varName = varExpression.toString();
+				String reductionOpr = ((OmpReductionDataClause)dataClause).getArgumentMap().get(varExpression).getOperatorString();
+				if ("concat".equals(reductionOpr) && !((OmpReductionDataClause)dataClause).isArrayReduction(varExpression, reductionArgs.get(varName))) {
+					printer.printLn(RENAMING_PREFIX + varName + "_chunks.mark(" + chunkStart + ", " + RENAMING_PREFIX + varName + ".size());");
+					//e.g. OMP_WoRkShArInG_PRIVATE_1list_chunks.mark(OMP_iterator, OMP_WoRkShArInG_PRIVATE_1list.size());
 				}
 			}
 		}
 	}
 	
-	public static void reductionForWorksharingBlock(WorkShareBlockBuilder worksharingWrapper, SourcePrinter printer) {
+	/*
+	 * Prints the reduction at the end of a parallel region, the thread's reduction variables are
+	 * combined in the barrier of taskWait(). Returns false, printing nothing, if the region has
+	 * no reduction.
+	 */
+	public static boolean reductionForPRClass(ParallelRegionClassBuilder wrapper, SourcePrinter printer) {
+		return printReductionCombining(wrapper.parallelConstruct, wrapper.parallelConstruct.getDataClauseList(),
+				"", REDUCTION_VARIABLE_DECLARATION_PREFIX, REDUCTION_VARIABLE_DECLARATION_PREFIX, "PjRuntime.taskWait(OMP_reductionSlot)", printer);
+	}
+	
+	/*
+	 * Prints the reduction at the end of a worksharing block, the private copies are combined in
+	 * a barrier, which is the end barrier of the block. Returns false, printing nothing, if the
+	 * block has no reduction.
+	 */
+	public static boolean reductionForWorksharingBlock(WorkShareBlockBuilder worksharingWrapper, SourcePrinter printer) {
 		OmpForConstruct forConstruct = worksharingWrapper.getForConstruct();
 		final String RENAMING_PREFIX  = WORKSHARING_PRIVATE_VARIABLE_RENAMING_PREFIX+ Integer.toString(worksharingWrapper.getID());
-		List<OmpDataClause> dataClauseList = forConstruct.getDataClauseList();
+		return printReductionCombining(forConstruct, forConstruct.getDataClauseList(),
+				RENAMING_PREFIX, "", RENAMING_PREFIX, "PjRuntime.combineReduction(OMP_reductionSlot)", printer);
+	}
+	
+	/*
+	 * Every thread puts its partials into its reduction slot and arrives at the barrier, which
+	 * combines the slots of the team in its combining tree. The thread that holds the totals
+	 * then applies them to the reduction variables and releases the team, e.g.
+	 *   final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+	 *   OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1sum, ReductionSlot.SUM);
+	 *   if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+	 *       try {
+	 *           sum += (int) OMP_reductionSlot.getLong(0);
+	 *       } finally {
+	 *           PjRuntime.endReduction();
+	 *       }
+	 *   }
+	 * Partials of other than primitive types, and of user defined operators, are combined by a
+	 * ReductionSlot.Combiner. The combiner of a declare reduction directive runs in the Combiner,
+	 * and once more to merge the total into the variable. A minloc or maxloc partial takes two
+	 * entries of the slot, the value and its location. The private sets of a union and the private
+	 * maps of a merge are combined into the larger of two in the tree.
+	 *
+	 * The private copies of array sections are not combined in the tree, every thread puts its
+	 * copy into its slot, and once the barrier released the team every thread combines the copies
+	 * of the team into its share of the section. The threads wait for the others to finish with
+	 * their shares in another barrier, even if a barrier follows the block: a reduction barrier
+	 * there would clear the slots the others still read their copies from, e.g.
+	 *   OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_1hist, ReductionSlot.SUM);
+	 *   ...
+	 *   PjRuntime.combineReductionSection(OMP_reductionSlot, 0, hist, OMP_WoRkShArInG_PRIVATE_1hist_lower, OMP_WoRkShArInG_PRIVATE_1hist_length);
+	 *   PjRuntime.setBarrier();
+	 * The private lists of a concat reduction are put the same way. The thread that holds the
+	 * totals grows the list by all of them, and every thread copies its own list into its segment.
+	 * The lists of a worksharing block are put with the chunks of the loop that filled them, their
+	 * segments are in the order of the chunks, otherwise in the order of the threads.
+	 */
+	private static boolean printReductionCombining(OpenMPStatement construct, List<OmpDataClause> dataClauseList,
+			String partialPrefix, String targetPrefix, String boundsPrefix, String barrier, SourcePrinter printer) {
 		if (null == dataClauseList) {
-			return;
+			return false;
 		}
-		
+		List<String> applications = new ArrayList<String>();
+		List<String> sections = new ArrayList<String>();
+		int entries = 0; //partials put into the slot so far
 		for (OmpDataClause dataClause: dataClauseList) {
-			switch (dataClause.DataClauseType()) {
-			
-			case Reduction:
-				for(Expression varExpression: ((OmpReductionDataClause)dataClause).getArgumentMap().keySet()) {
-					String varName = varExpression.toString();
-					OmpReductionOperator operator = ((OmpReductionDataClause)dataClause).getArgumentMap().get(varExpression);
-					String reductionOpr = operator.getOperatorString();
+			if (OmpDataClause.Type.Reduction != dataClause.DataClauseType()) {
+				continue;
+			}
+			if (applications.isEmpty() && sections.isEmpty()) {
+				printer.printLn("final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();");
+			}
+			HashMap<String, String> reductionArgs = ((OmpReductionDataClause)dataClause).getArgsTypes(construct);
+			for(Expression varExpression: ((OmpReductionDataClause)dataClause).getArgumentMap().keySet()) {
+				String varName = varExpression.toString();
+				String varType = reductionArgs.get(varName);
+				String partial = partialPrefix + varName;
+				String target = targetPrefix + varName;
+				String total = "OMP_reductionSlot.";
+				OmpReductionOperator operator = ((OmpReductionDataClause)dataClause).getArgumentMap().get(varExpression);
+				String reductionOpr = operator.getOperatorString();
+				String getter = DataClauseHandlerUtils.getReductionSlotGetter(varType);
+				Expression location = ((OmpReductionDataClause)dataClause).getLocation(varExpression);
+				if (((OmpReductionDataClause)dataClause).isArrayReduction(varExpression, varType)) {
+					/*
+					 * array section reduction operation
+					 */
+					printer.printLn("OMP_reductionSlot.putSection(" + partial + ", ReductionSlot." + DataClauseHandlerUtils.getArrayReductionOperator(varType, reductionOpr) + ");");
+					//e.g. OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_1hist, ReductionSlot.SUM);
+					String bounds = boundsPrefix + varName;
+					sections.add("PjRuntime.combineReductionSection(OMP_reductionSlot, " + sections.size() + ", " + target + ", " + bounds + "_lower, " + bounds + "_length);");
+				} else if (null != operator.getDeclaredReduction(varType)) {
+					/*
+					 * declared reduction operation
+					 */
+					List<String> combination = new ArrayList<String>();
+					operator.getDeclaredReduction(varType).addCombination("a", "b", combination);
+					printer.printLn("OMP_reductionSlot.put(" + partial + ", new ReductionSlot.Combiner() {");
+					printer.indent();
+					printer.printLn("public Object combine(Object a, Object b) {");
+					printer.indent();
+					for (String line: combination) {
+						printer.printLn(line);
+					}
+					printer.printLn("return omp_out;");
+					printer.unindent();
+					printer.printLn("}");
+					printer.unindent();
+					printer.printLn("});");
+					applications.add("{");
+					combination.clear();
+					operator.getDeclaredReduction(varType).addCombination(target, total + "getObject(" + entries + ")", combination);
+					for (String line: combination) {
+						applications.add("    " + line);
+					}
+					applications.add("    " + target + " = omp_out;");
+					applications.add("}");
+					//e.g. {Histogram omp_out = (Histogram) h; Histogram omp_in = (Histogram) OMP_reductionSlot.getObject(0); omp_out.merge(omp_in); h = omp_out;}
+					entries++;
+				} else if ("concat".equals(reductionOpr)) {
+					/*
+					 * list concatenation, in the order of the chunks of a loop or of the threads of a region
+					 */
+					if (construct instanceof OmpForConstruct) {
+						printer.printLn("OMP_reductionSlot.putSection(" + partial + ", " + partial + "_chunks);");
+						//e.g. OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_1list, OMP_WoRkShArInG_PRIVATE_1list_chunks);
+					} else {
+						printer.printLn("OMP_reductionSlot.putSection(" + partial + ", ReductionSlot.CONCAT);");
+						//e.g. OMP_reductionSlot.putSection(threads, ReductionSlot.CONCAT);
+					}
+					applications.add("PjRuntime.growReductionList(OMP_reductionSlot, " + sections.size() + ", " + target + ");");
+					sections.add("PjRuntime.concatReductionList(OMP_reductionSlot, " + sections.size() + ", " + target + ");");
+				} else if (DataClauseHandlerUtils.isCollectionOperator(reductionOpr)) {
+					/*
+					 * set union or map merge
+					 */
+					String combination;
+					String partialTotal = "(" + varType + ") " + total + "getObject(" + entries + ")";
+					if ("union".equals(reductionOpr)) {
+						combination = "ReductionSlot.union((" + varType + ") a, (" + varType + ") b)";
+						applications.add(target + ".addAll(" + partialTotal + ");");
+						//e.g. set.addAll((Set<Integer>) OMP_reductionSlot.getObject(0));
+					} else {
+						combination = "ReductionSlot.merge((" + varType + ") a, (" + varType + ") b, " + operator.getMergeFunction() + ")";
+						applications.add("ReductionSlot.mergeInto(" + target + ", " + partialTotal + ", " + operator.getMergeFunction() + ");");
+						//e.g. ReductionSlot.mergeInto(counts, (Map<String, Integer>) OMP_reductionSlot.getObject(0), Reduction.IntegerSUM);
+					}
+					printer.printLn("OMP_reductionSlot.put(" + partial + ", new ReductionSlot.Combiner() {");
+					printer.printLn("    public Object combine(Object a, Object b) {return " + combination + ";}");
+					printer.printLn("});");
+					entries++;
+				} else if (DataClauseHandlerUtils.isExtremumOperator(reductionOpr) && (null == getter || ("getBoolean".equals(getter) && null != location))) {
+					throw new RuntimeException(STR_UNSUPPORTED_ON_PYJAMA + reductionOpr + " reduction on variable '" + varName + "' of type " + varType);
+				} else if (null != location) {
+					/*
+					 * minloc or maxloc reduction operation, the location follows the value in the slot
+					 */
+					String primitiveType = DataClauseHandlerUtils.unBox(varType);
+					String locationType = DataClauseHandlerUtils.unBox(reductionArgs.get(location.toString()));
+					String targetLocation = targetPrefix + location;
+					printer.printLn("OMP_reductionSlot.put(" + partial + ", " + partialPrefix + location + ", ReductionSlot." + DataClauseHandlerUtils.getReductionSlotOperator(reductionOpr) + ");");
+					//e.g. OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1best, OMP_WoRkShArInG_PRIVATE_1at, ReductionSlot.MAXLOC);
+					total += getter + "(" + entries + ")";
+					if ("getLong".equals(getter) && !"long".equals(primitiveType)) {
+						total = "(" + primitiveType + ") " + total;
+					}
+					String totalLocation = "OMP_reductionSlot.getLong(" + (entries + 1) + ")";
+					if (!"long".equals(locationType)) {
+						totalLocation = "(" + locationType + ") " + totalLocation;
+					}
+					applications.add("if (OMP_reductionSlot.precedes(" + entries + ", " + target + ", " + targetLocation + ")) {");
+					applications.add("    " + target + " = " + total + ";");
+					applications.add("    " + targetLocation + " = " + totalLocation + ";");
+					applications.add("}");
+					//e.g. if (OMP_reductionSlot.precedes(0, best, at)) {best = OMP_reductionSlot.getDouble(0); at = (int) OMP_reductionSlot.getLong(1);}
+					entries += 2;
+				} else if (DataClauseHandlerUtils.isPrimitiveReductionOperator(reductionOpr) && null != getter) {
+					/*
+					 * primitive type reduction operation
+					 */
+					printer.printLn("OMP_reductionSlot.put(" + partial + ", ReductionSlot." + DataClauseHandlerUtils.getReductionSlotOperator(reductionOpr) + ");");
+					//e.g. OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1sum, ReductionSlot.SUM);
+					String primitiveType = DataClauseHandlerUtils.unBox(varType);
+					total += getter + "(" + entries + ")";
+					if ("getLong".equals(getter) && !"long".equals(primitiveType)) {
+						total = "(" + primitiveType + ") " + total;
+					}
+					if ("&&".equals(reductionOpr) || "||".equals(reductionOpr)) {
+						applications.add(target + " = " + target + " " + reductionOpr + " " + total + ";");
+					} else if ("boolean".equals(primitiveType)) {
+						applications.add(target + " = " + target + ("min".equals(reductionOpr) ? " && " : " || ") + total + ";");
+					} else if (DataClauseHandlerUtils.isExtremumOperator(reductionOpr)) {
+						String narrowing = ("int".equals(primitiveType) || "long".equals(primitiveType) || "float".equals(primitiveType) || "double".equals(primitiveType))
+								? "" : "(" + primitiveType + ") ";
+						applications.add(target + " = " + narrowing + "Math." + reductionOpr + "(" + target + ", " + total + ");");
+						//e.g. smallest = Math.min(smallest, (int) OMP_reductionSlot.getLong(0));
+					} else {
+						applications.add(target + " " + reductionOpr + "= " + total + ";");
+					}
+					//e.g. sum += (int) OMP_reductionSlot.getLong(0);
+					entries++;
+				} else {
+					/*
+					 * user defined reduction operation, or primitive operation on objects
+					 */
+					String objectType = DataClauseHandlerUtils.autoBox(varType);
+					String combination;
 					if (DataClauseHandlerUtils.isPrimitiveReductionOperator(reductionOpr)) {
-						/*
-						 * primitive type reduction operation
-						 */
-						printer.printLn(varName + "=" + varName + reductionOpr + RENAMING_PREFIX + varName + ";");
-						//e.g. i = i + OMP_WoRkShArInG_PRIVATE_i;
+						String combiningOpr = "-".equals(reductionOpr) ? "+" : reductionOpr;
+						combination = "((" + objectType + ") a) " + combiningOpr + " ((" + objectType + ") b)";
+						applications.add(target + " = " + target + " " + reductionOpr + " (" + objectType + ") " + total + "getObject(" + entries + ");");
+						//e.g. s = s + (String) OMP_reductionSlot.getObject(0);
+					} else {
+						combination = reductionOpr + "((" + objectType + ") a, (" + objectType + ") b)";
+						applications.add(target + " = " + reductionOpr + "(" + target + ", (" + objectType + ") " + total + "getObject(" + entries + "));");
+						//e.g. point = reductionFunction(point, (Point) OMP_reductionSlot.getObject(0));
 					}
-					else {
-						/*
-						 * user defined reduction operation
-						 */
-						String userDefinedReduction = reductionOpr;
-						printer.printLn(varName + "=" + userDefinedReduction + "(" + varName + ", " + RENAMING_PREFIX + varName + ");");
-						//e.g. point = reductionFunction(point, OMP_WoRkShArInG_PRIVATE_point);
-					}		
-					
+					printer.printLn("OMP_reductionSlot.put(" + partial + ", new ReductionSlot.Combiner() {");
+					printer.printLn("    public Object combine(Object a, Object b) {return " + combination + ";}");
+					printer.printLn("});");
+					entries++;
 				}
-				break;
-			default:
-				break;
 			}
 		}
+		if (applications.isEmpty() && sections.isEmpty()) {
+			return false;
+		}
+		printer.printLn("if (" + barrier + ") {");
+		printer.indent();
+		if (applications.isEmpty()) {
+			printer.printLn("PjRuntime.endReduction();");
+		} else {
+			printer.printLn("try {");
+			printer.indent();
+			for (String application: applications) {
+				printer.printLn(application);
+			}
+			printer.unindent();
+			printer.printLn("} finally {");
+			printer.printLn("    PjRuntime.endReduction();");
+			printer.printLn("}");
+		}
+		printer.unindent();
+		printer.printLn("}");
+		for (String section: sections) {
+			printer.printLn(section);
+		}
+		if (!sections.isEmpty()) {
+			printer.printLn("PjRuntime.setBarrier();");
+		}
+		return true;
 	}
 	
 	public static GuiCodeClassBuilder generateDummyGuiRegionForNoguiRemainingCode(ParallelRegionClassBuilder PRBuilder) {
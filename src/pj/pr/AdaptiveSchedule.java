@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.pr;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import pj.Pyjama;
+
+/*
+ * Self-tuning schedule of one worksharing loop, used by schedule(auto). Every execution of the
+ * loop runs with one candidate schedule, and the makespan and load imbalance measured by the team
+ * are fed back. Each candidate is tried in turn, then the loop stays on the fastest one, retrying
+ * another candidate now and then so that a change of the workload is noticed.
+ */
+public final class AdaptiveSchedule {
+	
+	/*
+	 * Candidate schedules, chunk divisor 0 means the default chunk of the kind, otherwise
+	 * chunk = iterations / (threads * divisor).
+	 */
+	private static final int[] CANDIDATE_KIND = {Pyjama.omp_sched_static, Pyjama.omp_sched_guided, Pyjama.omp_sched_dynamic, Pyjama.omp_sched_dynamic, Pyjama.omp_sched_guided};
+	private static final int[] CANDIDATE_DIVISOR = {0, 0, 64, 8, 64};
+	private static final int STATIC = 0;
+	
+	/* the first execution runs cold(class loading, JIT) and is not measured */
+	private static final int WARMUP_EXECUTIONS = 1;
+	/* every this many executions, one other candidate is measured again */
+	private static final int EXPLORE_PERIOD = 32;
+	/* a static schedule more balanced than this makes the other candidates pointless */
+	private static final double BALANCED_IMBALANCE = 0.05;
+	private static final double EWMA_WEIGHT = 0.3;
+	
+	private final String name;
+	/* makespan per iteration in nanoseconds, smoothed */
+	private final double[] cost = new double[CANDIDATE_KIND.length];
+	private final int[] samples = new int[CANDIDATE_KIND.length];
+	private final long[] lastSampled = new long[CANDIDATE_KIND.length];
+	private boolean balanced = false;
+	private long executions = 0;
+	private int best = STATIC;
+	
+	public AdaptiveSchedule(String name) {
+		this.name = name;
+	}
+	
+	public String getName() {
+		return this.name;
+	}
+	
+	/*
+	 * Plan of the next execution of the loop, end is the last index of the normalised iteration
+	 * space [0, end].
+	 */
+	public synchronized Plan nextPlan(long end, int threadNumber) {
+		long iterations = end + 1;
+		int candidate = chooseCandidate(iterations, threadNumber);
+		executions++;
+		int chunk = 0;
+		if (0 != CANDIDATE_DIVISOR[candidate]) {
+			long c = iterations / ((long)threadNumber * CANDIDATE_DIVISOR[candidate]);
+			chunk = (c < 1) ? 1 : (c > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int)c);
+		}
+		boolean measured = executions > WARMUP_EXECUTIONS && iterations > threadNumber;
+		return new Plan(CANDIDATE_KIND[candidate], chunk, measured ? this : null, candidate, threadNumber, iterations);
+	}
+	
+	private int chooseCandidate(long iterations, int threadNumber) {
+		if (iterations <= threadNumber || executions < WARMUP_EXECUTIONS) {
+			return STATIC;
+		}
+		if (!balanced) {
+			for (int i = 0; i < CANDIDATE_KIND.length; i++) {
+				if (0 == samples[i]) {
+					return i;
+				}
+			}
+		} else if (0 == samples[STATIC]) {
+			return STATIC;
+		}
+		if (0 == executions % EXPLORE_PERIOD) {
+			int stalest = -1;
+			for (int i = 0; i < CANDIDATE_KIND.length; i++) {
+				if (i == best || (balanced && 0 == samples[i])) {
+					continue;
+				}
+				if (stalest < 0 || lastSampled[i] < lastSampled[stalest]) {
+					stalest = i;
+				}
+			}
+			return (stalest < 0) ? best : stalest;
+		}
+		return best;
+	}
+	
+	synchronized void record(int candidate, long iterations, long makespan, double imbalance) {
+		double perIteration = (double)makespan / iterations;
+		if (0 == samples[candidate]) {
+			cost[candidate] = perIteration;
+		} else {
+			cost[candidate] = (1 - EWMA_WEIGHT) * cost[candidate] + EWMA_WEIGHT * perIteration;
+		}
+		samples[candidate]++;
+		lastSampled[candidate] = executions;
+		if (STATIC == candidate) {
+			balanced = imbalance < BALANCED_IMBALANCE;
+		}
+		best = STATIC;
+		for (int i = 0; i < CANDIDATE_KIND.length; i++) {
+			if (samples[i] > 0 && (0 == samples[best] || cost[i] < cost[best])) {
+				best = i;
+			}
+		}
+	}
+	
+	/*
+	 * Schedule kind and chunk size the loop currently converges to.
+	 */
+	public synchronized int getBestKind() {
+		return CANDIDATE_KIND[best];
+	}
+	
+	public synchronized int getBestChunkDivisor() {
+		return CANDIDATE_DIVISOR[best];
+	}
+	
+	/*
+	 * The schedule one execution of a loop runs with, shared by the whole team. Every thread
+	 * reports its busy time once it has run out of chunks, the last report is fed back to the
+	 * adaptive schedule of the loop. A plan without owner is a fixed schedule and is not measured.
+	 */
+	public static final class Plan {
+		public final int kind;
+		public final int chunk;
+		private final AdaptiveSchedule owner;
+		private final int candidate;
+		private final int threadNumber;
+		private final long iterations;
+		private final long startTime;
+		private final AtomicInteger reported = new AtomicInteger(0);
+		private final AtomicLong maxBusy = new AtomicLong(0);
+		private final AtomicLong sumBusy = new AtomicLong(0);
+		
+		public Plan(int kind, int chunk) {
+			this(kind, chunk, null, -1, 0, 0);
+		}
+		
+		Plan(int kind, int chunk, AdaptiveSchedule owner, int candidate, int threadNumber, long iterations) {
+			this.kind = kind;
+			this.chunk = chunk;
+			this.owner = owner;
+			this.candidate = candidate;
+			this.threadNumber = threadNumber;
+			this.iterations = iterations;
+			this.startTime = (null == owner) ? 0 : System.nanoTime();
+		}
+		
+		public void report(long busyNanos) {
+			if (null == this.owner) {
+				return;
+			}
+			long max;
+			while (busyNanos > (max = this.maxBusy.get())) {
+				if (this.maxBusy.compareAndSet(max, busyNanos)) {
+					break;
+				}
+			}
+			this.sumBusy.addAndGet(busyNanos);
+			if (this.reported.incrementAndGet() == this.threadNumber) {
+				long makespan = System.nanoTime() - this.startTime;
+				long slowest = this.maxBusy.get();
+				double mean = (double)this.sumBusy.get() / this.threadNumber;
+				double imbalance = (0 == slowest) ? 0 : (slowest - mean) / slowest;
+				this.owner.record(this.candidate, this.iterations, makespan, imbalance);
+			}
+		}
+	}
+}
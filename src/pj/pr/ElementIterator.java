@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.pr;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/*
+ * Stands in for the iterator of an iterator-style worksharing loop, e.g.
+ * for (Iterator<String> iter = list.iterator(); iter.hasNext();). The loop is shared out by
+ * element indices, each iteration moves the iterator to the element of the iteration, which
+ * the loop body takes with next().
+ */
+public final class ElementIterator<E> implements Iterator<E> {
+	
+	private final List<?> elements;
+	private int index;
+	private boolean taken = true;
+	
+	public ElementIterator(List<?> elements) {
+		this.elements = elements;
+	}
+	
+	public void moveTo(int index) {
+		this.index = index;
+		this.taken = false;
+	}
+	
+	@Override
+	public boolean hasNext() {
+		return !this.taken;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public E next() {
+		if (this.taken) {
+			throw new NoSuchElementException();
+		}
+		this.taken = true;
+		return (E) this.elements.get(this.index);
+	}
+	
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Pyjama: elements cannot be removed in a worksharing loop");
+	}
+}
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import pj.Pyjama;
 import pj.pr.task.TaskPool;
 public class InternalControlVariables {
 	/**XING Environment Variables definition BEGIN*/
@@ -51,8 +52,102 @@ public class InternalControlVariables {
 	public static boolean OMP_CANCELLATION = false;
 	public static enum OMP_DISPLAY_ENV{OMP_DISPLAY_ENV_TRUE, OMP_DISPLAY_ENV_FALSE, OMP_DISPLAY_ENV_VERBOSE};
 	public static String OMP_DEFAULT_DEVICE = "LOCAL";
-	
+
+	/* Pyjama runtime extensions for the worker team pool.
+	 * PJ_BLOCKTIME: milliseconds an idle worker spins before it parks.
+	 * PJ_PREWARM_THREADS: number of idle workers started together with the runtime.
+	 * PJ_WORKER_KEEPALIVE: milliseconds a parked worker waits for a new region before it retires. */
+	public static int PJ_BLOCKTIME = readIntSetting("PJ_BLOCKTIME", 1);
+	public static int PJ_PREWARM_THREADS = readIntSetting("PJ_PREWARM_THREADS", 0);
+	public static int PJ_WORKER_KEEPALIVE = readIntSetting("PJ_WORKER_KEEPALIVE", 60000);
+	/* PJ_EXECUTION_BACKEND: platform(default), forkjoin, virtual or a pj.pr.backend.ExecutionBackend class name */
+	public static String PJ_EXECUTION_BACKEND = readSetting("PJ_EXECUTION_BACKEND");
+	/* OMP_WAIT_POLICY: ACTIVE spins at barriers, PASSIVE parks at once, null(unset) spins PJ_SPIN_COUNT
+	 * rounds before it parks. */
+	public static OMP_WAIT_POLICY OMP_WAIT_POLICY_SETTING = readWaitPolicy();
+	public static int PJ_SPIN_COUNT = readIntSetting("PJ_SPIN_COUNT", 20000);
+	/* PJ_TREE_BARRIER_THRESHOLD: teams larger than this combine barrier arrivals in a tree */
+	public static int PJ_TREE_BARRIER_THRESHOLD = readIntSetting("PJ_TREE_BARRIER_THRESHOLD", 16);
+	/* OMP_SCHEDULE: "kind[,chunk]" used by schedule(runtime), kind is static, dynamic, guided or auto.
+	 * Unset means static with the default(block) chunk. */
+	public static int OMP_SCHEDULE_KIND = Pyjama.omp_sched_static;
+	public static int OMP_SCHEDULE_CHUNK = 0;
+	static {
+		readSchedule();
+	}
+
 	/**XING Environment Variables definition END*/
+
+	/*
+	 * Read a runtime setting, the system property takes precedence over the environment
+	 * variable with the same name. Malformed or negative values fall back to the default.
+	 */
+	public static int readIntSetting(String name, int defaultValue) {
+		String value = readSetting(name);
+		if (null == value) {
+			return defaultValue;
+		}
+		try {
+			int setting = Integer.parseInt(value);
+			return (setting < 0) ? defaultValue : setting;
+		} catch (NumberFormatException e) {
+			System.err.println("Pyjama Warning: ignore illegal value '" + value + "' of " + name);
+			return defaultValue;
+		}
+	}
+
+	private static OMP_WAIT_POLICY readWaitPolicy() {
+		String value = readSetting("OMP_WAIT_POLICY");
+		if (null == value || value.isEmpty()) {
+			return null;
+		} else if (value.equalsIgnoreCase("ACTIVE")) {
+			return OMP_WAIT_POLICY.OMP_WAIT_POLICY_ACTIVE;
+		} else if (value.equalsIgnoreCase("PASSIVE")) {
+			return OMP_WAIT_POLICY.OMP_WAIT_POLICY_PASSIVE;
+		}
+		System.err.println("Pyjama Warning: ignore illegal value '" + value + "' of OMP_WAIT_POLICY");
+		return null;
+	}
+
+	private static void readSchedule() {
+		String value = readSetting("OMP_SCHEDULE");
+		if (null == value || value.isEmpty()) {
+			return;
+		}
+		String kind = value;
+		int chunk = 0;
+		int comma = value.indexOf(',');
+		if (comma >= 0) {
+			kind = value.substring(0, comma).trim();
+			try {
+				chunk = Integer.parseInt(value.substring(comma + 1).trim());
+			} catch (NumberFormatException e) {
+				System.err.println("Pyjama Warning: ignore illegal chunk size in OMP_SCHEDULE '" + value + "'");
+				chunk = 0;
+			}
+		}
+		if (kind.equalsIgnoreCase("static")) {
+			OMP_SCHEDULE_KIND = Pyjama.omp_sched_static;
+		} else if (kind.equalsIgnoreCase("dynamic")) {
+			OMP_SCHEDULE_KIND = Pyjama.omp_sched_dynamic;
+		} else if (kind.equalsIgnoreCase("guided")) {
+			OMP_SCHEDULE_KIND = Pyjama.omp_sched_guided;
+		} else if (kind.equalsIgnoreCase("auto")) {
+			OMP_SCHEDULE_KIND = Pyjama.omp_sched_auto;
+		} else {
+			System.err.println("Pyjama Warning: ignore illegal value '" + value + "' of OMP_SCHEDULE");
+			return;
+		}
+		OMP_SCHEDULE_CHUNK = (chunk < 1) ? 0 : chunk;
+	}
+
+	public static String readSetting(String name) {
+		String value = System.getProperty(name);
+		if (null == value) {
+			value = System.getenv(name);
+		}
+		return (null == value) ? null : value.trim();
+	}
 	
 	/**XING ICVs (Internal Control Variables) definition BEGIN*/
 	/*An OpenMP implementation must act as if there are internal control variables (ICVs)
@@ -68,6 +163,7 @@ public class InternalControlVariables {
 	public boolean nest_var;
 	public ArrayList<Integer> nthreads_var;
 	public int run_sched_var;
+	public int run_sched_chunk_var;
 	public int def_sched_var;
 	public int bind_var;
 	public int stacksize_var;
@@ -91,6 +187,10 @@ public class InternalControlVariables {
 	public PjCyclicBarrier OMP_CurrentParallelRegionBarrier = null;
 	public AtomicInteger OMP_loopCursor = new AtomicInteger(0);
 	public AtomicInteger OMP_orderCursor = new AtomicInteger(0);
+	/* worksharing slots of the team, the initialisation should be done in runtime as well */
+	public WorkShareRing OMP_CurrentWorkShareRing = null;
+	/* number of worksharing loops the current thread has entered in its team, never shared */
+	public long worksharingEncounter = 0;
 	
 	/* Xing added this for task directive support 2017.4.22 */
 	// the initialisation of OMP_TaskPool should be done in runtime
@@ -108,6 +208,8 @@ public class InternalControlVariables {
 		this.active_levels_var = this.max_active_levels_var;
 		this.levels_var = -1;
 		this.default_device_var = InternalControlVariables.OMP_DEFAULT_DEVICE;
+		this.run_sched_var = InternalControlVariables.OMP_SCHEDULE_KIND;
+		this.run_sched_chunk_var = InternalControlVariables.OMP_SCHEDULE_CHUNK;
 		
 		//test data for nthreads_var
 		this.nthreads_var = new ArrayList<Integer>();
@@ -126,6 +228,7 @@ public class InternalControlVariables {
 		this.nest_var = icv.nest_var;
 		this.nthreads_var = icv.nthreads_var;
 		this.run_sched_var = icv.run_sched_var;
+		this.run_sched_chunk_var = icv.run_sched_chunk_var;
 		this.def_sched_var = icv.def_sched_var;
 	    this.bind_var = icv.bind_var;
 		this.stacksize_var = icv.stacksize_var;
@@ -145,6 +248,7 @@ public class InternalControlVariables {
 		this.OMP_CurrentParallelRegionBarrier = icv.OMP_CurrentParallelRegionBarrier;
 		this.OMP_loopCursor = icv.OMP_loopCursor;
 		this.OMP_orderCursor = icv.OMP_orderCursor;
+		this.OMP_CurrentWorkShareRing = icv.OMP_CurrentWorkShareRing;
 		this.OMP_TaskPool = icv.OMP_TaskPool;
 		
 	}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.pr;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import pj.PjRuntime;
+import pj.pr.backend.ForkJoinBackend;
+
+/*
+ * Turns of the ordered regions of one worksharing loop. The ticket is the number of iterations,
+ * in the normalised iteration space, whose ordered regions are done. Tickets advance per chunk:
+ * a thread waits for the ticket to reach the start of its chunk before its first ordered region
+ * in the chunk, and passes the ticket to the end of the chunk when it is done with the chunk, so
+ * the following iterations of the chunk never wait, and iterations without an ordered region
+ * cannot hold up the loop.
+ * 
+ * Waiting threads spin within the budget of OMP_WAIT_POLICY and park afterwards. The thread that
+ * passes the ticket unparks the parked threads whose turn has come, which is normally just the
+ * owner of the next chunk. The park is a managed wait, see ForkJoinBackend.managedWait(), so the
+ * owner of the next chunk may be a team member a ForkJoinPool has not started yet.
+ */
+public final class OrderedTickets {
+	
+	private static final long NOT_WAITING = Long.MAX_VALUE;
+	
+	private final WorkShareRing.PaddedAtomicLong ticket = new WorkShareRing.PaddedAtomicLong();
+	private final int spinBudget = PjCyclicBarrier.spinBudgetOf(InternalControlVariables.OMP_WAIT_POLICY_SETTING);
+	
+	/* parked threads by thread alias id, and the chunk start each of them waits for */
+	private final AtomicInteger parked = new AtomicInteger();
+	private final AtomicReferenceArray<Thread> parkedThreads;
+	private final AtomicLongArray parkedFor;
+	
+	public OrderedTickets(int threadNumber) {
+		this.parkedThreads = new AtomicReferenceArray<Thread>(threadNumber);
+		this.parkedFor = new AtomicLongArray(threadNumber);
+		for (int i = 0; i < threadNumber; i++) {
+			this.parkedFor.set(i, NOT_WAITING);
+		}
+	}
+	
+	/*
+	 * Waits until every iteration before chunkStart has passed its ordered region.
+	 */
+	public void await(final long chunkStart) {
+		if (this.ticket.get() >= chunkStart) {
+			return;
+		}
+		for (int spins = this.spinBudget; spins > 0; spins--) {
+			if (this.ticket.get() >= chunkStart) {
+				return;
+			}
+			PjSpinWait.onSpinWait();
+		}
+		int id = PjRuntime.getCurrentThreadICV().currentThreadAliasID;
+		this.parkedThreads.set(id, Thread.currentThread());
+		this.parkedFor.set(id, chunkStart);
+		this.parked.incrementAndGet();
+		//re-checked after the registration, a pass in between has seen it
+		ForkJoinBackend.managedWait(new ForkJoinPool.ManagedBlocker() {
+			@Override
+			public boolean block() {
+				LockSupport.park(OrderedTickets.this);
+				return isReleasable();
+			}
+			
+			@Override
+			public boolean isReleasable() {
+				return ticket.get() >= chunkStart;
+			}
+		});
+		this.parked.decrementAndGet();
+		this.parkedFor.set(id, NOT_WAITING);
+	}
+	
+	/*
+	 * Called by the owner of the chunk [chunkStart, chunkEnd) when it is done with the chunk.
+	 */
+	public void pass(long chunkStart, long chunkEnd) {
+		if (chunkEnd <= chunkStart) {
+			return;
+		}
+		//a chunk without ordered regions still has to wait for its turn
+		await(chunkStart);
+		this.ticket.set(chunkEnd);
+		if (this.parked.get() > 0) {
+			for (int id = 0; id < this.parkedFor.length(); id++) {
+				if (this.parkedFor.get(id) <= chunkEnd) {
+					LockSupport.unpark(this.parkedThreads.get(id));
+				}
+			}
+		}
+	}
+	
+	void reset() {
+		this.ticket.set(0);
+	}
+}
@@ -55,142 +55,396 @@
  * http://creativecommons.org/licenses/publicdomain
  */
 package pj.pr;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.locks.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
+import pj.PjRuntime;
+import pj.pr.task.TaskPool;
+import pj.pr.InternalControlVariables.OMP_WAIT_POLICY;
+
+/*
+ * Lock-free sense-reversing team barrier. Arrivals count down the nodes of a combining tree,
+ * the last arrival of a node resets its count and carries on to the parent node, and the last
+ * arrival of the root flips the phase, which releases the waiting parties.
+ * Teams up to PJ_TREE_BARRIER_THRESHOLD threads use a single (root) node; larger teams use
+ * nodes of FAN_IN parties, a party arrives at the leaf of its thread alias id, so no more than
+ * FAN_IN threads ever contend for the same counter.
+ * Waiting parties spin on the phase first and park afterwards, how long they spin is decided
+ * by OMP_WAIT_POLICY:
+ *   ACTIVE  - spin until the barrier trips,
+ *   PASSIVE - park at once,
+ *   unset   - spin PJ_SPIN_COUNT rounds, then park.
+ * Nothing is allocated on a trip, only a thread that really parks pushes a wait node.
+ * The barrier is a task scheduling point, waiting parties run the tasks queued in the task pool.
+ * A barrier that ends reductions combines the reduction slots of the parties on the way up the
+ * tree, the last arrival of a node combines the slots of the node's members into its own slot,
+ * see {@link #awaitCombining}.
+ */
 public class PjCyclicBarrier {
+    /** Arity of the combining tree for teams above the threshold */
+    public static final int FAN_IN = 4;
+
+    /**
+     * Node of the stack of parked parties, pushed only on the park path.
+     */
+    private static final class WaitNode {
+        final Thread thread;
+        WaitNode next;
+
+        WaitNode(Thread thread) {
+            this.thread = thread;
+        }
+    }
+
     /**
-     * Each use of the barrier is represented as a generation instance.
-     * The generation changes whenever the barrier is tripped, or
-     * is reset. There can be many generations associated with threads
-     * using the barrier - due to the non-deterministic way the lock
-     * may be allocated to waiting threads - but only one of these
-     * can be active at a time (the one to which <tt>count</tt> applies)
-     * and all the rest are either broken or tripped.
-     * There need not be an active generation if there has been a break
-     * but no subsequent reset.
-     */
-    private static class Generation {
-        boolean broken = false;
-    }
-
-    /** The lock for guarding barrier entry */
-    private final ReentrantLock lock = new ReentrantLock();
-    /** Condition to wait on until tripped */
-    private final Condition trip = lock.newCondition();
-    /** The number of parties */
-    private volatile int parties;
-    /* The command to run when tripped */
+     * Counter of the combining tree. The state keeps the member parties
+     * of the node in the high 32 bits and the members yet to arrive in
+     * the current phase in the low 32 bits, so that {@link #decreaseParties}
+     * and the tripping arrival agree on the count of the next phase without
+     * a lock. Padded, neighbouring nodes are updated by different threads.
+     */
+    static final class Node {
+        long p0, p1, p2, p3, p4, p5, p6;
+        volatile long state;
+        long q0, q1, q2, q3, q4, q5, q6;
+        final Node parent;
+        /** Member nodes of an inner node, null for a leaf */
+        Node[] children;
+        /** First party of a leaf, its members are the parties from here on */
+        int firstParty;
+        /** Reduction slot of the last arrival, holding the partials of the node's members */
+        ReductionSlot combined;
+
+        Node(Node parent, int members) {
+            this.parent = parent;
+            this.state = pack(members, members);
+        }
+    }
+
+    private static final AtomicLongFieldUpdater<Node> STATE =
+        AtomicLongFieldUpdater.newUpdater(Node.class, "state");
+
+    /** Leaves of the combining tree, the only leaf is the root for small teams */
+    private final Node[] leaves;
+
+    /** All nodes, for breaking the barrier */
+    private final Node[] nodes;
+
+    private final int fanIn;
+
+    private final AtomicInteger parties;
+
+    /** Reduction slots of the parties, by thread alias id, created by their owners */
+    private final ReductionSlot[] slots;
+
+    /** The sense of the barrier, advanced on every trip and reset */
+    private volatile int phase = 0;
+
+    private volatile boolean broken = false;
+
+    /** Parties parked in the current phase */
+    private final AtomicReference<WaitNode> waiters = new AtomicReference<WaitNode>();
+
     private final Runnable barrierCommand;
-    /** The current generation */
-    private Generation generation = new Generation();
+
+    /** Spin rounds before a waiting party parks */
+    private final int spinBudget;
+
+    private static long pack(int members, int count) {
+        return ((long) members << 32) | (count & 0xFFFFFFFFL);
+    }
+
+    private static int membersOf(long s) {
+        return (int) (s >>> 32);
+    }
+
+    private static int countOf(long s) {
+        return (int) s;
+    }
+
+    static int spinBudgetOf(OMP_WAIT_POLICY policy) {
+        if (!PjSpinWait.SPIN_ALLOWED) {
+            return 0;
+        }
+        if (null == policy) {
+            return InternalControlVariables.PJ_SPIN_COUNT;
+        }
+        return (OMP_WAIT_POLICY.OMP_WAIT_POLICY_ACTIVE == policy) ? Integer.MAX_VALUE : 0;
+    }
+
+    private static int fanInOf(int parties) {
+        return (parties > InternalControlVariables.PJ_TREE_BARRIER_THRESHOLD) ? FAN_IN : parties;
+    }
 
     /**
-     * Number of parties still waiting. Counts down from parties to 0
-     * on each generation.  It is reset to parties on each new
-     * generation or when broken.
+     * Counts one arrival at the node, returns the members still to arrive,
+     * zero if the arrival completed the node for this phase.
      */
-    private volatile int count;
+    private static int arriveAt(Node node) {
+        for (;;) {
+            long s = node.state;
+            int members = membersOf(s);
+            int count = countOf(s) - 1;
+            long next = (count == 0) ? pack(members, members) : pack(members, count);
+            if (STATE.compareAndSet(node, s, next))
+                return count;
+        }
+    }
 
     /**
-     * Updates state on barrier trip and wakes up everyone.
-     * Called only while holding lock.
+     * Counts the arrival from the node up to the root, returns zero if
+     * the barrier has tripped, the arrival index otherwise.
      */
-    private void nextGeneration() {
-        // signal completion of last generation
-        trip.signalAll();
-        // set up next generation
-        count = parties;
-        generation = new Generation();
+    private static int arriveFrom(Node node) {
+        for (;;) {
+            int index = arriveAt(node);
+            if (index != 0 || null == node.parent)
+                return index;
+            node = node.parent;
+        }
     }
 
     /**
-     * Sets current barrier generation as broken and wakes up everyone.
-     * Called only while holding lock.
+     * Advances the phase and wakes up everyone parked in the finished phase.
+     * The counts of the next phase must already be in place.
+     */
+    private void nextPhase() {
+        phase = phase + 1;
+        releaseWaiters();
+    }
+
+    /**
+     * Wakes the parked parties without tripping the barrier, so they run the
+     * tasks queued in the task pool and park again.
+     */
+    public void wakeWaiters() {
+        releaseWaiters();
+    }
+
+    private void releaseWaiters() {
+        WaitNode node = waiters.getAndSet(null);
+        while (null != node) {
+            LockSupport.unpark(node.thread);
+            node = node.next;
+        }
+    }
+
+    /**
+     * Sets the barrier broken and wakes up everyone.
      */
     private void breakBarrier() {
-        generation.broken = true;
-        count = parties;
-        trip.signalAll();
+        broken = true;
+        for (Node node : nodes) {
+            long s;
+            do {
+                s = node.state;
+            } while (!STATE.compareAndSet(node, s, pack(membersOf(s), membersOf(s))));
+        }
+        releaseWaiters();
+    }
+
+    private Node leafOf(int aliasID) {
+        return (leaves.length == 1) ? leaves[0] : leaves[aliasID / fanIn];
+    }
+
+    private Node currentLeaf() {
+        return (leaves.length == 1) ? leaves[0] : leafOf(PjRuntime.getCurrentThreadICV().currentThreadAliasID);
     }
 
     /**
      * Main barrier code, covering the various policies.
      */
-    private int dowait(boolean timed, long nanos)
+    private int dowait(Node leaf, boolean timed, long nanos)
         throws InterruptedException, BrokenBarrierException,
                TimeoutException {
-        final ReentrantLock lock = this.lock;
-        lock.lock();
+        // the phase has to be read before arriving, the arrival may complete it
+        final int arrivalPhase = phase;
+
+        if (broken)
+            throw new BrokenBarrierException();
+
+        if (Thread.interrupted()) {
+            breakBarrier();
+            throw new InterruptedException();
+        }
+
+        final int index = arriveFrom(leaf);
+        if (index == 0) {  // tripped
+            trip();
+            return 0;
+        }
+        return waitFor(arrivalPhase, index, timed, nanos);
+    }
+
+    /**
+     * Runs the barrier action and advances the phase, the barrier is
+     * broken if the action fails.
+     */
+    private void trip() {
+        boolean ranAction = false;
         try {
-            final Generation g = generation;
+            final Runnable command = barrierCommand;
+            if (command != null)
+                command.run();
+            ranAction = true;
+            nextPhase();
+        } finally {
+            if (!ranAction)
+                breakBarrier();
+        }
+    }
 
-            if (g.broken)
+    /**
+     * Waits for the phase the party arrived in to end, returns the arrival index.
+     */
+    private int waitFor(int arrivalPhase, int index, boolean timed, long nanos)
+        throws InterruptedException, BrokenBarrierException,
+               TimeoutException {
+        // waiting parties are a task scheduling point, they run the queued tasks of the team,
+        // e.g. the chunks of a taskloop encountered in a single or master block
+        final TaskPool tasks = timed ? null : PjRuntime.getCurrentThreadICV().OMP_TaskPool;
+
+        // spin within the budget of the wait policy
+        for (int spins = timed ? 0 : spinBudget; spins > 0; spins--) {
+            if (phase != arrivalPhase)
+                return index;
+            if (broken)
                 throw new BrokenBarrierException();
+            if (null != tasks && tasks.hasTasks() && tasks.executeTask())
+                continue;
+            PjSpinWait.onSpinWait();
+        }
 
+        // park until tripped, broken, interrupted, or timed out
+        final long deadline = timed ? System.nanoTime() + nanos : 0L;
+        for (;;) {
+            if (phase != arrivalPhase)
+                return index;
+            if (broken)
+                throw new BrokenBarrierException();
             if (Thread.interrupted()) {
                 breakBarrier();
                 throw new InterruptedException();
             }
-
-           int index = --count;
-           if (index == 0) {  // tripped
-               boolean ranAction = false;
-               try {
-                   final Runnable command = barrierCommand;
-                   if (command != null)
-                       command.run();
-                   ranAction = true;
-                   nextGeneration();
-                   return 0;
-               } finally {
-                   if (!ranAction)
-                       breakBarrier();
-               }
-           }
-
-            // loop until tripped, broken, interrupted, or timed out
-            for (;;) {
-                try {
-                    if (!timed)
-                        trip.await();
-                    else if (nanos > 0L)
-                        nanos = trip.awaitNanos(nanos);
-                } catch (InterruptedException ie) {
-                    if (g == generation && ! g.broken) {
-                        breakBarrier();
-                        throw ie;
-                    } else {
-                        // We're about to finish waiting even if we had not
-                        // been interrupted, so this interrupt is deemed to
-                        // "belong" to subsequent execution.
-                        Thread.currentThread().interrupt();
-                    }
+            if (null != tasks && tasks.executeTask())
+                continue;
+            // every park pushes a fresh node, the trip of the previous phase may
+            // have drained the stack after this party already arrived again
+            final WaitNode node = new WaitNode(Thread.currentThread());
+            WaitNode head;
+            do {
+                head = waiters.get();
+                node.next = head;
+            } while (!waiters.compareAndSet(head, node));
+            // re-checked after the push, a trip in between has already drained the stack
+            if (phase != arrivalPhase)
+                return index;
+            // and so have tasks queued in between, see wakeWaiters
+            if (null != tasks && tasks.hasTasks())
+                continue;
+            if (timed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    breakBarrier();
+                    throw new TimeoutException();
                 }
+                LockSupport.parkNanos(this, remaining);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
 
-                if (g.broken)
-                    throw new BrokenBarrierException();
+    /**
+     * Creates a new barrier that will trip when the given number of
+     * parties (threads) are waiting upon it, and which will execute the
+     * given barrier action when the barrier is tripped, performed by the
+     * last thread entering the barrier.
+     *
+     * @param parties the number of threads that must invoke {@link #await}
+     *        before the barrier is tripped
+     * @param barrierAction the command to execute when the barrier is
+     *        tripped, or {@code null} if there is no action
+     * @param policy how waiting parties wait, {@code null} to spin
+     *        PJ_SPIN_COUNT rounds before parking
+     * @param fanIn parties combined per tree node, {@code parties} or more
+     *        for a single centralized counter
+     * @throws IllegalArgumentException if {@code parties} or {@code fanIn}
+     *         is less than 1, or {@code fanIn} is 1 for more than one party
+     */
+    public PjCyclicBarrier(int parties, Runnable barrierAction, OMP_WAIT_POLICY policy, int fanIn) {
+        if (parties <= 0 || fanIn <= 0 || (fanIn == 1 && parties > 1)) throw new IllegalArgumentException();
+        this.fanIn = Math.min(fanIn, parties);
+        this.parties = new AtomicInteger(parties);
+        this.slots = new ReductionSlot[parties];
+        this.barrierCommand = barrierAction;
+        this.spinBudget = spinBudgetOf(policy);
 
-                if (g != generation)
-                    return index;
+        // widths of the tree levels, from the leaves up to the root
+        int levels = 1;
+        for (int width = parties; width > this.fanIn; width = (width + this.fanIn - 1) / this.fanIn)
+            levels++;
+        int[] widths = new int[levels];
+        widths[0] = (parties + this.fanIn - 1) / this.fanIn;
+        for (int l = 1; l < levels; l++)
+            widths[l] = (widths[l - 1] + this.fanIn - 1) / this.fanIn;
 
-                if (timed && nanos <= 0L) {
-                    breakBarrier();
-                    throw new TimeoutException();
+        // build from the root down, members of a node are its children
+        int total = 0;
+        for (int width : widths)
+            total += width;
+        this.nodes = new Node[total];
+        Node[] above = null;
+        int next = 0;
+        for (int l = levels - 1; l >= 0; l--) {
+            int below = (l == 0) ? parties : widths[l - 1];
+            Node[] level = new Node[widths[l]];
+            for (int i = 0; i < level.length; i++) {
+                int members = Math.min(this.fanIn, below - i * this.fanIn);
+                Node parent = (null == above) ? null : above[i / this.fanIn];
+                level[i] = new Node(parent, members);
+                if (l > 0) {
+                    level[i].children = new Node[members];
+                } else {
+                    level[i].firstParty = i * this.fanIn;
                 }
+                if (null != parent) {
+                    parent.children[i % this.fanIn] = level[i];
+                }
+                this.nodes[next++] = level[i];
             }
-        } finally {
-            lock.unlock();
+            above = level;
         }
+        this.leaves = above;
     }
 
     /**
-     * Creates a new <tt>CyclicBarrier</tt> that will trip when the
-     * given number of parties (threads) are waiting upon it, and which
-     * will execute the given barrier action when the barrier is tripped,
-     * performed by the last thread entering the barrier.
+     * Creates a new barrier, the counter layout is chosen by the team size.
+     *
+     * @param parties the number of threads that must invoke {@link #await}
+     *        before the barrier is tripped
+     * @param barrierAction the command to execute when the barrier is
+     *        tripped, or {@code null} if there is no action
+     * @param policy how waiting parties wait, {@code null} to spin
+     *        PJ_SPIN_COUNT rounds before parking
+     * @throws IllegalArgumentException if {@code parties} is less than 1
+     */
+    public PjCyclicBarrier(int parties, Runnable barrierAction, OMP_WAIT_POLICY policy) {
+        this(parties, barrierAction, policy, fanInOf(parties));
+    }
+
+    /**
+     * Creates a new barrier waiting by the OMP_WAIT_POLICY setting of the runtime.
      *
      * @param parties the number of threads that must invoke {@link #await}
      *        before the barrier is tripped
@@ -199,16 +453,12 @@ public class PjCyclicBarrier {
      * @throws IllegalArgumentException if {@code parties} is less than 1
      */
     public PjCyclicBarrier(int parties, Runnable barrierAction) {
-        if (parties <= 0) throw new IllegalArgumentException();
-        this.parties = parties;
-        this.count = parties;
-        this.barrierCommand = barrierAction;
+        this(parties, barrierAction, InternalControlVariables.OMP_WAIT_POLICY_SETTING);
     }
 
     /**
-     * Creates a new <tt>CyclicBarrier</tt> that will trip when the
-     * given number of parties (threads) are waiting upon it, and
-     * does not perform a predefined action when the barrier is tripped.
+     * Creates a new barrier waiting by the OMP_WAIT_POLICY setting of the
+     * runtime, which does not perform a predefined action when tripped.
      *
      * @param parties the number of threads that must invoke {@link #await}
      *        before the barrier is tripped
@@ -224,138 +474,351 @@ public class PjCyclicBarrier {
      * @return the number of parties required to trip this barrier
      */
     public int getParties() {
-        return parties;
+        return parties.get();
+    }
+
+    /**
+     * Queries if arrivals are combined in a tree rather than a single counter.
+     */
+    public boolean isCombiningTree() {
+        return leaves.length > 1;
     }
 
     /**
      * Waits until all {@linkplain #getParties parties} have invoked
      * <tt>await</tt> on this barrier.
      *
-     * <p>If the current thread is not the last to arrive then it is
-     * disabled for thread scheduling purposes and lies dormant until
-     * one of the following things happens:
-     * <ul>
-     * <li>The last thread arrives; or
-     * <li>Some other thread {@linkplain Thread#interrupt interrupts}
-     * the current thread; or
-     * <li>Some other thread {@linkplain Thread#interrupt interrupts}
-     * one of the other waiting threads; or
-     * <li>Some other thread times out while waiting for barrier; or
-     * <li>Some other thread invokes {@link #reset} on this barrier.
-     * </ul>
-     *
-     * <p>If the current thread:
-     * <ul>
-     * <li>has its interrupted status set on entry to this method; or
-     * <li>is {@linkplain Thread#interrupt interrupted} while waiting
-     * </ul>
-     * then {@link InterruptedException} is thrown and the current thread's
-     * interrupted status is cleared.
+     * <p>If the current thread is not the last to arrive then it spins
+     * and parks, as the wait policy says, until the last thread arrives,
+     * it or another waiting thread is interrupted, or the barrier is
+     * {@link #reset}.
      *
-     * <p>If the barrier is {@link #reset} while any thread is waiting,
-     * or if the barrier {@linkplain #isBroken is broken} when
-     * <tt>await</tt> is invoked, or while any thread is waiting, then
-     * {@link BrokenBarrierException} is thrown.
-     *
-     * <p>If any thread is {@linkplain Thread#interrupt interrupted} while waiting,
-     * then all other waiting threads will throw
-     * {@link BrokenBarrierException} and the barrier is placed in the broken
-     * state.
+     * <p>If the current thread is interrupted, {@link InterruptedException}
+     * is thrown and the barrier is placed in the broken state, so that the
+     * other waiting threads throw {@link BrokenBarrierException}.
      *
      * <p>If the current thread is the last thread to arrive, and a
      * non-null barrier action was supplied in the constructor, then the
      * current thread runs the action before allowing the other threads to
-     * continue.
-     * If an exception occurs during the barrier action then that exception
-     * will be propagated in the current thread and the barrier is placed in
-     * the broken state.
+     * continue. If an exception occurs during the barrier action then that
+     * exception will be propagated in the current thread and the barrier is
+     * placed in the broken state.
+     *
+     * <p>In a combining tree the party is identified by the thread alias id
+     * of the current thread ICV.
      *
-     * @return the arrival index of the current thread, where index
-     *         <tt>{@link #getParties()} - 1</tt> indicates the first
-     *         to arrive and zero indicates the last to arrive
+     * @return zero if the current thread was the last to arrive, a
+     *         positive arrival index otherwise
      * @throws InterruptedException if the current thread was interrupted
      *         while waiting
-     * @throws BrokenBarrierException if <em>another</em> thread was
-     *         interrupted or timed out while the current thread was
-     *         waiting, or the barrier was reset, or the barrier was
-     *         broken when {@code await} was called, or the barrier
-     *         action (if present) failed due an exception.
+     * @throws BrokenBarrierException if the barrier was broken when
+     *         {@code await} was called or while the thread was waiting
      */
     public int await() throws InterruptedException, BrokenBarrierException {
         try {
-            return dowait(false, 0L);
+            return dowait(currentLeaf(), false, 0L);
         } catch (TimeoutException toe) {
             throw new Error(toe); // cannot happen;
         }
     }
 
     /**
-     * Waits until all {@linkplain #getParties parties} have invoked
-     * <tt>await</tt> on this barrier, or the specified waiting time elapses.
+     * Same as {@link #await()}, for the party with the given thread alias id.
      *
-     * <p>If the current thread is not the last to arrive then it is
-     * disabled for thread scheduling purposes and lies dormant until
-     * one of the following things happens:
-     * <ul>
-     * <li>The last thread arrives; or
-     * <li>The specified timeout elapses; or
-     * <li>Some other thread {@linkplain Thread#interrupt interrupts}
-     * the current thread; or
-     * <li>Some other thread {@linkplain Thread#interrupt interrupts}
-     * one of the other waiting threads; or
-     * <li>Some other thread times out while waiting for barrier; or
-     * <li>Some other thread invokes {@link #reset} on this barrier.
-     * </ul>
+     * @param aliasID the thread alias id of the party, from 0 to parties - 1
+     */
+    public int await(int aliasID) throws InterruptedException, BrokenBarrierException {
+        try {
+            return dowait(leafOf(aliasID), false, 0L);
+        } catch (TimeoutException toe) {
+            throw new Error(toe); // cannot happen;
+        }
+    }
+
+    /**
+     * Returns the reduction slot of the party with the given thread alias id,
+     * only the party itself may put partials into it.
+     */
+    public ReductionSlot reductionSlotOf(int aliasID) {
+        ReductionSlot slot = slots[aliasID];
+        if (null == slot) {
+            slot = new ReductionSlot();
+            slots[aliasID] = slot;
+        }
+        return slot;
+    }
+
+    /**
+     * Combines the private copies of an array section that the parties put
+     * into their reduction slots, after the reduction barrier released them.
+     * Every party combines the copies of all parties into its own share of the
+     * section [lower, lower + length), so the team combines the section in
+     * parallel. Slots put for another phase, by parties that left the team,
+     * are skipped.
      *
-     * <p>If the current thread:
-     * <ul>
-     * <li>has its interrupted status set on entry to this method; or
-     * <li>is {@linkplain Thread#interrupt interrupted} while waiting
-     * </ul>
-     * then {@link InterruptedException} is thrown and the current thread's
-     * interrupted status is cleared.
+     * @param aliasID the thread alias id of the party, from 0 to parties - 1
+     * @param slot the reduction slot of the party
+     * @param section the index of the section in the slots
+     */
+    public void combineSection(int aliasID, ReductionSlot slot, int section, Object array, int lower, int length) {
+        int from = lower + (int) ((long) length * aliasID / slots.length);
+        int to = lower + (int) ((long) length * (aliasID + 1) / slots.length);
+        for (ReductionSlot member : slots) {
+            if (null != member && member.phase == slot.phase) {
+                member.combineSection(section, array, from, to);
+            }
+        }
+    }
+
+    /**
+     * Grows the list by the private lists of a concat reduction that the
+     * parties put into their reduction slots, called by the party that
+     * completed the reduction barrier before it releases the team. A random
+     * access list grows by placeholders, which the parties replace by the
+     * elements of their lists in {@link #concatSection}, the lists are appended
+     * to other lists here, in the order of the parties. The lists of a
+     * worksharing loop are in the order of the chunks they were filled by.
      *
-     * <p>If the specified waiting time elapses then {@link TimeoutException}
-     * is thrown. If the time is less than or equal to zero, the
-     * method will not wait at all.
+     * @param slot the reduction slot of the party
+     * @param section the index of the list in the slots
+     */
+    @SuppressWarnings("unchecked")
+    public void growSection(ReductionSlot slot, int section, List<?> list) {
+        if (null != slot.getSectionChunks(section)) {
+            growSectionByChunks(slot, section, list);
+            return;
+        }
+        boolean randomAccess = list instanceof RandomAccess;
+        int length = 0;
+        for (ReductionSlot member : slots) {
+            if (null != member && member.phase == slot.phase) {
+                if (randomAccess) {
+                    length += member.getSectionList(section).size();
+                } else {
+                    ((List<Object>) list).addAll(member.getSectionList(section));
+                }
+            }
+        }
+        if (randomAccess) {
+            ((List<Object>) list).addAll(Collections.nCopies(length, null));
+        }
+    }
+
+    /**
+     * Same as {@link #growSection}, for lists whose chunks are marked. The
+     * chunks of all parties are sorted by their first iteration, and every
+     * chunk gets the offset of its elements in the grown list.
+     */
+    @SuppressWarnings("unchecked")
+    private void growSectionByChunks(ReductionSlot slot, int section, List<?> list) {
+        int chunkCount = 0;
+        for (ReductionSlot member : slots) {
+            if (null != member && member.phase == slot.phase) {
+                chunkCount += member.getSectionChunks(section).count;
+            }
+        }
+        // chunks start at distinct iterations, the rank of a chunk is the index of its start
+        long[] starts = new long[chunkCount];
+        int k = 0;
+        for (ReductionSlot member : slots) {
+            if (null != member && member.phase == slot.phase) {
+                ReductionSlot.ListChunks chunks = member.getSectionChunks(section);
+                System.arraycopy(chunks.starts, 0, starts, k, chunks.count);
+                k += chunks.count;
+            }
+        }
+        Arrays.sort(starts);
+        // the lengths of the chunks by rank, summed up to their offsets below
+        int[] offsets = new int[chunkCount];
+        for (ReductionSlot member : slots) {
+            if (null != member && member.phase == slot.phase) {
+                ReductionSlot.ListChunks chunks = member.getSectionChunks(section);
+                int size = member.getSectionList(section).size();
+                chunks.destinations = new int[chunks.count];
+                for (int i = 0; i < chunks.count; i++) {
+                    int rank = Arrays.binarySearch(starts, chunks.starts[i]);
+                    chunks.destinations[i] = rank;
+                    offsets[rank] = chunks.length(i, size);
+                }
+            }
+        }
+        int base = list.size();
+        int offset = base;
+        for (int rank = 0; rank < chunkCount; rank++) {
+            int length = offsets[rank];
+            offsets[rank] = offset;
+            offset += length;
+        }
+        Object[] elements = (list instanceof RandomAccess) ? null : new Object[offset - base];
+        for (ReductionSlot member : slots) {
+            if (null != member && member.phase == slot.phase) {
+                ReductionSlot.ListChunks chunks = member.getSectionChunks(section);
+                Iterator<?> memberElements = member.getSectionList(section).iterator();
+                int size = member.getSectionList(section).size();
+                for (int i = 0; i < chunks.count; i++) {
+                    chunks.destinations[i] = offsets[chunks.destinations[i]];
+                    if (null != elements) {
+                        for (int j = chunks.destinations[i] - base, end = j + chunks.length(i, size); j < end; j++) {
+                            elements[j] = memberElements.next();
+                        }
+                    }
+                }
+            }
+        }
+        if (null == elements) {
+            ((List<Object>) list).addAll(Collections.nCopies(offset - base, null));
+        } else {
+            ((List<Object>) list).addAll(Arrays.asList(elements));
+        }
+    }
+
+    /**
+     * Copies the private list of the party into its segment of a random access
+     * list grown by {@link #growSection}, once the reduction barrier released
+     * the team. The segment starts after the lists of the parties before it, so
+     * the team copies the lists in parallel and keeps them in the order of the
+     * parties. The chunks of a worksharing loop go to the offsets found by
+     * {@link #growSection} instead.
      *
-     * <p>If the barrier is {@link #reset} while any thread is waiting,
-     * or if the barrier {@linkplain #isBroken is broken} when
-     * <tt>await</tt> is invoked, or while any thread is waiting, then
-     * {@link BrokenBarrierException} is thrown.
+     * @param aliasID the thread alias id of the party, from 0 to parties - 1
+     * @param slot the reduction slot of the party
+     * @param section the index of the list in the slots
+     */
+    @SuppressWarnings("unchecked")
+    public void concatSection(int aliasID, ReductionSlot slot, int section, List<?> list) {
+        if (!(list instanceof RandomAccess)) {
+            return;
+        }
+        ReductionSlot.ListChunks chunks = slot.getSectionChunks(section);
+        if (null != chunks) {
+            Iterator<?> elements = slot.getSectionList(section).iterator();
+            int size = slot.getSectionList(section).size();
+            for (int i = 0; i < chunks.count; i++) {
+                for (int d = chunks.destinations[i], end = d + chunks.length(i, size); d < end; d++) {
+                    ((List<Object>) list).set(d, elements.next());
+                }
+            }
+            return;
+        }
+        int offset = list.size();
+        for (int i = slots.length - 1; i >= aliasID; i--) {
+            ReductionSlot member = slots[i];
+            if (null != member && member.phase == slot.phase) {
+                offset -= member.getSectionList(section).size();
+            }
+        }
+        for (Object element : slot.getSectionList(section)) {
+            ((List<Object>) list).set(offset++, element);
+        }
+    }
+
+    /**
+     * Same as {@link #await(int)}, for a barrier that ends reductions. The party
+     * has put its partials into its {@linkplain #reductionSlotOf reduction slot}.
+     * Every last arrival at a node of the tree combines the slots of the node's
+     * members into its own slot before it arrives at the parent node, so the
+     * totals are combined in O(log P) steps, and the slots written by the
+     * arrivals are the only memory shared by the parties.
      *
-     * <p>If any thread is {@linkplain Thread#interrupt interrupted} while
-     * waiting, then all other waiting threads will throw {@link
-     * BrokenBarrierException} and the barrier is placed in the broken
-     * state.
+     * <p>The party completing the root does not trip the barrier, it returns
+     * {@code true} with the totals of the team in its slot, and has to {@link
+     * #release} the barrier once it has applied them. All other parties return
+     * {@code false} when the barrier is released.
      *
-     * <p>If the current thread is the last thread to arrive, and a
-     * non-null barrier action was supplied in the constructor, then the
-     * current thread runs the action before allowing the other threads to
-     * continue.
-     * If an exception occurs during the barrier action then that exception
-     * will be propagated in the current thread and the barrier is placed in
-     * the broken state.
+     * @param aliasID the thread alias id of the party, from 0 to parties - 1
+     * @return {@code true} if the party holds the totals and has to release
+     *         the barrier
+     */
+    public boolean awaitCombining(int aliasID, ReductionSlot slot)
+        throws InterruptedException, BrokenBarrierException {
+        final int arrivalPhase = phase;
+
+        if (broken)
+            throw new BrokenBarrierException();
+
+        if (Thread.interrupted()) {
+            breakBarrier();
+            throw new InterruptedException();
+        }
+
+        // the arrival publishes the partials to the party that combines them
+        slot.phase = arrivalPhase;
+        Node node = leafOf(aliasID);
+        for (;;) {
+            int index = arriveAt(node);
+            if (index != 0) {
+                try {
+                    waitFor(arrivalPhase, index, false, 0L);
+                } catch (TimeoutException toe) {
+                    throw new Error(toe); // cannot happen;
+                }
+                return false;
+            }
+            boolean combined = false;
+            try {
+                combineMembers(node, slot, arrivalPhase);
+                combined = true;
+            } finally {
+                if (!combined)
+                    breakBarrier();
+            }
+            node.combined = slot;
+            if (null == node.parent)
+                return true;
+            node = node.parent;
+        }
+    }
+
+    /*
+     * Combines the slots of the members of the node that arrived in the phase into the slot.
+     * Members that left the team have no partials of the phase.
+     */
+    private void combineMembers(Node node, ReductionSlot slot, int arrivalPhase) {
+        if (null == node.children) {
+            int last = Math.min(node.firstParty + fanIn, slots.length);
+            for (int party = node.firstParty; party < last; party++) {
+                ReductionSlot member = slots[party];
+                if (null != member && member != slot && member.phase == arrivalPhase)
+                    slot.combine(member);
+            }
+        } else {
+            for (Node child : node.children) {
+                ReductionSlot member = child.combined;
+                if (null != member && member != slot && member.phase == arrivalPhase)
+                    slot.combine(member);
+            }
+        }
+    }
+
+    /**
+     * Releases a barrier completed by {@link #awaitCombining}, called by the
+     * party that holds the totals after it has applied them.
+     */
+    public void release() {
+        trip();
+    }
+
+    /**
+     * Waits until all {@linkplain #getParties parties} have invoked
+     * <tt>await</tt> on this barrier, or the specified waiting time elapses.
+     * A timed wait parks without spinning. If the time elapses the barrier
+     * is placed in the broken state and {@link TimeoutException} is thrown.
      *
      * @param timeout the time to wait for the barrier
      * @param unit the time unit of the timeout parameter
-     * @return the arrival index of the current thread, where index
-     *         <tt>{@link #getParties()} - 1</tt> indicates the first
-     *         to arrive and zero indicates the last to arrive
+     * @return zero if the current thread was the last to arrive, a
+     *         positive arrival index otherwise
      * @throws InterruptedException if the current thread was interrupted
      *         while waiting
      * @throws TimeoutException if the specified timeout elapses
-     * @throws BrokenBarrierException if <em>another</em> thread was
-     *         interrupted or timed out while the current thread was
-     *         waiting, or the barrier was reset, or the barrier was broken
-     *         when {@code await} was called, or the barrier action (if
-     *         present) failed due an exception
+     * @throws BrokenBarrierException if the barrier was broken when
+     *         {@code await} was called or while the thread was waiting
      */
     public int await(long timeout, TimeUnit unit)
         throws InterruptedException,
                BrokenBarrierException,
                TimeoutException {
-        return dowait(true, unit.toNanos(timeout));
+        return dowait(currentLeaf(), true, unit.toNanos(timeout));
     }
 
     /**
@@ -367,64 +830,71 @@ public class PjCyclicBarrier {
      *         failed due to an exception; {@code false} otherwise.
      */
     public boolean isBroken() {
-        final ReentrantLock lock = this.lock;
-        lock.lock();
-        try {
-            return generation.broken;
-        } finally {
-            lock.unlock();
-        }
+        return broken;
     }
 
     /**
-     * Resets the barrier to its initial state.  If any parties are
-     * currently waiting at the barrier, they will return with a
-     * {@link BrokenBarrierException}. Note that resets <em>after</em>
-     * a breakage has occurred for other reasons can be complicated to
-     * carry out; threads need to re-synchronize in some other way,
-     * and choose one to perform the reset.  It may be preferable to
-     * instead create a new barrier for subsequent use.
+     * Resets the barrier to its initial state. Parties currently waiting
+     * are woken up with a {@link BrokenBarrierException}, or return
+     * normally if they observe the new phase first.
      */
     public void reset() {
-        final ReentrantLock lock = this.lock;
-        lock.lock();
-        try {
-            breakBarrier();   // break the current generation
-            nextGeneration(); // start a new generation
-        } finally {
-            lock.unlock();
-        }
+        breakBarrier();  // break the current phase
+        broken = false;
+        nextPhase();     // start a new phase
     }
 
     /**
      * Returns the number of parties currently waiting at the barrier.
      * This method is primarily useful for debugging and assertions.
      *
-     * @return the number of parties currently blocked in {@link #await}
+     * @return the number of parties currently waiting in {@link #await}
      */
     public int getNumberWaiting() {
-        final ReentrantLock lock = this.lock;
-        lock.lock();
-        try {
-            return parties - count;
-        } finally {
-            lock.unlock();
+        int waiting = 0;
+        for (Node leaf : leaves) {
+            long s = leaf.state;
+            waiting += membersOf(s) - countOf(s);
         }
+        return waiting;
     }
     
     //Xing added. For the exception handling use
     public int decreaseParties() {
-    	 final ReentrantLock lock = this.lock;
-         lock.lock();
-         try {
-        	 count--;
-        	 parties--;
-        	 if (count == 0) {  //tripped 
-        		 nextGeneration();
-             }
-             return parties;
-         } finally {
-             lock.unlock();
-         }
+        return decreaseParties(currentLeaf());
+    }
+
+    /**
+     * Same as {@link #decreaseParties()}, for the party with the given thread alias id.
+     */
+    public int decreaseParties(int aliasID) {
+        return decreaseParties(leafOf(aliasID));
+    }
+
+    /*
+     * The party leaves its leaf for good. A node left without members leaves
+     * its parent in turn, a node whose last missing member left arrives at
+     * its parent on behalf of it.
+     */
+    private int decreaseParties(Node node) {
+        final int remaining = parties.decrementAndGet();
+        while (null != node) {
+            long s;
+            int members, count;
+            do {
+                s = node.state;
+                members = membersOf(s) - 1;
+                count = countOf(s) - 1;
+            } while (!STATE.compareAndSet(node, s, (count == 0) ? pack(members, members) : pack(members, count)));
+            if (members == 0) {
+                node = node.parent;
+                continue;
+            }
+            if (count == 0 && (null == node.parent || arriveFrom(node.parent) == 0)) {
+                nextPhase();
+            }
+            return remaining;
+        }
+        return remaining;
     }
 }
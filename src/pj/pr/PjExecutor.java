@@ -24,16 +24,54 @@ package pj.pr;
 
 import pj.PjRuntime;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 public class PjExecutor {
 	
+	/*
+	 * Idle team workers, used in LIFO order so that the most recently parked (and cache warm)
+	 * workers are handed the next parallel region first.
+	 */
+	private static final ConcurrentLinkedDeque<PjWorkerThread> idleWorkers = new ConcurrentLinkedDeque<PjWorkerThread>();
+	
+	static {
+		prewarmTeam(InternalControlVariables.PJ_PREWARM_THREADS);
+	}
+	
 	public static void submit(int id, Callable<Void> task, InternalControlVariables parent_icv){
-		PjWorkerThread workerThread = new PjWorkerThread(id, task, parent_icv);
-		workerThread.start();
+		PjWorkerThread workerThread = idleWorkers.pollFirst();
+		if (null == workerThread) {
+			workerThread = new PjWorkerThread();
+			workerThread.start();
+		}
+		workerThread.assign(id, task, parent_icv);
+	}
+	
+	/*
+	 * Start idle workers in advance, so that the first parallel regions don't pay for thread creation.
+	 */
+	public static void prewarmTeam(int threadNumber) {
+		for (int i = idleWorkers.size(); i < threadNumber; i++) {
+			PjWorkerThread workerThread = new PjWorkerThread();
+			workerThread.start();
+			idleWorkers.offerFirst(workerThread);
+		}
+	}
+	
+	public static int idleWorkerCount() {
+		return idleWorkers.size();
+	}
+	
+	static void recycle(PjWorkerThread worker) {
+		idleWorkers.offerFirst(worker);
+	}
+	
+	static boolean retire(PjWorkerThread worker) {
+		return idleWorkers.remove(worker);
 	}
 
 	public static void cancelCurrentThreadGroup() {
-		InternalControlVariables icv = PjRuntime.threadICVMap.get(Thread.currentThread().getId());
+		InternalControlVariables icv = PjRuntime.getCurrentThreadICV();
 		if (null == icv.OMP_CurrentParallelRegionCancellationFlag) {
 			throw new RuntimeException("Pyjama: Cannot find cancellation flag in current parallel region");
 		} else {
@@ -42,7 +80,7 @@ public class PjExecutor {
 	}
 	
 	public static void cancelCurrentWorksharing() {
-		InternalControlVariables icv = PjRuntime.threadICVMap.get(Thread.currentThread().getId());
+		InternalControlVariables icv = PjRuntime.getCurrentThreadICV();
 		if (null == icv.OMP_CurrentWorksharingRegionCancellationFlag) {
 			throw new RuntimeException("Pyjama: Cannot find cancellation flag in current parallel region");
 		} else {
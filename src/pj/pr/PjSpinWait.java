@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package pj.pr;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/*
+ * Busy-waiting hint for spin loops of the runtime. Thread.onSpinWait() only exists from
+ * Java 9 on, so it is bound through a method handle and falls back to a plain spin.
+ */
+public final class PjSpinWait {
+	
+	private static final MethodHandle onSpinWait = lookupOnSpinWait();
+	
+	/*
+	 * Spinning only helps when another processor can release the spinning thread meanwhile.
+	 */
+	public static final boolean SPIN_ALLOWED = Runtime.getRuntime().availableProcessors() > 1;
+	
+	private PjSpinWait() {
+	}
+	
+	private static MethodHandle lookupOnSpinWait() {
+		try {
+			return MethodHandles.lookup().findStatic(Thread.class, "onSpinWait", MethodType.methodType(void.class));
+		} catch (NoSuchMethodException e) {
+			return null;
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+	
+	public static void onSpinWait() {
+		if (null != onSpinWait) {
+			try {
+				onSpinWait.invokeExact();
+			} catch (Throwable e) {
+				//cannot happen, Thread.onSpinWait() throws nothing
+			}
+		}
+	}
+}
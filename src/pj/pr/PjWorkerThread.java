@@ -20,33 +20,104 @@
  * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
  */
 
-package pj.pr;
 
-import pj.PjRuntime;
-import pj.pr.exceptions.OmpParallelRegionLocalCancellationException;
+package pj.pr;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
+/*
+ * A persistent team worker. After finishing the code of a parallel region the worker
+ * returns itself to the PjExecutor idle pool, spins for PJ_BLOCKTIME milliseconds and then
+ * parks until the next region hands it a new task, or until PJ_WORKER_KEEPALIVE elapses.
+ */
 public class PjWorkerThread extends Thread {
+	private static final AtomicInteger workerSequence = new AtomicInteger(0);
+	
 	private int alias_id;
-	private Callable<Void> task;
+	private volatile Callable<Void> task;
+	/* ICV of current thread, read by PjRuntime.getCurrentThreadICV() without any map lookup */
+	public InternalControlVariables icv;
 
+	public PjWorkerThread() {
+		super("Pyjama-worker-" + workerSequence.getAndIncrement());
+		this.setDaemon(true);
+	}
+	
 	public PjWorkerThread(int id, Callable<Void> callable, InternalControlVariables parent_icv) {
+		this();
+		this.assign(id, callable, parent_icv);
+	}
+	
+	/*
+	 * Hand a new task to this worker. Called by the encountering thread of a parallel region,
+	 * only after the worker has been taken out of the idle pool.
+	 */
+	void assign(int id, Callable<Void> callable, InternalControlVariables parent_icv) {
 		this.alias_id = id;
 		InternalControlVariables currentThreadICV = new InternalControlVariables(parent_icv);
-        currentThreadICV.currentThreadAliasID = this.alias_id;
-		PjRuntime.threadICVMap.put(this.getId(), currentThreadICV);
+		currentThreadICV.currentThreadAliasID = this.alias_id;
+		this.icv = currentThreadICV;
 		this.task = callable;
+		LockSupport.unpark(this);
 	}
+	
 	@Override
-    public void run() {
-       	 	try {
-				task.call();
+	public void run() {
+		Callable<Void> current;
+		while (null != (current = this.awaitTask())) {
+			try {
+				current.call();
 			} catch (Exception e) {
 				//e.printStackTrace();
 				//WorkerThread should always be silent
+			} finally {
+				this.task = null;
+				this.icv = null;
 			}
-       
-    }
+			PjExecutor.recycle(this);
+		}
+	}
+	
+	/*
+	 * Spin-then-block waiting for the next task. Returns null if the worker has been
+	 * retired from the idle pool and should terminate.
+	 */
+	private Callable<Void> awaitTask() {
+		Callable<Void> current = this.task;
+		if (null != current) {
+			return current;
+		}
+		if (PjSpinWait.SPIN_ALLOWED) {
+			final long spinDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(InternalControlVariables.PJ_BLOCKTIME);
+			while (null == (current = this.task) && System.nanoTime() - spinDeadline < 0) {
+				//busy waiting within blocktime, a region entered soon after doesn't pay for unparking
+				PjSpinWait.onSpinWait();
+			}
+			if (null != current) {
+				return current;
+			}
+		}
+		boolean retirable = true;
+		final long idleDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(InternalControlVariables.PJ_WORKER_KEEPALIVE);
+		for (;;) {
+			if (retirable) {
+				LockSupport.parkNanos(this, idleDeadline - System.nanoTime());
+			} else {
+				LockSupport.park(this);
+			}
+			if (null != (current = this.task)) {
+				return current;
+			}
+			if (retirable && System.nanoTime() - idleDeadline >= 0) {
+				if (PjExecutor.retire(this)) {
+					return null;
+				}
+				//Another thread has just taken this worker from the pool, the task is on its way.
+				retirable = false;
+			}
+		}
+	}
 }
@@ -0,0 +1,628 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ *
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.pr;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import pi.reductions.Reduction;
+
+/*
+ * Partial results of the reductions of one thread at one barrier. Every thread of a team owns a
+ * slot of the team barrier, padded to cache lines of its own. The thread puts its partials into
+ * the slot before it arrives at the barrier, and the last arrival at every node of the barrier's
+ * combining tree combines the slots of the node's members into its own slot, so the totals of
+ * the team end up in the slot of the thread that completes the barrier, without any lock.
+ *
+ * Integral partials are combined as long, which keeps the low bits of int, short, byte and char
+ * sums and products exact. Partials of other types are combined by a Combiner the compiler
+ * generates for the reduction operator.
+ *
+ * The private copies of array sections are put into the slot as well, but not combined in the
+ * tree, which would merge whole arrays one pair after the other. Once the barrier released the
+ * team, every thread combines the copies of all slots into its own share of the section.
+ * The private lists of a concat reduction are put the same way, the list grows by all of them
+ * at once and every thread copies its own list into its segment, in the order of the threads.
+ * The lists of a worksharing loop come with the chunks they were filled by, and their segments
+ * are in the order of the chunks instead, which is the order of the iterations for any schedule.
+ */
+public final class ReductionSlot {
+
+	/* operators the partials are combined by, a - reduction combines its partials by SUM */
+	public static final int SUM = 0;
+	public static final int PRODUCT = 1;
+	public static final int AND = 2;
+	public static final int OR = 3;
+	public static final int XOR = 4;
+	public static final int MIN = 5;
+	public static final int MAX = 6;
+	/* a value and its location, of equal values the smaller location wins */
+	public static final int MINLOC = 7;
+	public static final int MAXLOC = 8;
+	/* the operator of the location partial that follows a MINLOC or MAXLOC value partial */
+	private static final int LOCATION = -1;
+	/* a private list, the lists of the team are concatenated in the order of the threads */
+	public static final int CONCAT = 9;
+
+	/*
+	 * Combines two partials of a reduction over objects.
+	 */
+	public interface Combiner {
+		Object combine(Object a, Object b);
+	}
+
+	/*
+	 * The chunks of a worksharing loop one thread ran, marked in its private list of a concat
+	 * reduction: the first iteration of every chunk, and the size of the list when it began. The
+	 * thread that grows the list of the team sets where the elements of every chunk go.
+	 */
+	public static final class ListChunks {
+		int count = 0;
+		long[] starts = new long[INITIAL_CAPACITY];
+		int[] froms = new int[INITIAL_CAPACITY];
+		int[] destinations = null;
+
+		public void mark(long chunkStart, int listSize) {
+			if (this.count == this.starts.length) {
+				this.starts = Arrays.copyOf(this.starts, 2 * this.count);
+				this.froms = Arrays.copyOf(this.froms, 2 * this.count);
+			}
+			this.starts[this.count] = chunkStart;
+			this.froms[this.count] = listSize;
+			this.count++;
+		}
+
+		/* the number of elements chunk i added to the list of the given size */
+		int length(int i, int listSize) {
+			return (i + 1 < this.count ? this.froms[i + 1] : listSize) - this.froms[i];
+		}
+	}
+
+	private static final int LONG = 0;
+	private static final int DOUBLE = 1;
+	private static final int FLOAT = 2;
+	private static final int BOOLEAN = 3;
+	private static final int OBJECT = 4;
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	long p0, p1, p2, p3, p4, p5, p6;
+	/* the barrier phase the partials were put for, partials of another phase are never combined */
+	int phase = -1;
+	private int size = 0;
+	private int[] kinds = new int[INITIAL_CAPACITY];
+	private int[] operators = new int[INITIAL_CAPACITY];
+	private long[] longs = new long[INITIAL_CAPACITY];
+	private double[] doubles = new double[INITIAL_CAPACITY];
+	private Object[] objects = new Object[INITIAL_CAPACITY];
+	private Combiner[] combiners = new Combiner[INITIAL_CAPACITY];
+	private int sectionCount = 0;
+	private Object[] sections = new Object[INITIAL_CAPACITY];
+	private int[] sectionOperators = new int[INITIAL_CAPACITY];
+	private ListChunks[] sectionChunks = new ListChunks[INITIAL_CAPACITY];
+	long q0, q1, q2, q3, q4, q5, q6;
+
+	/*
+	 * Empties the slot for the partials of the next barrier.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.size; i++) {
+			this.objects[i] = null;
+			this.combiners[i] = null;
+		}
+		this.size = 0;
+		for (int i = 0; i < this.sectionCount; i++) {
+			this.sections[i] = null;
+			this.sectionChunks[i] = null;
+		}
+		this.sectionCount = 0;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public void put(long value, int operator) {
+		int index = add(LONG, operator);
+		this.longs[index] = value;
+	}
+
+	public void put(double value, int operator) {
+		int index = add(DOUBLE, operator);
+		this.doubles[index] = value;
+	}
+
+	public void put(float value, int operator) {
+		int index = add(FLOAT, operator);
+		this.doubles[index] = value;
+	}
+
+	public void put(boolean value, int operator) {
+		int index = add(BOOLEAN, operator);
+		this.longs[index] = value ? 1L : 0L;
+	}
+
+	public void put(long value, long location, int operator) {
+		int index = add(LONG, operator);
+		this.longs[index] = value;
+		index = add(LONG, LOCATION);
+		this.longs[index] = location;
+	}
+
+	public void put(double value, long location, int operator) {
+		int index = add(DOUBLE, operator);
+		this.doubles[index] = value;
+		index = add(LONG, LOCATION);
+		this.longs[index] = location;
+	}
+
+	public void put(Object value, Combiner combiner) {
+		int index = add(OBJECT, -1);
+		this.objects[index] = value;
+		this.combiners[index] = combiner;
+	}
+
+	/*
+	 * Puts the private copy of an array section, a partialSection() of the reduction array.
+	 */
+	public void putSection(Object partial, int operator) {
+		if (this.sectionCount == this.sections.length) {
+			this.sections = Arrays.copyOf(this.sections, 2 * this.sectionCount);
+			this.sectionOperators = Arrays.copyOf(this.sectionOperators, 2 * this.sectionCount);
+			this.sectionChunks = Arrays.copyOf(this.sectionChunks, 2 * this.sectionCount);
+		}
+		this.sections[this.sectionCount] = partial;
+		this.sectionOperators[this.sectionCount] = operator;
+		this.sectionCount++;
+	}
+
+	/*
+	 * Puts the private list of a concat reduction of a worksharing loop, with the chunks of the
+	 * loop that filled it.
+	 */
+	public void putSection(List<?> partial, ListChunks chunks) {
+		putSection(partial, CONCAT);
+		this.sectionChunks[this.sectionCount - 1] = chunks;
+	}
+
+	/*
+	 * Returns the private list of the concat reduction put as section index.
+	 */
+	public List<?> getSectionList(int index) {
+		return (List<?>) this.sections[index];
+	}
+
+	/*
+	 * Returns the chunks of the private list put as section index, null for the list of a thread
+	 * of a parallel region.
+	 */
+	public ListChunks getSectionChunks(int index) {
+		return this.sectionChunks[index];
+	}
+
+	public long getLong(int index) {
+		return this.longs[index];
+	}
+
+	public double getDouble(int index) {
+		return this.doubles[index];
+	}
+
+	public float getFloat(int index) {
+		return (float) this.doubles[index];
+	}
+
+	public boolean getBoolean(int index) {
+		return 0L != this.longs[index];
+	}
+
+	public Object getObject(int index) {
+		return this.objects[index];
+	}
+
+	/*
+	 * Whether the MINLOC or MAXLOC total at index comes before the value at the location, the
+	 * location of the total is at index + 1.
+	 */
+	public boolean precedes(int index, long value, long location) {
+		return precedes(this.operators[index], this.longs[index], this.longs[index + 1], value, location);
+	}
+
+	public boolean precedes(int index, double value, long location) {
+		return precedes(this.operators[index], this.doubles[index], this.longs[index + 1], value, location);
+	}
+
+	/*
+	 * Combines the partials of the other slot into the partials of this slot, both slots hold the
+	 * partials of the same reductions, put in the same order.
+	 */
+	public void combine(ReductionSlot other) {
+		if (other.size != this.size) {
+			throw new RuntimeException("Pyjama: threads of a team reached a barrier with different reductions");
+		}
+		for (int i = 0; i < this.size; i++) {
+			if (MINLOC == this.operators[i] || MAXLOC == this.operators[i]) {
+				boolean precedes = (LONG == this.kinds[i])
+						? other.precedes(i, this.longs[i], this.longs[i + 1])
+						: other.precedes(i, this.doubles[i], this.longs[i + 1]);
+				if (precedes) {
+					this.longs[i] = other.longs[i];
+					this.doubles[i] = other.doubles[i];
+					this.longs[i + 1] = other.longs[i + 1];
+				}
+				i++;
+				continue;
+			}
+			switch (this.kinds[i]) {
+			case LONG:
+			case BOOLEAN:
+				this.longs[i] = combine(this.longs[i], other.longs[i], this.operators[i]);
+				break;
+			case DOUBLE:
+				this.doubles[i] = combine(this.doubles[i], other.doubles[i], this.operators[i]);
+				break;
+			case FLOAT:
+				this.doubles[i] = (float) combine(this.doubles[i], other.doubles[i], this.operators[i]);
+				break;
+			default:
+				this.objects[i] = this.combiners[i].combine(this.objects[i], other.objects[i]);
+				break;
+			}
+		}
+	}
+
+	/*
+	 * Combines the elements [from, to) of the private copy of section index into the array.
+	 */
+	public void combineSection(int index, Object array, int from, int to) {
+		Object partial = this.sections[index];
+		int operator = this.sectionOperators[index];
+		if (array instanceof int[]) {
+			combine((int[]) array, (int[]) partial, from, to, operator);
+		} else if (array instanceof long[]) {
+			combine((long[]) array, (long[]) partial, from, to, operator);
+		} else if (array instanceof double[]) {
+			combine((double[]) array, (double[]) partial, from, to, operator);
+		} else if (array instanceof float[]) {
+			combine((float[]) array, (float[]) partial, from, to, operator);
+		} else {
+			throw new RuntimeException("Pyjama: reductions on arrays of " + array.getClass().getComponentType() + " are not supported");
+		}
+	}
+
+	/*
+	 * The union of two private sets of a union reduction, the smaller set is added to the larger.
+	 */
+	public static <E, C extends Collection<E>> C union(C a, C b) {
+		if (a.size() < b.size()) {
+			b.addAll(a);
+			return b;
+		}
+		a.addAll(b);
+		return a;
+	}
+
+	/*
+	 * Merges two private maps of a merge reduction, the smaller map is merged into the larger.
+	 * The values of a key in both maps are reduced by the function, the value of a first.
+	 */
+	public static <K, V> Map<K, V> merge(Map<K, V> a, Map<K, V> b, Reduction<V> function) {
+		if (a.size() < b.size()) {
+			merge(b, a, function, true);
+			return b;
+		}
+		merge(a, b, function, false);
+		return a;
+	}
+
+	/*
+	 * Merges the entries of the map from into the map into, the values of a key in both maps are
+	 * reduced by the function, the value of into first.
+	 */
+	public static <K, V> void mergeInto(Map<K, V> into, Map<K, V> from, Reduction<V> function) {
+		merge(into, from, function, false);
+	}
+
+	private static <K, V> void merge(Map<K, V> into, Map<K, V> from, Reduction<V> function, boolean fromFirst) {
+		for (Map.Entry<K, V> entry: from.entrySet()) {
+			K key = entry.getKey();
+			V value = entry.getValue();
+			if (into.containsKey(key)) {
+				V other = into.get(key);
+				value = fromFirst ? function.reduce(value, other) : function.reduce(other, value);
+			}
+			into.put(key, value);
+		}
+	}
+
+	/*
+	 * A private copy of the section [lower, lower + length) of a reduction array, the elements of
+	 * the section start at the identity of the operator. The copy is indexed like the array.
+	 */
+	public static int[] partialSection(int[] array, int lower, int length, int operator) {
+		checkSection(array.length, lower, length);
+		int[] partial = new int[lower + length];
+		if (PRODUCT == operator) {
+			Arrays.fill(partial, lower, lower + length, 1);
+		} else if (AND == operator) {
+			Arrays.fill(partial, lower, lower + length, ~0);
+		} else if (MIN == operator) {
+			Arrays.fill(partial, lower, lower + length, Integer.MAX_VALUE);
+		} else if (MAX == operator) {
+			Arrays.fill(partial, lower, lower + length, Integer.MIN_VALUE);
+		}
+		return partial;
+	}
+
+	public static long[] partialSection(long[] array, int lower, int length, int operator) {
+		checkSection(array.length, lower, length);
+		long[] partial = new long[lower + length];
+		if (PRODUCT == operator) {
+			Arrays.fill(partial, lower, lower + length, 1L);
+		} else if (AND == operator) {
+			Arrays.fill(partial, lower, lower + length, ~0L);
+		} else if (MIN == operator) {
+			Arrays.fill(partial, lower, lower + length, Long.MAX_VALUE);
+		} else if (MAX == operator) {
+			Arrays.fill(partial, lower, lower + length, Long.MIN_VALUE);
+		}
+		return partial;
+	}
+
+	public static double[] partialSection(double[] array, int lower, int length, int operator) {
+		checkSection(array.length, lower, length);
+		double[] partial = new double[lower + length];
+		if (PRODUCT == operator) {
+			Arrays.fill(partial, lower, lower + length, 1.0);
+		} else if (MIN == operator) {
+			Arrays.fill(partial, lower, lower + length, Double.POSITIVE_INFINITY);
+		} else if (MAX == operator) {
+			Arrays.fill(partial, lower, lower + length, Double.NEGATIVE_INFINITY);
+		}
+		return partial;
+	}
+
+	public static float[] partialSection(float[] array, int lower, int length, int operator) {
+		checkSection(array.length, lower, length);
+		float[] partial = new float[lower + length];
+		if (PRODUCT == operator) {
+			Arrays.fill(partial, lower, lower + length, 1.0f);
+		} else if (MIN == operator) {
+			Arrays.fill(partial, lower, lower + length, Float.POSITIVE_INFINITY);
+		} else if (MAX == operator) {
+			Arrays.fill(partial, lower, lower + length, Float.NEGATIVE_INFINITY);
+		}
+		return partial;
+	}
+
+	private static void checkSection(int arrayLength, int lower, int length) {
+		if (lower < 0 || length < 0 || lower > arrayLength - length) {
+			throw new RuntimeException("Pyjama: reduction section [" + lower + ":" + length + "] is out of the bounds of an array of length " + arrayLength);
+		}
+	}
+
+	private static void combine(int[] array, int[] partial, int from, int to, int operator) {
+		switch (operator) {
+		case SUM:
+			for (int i = from; i < to; i++) {
+				array[i] += partial[i];
+			}
+			break;
+		case PRODUCT:
+			for (int i = from; i < to; i++) {
+				array[i] *= partial[i];
+			}
+			break;
+		case AND:
+			for (int i = from; i < to; i++) {
+				array[i] &= partial[i];
+			}
+			break;
+		case OR:
+			for (int i = from; i < to; i++) {
+				array[i] |= partial[i];
+			}
+			break;
+		case XOR:
+			for (int i = from; i < to; i++) {
+				array[i] ^= partial[i];
+			}
+			break;
+		case MIN:
+			for (int i = from; i < to; i++) {
+				array[i] = Math.min(array[i], partial[i]);
+			}
+			break;
+		case MAX:
+			for (int i = from; i < to; i++) {
+				array[i] = Math.max(array[i], partial[i]);
+			}
+			break;
+		default:
+			throw new RuntimeException("Pyjama: unknown reduction operator " + operator);
+		}
+	}
+
+	private static void combine(long[] array, long[] partial, int from, int to, int operator) {
+		switch (operator) {
+		case SUM:
+			for (int i = from; i < to; i++) {
+				array[i] += partial[i];
+			}
+			break;
+		case PRODUCT:
+			for (int i = from; i < to; i++) {
+				array[i] *= partial[i];
+			}
+			break;
+		case AND:
+			for (int i = from; i < to; i++) {
+				array[i] &= partial[i];
+			}
+			break;
+		case OR:
+			for (int i = from; i < to; i++) {
+				array[i] |= partial[i];
+			}
+			break;
+		case XOR:
+			for (int i = from; i < to; i++) {
+				array[i] ^= partial[i];
+			}
+			break;
+		case MIN:
+			for (int i = from; i < to; i++) {
+				array[i] = Math.min(array[i], partial[i]);
+			}
+			break;
+		case MAX:
+			for (int i = from; i < to; i++) {
+				array[i] = Math.max(array[i], partial[i]);
+			}
+			break;
+		default:
+			throw new RuntimeException("Pyjama: unknown reduction operator " + operator);
+		}
+	}
+
+	private static void combine(double[] array, double[] partial, int from, int to, int operator) {
+		switch (operator) {
+		case SUM:
+			for (int i = from; i < to; i++) {
+				array[i] += partial[i];
+			}
+			break;
+		case PRODUCT:
+			for (int i = from; i < to; i++) {
+				array[i] *= partial[i];
+			}
+			break;
+		case MIN:
+			for (int i = from; i < to; i++) {
+				array[i] = Math.min(array[i], partial[i]);
+			}
+			break;
+		case MAX:
+			for (int i = from; i < to; i++) {
+				array[i] = Math.max(array[i], partial[i]);
+			}
+			break;
+		default:
+			throw new RuntimeException("Pyjama: reduction operator " + operator + " is not defined for floating point partials");
+		}
+	}
+
+	private static void combine(float[] array, float[] partial, int from, int to, int operator) {
+		switch (operator) {
+		case SUM:
+			for (int i = from; i < to; i++) {
+				array[i] += partial[i];
+			}
+			break;
+		case PRODUCT:
+			for (int i = from; i < to; i++) {
+				array[i] *= partial[i];
+			}
+			break;
+		case MIN:
+			for (int i = from; i < to; i++) {
+				array[i] = Math.min(array[i], partial[i]);
+			}
+			break;
+		case MAX:
+			for (int i = from; i < to; i++) {
+				array[i] = Math.max(array[i], partial[i]);
+			}
+			break;
+		default:
+			throw new RuntimeException("Pyjama: reduction operator " + operator + " is not defined for floating point partials");
+		}
+	}
+
+	private static long combine(long a, long b, int operator) {
+		switch (operator) {
+		case SUM:
+			return a + b;
+		case PRODUCT:
+			return a * b;
+		case AND:
+			return a & b;
+		case OR:
+			return a | b;
+		case XOR:
+			return a ^ b;
+		case MIN:
+			return Math.min(a, b);
+		case MAX:
+			return Math.max(a, b);
+		default:
+			throw new RuntimeException("Pyjama: unknown reduction operator " + operator);
+		}
+	}
+
+	private static double combine(double a, double b, int operator) {
+		switch (operator) {
+		case SUM:
+			return a + b;
+		case PRODUCT:
+			return a * b;
+		case MIN:
+			return Math.min(a, b);
+		case MAX:
+			return Math.max(a, b);
+		default:
+			throw new RuntimeException("Pyjama: reduction operator " + operator + " is not defined for floating point partials");
+		}
+	}
+
+	private static boolean precedes(int operator, long a, long aLocation, long b, long bLocation) {
+		if (a == b) {
+			return aLocation < bLocation;
+		}
+		return (MINLOC == operator) ? a < b : a > b;
+	}
+
+	private static boolean precedes(int operator, double a, long aLocation, double b, long bLocation) {
+		if (a == b) {
+			return aLocation < bLocation;
+		}
+		return (MINLOC == operator) ? a < b : a > b;
+	}
+
+	private int add(int kind, int operator) {
+		if (this.size == this.kinds.length) {
+			int capacity = 2 * this.size;
+			this.kinds = Arrays.copyOf(this.kinds, capacity);
+			this.operators = Arrays.copyOf(this.operators, capacity);
+			this.longs = Arrays.copyOf(this.longs, capacity);
+			this.doubles = Arrays.copyOf(this.doubles, capacity);
+			this.objects = Arrays.copyOf(this.objects, capacity);
+			this.combiners = Arrays.copyOf(this.combiners, capacity);
+		}
+		this.kinds[this.size] = kind;
+		this.operators[this.size] = operator;
+		return this.size++;
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.pr;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/*
+ * Iteration ranges of one execution of a schedule(steal) loop. Every thread starts with a
+ * contiguous block of the normalised iteration space [0, end] in its own padded slot and takes
+ * chunks from the front of it. A thread whose slot is empty steals the back half of the largest
+ * remaining range of another thread and continues with it, so a balanced loop keeps the locality
+ * of a static schedule, and a skewed one gets balanced without a cursor shared by all threads.
+ * 
+ * A slot packs its range [lo, hi] into one long, the owner and the thieves both update it by CAS.
+ * An iteration space that does not fit in 31 bits keeps immutable Range objects instead.
+ */
+public final class StealingLoopRanges {
+	
+	static final class Slot {
+		long p0, p1, p2, p3, p4, p5, p6;
+		volatile long range;
+		volatile Range wideRange;
+		//size of the chunk last taken by the owner, only touched by the owner
+		long taken;
+		long q0, q1, q2, q3, q4, q5, q6;
+	}
+	
+	static final class Range {
+		final long lo;
+		final long hi;
+		
+		Range(long lo, long hi) {
+			this.lo = lo;
+			this.hi = hi;
+		}
+	}
+	
+	private static final AtomicLongFieldUpdater<Slot> RANGE =
+			AtomicLongFieldUpdater.newUpdater(Slot.class, "range");
+	private static final AtomicReferenceFieldUpdater<Slot, Range> WIDE_RANGE =
+			AtomicReferenceFieldUpdater.newUpdater(Slot.class, Range.class, "wideRange");
+	
+	private final Slot[] slots;
+	private final long end;
+	private final boolean wide;
+	private final long defaultChunk;
+	
+	public StealingLoopRanges(long end, int threadNumber) {
+		if (threadNumber < 1) {
+			threadNumber = 1;
+		}
+		this.end = end;
+		this.wide = end >= Integer.MAX_VALUE;
+		this.slots = new Slot[threadNumber];
+		long iterations = (end < 0) ? 0 : end + 1;
+		long block = iterations / threadNumber;
+		long rest = iterations % threadNumber;
+		long lo = 0;
+		for (int i = 0; i < threadNumber; i++) {
+			long size = block + ((i < rest) ? 1 : 0);
+			Slot slot = new Slot();
+			if (this.wide) {
+				slot.wideRange = new Range(lo, lo + size - 1);
+			} else {
+				slot.range = pack((int)lo, (int)(lo + size - 1));
+			}
+			this.slots[i] = slot;
+			lo += size;
+		}
+		long chunk = block / 64;
+		this.defaultChunk = (chunk < 1) ? 1 : chunk;
+	}
+	
+	static long pack(int lo, int hi) {
+		return ((long)lo << 32) | (hi & 0xFFFFFFFFL);
+	}
+	
+	static int lo(long range) {
+		return (int)(range >> 32);
+	}
+	
+	static int hi(long range) {
+		return (int)range;
+	}
+	
+	/*
+	 * Start of the next chunk of thread threadID, or a value greater than end when no iteration
+	 * is left anywhere. The size of the chunk is given by chunkSize(threadID) afterwards.
+	 * chunk less than 1 means a default of 1/64 of a thread's initial block.
+	 */
+	public int next(int threadID, int chunk) {
+		if (this.wide) {
+			throw new RuntimeException("Pyjama: schedule(steal) loop of more than 2^31-1 iterations needs a long induction variable");
+		}
+		int defaultChunk = (int)Math.min(this.defaultChunk, Integer.MAX_VALUE);
+		Slot own = this.slots[threadID];
+		for (;;) {
+			long range = own.range;
+			int lo = lo(range);
+			int hi = hi(range);
+			if (lo <= hi) {
+				int size = (int)Math.min((long)hi - lo + 1, (chunk < 1) ? defaultChunk : chunk);
+				if (RANGE.compareAndSet(own, range, pack(lo + size, hi))) {
+					own.taken = size;
+					return lo;
+				}
+			} else if (!steal(threadID, own)) {
+				own.taken = 0;
+				return (int)this.end + 1;
+			}
+		}
+	}
+	
+	public int chunkSize(int threadID) {
+		return (int)this.slots[threadID].taken;
+	}
+	
+	/*
+	 * next(int, int) of a loop with long induction variable.
+	 */
+	public long nextLong(int threadID, long chunk) {
+		if (!this.wide) {
+			return next(threadID, (int)Math.min(chunk, Integer.MAX_VALUE));
+		}
+		if (chunk < 1) {
+			chunk = this.defaultChunk;
+		}
+		Slot own = this.slots[threadID];
+		for (;;) {
+			Range range = own.wideRange;
+			if (range.lo <= range.hi) {
+				long size = Math.min(range.hi - range.lo + 1, chunk);
+				if (WIDE_RANGE.compareAndSet(own, range, new Range(range.lo + size, range.hi))) {
+					own.taken = size;
+					return range.lo;
+				}
+			} else if (!stealWide(threadID, own)) {
+				own.taken = 0;
+				return (this.end == Long.MAX_VALUE) ? Long.MAX_VALUE : this.end + 1;
+			}
+		}
+	}
+	
+	public long chunkSizeLong(int threadID) {
+		return this.slots[threadID].taken;
+	}
+	
+	/*
+	 * Move the back half of the largest range of another thread into the own(empty) slot.
+	 * Returns false when every slot was found empty.
+	 */
+	private boolean steal(int threadID, Slot own) {
+		int threadNumber = this.slots.length;
+		for (;;) {
+			Slot victim = null;
+			long victimRange = 0;
+			long largest = 0;
+			for (int i = 1; i < threadNumber; i++) {
+				Slot slot = this.slots[(threadID + i) % threadNumber];
+				long range = slot.range;
+				long remaining = (long)hi(range) - lo(range) + 1;
+				if (remaining > largest) {
+					largest = remaining;
+					victim = slot;
+					victimRange = range;
+				}
+			}
+			if (null == victim) {
+				return false;
+			}
+			int lo = lo(victimRange);
+			int hi = hi(victimRange);
+			int stolen = (int)((largest + 1) / 2);
+			if (RANGE.compareAndSet(victim, victimRange, pack(lo, hi - stolen))) {
+				//only the owner writes its own slot once it is empty, thieves skip empty slots
+				own.range = pack(hi - stolen + 1, hi);
+				return true;
+			}
+		}
+	}
+	
+	private boolean stealWide(int threadID, Slot own) {
+		int threadNumber = this.slots.length;
+		for (;;) {
+			Slot victim = null;
+			Range victimRange = null;
+			long largest = 0;
+			for (int i = 1; i < threadNumber; i++) {
+				Slot slot = this.slots[(threadID + i) % threadNumber];
+				Range range = slot.wideRange;
+				long remaining = range.hi - range.lo + 1;
+				if (remaining > largest) {
+					largest = remaining;
+					victim = slot;
+					victimRange = range;
+				}
+			}
+			if (null == victim) {
+				return false;
+			}
+			long stolen = largest / 2 + (largest % 2);
+			if (WIDE_RANGE.compareAndSet(victim, victimRange, new Range(victimRange.lo, victimRange.hi - stolen))) {
+				own.wideRange = new Range(victimRange.hi - stolen + 1, victimRange.hi);
+				return true;
+			}
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.pr;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import pj.pr.backend.ForkJoinBackend;
+
+/*
+ * Ring of worksharing slots of a team, like the work-share ring of libgomp. Every thread counts the
+ * worksharing loops it encounters, and the n-th encounter of every thread of the team uses slot
+ * n % SIZE, so a thread never waits for the others when it enters a loop, unless it is SIZE loops
+ * ahead of the slowest thread of the team.
+ * 
+ * A slot is open for one encounter at a time. Its cursors are reset by the last thread that leaves
+ * it, which then opens it for the encounter SIZE loops later. This replaces the reset of one team
+ * cursor by the master followed by a barrier, so dynamic and guided loops need no entry barrier,
+ * and nowait loops really overlap.
+ * 
+ * A thread that leaves the team early, e.g. by an exception its region neglects, retires from
+ * the ring, and the slots of the loops it never enters are reset without it.
+ * 
+ * Waits on the slots are managed waits, see ForkJoinBackend.managedWait(), a thread of a
+ * ForkJoinPool may wait for team members the pool has not started yet.
+ */
+public final class WorkShareRing {
+	
+	/* number of worksharing loops a thread may run ahead of the slowest thread of its team */
+	public static final int SIZE = 8;
+	
+	/* spin rounds on an unopened slot before the waiting thread starts to yield */
+	private static final int SPIN_ROUNDS = 1000;
+	
+	/*
+	 * Cursors padded to a cache line of their own, the cursors of neighbouring slots are hit
+	 * by different loops at the same time.
+	 */
+	public static final class PaddedAtomicInteger extends AtomicInteger {
+		private static final long serialVersionUID = 1L;
+		long p0, p1, p2, p3, p4, p5, p6;
+	}
+	
+	public static final class PaddedAtomicLong extends AtomicLong {
+		private static final long serialVersionUID = 1L;
+		long p0, p1, p2, p3, p4, p5, p6;
+	}
+	
+	public static final class Slot {
+		/* chunk cursors of dynamic, guided and runtime loops, for int and long iteration spaces */
+		public final PaddedAtomicInteger cursor = new PaddedAtomicInteger();
+		public final PaddedAtomicLong cursorLong = new PaddedAtomicLong();
+		/* turns of the ordered regions */
+		public final OrderedTickets ordered;
+		
+		private final WorkShareRing ring;
+		/* the encounter this slot is open for */
+		private volatile long encounter;
+		private final AtomicInteger left = new AtomicInteger();
+		/* schedule of the encounter, decided by the first thread that enters it */
+		private final AtomicInteger claimed = new AtomicInteger();
+		private volatile Object schedule;
+		/* elements of a loop over a collection without random access, copied by the first thread that enters it */
+		private final AtomicInteger elementsClaimed = new AtomicInteger();
+		private volatile List<?> elements;
+		
+		Slot(WorkShareRing ring, long encounter) {
+			this.ring = ring;
+			this.encounter = encounter;
+			this.ordered = new OrderedTickets(ring.threadNumber);
+		}
+		
+		/*
+		 * True for exactly one thread of the encounter, which has to publish the schedule of the
+		 * loop, the other threads wait for it in getSchedule().
+		 */
+		public boolean claim() {
+			return 0 == this.claimed.get() && this.claimed.compareAndSet(0, 1);
+		}
+		
+		public void publish(Object schedule) {
+			this.schedule = schedule;
+		}
+		
+		public Object getSchedule() {
+			if (null == this.schedule) {
+				ForkJoinBackend.managedWait(new SpinWait() {
+					@Override
+					public boolean isReleasable() {
+						return null != schedule;
+					}
+				});
+			}
+			return this.schedule;
+		}
+		
+		/*
+		 * Like claim(), for the copy of the elements of a collection loop, which may have a
+		 * schedule of its own.
+		 */
+		public boolean claimElements() {
+			return 0 == this.elementsClaimed.get() && this.elementsClaimed.compareAndSet(0, 1);
+		}
+		
+		public void publishElements(List<?> elements) {
+			this.elements = elements;
+		}
+		
+		public List<?> getElements() {
+			if (null == this.elements) {
+				ForkJoinBackend.managedWait(new SpinWait() {
+					@Override
+					public boolean isReleasable() {
+						return null != elements;
+					}
+				});
+			}
+			return this.elements;
+		}
+		
+		/*
+		 * Called by every thread of the team when it is done with the loop. The last one resets
+		 * the slot and opens it for the encounter SIZE loops later.
+		 */
+		public void leave() {
+			this.left.incrementAndGet();
+			tryReset();
+		}
+		
+		/*
+		 * Resets the slot once every thread of its encounter has left, exactly once: the thread
+		 * that leaves last and a thread retiring from the ring at the same time may both find the
+		 * slot done.
+		 */
+		void tryReset() {
+			int done = this.left.get();
+			if (done < 1 || done < this.ring.partiesOf(this.encounter) || !this.left.compareAndSet(done, RESETTING)) {
+				return;
+			}
+			this.cursor.set(0);
+			this.cursorLong.set(0);
+			this.ordered.reset();
+			this.schedule = null;
+			this.claimed.set(0);
+			this.elements = null;
+			this.elementsClaimed.set(0);
+			this.left.set(0);
+			this.encounter = this.encounter + SIZE;
+		}
+	}
+	
+	/* left count of a slot being reset */
+	private static final int RESETTING = -1;
+	
+	private final Slot[] slots = new Slot[SIZE];
+	private final int threadNumber;
+	/* the first encounter each retired thread never enters, by thread alias id */
+	private final AtomicInteger retiredCount = new AtomicInteger();
+	private final AtomicLongArray retiredAt;
+	
+	public WorkShareRing(int threadNumber) {
+		this.threadNumber = (threadNumber < 1) ? 1 : threadNumber;
+		this.retiredAt = new AtomicLongArray(this.threadNumber);
+		for (int i = 0; i < this.threadNumber; i++) {
+			this.retiredAt.set(i, Long.MAX_VALUE);
+		}
+		for (int i = 0; i < SIZE; i++) {
+			this.slots[i] = new Slot(this, i);
+		}
+	}
+	
+	/*
+	 * The number of threads that take part in the given encounter.
+	 */
+	int partiesOf(long encounter) {
+		int parties = this.threadNumber;
+		if (0 == this.retiredCount.get()) {
+			return parties;
+		}
+		for (int i = 0; i < this.threadNumber; i++) {
+			if (this.retiredAt.get(i) <= encounter) {
+				parties--;
+			}
+		}
+		return parties;
+	}
+	
+	/*
+	 * Called by a thread that leaves the team before the end of the region, encounter is the
+	 * number of worksharing loops it has entered, and left, so far. The slots of later
+	 * encounters no longer wait for it.
+	 */
+	public void retire(int aliasID, long encounter) {
+		if (aliasID < 0 || aliasID >= this.threadNumber || !this.retiredAt.compareAndSet(aliasID, Long.MAX_VALUE, encounter)) {
+			return;
+		}
+		this.retiredCount.incrementAndGet();
+		//the other threads may all have left a slot the retiring thread never enters
+		for (Slot slot: this.slots) {
+			slot.tryReset();
+		}
+	}
+	
+	/*
+	 * Slot of the given encounter (the number of worksharing loops the calling thread has entered
+	 * before), waits until the team has left the encounter that used the slot before.
+	 */
+	public Slot enter(final long encounter) {
+		final Slot slot = this.slots[(int)(encounter % SIZE)];
+		if (slot.encounter != encounter) {
+			ForkJoinBackend.managedWait(new SpinWait() {
+				@Override
+				public boolean isReleasable() {
+					return slot.encounter == encounter;
+				}
+			});
+		}
+		return slot;
+	}
+	
+	/*
+	 * Wait for a slot, spins SPIN_ROUNDS rounds and yields afterwards.
+	 */
+	private abstract static class SpinWait implements ForkJoinPool.ManagedBlocker {
+		@Override
+		public boolean block() {
+			for (int round = 0; !isReleasable(); round++) {
+				if (PjSpinWait.SPIN_ALLOWED && round < SPIN_ROUNDS) {
+					PjSpinWait.onSpinWait();
+				} else {
+					Thread.yield();
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.pr;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Source of a stream loop (omp for stream), shared by the team. Threads claim the items of the
+ * source in batches, so the lock of the stream is taken once per batch rather than once per item.
+ * 
+ * A BlockingQueue source is consumed. A claim takes what the queue holds and waits for more when
+ * it is empty, until it takes the end marker put by Pyjama.omp_end_stream(queue). An Iterator, or
+ * the iterator of any other Iterable, ends when it has no next item.
+ * 
+ * Claims are numbered, and the stream knows which claim holds its last item once the end has been
+ * seen, for lastprivate. Cancelling the worksharing region, or interrupting a thread waiting on an
+ * empty queue, ends the stream for the whole team, the items not claimed yet stay in the queue.
+ */
+public final class WorkShareStream {
+	
+	/* batch size without batch clause, like the chunk size of dynamic schedule */
+	public static final int DEFAULT_BATCH = 1;
+	
+	private static final Object END = new Object();
+	/* wait of a claim on an empty queue before it checks for cancellation again */
+	private static final long POLL_MILLIS = 10;
+	
+	private final BlockingQueue<?> queue;
+	private final Iterator<?> iterator;
+	private final AtomicBoolean cancelled;
+	
+	private final ReentrantLock lock = new ReentrantLock();
+	/* guarded by lock */
+	private long claims = 0;
+	private volatile boolean ended = false;
+	/* the claim holding the last item, -1 if the stream had no item or was cancelled */
+	private volatile long lastClaim = -1;
+	
+	public WorkShareStream(Iterable<?> source, AtomicBoolean cancelled) {
+		if (source instanceof BlockingQueue) {
+			this.queue = (BlockingQueue<?>) source;
+			this.iterator = null;
+		} else {
+			this.queue = null;
+			this.iterator = source.iterator();
+		}
+		this.cancelled = cancelled;
+	}
+	
+	public WorkShareStream(Iterator<?> source, AtomicBoolean cancelled) {
+		this.queue = null;
+		this.iterator = source;
+		this.cancelled = cancelled;
+	}
+	
+	/*
+	 * Ends the stream loops over queue once they have taken the items put before.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void end(BlockingQueue<?> queue) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				((BlockingQueue<Object>) queue).put(END);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/*
+	 * Replaces the content of batch with the next items of the stream, at most size of them.
+	 * Returns the number of the claim, or -1 with an empty batch at the end of the stream.
+	 */
+	public long claim(List<Object> batch, int size) {
+		batch.clear();
+		if (size < 1) {
+			size = 1;
+		}
+		this.lock.lock();
+		try {
+			if (this.ended) {
+				return -1;
+			}
+			boolean last = (null == this.queue) ? takeFromIterator(batch, size) : takeFromQueue(batch, size);
+			if (last) {
+				this.ended = true;
+				if (batch.isEmpty()) {
+					this.lastClaim = this.claims - 1;
+					return -1;
+				}
+				this.lastClaim = this.claims;
+			}
+			if (batch.isEmpty()) {
+				//cancelled
+				this.ended = true;
+				return -1;
+			}
+			return this.claims++;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+	
+	/*
+	 * True if the thread whose last claim was claim ran the last item of the stream.
+	 */
+	public boolean isLast(long claim) {
+		return claim >= 0 && claim == this.lastClaim;
+	}
+	
+	private boolean isCancelled() {
+		return null != this.cancelled && this.cancelled.get();
+	}
+	
+	/* returns true if the batch ends the stream */
+	private boolean takeFromIterator(List<Object> batch, int size) {
+		if (isCancelled()) {
+			return false;
+		}
+		while (batch.size() < size && this.iterator.hasNext()) {
+			batch.add(this.iterator.next());
+		}
+		return !this.iterator.hasNext();
+	}
+	
+	private boolean takeFromQueue(List<Object> batch, int size) {
+		while (batch.isEmpty()) {
+			if (isCancelled()) {
+				return false;
+			}
+			this.queue.drainTo(batch, size);
+			if (batch.isEmpty()) {
+				try {
+					Object item = this.queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+					if (null != item) {
+						batch.add(item);
+						this.queue.drainTo(batch, size - 1);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		int end = batch.indexOf(END);
+		if (end < 0) {
+			return false;
+		}
+		//items put after the end marker belong to the next loop over the queue
+		List<Object> following = batch.subList(end + 1, batch.size());
+		if (!following.isEmpty()) {
+			giveBack(following);
+		}
+		batch.subList(end, batch.size()).clear();
+		return true;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void giveBack(List<Object> items) {
+		if (this.queue instanceof BlockingDeque) {
+			BlockingDeque<Object> deque = (BlockingDeque<Object>) this.queue;
+			for (int i = items.size() - 1; i >= 0; i--) {
+				deque.addFirst(items.get(i));
+			}
+		} else {
+			((BlockingQueue<Object>) this.queue).addAll(items);
+		}
+	}
+}
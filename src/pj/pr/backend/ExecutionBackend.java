@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package pj.pr.backend;
+
+import java.util.concurrent.Callable;
+
+import pj.pr.InternalControlVariables;
+
+/**
+ * Execution backend SPI, decides which threads run the members of a parallel region team.
+ * 
+ * The backend is selected by the PJ_EXECUTION_BACKEND system property (or environment variable),
+ * either one of the built-in names <code>platform</code>, <code>forkjoin</code>, <code>virtual</code>,
+ * or the fully qualified name of an implementation class with a public no-argument constructor.
+ * It can also be changed by {@link pj.PjRuntime#setExecutionBackend(ExecutionBackend)}.
+ * 
+ * Team members wait for each other at barriers, so an implementation must be able to run
+ * all members of a team concurrently.
+ */
+public interface ExecutionBackend {
+	
+	/**
+	 * Run one member of a parallel region team.
+	 * @param id the alias id (thread number) of the team member
+	 * @param task the code of the team member
+	 * @param parent_icv the ICV of the parallel region, the member runs with its own copy
+	 */
+	public void submit(int id, Callable<Void> task, InternalControlVariables parent_icv);
+	
+	public String getName();
+}
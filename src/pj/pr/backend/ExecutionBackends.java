@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package pj.pr.backend;
+
+import java.lang.reflect.InvocationTargetException;
+
+import pj.pr.InternalControlVariables;
+
+/**
+ * Creates execution backends by name.
+ */
+public class ExecutionBackends {
+	
+	public static final String DEFAULT_BACKEND = "platform";
+	
+	public static ExecutionBackend create(String name) {
+		if (null == name || name.isEmpty() || name.equalsIgnoreCase("platform")) {
+			return new PlatformThreadBackend();
+		} else if (name.equalsIgnoreCase("forkjoin")) {
+			return new ForkJoinBackend();
+		} else if (name.equalsIgnoreCase("virtual")) {
+			return new VirtualThreadBackend();
+		}
+		try {
+			Class<?> backendClass = Class.forName(name);
+			return (ExecutionBackend) backendClass.getDeclaredConstructor().newInstance();
+		} catch (ClassNotFoundException e) {
+			throw new RuntimeException("Pyjama: unknown execution backend " + name, e);
+		} catch (ClassCastException e) {
+			throw new RuntimeException("Pyjama: " + name + " does not implement ExecutionBackend", e);
+		} catch (InstantiationException e) {
+			throw new RuntimeException("Pyjama: cannot create execution backend " + name, e);
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException("Pyjama: cannot create execution backend " + name, e);
+		} catch (NoSuchMethodException e) {
+			throw new RuntimeException("Pyjama: execution backend " + name + " has no constructor without arguments", e);
+		} catch (InvocationTargetException e) {
+			throw new RuntimeException("Pyjama: cannot create execution backend " + name, e.getCause());
+		}
+	}
+	
+	/*
+	 * The backend configured by PJ_EXECUTION_BACKEND. An unusable setting is reported and
+	 * the default platform thread backend is used instead.
+	 */
+	public static ExecutionBackend createConfigured() {
+		String name = InternalControlVariables.PJ_EXECUTION_BACKEND;
+		try {
+			return create(name);
+		} catch (RuntimeException e) {
+			System.err.println(e.getMessage() + ", use " + DEFAULT_BACKEND + " threads instead");
+			return new PlatformThreadBackend();
+		}
+	}
+}
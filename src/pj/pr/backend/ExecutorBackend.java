@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package pj.pr.backend;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import pj.pr.InternalControlVariables;
+
+/**
+ * Runs team members on an executor owned by the host application. The executor must be able
+ * to run a whole team at the same time, otherwise the team deadlocks at its first barrier.
+ */
+public class ExecutorBackend implements ExecutionBackend {
+	
+	protected final Executor executor;
+	
+	public ExecutorBackend(Executor executor) {
+		if (null == executor) {
+			throw new NullPointerException("Executor of the execution backend is null.");
+		}
+		this.executor = executor;
+	}
+
+	@Override
+	public void submit(int id, Callable<Void> task, InternalControlVariables parent_icv) {
+		this.executor.execute(new TeamMemberTask(id, task, parent_icv));
+	}
+
+	@Override
+	public String getName() {
+		return "executor";
+	}
+}
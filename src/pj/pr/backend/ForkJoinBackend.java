@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package pj.pr.backend;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import pj.pr.PjCyclicBarrier;
+import pj.pr.ReductionSlot;
+
+/**
+ * Runs team members on a ForkJoinPool, by default one pool shared by all parallel regions.
+ * Every wait of a team member on the others, at barriers, worksharing slots, ordered regions and
+ * task groups, is a managed block in pool threads, so the pool adds compensating threads instead
+ * of deadlocking when a team is larger than the pool parallelism.
+ */
+public class ForkJoinBackend extends ExecutorBackend {
+	
+	private static ForkJoinPool sharedPool = null;
+	
+	public ForkJoinBackend() {
+		this(sharedPool());
+	}
+	
+	public ForkJoinBackend(ForkJoinPool pool) {
+		super(pool);
+	}
+	
+	private static synchronized ForkJoinPool sharedPool() {
+		if (null == sharedPool) {
+			sharedPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		}
+		return sharedPool;
+	}
+	
+	@Override
+	public String getName() {
+		return "forkjoin";
+	}
+	
+	/*
+	 * Waits until the blocker is releasable, the one wait of team members on each other outside
+	 * of barriers. In a ForkJoinPool worker thread it is a managed block, so the pool can start
+	 * the team members it has queued, other threads just run the blocker. An interrupt does not
+	 * end the wait, it is kept in the interrupt status of the thread.
+	 */
+	public static void managedWait(ForkJoinPool.ManagedBlocker blocker) {
+		boolean interrupted = false;
+		while (!blocker.isReleasable()) {
+			try {
+				if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+					ForkJoinPool.managedBlock(blocker);
+				} else {
+					while (!blocker.isReleasable() && !blocker.block()) {
+					}
+				}
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/*
+	 * Wait on a team barrier from a ForkJoinPool worker thread.
+	 */
+	public static void managedAwait(PjCyclicBarrier barrier, int aliasID) throws InterruptedException, BrokenBarrierException {
+		BarrierBlocker blocker = new BarrierBlocker(barrier, aliasID);
+		ForkJoinPool.managedBlock(blocker);
+		if (null != blocker.broken) {
+			throw blocker.broken;
+		}
+	}
+	
+	/*
+	 * Wait on a team barrier that combines reduction slots from a ForkJoinPool worker thread,
+	 * returns whether the thread holds the totals, see PjCyclicBarrier.awaitCombining.
+	 */
+	public static boolean managedAwaitCombining(PjCyclicBarrier barrier, int aliasID, ReductionSlot slot) throws InterruptedException, BrokenBarrierException {
+		BarrierBlocker blocker = new BarrierBlocker(barrier, aliasID, slot);
+		ForkJoinPool.managedBlock(blocker);
+		if (null != blocker.broken) {
+			throw blocker.broken;
+		}
+		return blocker.totals;
+	}
+	
+	private static class BarrierBlocker implements ForkJoinPool.ManagedBlocker {
+		private final PjCyclicBarrier barrier;
+		private final int aliasID;
+		private final ReductionSlot slot;
+		private boolean released = false;
+		private boolean totals = false;
+		private BrokenBarrierException broken = null;
+		
+		BarrierBlocker(PjCyclicBarrier barrier, int aliasID) {
+			this(barrier, aliasID, null);
+		}
+		
+		BarrierBlocker(PjCyclicBarrier barrier, int aliasID, ReductionSlot slot) {
+			this.barrier = barrier;
+			this.aliasID = aliasID;
+			this.slot = slot;
+		}
+
+		@Override
+		public boolean block() throws InterruptedException {
+			try {
+				if (null == this.slot) {
+					this.barrier.await(this.aliasID);
+				} else {
+					this.totals = this.barrier.awaitCombining(this.aliasID, this.slot);
+				}
+			} catch (BrokenBarrierException e) {
+				this.broken = e;
+			}
+			this.released = true;
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.released;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package pj.pr.backend;
+
+import java.util.concurrent.Callable;
+
+import pj.PjRuntime;
+import pj.pr.InternalControlVariables;
+
+/**
+ * Wraps the code of a team member for threads that are not owned by Pyjama. The ICV of the
+ * member is bound to whichever thread runs it, and the previous binding of that thread is
+ * restored afterwards, so that pooled threads of the host application don't keep stale ICVs.
+ */
+public class TeamMemberTask implements Runnable {
+	
+	private final Callable<Void> task;
+	private final InternalControlVariables icv;
+	
+	public TeamMemberTask(int id, Callable<Void> task, InternalControlVariables parent_icv) {
+		this.task = task;
+		this.icv = new InternalControlVariables(parent_icv);
+		this.icv.currentThreadAliasID = id;
+	}
+
+	@Override
+	public void run() {
+		InternalControlVariables previous = PjRuntime.getBoundThreadICV();
+		PjRuntime.setCurrentThreadICV(this.icv);
+		try {
+			this.task.call();
+		} catch (Exception e) {
+			//Team members should always be silent, exceptions are registered by the region itself
+		} finally {
+			PjRuntime.setCurrentThreadICV(previous);
+		}
+	}
+}
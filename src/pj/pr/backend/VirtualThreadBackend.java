@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package pj.pr.backend;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+import pj.pr.InternalControlVariables;
+
+/**
+ * Runs every team member on a new virtual thread. Virtual threads only exist from Java 21 on,
+ * so they are started reflectively and this backend refuses to be created on older JVMs.
+ */
+public class VirtualThreadBackend implements ExecutionBackend {
+	
+	private static final Method startVirtualThread = lookupStartVirtualThread();
+	
+	public VirtualThreadBackend() {
+		if (null == startVirtualThread) {
+			throw new UnsupportedOperationException("Pyjama: virtual thread execution backend requires Java 21 or later");
+		}
+	}
+	
+	private static Method lookupStartVirtualThread() {
+		try {
+			return Thread.class.getMethod("startVirtualThread", Runnable.class);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+	
+	public static boolean isSupported() {
+		return null != startVirtualThread;
+	}
+
+	@Override
+	public void submit(int id, Callable<Void> task, InternalControlVariables parent_icv) {
+		try {
+			startVirtualThread.invoke(null, new TeamMemberTask(id, task, parent_icv));
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException("Pyjama: cannot start virtual thread", e);
+		} catch (InvocationTargetException e) {
+			throw new RuntimeException("Pyjama: cannot start virtual thread", e.getCause());
+		}
+	}
+
+	@Override
+	public String getName() {
+		return "virtual";
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2013-2016 Parallel and Reconfigurable Computing Group, University of Auckland.
+ *
+ * Authors: <http://homepages.engineering.auckland.ac.nz/~parallel/ParallelIT/People.html>
+ * 
+ * This file is part of Pyjama, a Java implementation of OpenMP-like directive-based 
+ * parallelisation compiler and its runtime routines.
+ *
+ * Pyjama is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Pyjama is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Pyjama. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package pj.pr.task;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import pj.pr.backend.ForkJoinBackend;
+
+/*
+ * The chunk tasks created by one taskloop. The tasks are queued in the task pool of the team,
+ * and the encountering thread runs queued tasks until all tasks of its group are finished, so
+ * it does not idle while other threads still run its chunks.
+ */
+public class TaskGroup {
+	
+	private final ArrayList<TargetTask<?>> tasks;
+	
+	public TaskGroup(int size) {
+		this.tasks = new ArrayList<TargetTask<?>>(Math.max(size, 0));
+	}
+	
+	public void add(TargetTask<?> task) {
+		this.tasks.add(task);
+	}
+	
+	public int size() {
+		return this.tasks.size();
+	}
+	
+	public void submitTo(TaskPool pool) {
+		for (TargetTask<?> task: this.tasks) {
+			pool.submit(task);
+		}
+	}
+	
+	/*
+	 * Runs tasks of pool until the tasks of the group are finished, then rethrows the first
+	 * exception thrown by one of them.
+	 */
+	public void join(TaskPool pool) {
+		for (TargetTask<?> task: this.tasks) {
+			while (!task.isFinished()) {
+				if (pool.executeTask()) {
+					continue;
+				}
+				//the remaining chunks are run by other threads
+				ForkJoinBackend.managedWait(new FinishWait(task));
+			}
+		}
+		for (TargetTask<?> task: this.tasks) {
+			Throwable thrown = task.getException();
+			if (null == thrown) {
+				continue;
+			}
+			//TargetTask.run() wraps the exception of the task
+			Throwable cause = (null == thrown.getCause()) ? thrown : thrown.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		}
+	}
+	
+	/*
+	 * Wait for a task run by another thread, which notifies the guard of the task when it is finished.
+	 */
+	private static class FinishWait implements ForkJoinPool.ManagedBlocker {
+		private final TargetTask<?> task;
+		
+		FinishWait(TargetTask<?> task) {
+			this.task = task;
+		}
+		
+		@Override
+		public boolean block() throws InterruptedException {
+			synchronized (this.task.synchronizationGuard) {
+				while (!this.task.isFinished()) {
+					this.task.synchronizationGuard.wait();
+				}
+			}
+			return true;
+		}
+		
+		@Override
+		public boolean isReleasable() {
+			return this.task.isFinished();
+		}
+	}
+}
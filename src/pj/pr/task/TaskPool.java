@@ -16,6 +16,22 @@ public class TaskPool {
 		return this.taskQueue.poll();
 	}
 	
+	/*
+	 * Runs one queued task, returns false if there was none.
+	 */
+	public boolean executeTask() {
+		TargetTask<?> task = this.getTask();
+		if (null == task) {
+			return false;
+		}
+		task.run();
+		return true;
+	}
+	
+	public boolean hasTasks() {
+		return !this.taskQueue.isEmpty();
+	}
+	
 	public void executeTasks() {
 		TargetTask<?> task = null;
         while ((task = this.getTask()) != null) {
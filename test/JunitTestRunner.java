@@ -20,10 +20,17 @@ import jUnitTestSuits.correctnessTests.reduction.group5.*;
 import jUnitTestSuits.correctnessTests.reduction.group6.*;
 import jUnitTestSuits.correctnessTests.reduction.group7.*;
 import jUnitTestSuits.correctnessTests.reduction.group8.*;
+import jUnitTestSuits.correctnessTests.reduction.group11.*;
+import jUnitTestSuits.correctnessTests.reduction.group12.*;
+import jUnitTestSuits.correctnessTests.reduction.group13.*;
+import jUnitTestSuits.correctnessTests.reduction.group14.*;
 import jUnitTestSuits.correctnessTests.schedule.*;
 import jUnitTestSuits.correctnessTests.sections.Sections_corrTest;
 import jUnitTestSuits.correctnessTests.shared.*;
+import jUnitTestSuits.correctnessTests.simd.Simd_corrTest;
 import jUnitTestSuits.correctnessTests.single.Single_corrTest;
+import jUnitTestSuits.correctnessTests.taskloop.Taskloop_corrTest;
+import jUnitTestSuits.correctnessTests.tile.Tile_corrTest;
 import jUnitTestSuits.memoryAndCPUTest.loopFor.*;
 import jUnitTestSuits.memoryAndCPUTest.parallel.Parallel_MacTest;
 import jUnitTestSuits.memoryAndCPUTest.schedule.Schedule_Group1_MacTest;
@@ -35,6 +42,9 @@ import jUnitTestSuits.memoryAndCPUTest.schedule.Schedule_Group6_MacTest;
 import jUnitTestSuits.runningTimeAndStabilityTest.loopFor.*;
 import jUnitTestSuits.runningTimeAndStabilityTest.parallel.*;
 import jUnitTestSuits.runningTimeAndStabilityTest.schedule.*;
+import jUnitTestSuits.runningTimeAndStabilityTest.simd.*;
+import jUnitTestSuits.runningTimeAndStabilityTest.tile.*;
+import jUnitTestSuits.runningTimeAndStabilityTest.reduction.*;
 
 import org.junit.runner.JUnitCore;
 
@@ -113,7 +123,8 @@ public class JunitTestRunner {
 				Parallel_Group3_RtTest.class, Schedule_Group1_RtTest.class,
 				Schedule_Group2_RtTest.class, Schedule_Group3_RtTest.class,
 				Schedule_Group4_RtTest.class, Schedule_Group5_RtTest.class,
-				Schedule_Group6_RtTest.class 
+				Schedule_Group6_RtTest.class, Simd_Group1_RtTest.class,
+				Tile_Group1_RtTest.class, Reduction_Group1_RtTest.class 
 				};
 		
 		org.junit.runner.Result DirectiveResult_RT = JUnitCore
@@ -148,6 +159,9 @@ public class JunitTestRunner {
 		 Barrier_corrTest.class,
 		 Critical_corrTest.class, 
 		 Flush_corrTest.class,
+		 Taskloop_corrTest.class,
+		 Simd_corrTest.class,
+		 Tile_corrTest.class,
 		 LoopFor_Group1_corrTest.class, LoopFor_Group2_corrTest.class,
 		 LoopFor_Group3_corrTest.class, LoopFor_Group4_corrTest.class,
 		 LoopFor_Group5_corrTest.class, LoopFor_Group6_corrTest.class,
@@ -188,6 +202,10 @@ public class JunitTestRunner {
 		 Reduction_Group8_1Test.class,
 		 Reduction_Group8_2Test.class,
 		 Reduction_Group8_3Test.class,
+		 Reduction_Group11_1Test.class,
+		 Reduction_Group12_1Test.class,
+		 Reduction_Group13_1Test.class,
+		 Reduction_Group14_1Test.class,
 		 };
 		 org.junit.runner.Result ClausesResult_corr = JUnitCore
 		 .runClasses(clausesClasses_corr);
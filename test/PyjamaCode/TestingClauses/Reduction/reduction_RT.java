@@ -0,0 +1,696 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingClauses.Reduction;
+
+import pj.Pyjama;
+import java.util.ArrayList;
+import java.util.List;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class reduction_RT {
+
+    public long[] histogram(int threadNumber, int n, int bins, boolean sectionReduction) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        int[] keys = new int[n];
+        int[] hist = new int[bins];
+        long seed = 42;
+        for (int i = 0; i < n; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            keys[i] = (int) ((seed >>> 33) % bins);
+        }
+        RT[0] = System.currentTimeMillis();
+        if (sectionReduction) {
+            /*OpenMP Parallel region (#0) -- START */
+            //#barrier elimination: 2 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+            int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+            _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+            _OMP_ParallelRegion_0_in.hist = hist;
+            _OMP_ParallelRegion_0_in.keys = keys;
+            _OMP_ParallelRegion_0_in.n = n;
+            _OMP_ParallelRegion_0_in.bins = bins;
+            _OMP_ParallelRegion_0_in.runParallelCode();
+            hist = _OMP_ParallelRegion_0_in.hist;
+            keys = _OMP_ParallelRegion_0_in.keys;
+            n = _OMP_ParallelRegion_0_in.n;
+            bins = _OMP_ParallelRegion_0_in.bins;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+            RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_0 != null) {throw OMP_ee_0;}
+            /*OpenMP Parallel region (#0) -- END */
+
+        } else {
+            /*OpenMP Parallel region (#2) -- START */
+            //#barrier elimination: 3 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+            int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+            _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+            _OMP_ParallelRegion_2_in.keys = keys;
+            _OMP_ParallelRegion_2_in.hist = hist;
+            _OMP_ParallelRegion_2_in.n = n;
+            _OMP_ParallelRegion_2_in.runParallelCode();
+            keys = _OMP_ParallelRegion_2_in.keys;
+            hist = _OMP_ParallelRegion_2_in.hist;
+            n = _OMP_ParallelRegion_2_in.n;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+            RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_2 != null) {throw OMP_ee_2;}
+            /*OpenMP Parallel region (#2) -- END */
+
+        }
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] hist;
+        public int bins;
+        public int[] keys;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_1hist_lower = (0);
+                    int OMP_WoRkShArInG_PRIVATE_1hist_length = (bins);
+                    int[] OMP_WoRkShArInG_PRIVATE_1hist = ReductionSlot.partialSection(hist, OMP_WoRkShArInG_PRIVATE_1hist_lower, OMP_WoRkShArInG_PRIVATE_1hist_length, ReductionSlot.SUM);
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_1hist[keys[i]]++;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_1hist, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        PjRuntime.endReduction();
+                    }
+                    PjRuntime.combineReductionSection(OMP_reductionSlot, 0, hist, OMP_WoRkShArInG_PRIVATE_1hist_lower, OMP_WoRkShArInG_PRIVATE_1hist_length);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] hist;
+        public int[] keys;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    PjRuntime.OMP_lock.lock();
+                                    try {
+                                        {
+                                            hist[keys[i]]++;
+                                        }} finally {
+                                    PjRuntime.OMP_lock.unlock();
+                                }
+
+                            }
+                        }
+                        if (OMP_end == OMP_chunkLast) {
+                            //BEGIN lastprivate variables value set
+                            //END lastprivate variables value set
+                        }
+                    }
+                } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                    //TODO: work redistribution
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        throw OMP_registered_e;
+                    }
+                } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                    //just escape from the work sharing region and wait other thread in next barrier
+                    PjExecutor.cancelCurrentWorksharing();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        throw OMP_registered_e;
+                    }
+                } catch (Exception e){throw e;}
+                //BEGIN  reduction
+                //END reduction
+                //#implicit barrier eliminated, the next barrier follows directly
+            }
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] collect(int threadNumber, int n, boolean concatReduction) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        List<Integer> selected = new ArrayList<Integer>();
+        RT[0] = System.currentTimeMillis();
+        if (concatReduction) {
+            /*OpenMP Parallel region (#4) -- START */
+            //#barrier elimination: 2 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+            int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+            _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+            _OMP_ParallelRegion_4_in.selected = selected;
+            _OMP_ParallelRegion_4_in.n = n;
+            _OMP_ParallelRegion_4_in.runParallelCode();
+            selected = _OMP_ParallelRegion_4_in.selected;
+            n = _OMP_ParallelRegion_4_in.n;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+            RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_4 != null) {throw OMP_ee_4;}
+            /*OpenMP Parallel region (#4) -- END */
+
+        } else {
+            /*OpenMP Parallel region (#6) -- START */
+            //#barrier elimination: 3 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_6 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_6 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_6);
+            int _threadNum__OMP_ParallelRegion_6 = icv__OMP_ParallelRegion_6.nthreads_var.get(icv__OMP_ParallelRegion_6.levels_var);
+            _OMP_ParallelRegion_6 _OMP_ParallelRegion_6_in = new _OMP_ParallelRegion_6(_threadNum__OMP_ParallelRegion_6,icv__OMP_ParallelRegion_6);
+            _OMP_ParallelRegion_6_in.n = n;
+            _OMP_ParallelRegion_6_in.selected = selected;
+            _OMP_ParallelRegion_6_in.runParallelCode();
+            n = _OMP_ParallelRegion_6_in.n;
+            selected = _OMP_ParallelRegion_6_in.selected;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_6);
+            RuntimeException OMP_ee_6 = (RuntimeException) _OMP_ParallelRegion_6_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_6 != null) {throw OMP_ee_6;}
+            /*OpenMP Parallel region (#6) -- END */
+
+        }
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public List<Integer> selected;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#5) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    List<Integer> OMP_WoRkShArInG_PRIVATE_5selected = new java.util.ArrayList<Integer>();
+                    final ReductionSlot.ListChunks OMP_WoRkShArInG_PRIVATE_5selected_chunks = new ReductionSlot.ListChunks();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            OMP_WoRkShArInG_PRIVATE_5selected_chunks.mark(OMP_Chunk_Starting_point, OMP_WoRkShArInG_PRIVATE_5selected.size());
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (Integer.bitCount(i) % 3 == 0) {
+                                        OMP_WoRkShArInG_PRIVATE_5selected.add(i);
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_5selected, OMP_WoRkShArInG_PRIVATE_5selected_chunks);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            PjRuntime.growReductionList(OMP_reductionSlot, 0, selected);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.concatReductionList(OMP_reductionSlot, 0, selected);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#5) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+class _OMP_ParallelRegion_6{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int n;
+        public List<Integer> selected;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_6(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#7) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (Integer.bitCount(i) % 3 == 0) {
+                                        PjRuntime.OMP_lock.lock();
+                                        try {
+                                            {
+                                                selected.add(i);
+                                            }} finally {
+                                        PjRuntime.OMP_lock.unlock();
+                                    }
+
+                                }
+                            }
+                        }
+                        if (OMP_end == OMP_chunkLast) {
+                            //BEGIN lastprivate variables value set
+                            //END lastprivate variables value set
+                        }
+                    }
+                } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                    //TODO: work redistribution
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        throw OMP_registered_e;
+                    }
+                } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                    //just escape from the work sharing region and wait other thread in next barrier
+                    PjExecutor.cancelCurrentWorksharing();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        throw OMP_registered_e;
+                    }
+                } catch (Exception e){throw e;}
+                //BEGIN  reduction
+                //END reduction
+                //#implicit barrier eliminated, the next barrier follows directly
+            }
+
+                    /*OpenMP Work Share region (#7) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
@@ -0,0 +1,655 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingClauses.Reduction;
+
+import pj.Pyjama;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class reduction_positive_test11 {
+
+    public int[] parallel_for_section_reduction(int threadNumber, int n, int bins) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int[] hist = new int[bins + 2];
+        for (int i = 0; i < hist.length; i++) {
+            hist[i] = 1;
+        }
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.hist = hist;
+        _OMP_ParallelRegion_0_in.bins = bins;
+        _OMP_ParallelRegion_0_in.n = n;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        hist = _OMP_ParallelRegion_0_in.hist;
+        bins = _OMP_ParallelRegion_0_in.bins;
+        n = _OMP_ParallelRegion_0_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        return hist;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] hist;
+        public int bins;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_1hist_lower = (1);
+                    int OMP_WoRkShArInG_PRIVATE_1hist_length = (bins);
+                    int[] OMP_WoRkShArInG_PRIVATE_1hist = ReductionSlot.partialSection(hist, OMP_WoRkShArInG_PRIVATE_1hist_lower, OMP_WoRkShArInG_PRIVATE_1hist_length, ReductionSlot.SUM);
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_1hist[1 + (i * 7) % bins]++;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_1hist, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        PjRuntime.endReduction();
+                    }
+                    PjRuntime.combineReductionSection(OMP_reductionSlot, 0, hist, OMP_WoRkShArInG_PRIVATE_1hist_lower, OMP_WoRkShArInG_PRIVATE_1hist_length);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public double[] parallel_for_array_reduction(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        double[] moments = new double[3];
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.moments = moments;
+        _OMP_ParallelRegion_2_in.n = n;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        moments = _OMP_ParallelRegion_2_in.moments;
+        n = _OMP_ParallelRegion_2_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        return moments;
+    }
+    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] moments;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_3moments_lower = 0;
+                    int OMP_WoRkShArInG_PRIVATE_3moments_length = moments.length;
+                    double[] OMP_WoRkShArInG_PRIVATE_3moments = ReductionSlot.partialSection(moments, OMP_WoRkShArInG_PRIVATE_3moments_lower, OMP_WoRkShArInG_PRIVATE_3moments_length, ReductionSlot.SUM);
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_3moments[0] += 1;
+                                    OMP_WoRkShArInG_PRIVATE_3moments[1] += i;
+                                    OMP_WoRkShArInG_PRIVATE_3moments[2] += (double) i * i;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_3moments, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        PjRuntime.endReduction();
+                    }
+                    PjRuntime.combineReductionSection(OMP_reductionSlot, 0, moments, OMP_WoRkShArInG_PRIVATE_3moments_lower, OMP_WoRkShArInG_PRIVATE_3moments_length);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] for_nowait_reduction(int threadNumber, int n, int rounds) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] products = new long[] { 1, 1, 1, 1 };
+        int sum = 0;
+        /*OpenMP Parallel region (#4) -- START */
+        //#barrier elimination: 1 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+        int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+        _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+        _OMP_ParallelRegion_4_in.rounds = rounds;
+        _OMP_ParallelRegion_4_in.sum = sum;
+        _OMP_ParallelRegion_4_in.products = products;
+        _OMP_ParallelRegion_4_in.n = n;
+        _OMP_ParallelRegion_4_in.runParallelCode();
+        rounds = _OMP_ParallelRegion_4_in.rounds;
+        sum = _OMP_ParallelRegion_4_in.sum;
+        products = _OMP_ParallelRegion_4_in.products;
+        n = _OMP_ParallelRegion_4_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+        RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_4 != null) {throw OMP_ee_4;}
+        /*OpenMP Parallel region (#4) -- END */
+
+        products[0] += sum;
+        return products;
+    }
+    }
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int sum;
+        public int rounds;
+        public int n;
+        public long[] products;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        for (int r = 0; r < rounds; r++) {
+                            /*OpenMP Work Share region (#5) -- START */
+                            
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_5products_lower = (0);
+                    int OMP_WoRkShArInG_PRIVATE_5products_length = (4);
+                    long[] OMP_WoRkShArInG_PRIVATE_5products = ReductionSlot.partialSection(products, OMP_WoRkShArInG_PRIVATE_5products_lower, OMP_WoRkShArInG_PRIVATE_5products_length, ReductionSlot.PRODUCT);
+                    int OMP_WoRkShArInG_PRIVATE_5sum = 0;
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_5products[i % 4] *= 2;
+                                    OMP_WoRkShArInG_PRIVATE_5sum += 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_5products, ReductionSlot.PRODUCT);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_5sum, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            sum += (int) OMP_reductionSlot.getLong(0);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.combineReductionSection(OMP_reductionSlot, 0, products, OMP_WoRkShArInG_PRIVATE_5products_lower, OMP_WoRkShArInG_PRIVATE_5products_length);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                            /*OpenMP Work Share region (#5) -- END */
+
+                        }
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[] parallel_reduction(int threadNumber) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int[] counts = new int[] { 5, 5 };
+        /*OpenMP Parallel region (#6) -- START */
+        //#barrier elimination: 0 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_6 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_6 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_6);
+        int _threadNum__OMP_ParallelRegion_6 = icv__OMP_ParallelRegion_6.nthreads_var.get(icv__OMP_ParallelRegion_6.levels_var);
+        _OMP_ParallelRegion_6 _OMP_ParallelRegion_6_in = new _OMP_ParallelRegion_6(_threadNum__OMP_ParallelRegion_6,icv__OMP_ParallelRegion_6);
+        _OMP_ParallelRegion_6_in.OMP_REDUCTION_counts = counts;
+        _OMP_ParallelRegion_6_in.OMP_REDUCTION_counts_lower = 0;
+        _OMP_ParallelRegion_6_in.OMP_REDUCTION_counts_length = counts.length;
+        _OMP_ParallelRegion_6_in.runParallelCode();
+        counts = _OMP_ParallelRegion_6_in.OMP_REDUCTION_counts;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_6);
+        RuntimeException OMP_ee_6 = (RuntimeException) _OMP_ParallelRegion_6_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_6 != null) {throw OMP_ee_6;}
+        /*OpenMP Parallel region (#6) -- END */
+
+        return counts;
+    }
+    }
+class _OMP_ParallelRegion_6{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] OMP_REDUCTION_counts;
+        public int OMP_REDUCTION_counts_lower;
+        public int OMP_REDUCTION_counts_length;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_6(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            public int[] counts = ReductionSlot.partialSection(OMP_REDUCTION_counts, OMP_REDUCTION_counts_lower, OMP_REDUCTION_counts_length, ReductionSlot.SUM);
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        counts[0] += 1;
+                        counts[1] += Pyjama.omp_get_thread_num();
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(counts, ReductionSlot.SUM);
+                    if (PjRuntime.taskWait(OMP_reductionSlot)) {
+                        PjRuntime.endReduction();
+                    }
+                    PjRuntime.combineReductionSection(OMP_reductionSlot, 0, OMP_REDUCTION_counts, OMP_REDUCTION_counts_lower, OMP_REDUCTION_counts_length);
+                    PjRuntime.setBarrier();
+                    //END reduction procedure
+                    //The barrier inside PjRuntime.taskWait(OMP_reductionSlot) combined the reductions
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
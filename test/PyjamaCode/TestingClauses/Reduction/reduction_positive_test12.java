@@ -0,0 +1,932 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingClauses.Reduction;
+
+import pj.Pyjama;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class reduction_positive_test12 {
+
+    public String parallel_for_min_max(int threadNumber, int[] a) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = a.length;
+        int minInt = 1000;
+        long maxLong = -1000;
+        double minDouble = 1000;
+        float maxFloat = -1000;
+        short minShort = 1000;
+        byte maxByte = -100;
+        char maxChar = 'a';
+        boolean allPositive = true;
+        boolean anyZero = false;
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.minShort = minShort;
+        _OMP_ParallelRegion_0_in.allPositive = allPositive;
+        _OMP_ParallelRegion_0_in.minDouble = minDouble;
+        _OMP_ParallelRegion_0_in.maxChar = maxChar;
+        _OMP_ParallelRegion_0_in.maxLong = maxLong;
+        _OMP_ParallelRegion_0_in.maxByte = maxByte;
+        _OMP_ParallelRegion_0_in.anyZero = anyZero;
+        _OMP_ParallelRegion_0_in.maxFloat = maxFloat;
+        _OMP_ParallelRegion_0_in.minInt = minInt;
+        _OMP_ParallelRegion_0_in.n = n;
+        _OMP_ParallelRegion_0_in.a = a;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        minShort = _OMP_ParallelRegion_0_in.minShort;
+        allPositive = _OMP_ParallelRegion_0_in.allPositive;
+        minDouble = _OMP_ParallelRegion_0_in.minDouble;
+        maxChar = _OMP_ParallelRegion_0_in.maxChar;
+        maxLong = _OMP_ParallelRegion_0_in.maxLong;
+        maxByte = _OMP_ParallelRegion_0_in.maxByte;
+        anyZero = _OMP_ParallelRegion_0_in.anyZero;
+        maxFloat = _OMP_ParallelRegion_0_in.maxFloat;
+        minInt = _OMP_ParallelRegion_0_in.minInt;
+        n = _OMP_ParallelRegion_0_in.n;
+        a = _OMP_ParallelRegion_0_in.a;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        return minInt + " " + maxLong + " " + minDouble + " " + maxFloat + " " + minShort + " " + maxByte + " " + maxChar + " " + allPositive + " " + anyZero;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public boolean anyZero;
+        public char maxChar;
+        public byte maxByte;
+        public boolean allPositive;
+        public int minInt;
+        public float maxFloat;
+        public double minDouble;
+        public short minShort;
+        public long maxLong;
+        public int[] a;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_1minInt = Integer.MAX_VALUE;
+                    long OMP_WoRkShArInG_PRIVATE_1maxLong = Long.MIN_VALUE;
+                    double OMP_WoRkShArInG_PRIVATE_1minDouble = Double.POSITIVE_INFINITY;
+                    float OMP_WoRkShArInG_PRIVATE_1maxFloat = Float.NEGATIVE_INFINITY;
+                    short OMP_WoRkShArInG_PRIVATE_1minShort = Short.MAX_VALUE;
+                    byte OMP_WoRkShArInG_PRIVATE_1maxByte = Byte.MIN_VALUE;
+                    char OMP_WoRkShArInG_PRIVATE_1maxChar = Character.MIN_VALUE;
+                    boolean OMP_WoRkShArInG_PRIVATE_1allPositive = true;
+                    boolean OMP_WoRkShArInG_PRIVATE_1anyZero = false;
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_1minInt = Math.min(OMP_WoRkShArInG_PRIVATE_1minInt, a[i]);
+                                    if (a[i] > OMP_WoRkShArInG_PRIVATE_1maxLong) OMP_WoRkShArInG_PRIVATE_1maxLong = a[i];
+                                    OMP_WoRkShArInG_PRIVATE_1minDouble = Math.min(OMP_WoRkShArInG_PRIVATE_1minDouble, a[i] / 2.0);
+                                    OMP_WoRkShArInG_PRIVATE_1maxFloat = Math.max(OMP_WoRkShArInG_PRIVATE_1maxFloat, a[i] / 4.0f);
+                                    if (a[i] < OMP_WoRkShArInG_PRIVATE_1minShort) OMP_WoRkShArInG_PRIVATE_1minShort = (short) a[i];
+                                    if (a[i] / 10 > OMP_WoRkShArInG_PRIVATE_1maxByte) OMP_WoRkShArInG_PRIVATE_1maxByte = (byte) (a[i] / 10);
+                                    if ('a' + a[i] % 26 > OMP_WoRkShArInG_PRIVATE_1maxChar) OMP_WoRkShArInG_PRIVATE_1maxChar = (char) ('a' + a[i] % 26);
+                                    OMP_WoRkShArInG_PRIVATE_1allPositive = OMP_WoRkShArInG_PRIVATE_1allPositive && a[i] > 0;
+                                    OMP_WoRkShArInG_PRIVATE_1anyZero = OMP_WoRkShArInG_PRIVATE_1anyZero || a[i] == 0;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1minInt, ReductionSlot.MIN);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1maxLong, ReductionSlot.MAX);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1minDouble, ReductionSlot.MIN);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1maxFloat, ReductionSlot.MAX);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1minShort, ReductionSlot.MIN);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1maxByte, ReductionSlot.MAX);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1maxChar, ReductionSlot.MAX);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1allPositive, ReductionSlot.MIN);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1anyZero, ReductionSlot.MAX);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            minInt = Math.min(minInt, (int) OMP_reductionSlot.getLong(0));
+                            maxLong = Math.max(maxLong, OMP_reductionSlot.getLong(1));
+                            minDouble = Math.min(minDouble, OMP_reductionSlot.getDouble(2));
+                            maxFloat = Math.max(maxFloat, OMP_reductionSlot.getFloat(3));
+                            minShort = (short) Math.min(minShort, (short) OMP_reductionSlot.getLong(4));
+                            maxByte = (byte) Math.max(maxByte, (byte) OMP_reductionSlot.getLong(5));
+                            maxChar = (char) Math.max(maxChar, (char) OMP_reductionSlot.getLong(6));
+                            allPositive = allPositive && OMP_reductionSlot.getBoolean(7);
+                            anyZero = anyZero || OMP_reductionSlot.getBoolean(8);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_minloc_maxloc(int threadNumber, double[] a) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = a.length;
+        double smallest = Double.POSITIVE_INFINITY;
+        int smallestAt = -1;
+        double largest = Double.NEGATIVE_INFINITY;
+        long largestAt = -1;
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.largestAt = largestAt;
+        _OMP_ParallelRegion_2_in.smallestAt = smallestAt;
+        _OMP_ParallelRegion_2_in.largest = largest;
+        _OMP_ParallelRegion_2_in.smallest = smallest;
+        _OMP_ParallelRegion_2_in.a = a;
+        _OMP_ParallelRegion_2_in.n = n;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        largestAt = _OMP_ParallelRegion_2_in.largestAt;
+        smallestAt = _OMP_ParallelRegion_2_in.smallestAt;
+        largest = _OMP_ParallelRegion_2_in.largest;
+        smallest = _OMP_ParallelRegion_2_in.smallest;
+        a = _OMP_ParallelRegion_2_in.a;
+        n = _OMP_ParallelRegion_2_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        return new long[] { smallestAt, largestAt, (long) smallest, (long) largest };
+    }
+    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public long largestAt;
+        public double largest;
+        public int smallestAt;
+        public double smallest;
+        public double[] a;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_3smallestAt = Integer.MAX_VALUE;
+                    double OMP_WoRkShArInG_PRIVATE_3smallest = Double.POSITIVE_INFINITY;
+                    long OMP_WoRkShArInG_PRIVATE_3largestAt = Long.MAX_VALUE;
+                    double OMP_WoRkShArInG_PRIVATE_3largest = Double.NEGATIVE_INFINITY;
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (a[i] < OMP_WoRkShArInG_PRIVATE_3smallest) {
+                                        OMP_WoRkShArInG_PRIVATE_3smallest = a[i];
+                                        OMP_WoRkShArInG_PRIVATE_3smallestAt = i;
+                                    }
+                                    if (a[i] > OMP_WoRkShArInG_PRIVATE_3largest) {
+                                        OMP_WoRkShArInG_PRIVATE_3largest = a[i];
+                                        OMP_WoRkShArInG_PRIVATE_3largestAt = i;
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_3smallest, OMP_WoRkShArInG_PRIVATE_3smallestAt, ReductionSlot.MINLOC);
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_3largest, OMP_WoRkShArInG_PRIVATE_3largestAt, ReductionSlot.MAXLOC);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            if (OMP_reductionSlot.precedes(0, smallest, smallestAt)) {
+                                smallest = OMP_reductionSlot.getDouble(0);
+                                smallestAt = (int) OMP_reductionSlot.getLong(1);
+                            }
+                            if (OMP_reductionSlot.precedes(2, largest, largestAt)) {
+                                largest = OMP_reductionSlot.getDouble(2);
+                                largestAt = OMP_reductionSlot.getLong(3);
+                            }
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[] parallel_maxloc(int threadNumber) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int largest = -1;
+        int at = -1;
+        /*OpenMP Parallel region (#4) -- START */
+        //#barrier elimination: 0 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+        int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+        _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+        _OMP_ParallelRegion_4_in.OMP_REDUCTION_largest = largest;
+        _OMP_ParallelRegion_4_in.OMP_REDUCTION_at = at;
+        _OMP_ParallelRegion_4_in.runParallelCode();
+        largest = _OMP_ParallelRegion_4_in.OMP_REDUCTION_largest;
+        at = _OMP_ParallelRegion_4_in.OMP_REDUCTION_at;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+        RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_4 != null) {throw OMP_ee_4;}
+        /*OpenMP Parallel region (#4) -- END */
+
+        return new int[] { largest, at };
+    }
+    }
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int OMP_REDUCTION_largest;
+        public int OMP_REDUCTION_at;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            public int at = Integer.MAX_VALUE;
+            public int largest = Integer.MIN_VALUE;
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        largest = Pyjama.omp_get_thread_num() % 5;
+                        at = Pyjama.omp_get_thread_num();
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(largest, at, ReductionSlot.MAXLOC);
+                    if (PjRuntime.taskWait(OMP_reductionSlot)) {
+                        try {
+                            if (OMP_reductionSlot.precedes(0, OMP_REDUCTION_largest, OMP_REDUCTION_at)) {
+                                OMP_REDUCTION_largest = (int) OMP_reductionSlot.getLong(0);
+                                OMP_REDUCTION_at = (int) OMP_reductionSlot.getLong(1);
+                            }
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction procedure
+                    //The barrier inside PjRuntime.taskWait(OMP_reductionSlot) combined the reductions
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[] parallel_for_array_max(int threadNumber, int[][] m) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int rows = m.length;
+        int[] maxima = new int[m[0].length];
+        /*OpenMP Parallel region (#5) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_5 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_5 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_5);
+        int _threadNum__OMP_ParallelRegion_5 = icv__OMP_ParallelRegion_5.nthreads_var.get(icv__OMP_ParallelRegion_5.levels_var);
+        _OMP_ParallelRegion_5 _OMP_ParallelRegion_5_in = new _OMP_ParallelRegion_5(_threadNum__OMP_ParallelRegion_5,icv__OMP_ParallelRegion_5);
+        _OMP_ParallelRegion_5_in.maxima = maxima;
+        _OMP_ParallelRegion_5_in.m = m;
+        _OMP_ParallelRegion_5_in.rows = rows;
+        _OMP_ParallelRegion_5_in.runParallelCode();
+        maxima = _OMP_ParallelRegion_5_in.maxima;
+        m = _OMP_ParallelRegion_5_in.m;
+        rows = _OMP_ParallelRegion_5_in.rows;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_5);
+        RuntimeException OMP_ee_5 = (RuntimeException) _OMP_ParallelRegion_5_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_5 != null) {throw OMP_ee_5;}
+        /*OpenMP Parallel region (#5) -- END */
+
+        return maxima;
+    }
+    }
+class _OMP_ParallelRegion_5{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] maxima;
+        public int rows;
+        public int[][] m;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_5(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#6) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_6maxima_lower = 0;
+                    int OMP_WoRkShArInG_PRIVATE_6maxima_length = maxima.length;
+                    int[] OMP_WoRkShArInG_PRIVATE_6maxima = ReductionSlot.partialSection(maxima, OMP_WoRkShArInG_PRIVATE_6maxima_lower, OMP_WoRkShArInG_PRIVATE_6maxima_length, ReductionSlot.MAX);
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((rows)-(0))/(1);
+                        if (((rows)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    for (int j = 0; j < OMP_WoRkShArInG_PRIVATE_6maxima.length; j++) {
+                                        OMP_WoRkShArInG_PRIVATE_6maxima[j] = Math.max(OMP_WoRkShArInG_PRIVATE_6maxima[j], m[i][j]);
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_6maxima, ReductionSlot.MAX);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        PjRuntime.endReduction();
+                    }
+                    PjRuntime.combineReductionSection(OMP_reductionSlot, 0, maxima, OMP_WoRkShArInG_PRIVATE_6maxima_lower, OMP_WoRkShArInG_PRIVATE_6maxima_length);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#6) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[] parallel_histogram_last_loop(int threadNumber, int[] keys, int bins) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = keys.length;
+        int[] hist = new int[bins + 1];
+        int total = 0;
+        /*OpenMP Parallel region (#7) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_7 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_7 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_7);
+        int _threadNum__OMP_ParallelRegion_7 = icv__OMP_ParallelRegion_7.nthreads_var.get(icv__OMP_ParallelRegion_7.levels_var);
+        _OMP_ParallelRegion_7 _OMP_ParallelRegion_7_in = new _OMP_ParallelRegion_7(_threadNum__OMP_ParallelRegion_7,icv__OMP_ParallelRegion_7);
+        _OMP_ParallelRegion_7_in.hist = hist;
+        _OMP_ParallelRegion_7_in.n = n;
+        _OMP_ParallelRegion_7_in.keys = keys;
+        _OMP_ParallelRegion_7_in.bins = bins;
+        _OMP_ParallelRegion_7_in.OMP_REDUCTION_total = total;
+        _OMP_ParallelRegion_7_in.runParallelCode();
+        hist = _OMP_ParallelRegion_7_in.hist;
+        n = _OMP_ParallelRegion_7_in.n;
+        keys = _OMP_ParallelRegion_7_in.keys;
+        bins = _OMP_ParallelRegion_7_in.bins;
+        total = _OMP_ParallelRegion_7_in.OMP_REDUCTION_total;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_7);
+        RuntimeException OMP_ee_7 = (RuntimeException) _OMP_ParallelRegion_7_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_7 != null) {throw OMP_ee_7;}
+        /*OpenMP Parallel region (#7) -- END */
+
+        hist[bins] = total;
+        return hist;
+    }
+    }
+class _OMP_ParallelRegion_7{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] hist;
+        public int bins;
+        public int[] keys;
+        public int n;
+        public int OMP_REDUCTION_total;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_7(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            public int total = 0;
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        total += 1;
+                        /*OpenMP Work Share region (#8) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_8hist_lower = (0);
+                    int OMP_WoRkShArInG_PRIVATE_8hist_length = (bins);
+                    int[] OMP_WoRkShArInG_PRIVATE_8hist = ReductionSlot.partialSection(hist, OMP_WoRkShArInG_PRIVATE_8hist_lower, OMP_WoRkShArInG_PRIVATE_8hist_length, ReductionSlot.SUM);
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_8hist[keys[i]]++;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_8hist, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        PjRuntime.endReduction();
+                    }
+                    PjRuntime.combineReductionSection(OMP_reductionSlot, 0, hist, OMP_WoRkShArInG_PRIVATE_8hist_lower, OMP_WoRkShArInG_PRIVATE_8hist_length);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                        /*OpenMP Work Share region (#8) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(total, ReductionSlot.SUM);
+                    if (PjRuntime.taskWait(OMP_reductionSlot)) {
+                        try {
+                            OMP_REDUCTION_total += (int) OMP_reductionSlot.getLong(0);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction procedure
+                    //The barrier inside PjRuntime.taskWait(OMP_reductionSlot) combined the reductions
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
@@ -0,0 +1,777 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingClauses.Reduction;
+
+import pj.Pyjama;
+import java.math.BigInteger;
+import java.util.HashSet;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class reduction_positive_test13 {
+
+    public static class Histogram {
+
+        private int[] counts = null;
+
+        public Histogram(int bins) {
+            this.counts = new int[bins];
+        }
+
+        public int bins() {{
+            return this.counts.length;
+        }
+        }
+
+
+        public void add(int key) {{
+            this.counts[key]++;
+        }
+        }
+
+
+        public void merge(Histogram other) {{
+            for (int i = 0; i < this.counts.length; i++) {
+                this.counts[i] += other.counts[i];
+            }
+        }
+        }
+
+
+        public int[] counts() {{
+            return this.counts;
+        }
+        }
+
+    }
+
+    ;
+
+    ;
+
+    ;
+
+    ;
+
+    static int gcd(int a, int b) {{
+        return 0 == b ? a : gcd(b, a % b);
+    }
+    }
+
+
+    static long gcd(long a, long b) {{
+        return 0 == b ? a : gcd(b, a % b);
+    }
+    }
+
+
+    public int[] parallel_for_histogram(int threadNumber, int[] keys, int bins) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = keys.length;
+        Histogram h = new Histogram(bins);
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.h = h;
+        _OMP_ParallelRegion_0_in.n = n;
+        _OMP_ParallelRegion_0_in.keys = keys;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        h = _OMP_ParallelRegion_0_in.h;
+        n = _OMP_ParallelRegion_0_in.n;
+        keys = _OMP_ParallelRegion_0_in.keys;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        return h.counts();
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public Histogram h;
+        public int[] keys;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    Histogram OMP_WoRkShArInG_PRIVATE_1h;
+                    {
+                        Histogram omp_orig = h;
+                        OMP_WoRkShArInG_PRIVATE_1h = new Histogram(omp_orig.bins());
+                    }
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_1h.add(keys[i]);
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1h, new ReductionSlot.Combiner() {
+                        public Object combine(Object a, Object b) {
+                            Histogram omp_out = (Histogram) a;
+                            Histogram omp_in = (Histogram) b;
+                            omp_out.merge(omp_in);
+                            return omp_out;
+                        }
+                    });
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            {
+                                Histogram omp_out = (Histogram) h;
+                                Histogram omp_in = (Histogram) OMP_reductionSlot.getObject(0);
+                                omp_out.merge(omp_in);
+                                h = omp_out;
+                            }
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public BigInteger parallel_for_bigsum(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        BigInteger sum = BigInteger.ONE;
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.sum = sum;
+        _OMP_ParallelRegion_2_in.n = n;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        sum = _OMP_ParallelRegion_2_in.sum;
+        n = _OMP_ParallelRegion_2_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        return sum;
+    }
+    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public BigInteger sum;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    BigInteger OMP_WoRkShArInG_PRIVATE_3sum;
+                    {
+                        BigInteger omp_orig = sum;
+                        OMP_WoRkShArInG_PRIVATE_3sum = BigInteger.ZERO;
+                    }
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_3sum = OMP_WoRkShArInG_PRIVATE_3sum.add(BigInteger.valueOf(i).pow(5).multiply(BigInteger.valueOf(1000003)));
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_3sum, new ReductionSlot.Combiner() {
+                        public Object combine(Object a, Object b) {
+                            BigInteger omp_out = (BigInteger) a;
+                            BigInteger omp_in = (BigInteger) b;
+                            omp_out = omp_out.add(omp_in);
+                            return omp_out;
+                        }
+                    });
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            {
+                                BigInteger omp_out = (BigInteger) sum;
+                                BigInteger omp_in = (BigInteger) OMP_reductionSlot.getObject(0);
+                                omp_out = omp_out.add(omp_in);
+                                sum = omp_out;
+                            }
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_gcd(int threadNumber) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int g = 0;
+        long lg = 0;
+        /*OpenMP Parallel region (#4) -- START */
+        //#barrier elimination: 0 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+        int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+        _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+        _OMP_ParallelRegion_4_in.OMP_REDUCTION_g = g;
+        _OMP_ParallelRegion_4_in.OMP_REDUCTION_lg = lg;
+        _OMP_ParallelRegion_4_in.runParallelCode();
+        g = _OMP_ParallelRegion_4_in.OMP_REDUCTION_g;
+        lg = _OMP_ParallelRegion_4_in.OMP_REDUCTION_lg;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+        RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_4 != null) {throw OMP_ee_4;}
+        /*OpenMP Parallel region (#4) -- END */
+
+        return new long[] { g, lg };
+    }
+    }
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int OMP_REDUCTION_g;
+        public long OMP_REDUCTION_lg;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            public int g;
+            {
+                int omp_orig = OMP_REDUCTION_g;
+                g = 0;
+            }
+            public long lg;
+            {
+                long omp_orig = OMP_REDUCTION_lg;
+                lg = 0;
+            }
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        g = gcd(g, 12 * (Pyjama.omp_get_thread_num() + 1));
+                        lg = gcd(lg, 18L * (Pyjama.omp_get_thread_num() + 1));
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(g, new ReductionSlot.Combiner() {
+                        public Object combine(Object a, Object b) {
+                            int omp_out = (Integer) a;
+                            int omp_in = (Integer) b;
+                            omp_out = gcd(omp_out, omp_in);
+                            return omp_out;
+                        }
+                    });
+                    OMP_reductionSlot.put(lg, new ReductionSlot.Combiner() {
+                        public Object combine(Object a, Object b) {
+                            long omp_out = (Long) a;
+                            long omp_in = (Long) b;
+                            omp_out = gcd(omp_out, omp_in);
+                            return omp_out;
+                        }
+                    });
+                    if (PjRuntime.taskWait(OMP_reductionSlot)) {
+                        try {
+                            {
+                                int omp_out = (Integer) OMP_REDUCTION_g;
+                                int omp_in = (Integer) OMP_reductionSlot.getObject(0);
+                                omp_out = gcd(omp_out, omp_in);
+                                OMP_REDUCTION_g = omp_out;
+                            }
+                            {
+                                long omp_out = (Long) OMP_REDUCTION_lg;
+                                long omp_in = (Long) OMP_reductionSlot.getObject(1);
+                                omp_out = gcd(omp_out, omp_in);
+                                OMP_REDUCTION_lg = omp_out;
+                            }
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction procedure
+                    //The barrier inside PjRuntime.taskWait(OMP_reductionSlot) combined the reductions
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public HashSet<Integer> parallel_for_collect(int threadNumber, int[] a) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = a.length;
+        HashSet<Integer> values = new HashSet<Integer>();
+        values.add(-1);
+        /*OpenMP Parallel region (#5) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_5 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_5 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_5);
+        int _threadNum__OMP_ParallelRegion_5 = icv__OMP_ParallelRegion_5.nthreads_var.get(icv__OMP_ParallelRegion_5.levels_var);
+        _OMP_ParallelRegion_5 _OMP_ParallelRegion_5_in = new _OMP_ParallelRegion_5(_threadNum__OMP_ParallelRegion_5,icv__OMP_ParallelRegion_5);
+        _OMP_ParallelRegion_5_in.values = values;
+        _OMP_ParallelRegion_5_in.n = n;
+        _OMP_ParallelRegion_5_in.a = a;
+        _OMP_ParallelRegion_5_in.runParallelCode();
+        values = _OMP_ParallelRegion_5_in.values;
+        n = _OMP_ParallelRegion_5_in.n;
+        a = _OMP_ParallelRegion_5_in.a;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_5);
+        RuntimeException OMP_ee_5 = (RuntimeException) _OMP_ParallelRegion_5_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_5 != null) {throw OMP_ee_5;}
+        /*OpenMP Parallel region (#5) -- END */
+
+        return values;
+    }
+    }
+class _OMP_ParallelRegion_5{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] a;
+        public HashSet<Integer> values;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_5(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        /*OpenMP Work Share region (#6) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    HashSet<Integer> OMP_WoRkShArInG_PRIVATE_6values = new HashSet<Integer>();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_6values.add(a[i]);
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_6values, new ReductionSlot.Combiner() {
+                        public Object combine(Object a, Object b) {
+                            HashSet<Integer> omp_out = (HashSet<Integer>) a;
+                            HashSet<Integer> omp_in = (HashSet<Integer>) b;
+                            omp_out.addAll(omp_in);
+                            return omp_out;
+                        }
+                    });
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            {
+                                HashSet<Integer> omp_out = (HashSet<Integer>) values;
+                                HashSet<Integer> omp_in = (HashSet<Integer>) OMP_reductionSlot.getObject(0);
+                                omp_out.addAll(omp_in);
+                                values = omp_out;
+                            }
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                        /*OpenMP Work Share region (#6) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
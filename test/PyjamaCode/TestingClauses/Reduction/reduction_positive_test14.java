@@ -0,0 +1,1507 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingClauses.Reduction;
+
+import pj.Pyjama;
+import pi.reductions.Reduction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class reduction_positive_test14 {
+
+    public List<Integer> parallel_for_concat(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        List<Integer> squares = new ArrayList<Integer>();
+        squares.add(-1);
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.squares = squares;
+        _OMP_ParallelRegion_0_in.n = n;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        squares = _OMP_ParallelRegion_0_in.squares;
+        n = _OMP_ParallelRegion_0_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        return squares;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public List<Integer> squares;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    List<Integer> OMP_WoRkShArInG_PRIVATE_1squares = new java.util.ArrayList<Integer>();
+                    final ReductionSlot.ListChunks OMP_WoRkShArInG_PRIVATE_1squares_chunks = new ReductionSlot.ListChunks();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            OMP_WoRkShArInG_PRIVATE_1squares_chunks.mark(OMP_Chunk_Starting_point, OMP_WoRkShArInG_PRIVATE_1squares.size());
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (i % 3 != 0) {
+                                        OMP_WoRkShArInG_PRIVATE_1squares.add(i * i);
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_1squares, OMP_WoRkShArInG_PRIVATE_1squares_chunks);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            PjRuntime.growReductionList(OMP_reductionSlot, 0, squares);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.concatReductionList(OMP_reductionSlot, 0, squares);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public List<Integer> parallel_for_concat_static(int threadNumber, int n, int chunk) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        List<Integer> squares = new ArrayList<Integer>();
+        squares.add(-1);
+        if (0 == chunk) {
+            /*OpenMP Parallel region (#2) -- START */
+            //#barrier elimination: 2 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+            int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+            _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+            _OMP_ParallelRegion_2_in.squares = squares;
+            _OMP_ParallelRegion_2_in.n = n;
+            _OMP_ParallelRegion_2_in.runParallelCode();
+            squares = _OMP_ParallelRegion_2_in.squares;
+            n = _OMP_ParallelRegion_2_in.n;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+            RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_2 != null) {throw OMP_ee_2;}
+            /*OpenMP Parallel region (#2) -- END */
+
+        } else {
+            /*OpenMP Parallel region (#4) -- START */
+            //#barrier elimination: 2 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+            int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+            _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+            _OMP_ParallelRegion_4_in.squares = squares;
+            _OMP_ParallelRegion_4_in.n = n;
+            _OMP_ParallelRegion_4_in.chunk = chunk;
+            _OMP_ParallelRegion_4_in.runParallelCode();
+            squares = _OMP_ParallelRegion_4_in.squares;
+            n = _OMP_ParallelRegion_4_in.n;
+            chunk = _OMP_ParallelRegion_4_in.chunk;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+            RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_4 != null) {throw OMP_ee_4;}
+            /*OpenMP Parallel region (#4) -- END */
+
+        }
+        return squares;
+    }
+    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public List<Integer> squares;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    List<Integer> OMP_WoRkShArInG_PRIVATE_3squares = new java.util.ArrayList<Integer>();
+                    final ReductionSlot.ListChunks OMP_WoRkShArInG_PRIVATE_3squares_chunks = new ReductionSlot.ListChunks();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        final int OMP_chunkSize = 1;
+                        for (OMP_iterator=__omp_loop_thread_num*OMP_chunkSize; OMP_iterator<=OMP_end && OMP_chunkSize>0; OMP_iterator=OMP_iterator+__omp_loop_num_threads*OMP_chunkSize) {
+                            OMP_WoRkShArInG_PRIVATE_3squares_chunks.mark(OMP_iterator, OMP_WoRkShArInG_PRIVATE_3squares.size());
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (i % 3 != 0) {
+                                        OMP_WoRkShArInG_PRIVATE_3squares.add(i * i);
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_3squares, OMP_WoRkShArInG_PRIVATE_3squares_chunks);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            PjRuntime.growReductionList(OMP_reductionSlot, 0, squares);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.concatReductionList(OMP_reductionSlot, 0, squares);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public List<Integer> squares;
+        public int chunk;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#5) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    List<Integer> OMP_WoRkShArInG_PRIVATE_5squares = new java.util.ArrayList<Integer>();
+                    final ReductionSlot.ListChunks OMP_WoRkShArInG_PRIVATE_5squares_chunks = new ReductionSlot.ListChunks();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        final int OMP_chunkSize = chunk;
+                        for (OMP_iterator=__omp_loop_thread_num*OMP_chunkSize; OMP_iterator<=OMP_end && OMP_chunkSize>0; OMP_iterator=OMP_iterator+__omp_loop_num_threads*OMP_chunkSize) {
+                            OMP_WoRkShArInG_PRIVATE_5squares_chunks.mark(OMP_iterator, OMP_WoRkShArInG_PRIVATE_5squares.size());
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (i % 3 != 0) {
+                                        OMP_WoRkShArInG_PRIVATE_5squares.add(i * i);
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_5squares, OMP_WoRkShArInG_PRIVATE_5squares_chunks);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            PjRuntime.growReductionList(OMP_reductionSlot, 0, squares);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.concatReductionList(OMP_reductionSlot, 0, squares);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#5) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public List<String> parallel_for_concat_dynamic(int threadNumber, String[] a, boolean linked) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = a.length;
+        List<String> words = null;
+        if (linked) {
+            words = new LinkedList<String>();
+            /*OpenMP Parallel region (#6) -- START */
+            //#barrier elimination: 2 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_6 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_6 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_6);
+            int _threadNum__OMP_ParallelRegion_6 = icv__OMP_ParallelRegion_6.nthreads_var.get(icv__OMP_ParallelRegion_6.levels_var);
+            _OMP_ParallelRegion_6 _OMP_ParallelRegion_6_in = new _OMP_ParallelRegion_6(_threadNum__OMP_ParallelRegion_6,icv__OMP_ParallelRegion_6);
+            _OMP_ParallelRegion_6_in.words = words;
+            _OMP_ParallelRegion_6_in.n = n;
+            _OMP_ParallelRegion_6_in.a = a;
+            _OMP_ParallelRegion_6_in.runParallelCode();
+            words = _OMP_ParallelRegion_6_in.words;
+            n = _OMP_ParallelRegion_6_in.n;
+            a = _OMP_ParallelRegion_6_in.a;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_6);
+            RuntimeException OMP_ee_6 = (RuntimeException) _OMP_ParallelRegion_6_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_6 != null) {throw OMP_ee_6;}
+            /*OpenMP Parallel region (#6) -- END */
+
+        } else {
+            words = new ArrayList<String>();
+            /*OpenMP Parallel region (#8) -- START */
+            //#barrier elimination: 2 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_8 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_8 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_8);
+            int _threadNum__OMP_ParallelRegion_8 = icv__OMP_ParallelRegion_8.nthreads_var.get(icv__OMP_ParallelRegion_8.levels_var);
+            _OMP_ParallelRegion_8 _OMP_ParallelRegion_8_in = new _OMP_ParallelRegion_8(_threadNum__OMP_ParallelRegion_8,icv__OMP_ParallelRegion_8);
+            _OMP_ParallelRegion_8_in.words = words;
+            _OMP_ParallelRegion_8_in.n = n;
+            _OMP_ParallelRegion_8_in.a = a;
+            _OMP_ParallelRegion_8_in.runParallelCode();
+            words = _OMP_ParallelRegion_8_in.words;
+            n = _OMP_ParallelRegion_8_in.n;
+            a = _OMP_ParallelRegion_8_in.a;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_8);
+            RuntimeException OMP_ee_8 = (RuntimeException) _OMP_ParallelRegion_8_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_8 != null) {throw OMP_ee_8;}
+            /*OpenMP Parallel region (#8) -- END */
+
+        }
+        return words;
+    }
+    }
+class _OMP_ParallelRegion_6{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public List<String> words;
+        public String[] a;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_6(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#7) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    List<String> OMP_WoRkShArInG_PRIVATE_7words = new java.util.ArrayList<String>();
+                    final ReductionSlot.ListChunks OMP_WoRkShArInG_PRIVATE_7words_chunks = new ReductionSlot.ListChunks();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_guidedMinChunk = 4;
+                        final int OMP_guidedThreads = Pyjama.omp_get_num_threads();
+                        final AtomicInteger OMP_guidedCursor = OMP_workShareSlot.cursor;
+                        while ((OMP_iterator = PjRuntime.getGuidedChunkStart(OMP_guidedCursor, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk)) <= OMP_end) {
+                            OMP_chunkSize = PjRuntime.getGuidedChunkSize(OMP_iterator, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk);
+                            OMP_WoRkShArInG_PRIVATE_7words_chunks.mark(OMP_iterator, OMP_WoRkShArInG_PRIVATE_7words.size());
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (a[i].length() > 3) {
+                                        OMP_WoRkShArInG_PRIVATE_7words.add(a[i]);
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_7words, OMP_WoRkShArInG_PRIVATE_7words_chunks);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            PjRuntime.growReductionList(OMP_reductionSlot, 0, words);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.concatReductionList(OMP_reductionSlot, 0, words);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#7) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+class _OMP_ParallelRegion_8{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public List<String> words;
+        public String[] a;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_8(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#9) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    List<String> OMP_WoRkShArInG_PRIVATE_9words = new java.util.ArrayList<String>();
+                    final ReductionSlot.ListChunks OMP_WoRkShArInG_PRIVATE_9words_chunks = new ReductionSlot.ListChunks();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 7;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            OMP_WoRkShArInG_PRIVATE_9words_chunks.mark(OMP_iterator, OMP_WoRkShArInG_PRIVATE_9words.size());
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (a[i].length() > 3) {
+                                        OMP_WoRkShArInG_PRIVATE_9words.add(a[i]);
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_9words, OMP_WoRkShArInG_PRIVATE_9words_chunks);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            PjRuntime.growReductionList(OMP_reductionSlot, 0, words);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.concatReductionList(OMP_reductionSlot, 0, words);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#9) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public LinkedList<String> parallel_for_concat_linked(int threadNumber, String[] a) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = a.length;
+        LinkedList<String> words = new LinkedList<String>();
+        /*OpenMP Parallel region (#10) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_10 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_10 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_10);
+        int _threadNum__OMP_ParallelRegion_10 = icv__OMP_ParallelRegion_10.nthreads_var.get(icv__OMP_ParallelRegion_10.levels_var);
+        _OMP_ParallelRegion_10 _OMP_ParallelRegion_10_in = new _OMP_ParallelRegion_10(_threadNum__OMP_ParallelRegion_10,icv__OMP_ParallelRegion_10);
+        _OMP_ParallelRegion_10_in.a = a;
+        _OMP_ParallelRegion_10_in.n = n;
+        _OMP_ParallelRegion_10_in.words = words;
+        _OMP_ParallelRegion_10_in.runParallelCode();
+        a = _OMP_ParallelRegion_10_in.a;
+        n = _OMP_ParallelRegion_10_in.n;
+        words = _OMP_ParallelRegion_10_in.words;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_10);
+        RuntimeException OMP_ee_10 = (RuntimeException) _OMP_ParallelRegion_10_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_10 != null) {throw OMP_ee_10;}
+        /*OpenMP Parallel region (#10) -- END */
+
+        return words;
+    }
+    }
+class _OMP_ParallelRegion_10{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public String[] a;
+        public LinkedList<String> words;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_10(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        /*OpenMP Work Share region (#11) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    LinkedList<String> OMP_WoRkShArInG_PRIVATE_11words = new LinkedList<String>();
+                    final ReductionSlot.ListChunks OMP_WoRkShArInG_PRIVATE_11words_chunks = new ReductionSlot.ListChunks();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            OMP_WoRkShArInG_PRIVATE_11words_chunks.mark(OMP_Chunk_Starting_point, OMP_WoRkShArInG_PRIVATE_11words.size());
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    if (a[i].length() > 3) {
+                                        OMP_WoRkShArInG_PRIVATE_11words.add(a[i]);
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(OMP_WoRkShArInG_PRIVATE_11words, OMP_WoRkShArInG_PRIVATE_11words_chunks);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            PjRuntime.growReductionList(OMP_reductionSlot, 0, words);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.concatReductionList(OMP_reductionSlot, 0, words);
+                    PjRuntime.setBarrier();
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                        /*OpenMP Work Share region (#11) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public List<Integer> parallel_concat(int threadNumber) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        List<Integer> threads = new ArrayList<Integer>();
+        /*OpenMP Parallel region (#12) -- START */
+        //#barrier elimination: 0 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_12 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_12 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_12);
+        int _threadNum__OMP_ParallelRegion_12 = icv__OMP_ParallelRegion_12.nthreads_var.get(icv__OMP_ParallelRegion_12.levels_var);
+        _OMP_ParallelRegion_12 _OMP_ParallelRegion_12_in = new _OMP_ParallelRegion_12(_threadNum__OMP_ParallelRegion_12,icv__OMP_ParallelRegion_12);
+        _OMP_ParallelRegion_12_in.OMP_REDUCTION_threads = threads;
+        _OMP_ParallelRegion_12_in.runParallelCode();
+        threads = _OMP_ParallelRegion_12_in.OMP_REDUCTION_threads;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_12);
+        RuntimeException OMP_ee_12 = (RuntimeException) _OMP_ParallelRegion_12_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_12 != null) {throw OMP_ee_12;}
+        /*OpenMP Parallel region (#12) -- END */
+
+        return threads;
+    }
+    }
+class _OMP_ParallelRegion_12{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public List<Integer> OMP_REDUCTION_threads;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_12(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            public List<Integer> threads = new java.util.ArrayList<Integer>();
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        threads.add(Pyjama.omp_get_thread_num());
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.putSection(threads, ReductionSlot.CONCAT);
+                    if (PjRuntime.taskWait(OMP_reductionSlot)) {
+                        try {
+                            PjRuntime.growReductionList(OMP_reductionSlot, 0, OMP_REDUCTION_threads);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    PjRuntime.concatReductionList(OMP_reductionSlot, 0, OMP_REDUCTION_threads);
+                    PjRuntime.setBarrier();
+                    //END reduction procedure
+                    //The barrier inside PjRuntime.taskWait(OMP_reductionSlot) combined the reductions
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public Set<Integer> parallel_for_union(int threadNumber, int[] a) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = a.length;
+        Set<Integer> values = new HashSet<Integer>();
+        values.add(-1);
+        /*OpenMP Parallel region (#13) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_13 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_13 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_13);
+        int _threadNum__OMP_ParallelRegion_13 = icv__OMP_ParallelRegion_13.nthreads_var.get(icv__OMP_ParallelRegion_13.levels_var);
+        _OMP_ParallelRegion_13 _OMP_ParallelRegion_13_in = new _OMP_ParallelRegion_13(_threadNum__OMP_ParallelRegion_13,icv__OMP_ParallelRegion_13);
+        _OMP_ParallelRegion_13_in.values = values;
+        _OMP_ParallelRegion_13_in.a = a;
+        _OMP_ParallelRegion_13_in.n = n;
+        _OMP_ParallelRegion_13_in.runParallelCode();
+        values = _OMP_ParallelRegion_13_in.values;
+        a = _OMP_ParallelRegion_13_in.a;
+        n = _OMP_ParallelRegion_13_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_13);
+        RuntimeException OMP_ee_13 = (RuntimeException) _OMP_ParallelRegion_13_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_13 != null) {throw OMP_ee_13;}
+        /*OpenMP Parallel region (#13) -- END */
+
+        return values;
+    }
+    }
+class _OMP_ParallelRegion_13{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public Set<Integer> values;
+        public int[] a;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_13(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#14) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    Set<Integer> OMP_WoRkShArInG_PRIVATE_14values = new java.util.HashSet<Integer>();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_14values.add(a[i] % 1000);
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_14values, new ReductionSlot.Combiner() {
+                        public Object combine(Object a, Object b) {return ReductionSlot.union((Set<Integer>) a, (Set<Integer>) b);}
+                    });
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            values.addAll((Set<Integer>) OMP_reductionSlot.getObject(0));
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#14) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public Map<String, Integer> parallel_for_merge(int threadNumber, String[] a) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = a.length;
+        Map<String, Integer> counts = new HashMap<String, Integer>();
+        counts.put(a[0], 100);
+        /*OpenMP Parallel region (#15) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_15 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_15 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_15);
+        int _threadNum__OMP_ParallelRegion_15 = icv__OMP_ParallelRegion_15.nthreads_var.get(icv__OMP_ParallelRegion_15.levels_var);
+        _OMP_ParallelRegion_15 _OMP_ParallelRegion_15_in = new _OMP_ParallelRegion_15(_threadNum__OMP_ParallelRegion_15,icv__OMP_ParallelRegion_15);
+        _OMP_ParallelRegion_15_in.counts = counts;
+        _OMP_ParallelRegion_15_in.a = a;
+        _OMP_ParallelRegion_15_in.n = n;
+        _OMP_ParallelRegion_15_in.runParallelCode();
+        counts = _OMP_ParallelRegion_15_in.counts;
+        a = _OMP_ParallelRegion_15_in.a;
+        n = _OMP_ParallelRegion_15_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_15);
+        RuntimeException OMP_ee_15 = (RuntimeException) _OMP_ParallelRegion_15_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_15 != null) {throw OMP_ee_15;}
+        /*OpenMP Parallel region (#15) -- END */
+
+        return counts;
+    }
+    }
+class _OMP_ParallelRegion_15{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public Map<String, Integer> counts;
+        public String[] a;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_15(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#16) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    Map<String, Integer> OMP_WoRkShArInG_PRIVATE_16counts = new java.util.HashMap<String, Integer>();
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    Integer count = OMP_WoRkShArInG_PRIVATE_16counts.get(a[i]);
+                                    OMP_WoRkShArInG_PRIVATE_16counts.put(a[i], null == count ? 1 : count + 1);
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_16counts, new ReductionSlot.Combiner() {
+                        public Object combine(Object a, Object b) {return ReductionSlot.merge((Map<String, Integer>) a, (Map<String, Integer>) b, Reduction.IntegerSUM);}
+                    });
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            ReductionSlot.mergeInto(counts, (Map<String, Integer>) OMP_reductionSlot.getObject(0), Reduction.IntegerSUM);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#16) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
@@ -1,4 +1,4 @@
-//Pyjama compiler version:v1.5.3
+//Pyjama compiler version:v2.2.0
 package PyjamaCode.TestingClauses.Schedule;
 
 import pj.Pyjama;
@@ -12,9 +12,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
-import javax.swing.SwingUtilities;
 import java.lang.reflect.InvocationTargetException;
-import pj.pr.exceptions.OmpParallelRegionLocalCancellationException;
+import pj.pr.exceptions.*;
 
 public class schedule_RT {
 
@@ -24,17 +23,16 @@ public class schedule_RT {
         int[] array = new int[n];
         RT[0] = System.currentTimeMillis();
         /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 3 barrier(s) removed
         InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
         InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
         int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
-        ConcurrentHashMap<String, Object> inputlist__OMP_ParallelRegion_0 = new ConcurrentHashMap<String,Object>();
-        ConcurrentHashMap<String, Object> outputlist__OMP_ParallelRegion_0 = new ConcurrentHashMap<String,Object>();
-        inputlist__OMP_ParallelRegion_0.put("n",n);
-        inputlist__OMP_ParallelRegion_0.put("array",array);
-        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0,inputlist__OMP_ParallelRegion_0,outputlist__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.n = n;
+        _OMP_ParallelRegion_0_in.array = array;
         _OMP_ParallelRegion_0_in.runParallelCode();
-        n = (Integer)outputlist__OMP_ParallelRegion_0.get("n");
-        array = (int[])outputlist__OMP_ParallelRegion_0.get("array");
+        n = _OMP_ParallelRegion_0_in.n;
+        array = _OMP_ParallelRegion_0_in.array;
         PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
         RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
         if (OMP_ee_0 != null) {throw OMP_ee_0;}
@@ -44,65 +42,44 @@ public class schedule_RT {
         return RT;
     }
     }
-        class _OMP_ParallelRegion_0{
-                private int OMP_threadNumber = 1;
-                private InternalControlVariables icv;
-                private ConcurrentHashMap<String, Object> OMP_inputList = new ConcurrentHashMap<String, Object>();
-                private ConcurrentHashMap<String, Object> OMP_outputList = new ConcurrentHashMap<String, Object>();
-                private ReentrantLock OMP_lock;
-                private ParIterator<?> OMP__ParIteratorCreator;
-                public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
-
-                //#BEGIN shared variables defined here
-                int[] array = null;
-                int n = 0;
-                //#END shared variables defined here
-                public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv, ConcurrentHashMap<String, Object> inputlist, ConcurrentHashMap<String, Object> outputlist) {
-                    this.icv = icv;
-                    if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
-                        this.OMP_threadNumber = 1;
-                    }else {
-                        this.OMP_threadNumber = thread_num;
-                    }
-                    this.OMP_inputList = inputlist;
-                    this.OMP_outputList = outputlist;
-                    icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
-                    icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
-                    //#BEGIN shared variables initialised here
-                    array = (int[])OMP_inputList.get("array");
-                    n = (Integer)OMP_inputList.get("n");
-                    //#END shared variables initialised here
-                }
-
-                private void updateOutputListForSharedVars() {
-                    //BEGIN update outputlist
-                    OMP_outputList.put("n",n);
-                    OMP_outputList.put("array",array);
-                    //END update outputlist
-                }
-                class MyCallable implements Callable<ConcurrentHashMap<String,Object>> {
-                    private int alias_id;
-                    private ConcurrentHashMap<String, Object> OMP_inputList;
-                    private ConcurrentHashMap<String, Object> OMP_outputList;
-                    //#BEGIN private/firstprivate reduction variables defined here
-                    //#END private/firstprivate reduction variables  defined here
-                    MyCallable(int id, ConcurrentHashMap<String,Object> inputlist, ConcurrentHashMap<String,Object> outputlist){
-                        this.alias_id = id;
-                        this.OMP_inputList = inputlist;
-                        this.OMP_outputList = outputlist;
-                        //#BEGIN firstprivate reduction variables initialised here
-                        //#END firstprivate reduction variables initialised here
-                    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
 
-                    @Override
-                    public ConcurrentHashMap<String,Object> call() {
-                        try {
-                            /****User Code BEGIN***/
-                            /*OpenMP Work Share region (#0) -- START */
-                            
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
                 {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
-                    //#set implicit barrier here, otherwise unexpected initial value happens
-                    PjRuntime.setBarrier();
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
                     //#END firstprivate lastprivate reduction variables defined and initialized here
                     try{
                         int i=0;
@@ -111,62 +88,82 @@ public class schedule_RT {
                         if (((n)-(0))%(1) == 0) {
                             OMP_end = OMP_end - 1;
                         }
-                        int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
-                        int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
-                        for (OMP_iterator=__omp_loop_thread_num*1; OMP_iterator<=OMP_end && 1>0; OMP_iterator=OMP_iterator+__omp_loop_num_threads*1) {
-                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<OMP_iterator+1 && OMP_local_iterator<=OMP_end; OMP_local_iterator++){
-                                i = 0 + OMP_local_iterator * (1);
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        final int OMP_chunkSize = 1;
+                        for (OMP_iterator=__omp_loop_thread_num*OMP_chunkSize; OMP_iterator<=OMP_end && OMP_chunkSize>0; OMP_iterator=OMP_iterator+__omp_loop_num_threads*OMP_chunkSize) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
                                 {
                                     array[i] = i;
-                                }if (OMP_end == OMP_local_iterator) {
-                                    //BEGIN lastprivate variables value set
-                                    //END lastprivate variables value set
                                 }
                             }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
                         }
-                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException wse){
                     } catch (Exception e){throw e;}
                     //BEGIN  reduction
-                    PjRuntime.reductionLockForWorksharing.lock();
-                    PjRuntime.reductionLockForWorksharing.unlock();//END reduction
-                    PjRuntime.setBarrier();
-                }
-
-                            PjRuntime.setBarrier();
-                            PjRuntime.reset_OMP_orderCursor();
-                            /*OpenMP Work Share region (#0) -- END */
-
-                            /****User Code END***/
-                            //BEGIN reduction procedure
-                            //END reduction procedure
-                            PjRuntime.setBarrier();
-                        } catch (OmpParallelRegionLocalCancellationException e) {
-                         	PjRuntime.decreaseBarrierCount();
-                        } catch (Exception e) {
-                            PjRuntime.decreaseBarrierCount();
-                        	PjExecutor.cancelCurrentThreadGroup();
-                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
-                    }
-                    if (0 == this.alias_id) {
-                        updateOutputListForSharedVars();
-                    }
-                    return null;
-                }
-            }
-            public void runParallelCode() {
-                for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
-                    Callable<ConcurrentHashMap<String,Object>> slaveThread = new MyCallable(i, OMP_inputList, OMP_outputList);
-                    PjRuntime.submit(i, slaveThread, icv);
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
                 }
-                Callable<ConcurrentHashMap<String,Object>> masterThread = new MyCallable(0, OMP_inputList, OMP_outputList);
-                PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
-                try {
-                    masterThread.call();
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
                 } catch (Exception e) {
-                    e.printStackTrace();
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
                 }
+                return null;
             }
         }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
 
 
 
@@ -176,87 +173,66 @@ public class schedule_RT {
         long[] RT = new long[2];
         int[] array = new int[n];
         RT[0] = System.currentTimeMillis();
-        /*OpenMP Parallel region (#1) -- START */
-        InternalControlVariables icv_previous__OMP_ParallelRegion_1 = PjRuntime.getCurrentThreadICV();
-        InternalControlVariables icv__OMP_ParallelRegion_1 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_1);
-        int _threadNum__OMP_ParallelRegion_1 = icv__OMP_ParallelRegion_1.nthreads_var.get(icv__OMP_ParallelRegion_1.levels_var);
-        ConcurrentHashMap<String, Object> inputlist__OMP_ParallelRegion_1 = new ConcurrentHashMap<String,Object>();
-        ConcurrentHashMap<String, Object> outputlist__OMP_ParallelRegion_1 = new ConcurrentHashMap<String,Object>();
-        inputlist__OMP_ParallelRegion_1.put("array",array);
-        inputlist__OMP_ParallelRegion_1.put("n",n);
-        _OMP_ParallelRegion_1 _OMP_ParallelRegion_1_in = new _OMP_ParallelRegion_1(_threadNum__OMP_ParallelRegion_1,icv__OMP_ParallelRegion_1,inputlist__OMP_ParallelRegion_1,outputlist__OMP_ParallelRegion_1);
-        _OMP_ParallelRegion_1_in.runParallelCode();
-        array = (int[])outputlist__OMP_ParallelRegion_1.get("array");
-        n = (Integer)outputlist__OMP_ParallelRegion_1.get("n");
-        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_1);
-        RuntimeException OMP_ee_1 = (RuntimeException) _OMP_ParallelRegion_1_in.OMP_CurrentParallelRegionExceptionSlot.get();
-        if (OMP_ee_1 != null) {throw OMP_ee_1;}
-        /*OpenMP Parallel region (#1) -- END */
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.n = n;
+        _OMP_ParallelRegion_2_in.array = array;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        n = _OMP_ParallelRegion_2_in.n;
+        array = _OMP_ParallelRegion_2_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
 
         RT[1] = System.currentTimeMillis();
         return RT;
     }
     }
-        class _OMP_ParallelRegion_1{
-                private int OMP_threadNumber = 1;
-                private InternalControlVariables icv;
-                private ConcurrentHashMap<String, Object> OMP_inputList = new ConcurrentHashMap<String, Object>();
-                private ConcurrentHashMap<String, Object> OMP_outputList = new ConcurrentHashMap<String, Object>();
-                private ReentrantLock OMP_lock;
-                private ParIterator<?> OMP__ParIteratorCreator;
-                public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
-
-                //#BEGIN shared variables defined here
-                int[] array = null;
-                int n = 0;
-                //#END shared variables defined here
-                public _OMP_ParallelRegion_1(int thread_num, InternalControlVariables icv, ConcurrentHashMap<String, Object> inputlist, ConcurrentHashMap<String, Object> outputlist) {
-                    this.icv = icv;
-                    if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
-                        this.OMP_threadNumber = 1;
-                    }else {
-                        this.OMP_threadNumber = thread_num;
-                    }
-                    this.OMP_inputList = inputlist;
-                    this.OMP_outputList = outputlist;
-                    icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
-                    icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
-                    //#BEGIN shared variables initialised here
-                    array = (int[])OMP_inputList.get("array");
-                    n = (Integer)OMP_inputList.get("n");
-                    //#END shared variables initialised here
-                }
-
-                private void updateOutputListForSharedVars() {
-                    //BEGIN update outputlist
-                    OMP_outputList.put("array",array);
-                    OMP_outputList.put("n",n);
-                    //END update outputlist
-                }
-                class MyCallable implements Callable<ConcurrentHashMap<String,Object>> {
-                    private int alias_id;
-                    private ConcurrentHashMap<String, Object> OMP_inputList;
-                    private ConcurrentHashMap<String, Object> OMP_outputList;
-                    //#BEGIN private/firstprivate reduction variables defined here
-                    //#END private/firstprivate reduction variables  defined here
-                    MyCallable(int id, ConcurrentHashMap<String,Object> inputlist, ConcurrentHashMap<String,Object> outputlist){
-                        this.alias_id = id;
-                        this.OMP_inputList = inputlist;
-                        this.OMP_outputList = outputlist;
-                        //#BEGIN firstprivate reduction variables initialised here
-                        //#END firstprivate reduction variables initialised here
-                    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
 
-                    @Override
-                    public ConcurrentHashMap<String,Object> call() {
-                        try {
-                            /****User Code BEGIN***/
-                            /*OpenMP Work Share region (#1) -- START */
-                            
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
                 {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
-                    //#set implicit barrier here, otherwise unexpected initial value happens
-                    PjRuntime.setBarrier();
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
                     //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
                     try{
                         int i=0;
                         int OMP_iterator = 0;
@@ -264,64 +240,84 @@ public class schedule_RT {
                         if (((n)-(0))%(1) == 0) {
                             OMP_end = OMP_end - 1;
                         }
-                        if (0 == Pyjama.omp_get_thread_num()) {
-                            PjRuntime.get_OMP_loopCursor().getAndSet(0);}
-                        PjRuntime.setBarrier();
-                        while ((OMP_iterator = PjRuntime.get_OMP_loopCursor().getAndAdd(1)) <= OMP_end) {
-                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<OMP_iterator+1 && OMP_local_iterator<=OMP_end; OMP_local_iterator++){
-                                i = 0 + OMP_local_iterator * (1);
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 1;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
                                 {
                                     array[i] = i;
-                                }if (OMP_end == OMP_local_iterator) {
-                                    //BEGIN lastprivate variables value set
-                                    //END lastprivate variables value set
                                 }
-
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
                             }
                         }
-                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException wse){
-                    } catch (Exception e){throw e;}
-                    //BEGIN  reduction
-                    PjRuntime.reductionLockForWorksharing.lock();
-                    PjRuntime.reductionLockForWorksharing.unlock();//END reduction
-                    PjRuntime.setBarrier();
-                }
-
-                            PjRuntime.setBarrier();
-                            PjRuntime.reset_OMP_orderCursor();
-                            /*OpenMP Work Share region (#1) -- END */
-
-                            /****User Code END***/
-                            //BEGIN reduction procedure
-                            //END reduction procedure
-                            PjRuntime.setBarrier();
-                        } catch (OmpParallelRegionLocalCancellationException e) {
-                         	PjRuntime.decreaseBarrierCount();
-                        } catch (Exception e) {
-                            PjRuntime.decreaseBarrierCount();
-                        	PjExecutor.cancelCurrentThreadGroup();
-                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
-                    }
-                    if (0 == this.alias_id) {
-                        updateOutputListForSharedVars();
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
                     }
-                    return null;
-                }
-            }
-            public void runParallelCode() {
-                for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
-                    Callable<ConcurrentHashMap<String,Object>> slaveThread = new MyCallable(i, OMP_inputList, OMP_outputList);
-                    PjRuntime.submit(i, slaveThread, icv);
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
                 }
-                Callable<ConcurrentHashMap<String,Object>> masterThread = new MyCallable(0, OMP_inputList, OMP_outputList);
-                PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
-                try {
-                    masterThread.call();
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
                 } catch (Exception e) {
-                    e.printStackTrace();
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
                 }
+                return null;
             }
         }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
 
 
 
@@ -331,87 +327,66 @@ public class schedule_RT {
         long[] RT = new long[2];
         int[] array = new int[n];
         RT[0] = System.currentTimeMillis();
-        /*OpenMP Parallel region (#2) -- START */
-        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
-        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
-        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
-        ConcurrentHashMap<String, Object> inputlist__OMP_ParallelRegion_2 = new ConcurrentHashMap<String,Object>();
-        ConcurrentHashMap<String, Object> outputlist__OMP_ParallelRegion_2 = new ConcurrentHashMap<String,Object>();
-        inputlist__OMP_ParallelRegion_2.put("n",n);
-        inputlist__OMP_ParallelRegion_2.put("array",array);
-        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2,inputlist__OMP_ParallelRegion_2,outputlist__OMP_ParallelRegion_2);
-        _OMP_ParallelRegion_2_in.runParallelCode();
-        n = (Integer)outputlist__OMP_ParallelRegion_2.get("n");
-        array = (int[])outputlist__OMP_ParallelRegion_2.get("array");
-        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
-        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
-        if (OMP_ee_2 != null) {throw OMP_ee_2;}
-        /*OpenMP Parallel region (#2) -- END */
+        /*OpenMP Parallel region (#4) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+        int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+        _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+        _OMP_ParallelRegion_4_in.array = array;
+        _OMP_ParallelRegion_4_in.n = n;
+        _OMP_ParallelRegion_4_in.runParallelCode();
+        array = _OMP_ParallelRegion_4_in.array;
+        n = _OMP_ParallelRegion_4_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+        RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_4 != null) {throw OMP_ee_4;}
+        /*OpenMP Parallel region (#4) -- END */
 
         RT[1] = System.currentTimeMillis();
         return RT;
     }
     }
-        class _OMP_ParallelRegion_2{
-                private int OMP_threadNumber = 1;
-                private InternalControlVariables icv;
-                private ConcurrentHashMap<String, Object> OMP_inputList = new ConcurrentHashMap<String, Object>();
-                private ConcurrentHashMap<String, Object> OMP_outputList = new ConcurrentHashMap<String, Object>();
-                private ReentrantLock OMP_lock;
-                private ParIterator<?> OMP__ParIteratorCreator;
-                public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
-
-                //#BEGIN shared variables defined here
-                int[] array = null;
-                int n = 0;
-                //#END shared variables defined here
-                public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv, ConcurrentHashMap<String, Object> inputlist, ConcurrentHashMap<String, Object> outputlist) {
-                    this.icv = icv;
-                    if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
-                        this.OMP_threadNumber = 1;
-                    }else {
-                        this.OMP_threadNumber = thread_num;
-                    }
-                    this.OMP_inputList = inputlist;
-                    this.OMP_outputList = outputlist;
-                    icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
-                    icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
-                    //#BEGIN shared variables initialised here
-                    array = (int[])OMP_inputList.get("array");
-                    n = (Integer)OMP_inputList.get("n");
-                    //#END shared variables initialised here
-                }
-
-                private void updateOutputListForSharedVars() {
-                    //BEGIN update outputlist
-                    OMP_outputList.put("n",n);
-                    OMP_outputList.put("array",array);
-                    //END update outputlist
-                }
-                class MyCallable implements Callable<ConcurrentHashMap<String,Object>> {
-                    private int alias_id;
-                    private ConcurrentHashMap<String, Object> OMP_inputList;
-                    private ConcurrentHashMap<String, Object> OMP_outputList;
-                    //#BEGIN private/firstprivate reduction variables defined here
-                    //#END private/firstprivate reduction variables  defined here
-                    MyCallable(int id, ConcurrentHashMap<String,Object> inputlist, ConcurrentHashMap<String,Object> outputlist){
-                        this.alias_id = id;
-                        this.OMP_inputList = inputlist;
-                        this.OMP_outputList = outputlist;
-                        //#BEGIN firstprivate reduction variables initialised here
-                        //#END firstprivate reduction variables initialised here
-                    }
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
 
-                    @Override
-                    public ConcurrentHashMap<String,Object> call() {
-                        try {
-                            /****User Code BEGIN***/
-                            /*OpenMP Work Share region (#2) -- START */
-                            
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#5) -- START */
+                    
                 {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
-                    //#set implicit barrier here, otherwise unexpected initial value happens
-                    PjRuntime.setBarrier();
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
                     //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
                     try{
                         int i=0;
                         int OMP_iterator = 0;
@@ -419,66 +394,1703 @@ public class schedule_RT {
                         if (((n)-(0))%(1) == 0) {
                             OMP_end = OMP_end - 1;
                         }
-                        int OMP_chunkSize = 1;
-                        if (0 == Pyjama.omp_get_thread_num()) {PjRuntime.get_OMP_loopCursor().getAndSet(0);}
-                        PjRuntime.setBarrier();
-                        while ((OMP_iterator = PjRuntime.get_OMP_loopCursor().getAndAdd(OMP_chunkSize)) <= OMP_end) {
-                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<OMP_iterator+OMP_chunkSize && OMP_local_iterator<=OMP_end; OMP_local_iterator++){
-                                i = 0 + OMP_local_iterator * (1);
+                        int OMP_chunkSize = 0;
+                        final int OMP_guidedMinChunk = 1;
+                        final int OMP_guidedThreads = Pyjama.omp_get_num_threads();
+                        final AtomicInteger OMP_guidedCursor = OMP_workShareSlot.cursor;
+                        while ((OMP_iterator = PjRuntime.getGuidedChunkStart(OMP_guidedCursor, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk)) <= OMP_end) {
+                            OMP_chunkSize = PjRuntime.getGuidedChunkSize(OMP_iterator, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
                                 {
                                     array[i] = i;
-                                }if (OMP_end == OMP_local_iterator) {
-                                    //BEGIN lastprivate variables value set
-                                    //END lastprivate variables value set
                                 }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#5) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_triangular_static(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#6) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_6 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_6 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_6);
+        int _threadNum__OMP_ParallelRegion_6 = icv__OMP_ParallelRegion_6.nthreads_var.get(icv__OMP_ParallelRegion_6.levels_var);
+        _OMP_ParallelRegion_6 _OMP_ParallelRegion_6_in = new _OMP_ParallelRegion_6(_threadNum__OMP_ParallelRegion_6,icv__OMP_ParallelRegion_6);
+        _OMP_ParallelRegion_6_in.n = n;
+        _OMP_ParallelRegion_6_in.array = array;
+        _OMP_ParallelRegion_6_in.runParallelCode();
+        n = _OMP_ParallelRegion_6_in.n;
+        array = _OMP_ParallelRegion_6_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_6);
+        RuntimeException OMP_ee_6 = (RuntimeException) _OMP_ParallelRegion_6_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_6 != null) {throw OMP_ee_6;}
+        /*OpenMP Parallel region (#6) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_6{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_6(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
 
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#7) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        final int OMP_chunkSize = 1;
+                        for (OMP_iterator=__omp_loop_thread_num*OMP_chunkSize; OMP_iterator<=OMP_end && OMP_chunkSize>0; OMP_iterator=OMP_iterator+__omp_loop_num_threads*OMP_chunkSize) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    double sum = 0;
+                                    for (int j = 0; j <= i; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
                             }
-                            if(OMP_chunkSize>1)OMP_chunkSize--;
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
                         }
-                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException wse){
                     } catch (Exception e){throw e;}
                     //BEGIN  reduction
-                    PjRuntime.reductionLockForWorksharing.lock();
-                    PjRuntime.reductionLockForWorksharing.unlock();//END reduction
-                    PjRuntime.setBarrier();
-                }
-
-                            PjRuntime.setBarrier();
-                            PjRuntime.reset_OMP_orderCursor();
-                            /*OpenMP Work Share region (#2) -- END */
-
-                            /****User Code END***/
-                            //BEGIN reduction procedure
-                            //END reduction procedure
-                            PjRuntime.setBarrier();
-                        } catch (OmpParallelRegionLocalCancellationException e) {
-                         	PjRuntime.decreaseBarrierCount();
-                        } catch (Exception e) {
-                            PjRuntime.decreaseBarrierCount();
-                        	PjExecutor.cancelCurrentThreadGroup();
-                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
-                    }
-                    if (0 == this.alias_id) {
-                        updateOutputListForSharedVars();
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#7) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
                     }
-                    return null;
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
                 }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_triangular_dynamic(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#8) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_8 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_8 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_8);
+        int _threadNum__OMP_ParallelRegion_8 = icv__OMP_ParallelRegion_8.nthreads_var.get(icv__OMP_ParallelRegion_8.levels_var);
+        _OMP_ParallelRegion_8 _OMP_ParallelRegion_8_in = new _OMP_ParallelRegion_8(_threadNum__OMP_ParallelRegion_8,icv__OMP_ParallelRegion_8);
+        _OMP_ParallelRegion_8_in.array = array;
+        _OMP_ParallelRegion_8_in.n = n;
+        _OMP_ParallelRegion_8_in.runParallelCode();
+        array = _OMP_ParallelRegion_8_in.array;
+        n = _OMP_ParallelRegion_8_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_8);
+        RuntimeException OMP_ee_8 = (RuntimeException) _OMP_ParallelRegion_8_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_8 != null) {throw OMP_ee_8;}
+        /*OpenMP Parallel region (#8) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_8{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_8(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
             }
-            public void runParallelCode() {
-                for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
-                    Callable<ConcurrentHashMap<String,Object>> slaveThread = new MyCallable(i, OMP_inputList, OMP_outputList);
-                    PjRuntime.submit(i, slaveThread, icv);
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#9) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 1;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    double sum = 0;
+                                    for (int j = 0; j <= i; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#9) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
                 }
-                Callable<ConcurrentHashMap<String,Object>> masterThread = new MyCallable(0, OMP_inputList, OMP_outputList);
-                PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_triangular_guided(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#10) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_10 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_10 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_10);
+        int _threadNum__OMP_ParallelRegion_10 = icv__OMP_ParallelRegion_10.nthreads_var.get(icv__OMP_ParallelRegion_10.levels_var);
+        _OMP_ParallelRegion_10 _OMP_ParallelRegion_10_in = new _OMP_ParallelRegion_10(_threadNum__OMP_ParallelRegion_10,icv__OMP_ParallelRegion_10);
+        _OMP_ParallelRegion_10_in.n = n;
+        _OMP_ParallelRegion_10_in.array = array;
+        _OMP_ParallelRegion_10_in.runParallelCode();
+        n = _OMP_ParallelRegion_10_in.n;
+        array = _OMP_ParallelRegion_10_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_10);
+        RuntimeException OMP_ee_10 = (RuntimeException) _OMP_ParallelRegion_10_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_10 != null) {throw OMP_ee_10;}
+        /*OpenMP Parallel region (#10) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_10{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_10(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
                 try {
-                    masterThread.call();
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#11) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_guidedMinChunk = 1;
+                        final int OMP_guidedThreads = Pyjama.omp_get_num_threads();
+                        final AtomicInteger OMP_guidedCursor = OMP_workShareSlot.cursor;
+                        while ((OMP_iterator = PjRuntime.getGuidedChunkStart(OMP_guidedCursor, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk)) <= OMP_end) {
+                            OMP_chunkSize = PjRuntime.getGuidedChunkSize(OMP_iterator, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    double sum = 0;
+                                    for (int j = 0; j <= i; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#11) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
                 } catch (Exception e) {
-                    e.printStackTrace();
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
                 }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_triangular_auto(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#12) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_12 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_12 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_12);
+        int _threadNum__OMP_ParallelRegion_12 = icv__OMP_ParallelRegion_12.nthreads_var.get(icv__OMP_ParallelRegion_12.levels_var);
+        _OMP_ParallelRegion_12 _OMP_ParallelRegion_12_in = new _OMP_ParallelRegion_12(_threadNum__OMP_ParallelRegion_12,icv__OMP_ParallelRegion_12);
+        _OMP_ParallelRegion_12_in.n = n;
+        _OMP_ParallelRegion_12_in.array = array;
+        _OMP_ParallelRegion_12_in.runParallelCode();
+        n = _OMP_ParallelRegion_12_in.n;
+        array = _OMP_ParallelRegion_12_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_12);
+        RuntimeException OMP_ee_12 = (RuntimeException) _OMP_ParallelRegion_12_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_12 != null) {throw OMP_ee_12;}
+        /*OpenMP Parallel region (#12) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_12{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_12(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
             }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
         }
 
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
 
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#13) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_scheduleThreads = Pyjama.omp_get_num_threads();
+                        final int OMP_scheduleThreadID = Pyjama.omp_get_thread_num();
+                        final AtomicInteger OMP_scheduleCursor = OMP_workShareSlot.cursor;
+                        final AdaptiveSchedule.Plan OMP_schedulePlan = PjRuntime.beginAutoSchedule(OMP_workShareSlot, "PyjamaCode.TestingClauses.Schedule.schedule_RT#13", OMP_end, OMP_scheduleThreads);
+                        final int OMP_scheduleKind = OMP_schedulePlan.kind;
+                        final int OMP_scheduleChunk = OMP_schedulePlan.chunk;
+                        final long OMP_scheduleBusyStart = System.nanoTime();
+                        for (OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, -1, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID); OMP_iterator <= OMP_end; OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, OMP_iterator, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID)) {
+                            OMP_chunkSize = PjRuntime.getRunScheduleChunkSize(OMP_scheduleKind, OMP_scheduleChunk, OMP_iterator, OMP_end, OMP_scheduleThreads);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    double sum = 0;
+                                    for (int j = 0; j <= i; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                        OMP_schedulePlan.report(System.nanoTime() - OMP_scheduleBusyStart);
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#13) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_triangular_steal(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#14) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_14 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_14 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_14);
+        int _threadNum__OMP_ParallelRegion_14 = icv__OMP_ParallelRegion_14.nthreads_var.get(icv__OMP_ParallelRegion_14.levels_var);
+        _OMP_ParallelRegion_14 _OMP_ParallelRegion_14_in = new _OMP_ParallelRegion_14(_threadNum__OMP_ParallelRegion_14,icv__OMP_ParallelRegion_14);
+        _OMP_ParallelRegion_14_in.array = array;
+        _OMP_ParallelRegion_14_in.n = n;
+        _OMP_ParallelRegion_14_in.runParallelCode();
+        array = _OMP_ParallelRegion_14_in.array;
+        n = _OMP_ParallelRegion_14_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_14);
+        RuntimeException OMP_ee_14 = (RuntimeException) _OMP_ParallelRegion_14_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_14 != null) {throw OMP_ee_14;}
+        /*OpenMP Parallel region (#14) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_14{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_14(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#15) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_stealChunk = 0;
+                        final int OMP_stealThreadID = Pyjama.omp_get_thread_num();
+                        final StealingLoopRanges OMP_stealRanges = PjRuntime.beginStealSchedule(OMP_workShareSlot, OMP_end, Pyjama.omp_get_num_threads());
+                        while ((OMP_iterator = OMP_stealRanges.next(OMP_stealThreadID, OMP_stealChunk)) <= OMP_end) {
+                            OMP_chunkSize = OMP_stealRanges.chunkSize(OMP_stealThreadID);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    double sum = 0;
+                                    for (int j = 0; j <= i; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#15) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_irregular_static(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#16) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_16 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_16 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_16);
+        int _threadNum__OMP_ParallelRegion_16 = icv__OMP_ParallelRegion_16.nthreads_var.get(icv__OMP_ParallelRegion_16.levels_var);
+        _OMP_ParallelRegion_16 _OMP_ParallelRegion_16_in = new _OMP_ParallelRegion_16(_threadNum__OMP_ParallelRegion_16,icv__OMP_ParallelRegion_16);
+        _OMP_ParallelRegion_16_in.array = array;
+        _OMP_ParallelRegion_16_in.n = n;
+        _OMP_ParallelRegion_16_in.runParallelCode();
+        array = _OMP_ParallelRegion_16_in.array;
+        n = _OMP_ParallelRegion_16_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_16);
+        RuntimeException OMP_ee_16 = (RuntimeException) _OMP_ParallelRegion_16_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_16 != null) {throw OMP_ee_16;}
+        /*OpenMP Parallel region (#16) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_16{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_16(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#17) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        final int OMP_chunkSize = 1;
+                        for (OMP_iterator=__omp_loop_thread_num*OMP_chunkSize; OMP_iterator<=OMP_end && OMP_chunkSize>0; OMP_iterator=OMP_iterator+__omp_loop_num_threads*OMP_chunkSize) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    int work = irregularWork(i, n);
+                                    double sum = 0;
+                                    for (int j = 0; j < work; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#17) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_irregular_dynamic(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#18) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_18 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_18 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_18);
+        int _threadNum__OMP_ParallelRegion_18 = icv__OMP_ParallelRegion_18.nthreads_var.get(icv__OMP_ParallelRegion_18.levels_var);
+        _OMP_ParallelRegion_18 _OMP_ParallelRegion_18_in = new _OMP_ParallelRegion_18(_threadNum__OMP_ParallelRegion_18,icv__OMP_ParallelRegion_18);
+        _OMP_ParallelRegion_18_in.n = n;
+        _OMP_ParallelRegion_18_in.array = array;
+        _OMP_ParallelRegion_18_in.runParallelCode();
+        n = _OMP_ParallelRegion_18_in.n;
+        array = _OMP_ParallelRegion_18_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_18);
+        RuntimeException OMP_ee_18 = (RuntimeException) _OMP_ParallelRegion_18_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_18 != null) {throw OMP_ee_18;}
+        /*OpenMP Parallel region (#18) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_18{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_18(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#19) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 1;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    int work = irregularWork(i, n);
+                                    double sum = 0;
+                                    for (int j = 0; j < work; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#19) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_irregular_guided(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#20) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_20 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_20 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_20);
+        int _threadNum__OMP_ParallelRegion_20 = icv__OMP_ParallelRegion_20.nthreads_var.get(icv__OMP_ParallelRegion_20.levels_var);
+        _OMP_ParallelRegion_20 _OMP_ParallelRegion_20_in = new _OMP_ParallelRegion_20(_threadNum__OMP_ParallelRegion_20,icv__OMP_ParallelRegion_20);
+        _OMP_ParallelRegion_20_in.array = array;
+        _OMP_ParallelRegion_20_in.n = n;
+        _OMP_ParallelRegion_20_in.runParallelCode();
+        array = _OMP_ParallelRegion_20_in.array;
+        n = _OMP_ParallelRegion_20_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_20);
+        RuntimeException OMP_ee_20 = (RuntimeException) _OMP_ParallelRegion_20_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_20 != null) {throw OMP_ee_20;}
+        /*OpenMP Parallel region (#20) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_20{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_20(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#21) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_guidedMinChunk = 1;
+                        final int OMP_guidedThreads = Pyjama.omp_get_num_threads();
+                        final AtomicInteger OMP_guidedCursor = OMP_workShareSlot.cursor;
+                        while ((OMP_iterator = PjRuntime.getGuidedChunkStart(OMP_guidedCursor, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk)) <= OMP_end) {
+                            OMP_chunkSize = PjRuntime.getGuidedChunkSize(OMP_iterator, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    int work = irregularWork(i, n);
+                                    double sum = 0;
+                                    for (int j = 0; j < work; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#21) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_irregular_auto(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#22) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_22 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_22 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_22);
+        int _threadNum__OMP_ParallelRegion_22 = icv__OMP_ParallelRegion_22.nthreads_var.get(icv__OMP_ParallelRegion_22.levels_var);
+        _OMP_ParallelRegion_22 _OMP_ParallelRegion_22_in = new _OMP_ParallelRegion_22(_threadNum__OMP_ParallelRegion_22,icv__OMP_ParallelRegion_22);
+        _OMP_ParallelRegion_22_in.array = array;
+        _OMP_ParallelRegion_22_in.n = n;
+        _OMP_ParallelRegion_22_in.runParallelCode();
+        array = _OMP_ParallelRegion_22_in.array;
+        n = _OMP_ParallelRegion_22_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_22);
+        RuntimeException OMP_ee_22 = (RuntimeException) _OMP_ParallelRegion_22_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_22 != null) {throw OMP_ee_22;}
+        /*OpenMP Parallel region (#22) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_22{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_22(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#23) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_scheduleThreads = Pyjama.omp_get_num_threads();
+                        final int OMP_scheduleThreadID = Pyjama.omp_get_thread_num();
+                        final AtomicInteger OMP_scheduleCursor = OMP_workShareSlot.cursor;
+                        final AdaptiveSchedule.Plan OMP_schedulePlan = PjRuntime.beginAutoSchedule(OMP_workShareSlot, "PyjamaCode.TestingClauses.Schedule.schedule_RT#23", OMP_end, OMP_scheduleThreads);
+                        final int OMP_scheduleKind = OMP_schedulePlan.kind;
+                        final int OMP_scheduleChunk = OMP_schedulePlan.chunk;
+                        final long OMP_scheduleBusyStart = System.nanoTime();
+                        for (OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, -1, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID); OMP_iterator <= OMP_end; OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, OMP_iterator, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID)) {
+                            OMP_chunkSize = PjRuntime.getRunScheduleChunkSize(OMP_scheduleKind, OMP_scheduleChunk, OMP_iterator, OMP_end, OMP_scheduleThreads);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    int work = irregularWork(i, n);
+                                    double sum = 0;
+                                    for (int j = 0; j < work; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                        OMP_schedulePlan.report(System.nanoTime() - OMP_scheduleBusyStart);
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#23) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_irregular_steal(int threadNumber, int n) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        double[] array = new double[n];
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#24) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_24 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_24 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_24);
+        int _threadNum__OMP_ParallelRegion_24 = icv__OMP_ParallelRegion_24.nthreads_var.get(icv__OMP_ParallelRegion_24.levels_var);
+        _OMP_ParallelRegion_24 _OMP_ParallelRegion_24_in = new _OMP_ParallelRegion_24(_threadNum__OMP_ParallelRegion_24,icv__OMP_ParallelRegion_24);
+        _OMP_ParallelRegion_24_in.array = array;
+        _OMP_ParallelRegion_24_in.n = n;
+        _OMP_ParallelRegion_24_in.runParallelCode();
+        array = _OMP_ParallelRegion_24_in.array;
+        n = _OMP_ParallelRegion_24_in.n;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_24);
+        RuntimeException OMP_ee_24 = (RuntimeException) _OMP_ParallelRegion_24_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_24 != null) {throw OMP_ee_24;}
+        /*OpenMP Parallel region (#24) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_24{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_24(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#25) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_stealChunk = 0;
+                        final int OMP_stealThreadID = Pyjama.omp_get_thread_num();
+                        final StealingLoopRanges OMP_stealRanges = PjRuntime.beginStealSchedule(OMP_workShareSlot, OMP_end, Pyjama.omp_get_num_threads());
+                        while ((OMP_iterator = OMP_stealRanges.next(OMP_stealThreadID, OMP_stealChunk)) <= OMP_end) {
+                            OMP_chunkSize = OMP_stealRanges.chunkSize(OMP_stealThreadID);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    int work = irregularWork(i, n);
+                                    double sum = 0;
+                                    for (int j = 0; j < work; j++) {
+                                        sum += Math.sqrt(j);
+                                    }
+                                    array[i] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#25) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    private static int irregularWork(int i, int n) {{
+        int h = i * 0x9E3779B9;
+        h ^= (h >>> 16);
+        return ((h & 31) == 0) ? n * 4 : n / 8;
+    }
+    }
 
 }
@@ -0,0 +1,338 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingClauses.Schedule;
+
+import pj.Pyjama;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class schedule_positive_test4 {
+
+    public int[] parallel_for_schedule_runtime(int threadNumber, int arraySize, int scheduleKind, int chunkSize) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        Pyjama.omp_set_schedule(scheduleKind, chunkSize);
+        int[] array = new int[arraySize];
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.arraySize = arraySize;
+        _OMP_ParallelRegion_0_in.array = array;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        arraySize = _OMP_ParallelRegion_0_in.arraySize;
+        array = _OMP_ParallelRegion_0_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public int arraySize;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((arraySize)-(0))/(1);
+                        if (((arraySize)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_scheduleThreads = Pyjama.omp_get_num_threads();
+                        final int OMP_scheduleThreadID = Pyjama.omp_get_thread_num();
+                        final AtomicInteger OMP_scheduleCursor = OMP_workShareSlot.cursor;
+                        final AdaptiveSchedule.Plan OMP_schedulePlan = PjRuntime.beginRunSchedule(OMP_workShareSlot, "PyjamaCode.TestingClauses.Schedule.schedule_positive_test4#1", OMP_end, OMP_scheduleThreads);
+                        final int OMP_scheduleKind = OMP_schedulePlan.kind;
+                        final int OMP_scheduleChunk = OMP_schedulePlan.chunk;
+                        final long OMP_scheduleBusyStart = System.nanoTime();
+                        for (OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, -1, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID); OMP_iterator <= OMP_end; OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, OMP_iterator, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID)) {
+                            OMP_chunkSize = PjRuntime.getRunScheduleChunkSize(OMP_scheduleKind, OMP_scheduleChunk, OMP_iterator, OMP_end, OMP_scheduleThreads);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    array[i] += 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                        OMP_schedulePlan.report(System.nanoTime() - OMP_scheduleBusyStart);
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[] parallel_for_schedule_auto(int threadNumber, int arraySize) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int[] array = new int[arraySize];
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.arraySize = arraySize;
+        _OMP_ParallelRegion_2_in.array = array;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        arraySize = _OMP_ParallelRegion_2_in.arraySize;
+        array = _OMP_ParallelRegion_2_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public int arraySize;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((arraySize)-(0))/(1);
+                        if (((arraySize)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        int OMP_chunkSize = 0;
+                        final int OMP_scheduleThreads = Pyjama.omp_get_num_threads();
+                        final int OMP_scheduleThreadID = Pyjama.omp_get_thread_num();
+                        final AtomicInteger OMP_scheduleCursor = OMP_workShareSlot.cursor;
+                        final AdaptiveSchedule.Plan OMP_schedulePlan = PjRuntime.beginAutoSchedule(OMP_workShareSlot, "PyjamaCode.TestingClauses.Schedule.schedule_positive_test4#3", OMP_end, OMP_scheduleThreads);
+                        final int OMP_scheduleKind = OMP_schedulePlan.kind;
+                        final int OMP_scheduleChunk = OMP_schedulePlan.chunk;
+                        final long OMP_scheduleBusyStart = System.nanoTime();
+                        for (OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, -1, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID); OMP_iterator <= OMP_end; OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, OMP_iterator, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID)) {
+                            OMP_chunkSize = PjRuntime.getRunScheduleChunkSize(OMP_scheduleKind, OMP_scheduleChunk, OMP_iterator, OMP_end, OMP_scheduleThreads);
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    array[i] += 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                        OMP_schedulePlan.report(System.nanoTime() - OMP_scheduleBusyStart);
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
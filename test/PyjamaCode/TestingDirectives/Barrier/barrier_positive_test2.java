@@ -0,0 +1,373 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingDirectives.Barrier;
+
+import pj.Pyjama;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class barrier_positive_test2 {
+
+    /**
+	 * Back-to-back worksharing loops whose implicit barriers are eliminated.
+	 * result[i] = (n-1-i) + 2, followed by the reduction of all (n-1-i) + 1 and the lastprivate value.
+	 * */
+    public int[] parallel_barrier_elimination(int threadNumber) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        int n = 1000;
+        int[] a = new int[n];
+        int[] b = new int[n];
+        int[] result = new int[n + 2];
+        int sum = 0;
+        int last = -1;
+        int offset = 1;
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 9 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.n = n;
+        _OMP_ParallelRegion_0_in.result = result;
+        _OMP_ParallelRegion_0_in.last = last;
+        _OMP_ParallelRegion_0_in.a = a;
+        _OMP_ParallelRegion_0_in.b = b;
+        _OMP_ParallelRegion_0_in.offset = offset;
+        _OMP_ParallelRegion_0_in.sum = sum;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        n = _OMP_ParallelRegion_0_in.n;
+        result = _OMP_ParallelRegion_0_in.result;
+        last = _OMP_ParallelRegion_0_in.last;
+        a = _OMP_ParallelRegion_0_in.a;
+        b = _OMP_ParallelRegion_0_in.b;
+        offset = _OMP_ParallelRegion_0_in.offset;
+        sum = _OMP_ParallelRegion_0_in.sum;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        result[n] = sum;
+        result[n + 1] = last;
+        return result;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] result;
+        public int[] a;
+        public int[] b;
+        public int last;
+        public int offset;
+        public int sum;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        /*OpenMP Work Share region (#1) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_1offset = offset;
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 3;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    a[i] = i + OMP_WoRkShArInG_PRIVATE_1offset;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    PjRuntime.setBarrier();
+                }
+
+                        /*OpenMP Work Share region (#1) -- END */
+
+                        /*OpenMP Work Share region (#2) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_2last = 0;
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    b[i] = a[n - 1 - i];
+                                    OMP_WoRkShArInG_PRIVATE_2last = i;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                last = OMP_WoRkShArInG_PRIVATE_2last;
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                        /*OpenMP Work Share region (#2) -- END */
+
+                        PjRuntime.setBarrier();
+
+                        /*OpenMP Work Share region (#3) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_3sum = 0;
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        final int OMP_chunkSize = 5;
+                        for (OMP_iterator=__omp_loop_thread_num*OMP_chunkSize; OMP_iterator<=OMP_end && OMP_chunkSize>0; OMP_iterator=OMP_iterator+__omp_loop_num_threads*OMP_chunkSize) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_3sum += b[i];
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_3sum, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            sum += (int) OMP_reductionSlot.getLong(0);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                        /*OpenMP Work Share region (#3) -- END */
+
+                        /*OpenMP Work Share region (#4) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 2;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (1);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    result[i] = b[i] + 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                        /*OpenMP Work Share region (#4) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
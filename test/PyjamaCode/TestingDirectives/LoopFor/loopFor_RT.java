@@ -1,4 +1,4 @@
-//Pyjama compiler version:v1.5.3
+//Pyjama compiler version:v2.2.0
 package PyjamaCode.TestingDirectives.LoopFor;
 
 import pj.Pyjama;
@@ -12,9 +12,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
-import javax.swing.SwingUtilities;
 import java.lang.reflect.InvocationTargetException;
-import pj.pr.exceptions.OmpParallelRegionLocalCancellationException;
+import pj.pr.exceptions.*;
 
 public class loopFor_RT {
 
@@ -24,17 +23,16 @@ public class loopFor_RT {
         int[] array = new int[n];
         RT[0] = System.currentTimeMillis();
         /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 3 barrier(s) removed
         InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
         InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
         int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
-        ConcurrentHashMap<String, Object> inputlist__OMP_ParallelRegion_0 = new ConcurrentHashMap<String,Object>();
-        ConcurrentHashMap<String, Object> outputlist__OMP_ParallelRegion_0 = new ConcurrentHashMap<String,Object>();
-        inputlist__OMP_ParallelRegion_0.put("array",array);
-        inputlist__OMP_ParallelRegion_0.put("n",n);
-        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0,inputlist__OMP_ParallelRegion_0,outputlist__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.array = array;
+        _OMP_ParallelRegion_0_in.n = n;
         _OMP_ParallelRegion_0_in.runParallelCode();
-        array = (int[])outputlist__OMP_ParallelRegion_0.get("array");
-        n = (Integer)outputlist__OMP_ParallelRegion_0.get("n");
+        array = _OMP_ParallelRegion_0_in.array;
+        n = _OMP_ParallelRegion_0_in.n;
         PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
         RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
         if (OMP_ee_0 != null) {throw OMP_ee_0;}
@@ -44,134 +42,475 @@ public class loopFor_RT {
         return RT;
     }
     }
-        class _OMP_ParallelRegion_0{
-                private int OMP_threadNumber = 1;
-                private InternalControlVariables icv;
-                private ConcurrentHashMap<String, Object> OMP_inputList = new ConcurrentHashMap<String, Object>();
-                private ConcurrentHashMap<String, Object> OMP_outputList = new ConcurrentHashMap<String, Object>();
-                private ReentrantLock OMP_lock;
-                private ParIterator<?> OMP__ParIteratorCreator;
-                public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
-
-                //#BEGIN shared variables defined here
-                int[] array = null;
-                int n = 0;
-                //#END shared variables defined here
-                public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv, ConcurrentHashMap<String, Object> inputlist, ConcurrentHashMap<String, Object> outputlist) {
-                    this.icv = icv;
-                    if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
-                        this.OMP_threadNumber = 1;
-                    }else {
-                        this.OMP_threadNumber = thread_num;
-                    }
-                    this.OMP_inputList = inputlist;
-                    this.OMP_outputList = outputlist;
-                    icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
-                    icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
-                    //#BEGIN shared variables initialised here
-                    array = (int[])OMP_inputList.get("array");
-                    n = (Integer)OMP_inputList.get("n");
-                    //#END shared variables initialised here
-                }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
 
-                private void updateOutputListForSharedVars() {
-                    //BEGIN update outputlist
-                    OMP_outputList.put("array",array);
-                    OMP_outputList.put("n",n);
-                    //END update outputlist
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (1)) {
+                                {
+                                    array[i] = i;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
                 }
-                class MyCallable implements Callable<ConcurrentHashMap<String,Object>> {
-                    private int alias_id;
-                    private ConcurrentHashMap<String, Object> OMP_inputList;
-                    private ConcurrentHashMap<String, Object> OMP_outputList;
-                    //#BEGIN private/firstprivate reduction variables defined here
-                    //#END private/firstprivate reduction variables  defined here
-                    MyCallable(int id, ConcurrentHashMap<String,Object> inputlist, ConcurrentHashMap<String,Object> outputlist){
-                        this.alias_id = id;
-                        this.OMP_inputList = inputlist;
-                        this.OMP_outputList = outputlist;
-                        //#BEGIN firstprivate reduction variables initialised here
-                        //#END firstprivate reduction variables initialised here
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
                     }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
 
-                    @Override
-                    public ConcurrentHashMap<String,Object> call() {
-                        try {
-                            /****User Code BEGIN***/
-                            /*OpenMP Work Share region (#0) -- START */
+
+    public long[] parallel_for_lastprivate(int threadNumber, int n, int repeat) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        int[] array = new int[n];
+        int last = 0;
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.repeat = repeat;
+        _OMP_ParallelRegion_2_in.n = n;
+        _OMP_ParallelRegion_2_in.array = array;
+        _OMP_ParallelRegion_2_in.last = last;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        repeat = _OMP_ParallelRegion_2_in.repeat;
+        n = _OMP_ParallelRegion_2_in.n;
+        array = _OMP_ParallelRegion_2_in.array;
+        last = _OMP_ParallelRegion_2_in.last;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int last;
+        public int[] array;
+        public int repeat;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        for (int r = 0; r < repeat; r++) {
+                            /*OpenMP Work Share region (#3) -- START */
                             
                 {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
-                    //#set implicit barrier here, otherwise unexpected initial value happens
-                    PjRuntime.setBarrier();
+                    int OMP_WoRkShArInG_PRIVATE_3last = 0;
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
                     //#END firstprivate lastprivate reduction variables defined and initialized here
                     try{
                         int i=0;
                         int OMP_iterator = 0;
-                        int OMP_end = (int)((n)-(0))/(1);
-                        if (((n)-(0))%(1) == 0) {
+                        int OMP_end = (int)((2 * n)-(0))/(2);
+                        if (((2 * n)-(0))%(2) == 0) {
                             OMP_end = OMP_end - 1;
                         }
-                        int OMP_local_iterator = 0;
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
                         int OMP_Chunk_Starting_point = 0;
-                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/Pyjama.omp_get_num_threads();
-                        if (Pyjama.omp_get_thread_num() < (OMP_end+1) % Pyjama.omp_get_num_threads()) {
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
                             ++OMP_Default_chunkSize_autoGenerated;
-                            OMP_Chunk_Starting_point = Pyjama.omp_get_thread_num() * OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
                         } else {
-                            OMP_Chunk_Starting_point = Pyjama.omp_get_thread_num() * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % Pyjama.omp_get_num_threads();
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
                         }
-                        for (OMP_local_iterator=OMP_Chunk_Starting_point; OMP_local_iterator<OMP_Chunk_Starting_point+OMP_Default_chunkSize_autoGenerated && OMP_Default_chunkSize_autoGenerated>0; ++OMP_local_iterator) {
-                            i = 0 + OMP_local_iterator * (1);
-                            {
-                                array[i] = i;
-                            }if (OMP_end == OMP_local_iterator) {
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            i = 0 + OMP_Chunk_Starting_point * (2);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (2)) {
+                                {
+                                    array[i >> 1] += i;
+                                    OMP_WoRkShArInG_PRIVATE_3last = i;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
                                 //BEGIN lastprivate variables value set
+                                last = OMP_WoRkShArInG_PRIVATE_3last;
                                 //END lastprivate variables value set
                             }
                         }
-                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException wse){
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
                     } catch (Exception e){throw e;}
                     //BEGIN  reduction
-                    PjRuntime.reductionLockForWorksharing.lock();
-                    PjRuntime.reductionLockForWorksharing.unlock();//END reduction
+                    //END reduction
                     PjRuntime.setBarrier();
                 }
 
-                            PjRuntime.setBarrier();
-                            PjRuntime.reset_OMP_orderCursor();
-                            /*OpenMP Work Share region (#0) -- END */
-
-                            /****User Code END***/
-                            //BEGIN reduction procedure
-                            //END reduction procedure
-                            PjRuntime.setBarrier();
-                        } catch (OmpParallelRegionLocalCancellationException e) {
-                         	PjRuntime.decreaseBarrierCount();
-                        } catch (Exception e) {
-                            PjRuntime.decreaseBarrierCount();
-                        	PjExecutor.cancelCurrentThreadGroup();
-                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                            /*OpenMP Work Share region (#3) -- END */
+
+                        }
                     }
-                    if (0 == this.alias_id) {
-                        updateOutputListForSharedVars();
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
                     }
-                    return null;
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
                 }
-            }
-            public void runParallelCode() {
-                for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
-                    Callable<ConcurrentHashMap<String,Object>> slaveThread = new MyCallable(i, OMP_inputList, OMP_outputList);
-                    PjRuntime.submit(i, slaveThread, icv);
+                if (0 == this.alias_id) {
                 }
-                Callable<ConcurrentHashMap<String,Object>> masterThread = new MyCallable(0, OMP_inputList, OMP_outputList);
-                PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public long[] parallel_for_lastprivate_dynamic(int threadNumber, int n, int repeat) {{
+        Pyjama.omp_set_num_threads(threadNumber);
+        long[] RT = new long[2];
+        int[] array = new int[n];
+        int last = 0;
+        RT[0] = System.currentTimeMillis();
+        /*OpenMP Parallel region (#4) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+        int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+        _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+        _OMP_ParallelRegion_4_in.last = last;
+        _OMP_ParallelRegion_4_in.array = array;
+        _OMP_ParallelRegion_4_in.n = n;
+        _OMP_ParallelRegion_4_in.repeat = repeat;
+        _OMP_ParallelRegion_4_in.runParallelCode();
+        last = _OMP_ParallelRegion_4_in.last;
+        array = _OMP_ParallelRegion_4_in.array;
+        n = _OMP_ParallelRegion_4_in.n;
+        repeat = _OMP_ParallelRegion_4_in.repeat;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+        RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_4 != null) {throw OMP_ee_4;}
+        /*OpenMP Parallel region (#4) -- END */
+
+        RT[1] = System.currentTimeMillis();
+        return RT;
+    }
+    }
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int last;
+        public int[] array;
+        public int repeat;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
                 try {
-                    masterThread.call();
+                    /****User Code BEGIN***/
+                    {
+                        for (int r = 0; r < repeat; r++) {
+                            /*OpenMP Work Share region (#5) -- START */
+                            
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_5last = 0;
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((2 * n)-(0))/(2);
+                        if (((2 * n)-(0))%(2) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 256;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            i = 0 + OMP_iterator * (2);
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, i += (2)) {
+                                {
+                                    array[i >> 1] += i;
+                                    OMP_WoRkShArInG_PRIVATE_5last = i;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                last = OMP_WoRkShArInG_PRIVATE_5last;
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    PjRuntime.setBarrier();
+                }
+
+                            /*OpenMP Work Share region (#5) -- END */
+
+                        }
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
                 } catch (Exception e) {
-                    e.printStackTrace();
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
                 }
+                if (0 == this.alias_id) {
+                }
+                return null;
             }
         }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
 
 
 
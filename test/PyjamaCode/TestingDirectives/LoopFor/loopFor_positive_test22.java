@@ -0,0 +1,1464 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingDirectives.LoopFor;
+
+import pj.Pyjama;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class loopFor_positive_test22 {
+
+    /**
+	 * loopFor with collapse(2), every cell of the nest records its linear iteration number
+	 * */
+    public int[][] parallel_loopFor_collapse2(int threadCount, int rows, int cols) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[][] array = new int[rows][cols];
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.rows = rows;
+        _OMP_ParallelRegion_0_in.cols = cols;
+        _OMP_ParallelRegion_0_in.array = array;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        rows = _OMP_ParallelRegion_0_in.rows;
+        cols = _OMP_ParallelRegion_0_in.cols;
+        array = _OMP_ParallelRegion_0_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[][] array;
+        public int rows;
+        public int cols;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_collapseTrip_0 = (int)((rows)-(0))/(1);
+                        if (((rows)-(0))%(1) == 0) {
+                            OMP_collapseTrip_0 = OMP_collapseTrip_0 - 1;
+                        }
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int j=0;
+                        int OMP_collapseTrip_1 = (int)((cols)-(0))/(1);
+                        if (((cols)-(0))%(1) == 0) {
+                            OMP_collapseTrip_1 = OMP_collapseTrip_1 - 1;
+                        }
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 - 1;
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        long OMP_Chunk_Starting_point = 0;
+                        long OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final long OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            for (long OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_Chunk_Starting_point) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                    OMP_collapseIndex_1 = 0;
+                                    ++OMP_collapseIndex_0;
+                                }
+                                i = 0 + OMP_collapseIndex_0 * (1);
+                                j = 0 + OMP_collapseIndex_1 * (1);
+                                {
+                                    array[i][j] += i * cols + j + 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[][] parallel_loopFor_collapse2_static(int threadCount, int rows, int cols) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[][] array = new int[rows][cols];
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.rows = rows;
+        _OMP_ParallelRegion_2_in.array = array;
+        _OMP_ParallelRegion_2_in.cols = cols;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        rows = _OMP_ParallelRegion_2_in.rows;
+        array = _OMP_ParallelRegion_2_in.array;
+        cols = _OMP_ParallelRegion_2_in.cols;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[][] array;
+        public int rows;
+        public int cols;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_collapseTrip_0 = (int)((rows)-(0))/(1);
+                        if (((rows)-(0))%(1) == 0) {
+                            OMP_collapseTrip_0 = OMP_collapseTrip_0 - 1;
+                        }
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int j=0;
+                        int OMP_collapseTrip_1 = (int)((cols)-(0))/(1);
+                        if (((cols)-(0))%(1) == 0) {
+                            OMP_collapseTrip_1 = OMP_collapseTrip_1 - 1;
+                        }
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 - 1;
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        final long OMP_chunkSize = 3;
+                        for (OMP_iterator=(long)__omp_loop_thread_num*OMP_chunkSize; OMP_iterator<=OMP_end && OMP_chunkSize>0; OMP_iterator=OMP_iterator+(long)__omp_loop_num_threads*OMP_chunkSize) {
+                            final long OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            for (long OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_iterator) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                    OMP_collapseIndex_1 = 0;
+                                    ++OMP_collapseIndex_0;
+                                }
+                                i = 0 + OMP_collapseIndex_0 * (1);
+                                j = 0 + OMP_collapseIndex_1 * (1);
+                                {
+                                    array[i][j] += i * cols + j + 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[][] parallel_loopFor_collapse2_dynamic(int threadCount, int rows, int cols) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[][] array = new int[rows][cols];
+        /*OpenMP Parallel region (#4) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+        int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+        _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+        _OMP_ParallelRegion_4_in.array = array;
+        _OMP_ParallelRegion_4_in.rows = rows;
+        _OMP_ParallelRegion_4_in.cols = cols;
+        _OMP_ParallelRegion_4_in.runParallelCode();
+        array = _OMP_ParallelRegion_4_in.array;
+        rows = _OMP_ParallelRegion_4_in.rows;
+        cols = _OMP_ParallelRegion_4_in.cols;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+        RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_4 != null) {throw OMP_ee_4;}
+        /*OpenMP Parallel region (#4) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[][] array;
+        public int rows;
+        public int cols;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#5) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_collapseTrip_0 = (int)((rows)-(0))/(1);
+                        if (((rows)-(0))%(1) == 0) {
+                            OMP_collapseTrip_0 = OMP_collapseTrip_0 - 1;
+                        }
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int j=0;
+                        int OMP_collapseTrip_1 = (int)((cols)-(0))/(1);
+                        if (((cols)-(0))%(1) == 0) {
+                            OMP_collapseTrip_1 = OMP_collapseTrip_1 - 1;
+                        }
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 - 1;
+                        final java.util.concurrent.atomic.AtomicLong OMP_dynamicCursor = OMP_workShareSlot.cursorLong;
+                        final long OMP_chunkSize = 4;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final long OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            for (long OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_iterator) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                    OMP_collapseIndex_1 = 0;
+                                    ++OMP_collapseIndex_0;
+                                }
+                                i = 0 + OMP_collapseIndex_0 * (1);
+                                j = 0 + OMP_collapseIndex_1 * (1);
+                                array[i][j] += i * cols + j + 1;
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#5) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[][] parallel_loopFor_collapse2_guided(int threadCount, int rows, int cols) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[][] array = new int[rows][cols];
+        /*OpenMP Parallel region (#6) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_6 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_6 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_6);
+        int _threadNum__OMP_ParallelRegion_6 = icv__OMP_ParallelRegion_6.nthreads_var.get(icv__OMP_ParallelRegion_6.levels_var);
+        _OMP_ParallelRegion_6 _OMP_ParallelRegion_6_in = new _OMP_ParallelRegion_6(_threadNum__OMP_ParallelRegion_6,icv__OMP_ParallelRegion_6);
+        _OMP_ParallelRegion_6_in.array = array;
+        _OMP_ParallelRegion_6_in.cols = cols;
+        _OMP_ParallelRegion_6_in.rows = rows;
+        _OMP_ParallelRegion_6_in.runParallelCode();
+        array = _OMP_ParallelRegion_6_in.array;
+        cols = _OMP_ParallelRegion_6_in.cols;
+        rows = _OMP_ParallelRegion_6_in.rows;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_6);
+        RuntimeException OMP_ee_6 = (RuntimeException) _OMP_ParallelRegion_6_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_6 != null) {throw OMP_ee_6;}
+        /*OpenMP Parallel region (#6) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_6{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[][] array;
+        public int rows;
+        public int cols;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_6(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#7) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_collapseTrip_0 = (int)((rows)-(0))/(1);
+                        if (((rows)-(0))%(1) == 0) {
+                            OMP_collapseTrip_0 = OMP_collapseTrip_0 - 1;
+                        }
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int j=0;
+                        int OMP_collapseTrip_1 = (int)((cols)-(0))/(1);
+                        if (((cols)-(0))%(1) == 0) {
+                            OMP_collapseTrip_1 = OMP_collapseTrip_1 - 1;
+                        }
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 - 1;
+                        long OMP_chunkSize = 0;
+                        final long OMP_guidedMinChunk = 1;
+                        final int OMP_guidedThreads = Pyjama.omp_get_num_threads();
+                        final java.util.concurrent.atomic.AtomicLong OMP_guidedCursor = OMP_workShareSlot.cursorLong;
+                        while ((OMP_iterator = PjRuntime.getGuidedChunkStart(OMP_guidedCursor, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk)) <= OMP_end) {
+                            OMP_chunkSize = PjRuntime.getGuidedChunkSize(OMP_iterator, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk);
+                            final long OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            for (long OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_iterator) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                    OMP_collapseIndex_1 = 0;
+                                    ++OMP_collapseIndex_0;
+                                }
+                                i = 0 + OMP_collapseIndex_0 * (1);
+                                j = 0 + OMP_collapseIndex_1 * (1);
+                                {
+                                    array[i][j] += i * cols + j + 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#7) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[][] parallel_loopFor_collapse2_steal(int threadCount, int rows, int cols) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[][] array = new int[rows][cols];
+        /*OpenMP Parallel region (#8) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_8 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_8 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_8);
+        int _threadNum__OMP_ParallelRegion_8 = icv__OMP_ParallelRegion_8.nthreads_var.get(icv__OMP_ParallelRegion_8.levels_var);
+        _OMP_ParallelRegion_8 _OMP_ParallelRegion_8_in = new _OMP_ParallelRegion_8(_threadNum__OMP_ParallelRegion_8,icv__OMP_ParallelRegion_8);
+        _OMP_ParallelRegion_8_in.cols = cols;
+        _OMP_ParallelRegion_8_in.array = array;
+        _OMP_ParallelRegion_8_in.rows = rows;
+        _OMP_ParallelRegion_8_in.runParallelCode();
+        cols = _OMP_ParallelRegion_8_in.cols;
+        array = _OMP_ParallelRegion_8_in.array;
+        rows = _OMP_ParallelRegion_8_in.rows;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_8);
+        RuntimeException OMP_ee_8 = (RuntimeException) _OMP_ParallelRegion_8_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_8 != null) {throw OMP_ee_8;}
+        /*OpenMP Parallel region (#8) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_8{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[][] array;
+        public int rows;
+        public int cols;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_8(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#9) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_collapseTrip_0 = (int)((rows)-(0))/(1);
+                        if (((rows)-(0))%(1) == 0) {
+                            OMP_collapseTrip_0 = OMP_collapseTrip_0 - 1;
+                        }
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int j=0;
+                        int OMP_collapseTrip_1 = (int)((cols)-(0))/(1);
+                        if (((cols)-(0))%(1) == 0) {
+                            OMP_collapseTrip_1 = OMP_collapseTrip_1 - 1;
+                        }
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 - 1;
+                        long OMP_chunkSize = 0;
+                        final long OMP_stealChunk = 0;
+                        final int OMP_stealThreadID = Pyjama.omp_get_thread_num();
+                        final StealingLoopRanges OMP_stealRanges = PjRuntime.beginStealSchedule(OMP_workShareSlot, OMP_end, Pyjama.omp_get_num_threads());
+                        while ((OMP_iterator = OMP_stealRanges.nextLong(OMP_stealThreadID, OMP_stealChunk)) <= OMP_end) {
+                            OMP_chunkSize = OMP_stealRanges.chunkSizeLong(OMP_stealThreadID);
+                            final long OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            for (long OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_iterator) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                    OMP_collapseIndex_1 = 0;
+                                    ++OMP_collapseIndex_0;
+                                }
+                                i = 0 + OMP_collapseIndex_0 * (1);
+                                j = 0 + OMP_collapseIndex_1 * (1);
+                                {
+                                    array[i][j] += i * cols + j + 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#9) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    public int[][] parallel_loopFor_collapse2_runtime(int threadCount, int rows, int cols) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[][] array = new int[rows][cols];
+        /*OpenMP Parallel region (#10) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_10 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_10 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_10);
+        int _threadNum__OMP_ParallelRegion_10 = icv__OMP_ParallelRegion_10.nthreads_var.get(icv__OMP_ParallelRegion_10.levels_var);
+        _OMP_ParallelRegion_10 _OMP_ParallelRegion_10_in = new _OMP_ParallelRegion_10(_threadNum__OMP_ParallelRegion_10,icv__OMP_ParallelRegion_10);
+        _OMP_ParallelRegion_10_in.cols = cols;
+        _OMP_ParallelRegion_10_in.rows = rows;
+        _OMP_ParallelRegion_10_in.array = array;
+        _OMP_ParallelRegion_10_in.runParallelCode();
+        cols = _OMP_ParallelRegion_10_in.cols;
+        rows = _OMP_ParallelRegion_10_in.rows;
+        array = _OMP_ParallelRegion_10_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_10);
+        RuntimeException OMP_ee_10 = (RuntimeException) _OMP_ParallelRegion_10_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_10 != null) {throw OMP_ee_10;}
+        /*OpenMP Parallel region (#10) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_10{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[][] array;
+        public int rows;
+        public int cols;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_10(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#11) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_collapseTrip_0 = (int)((rows)-(0))/(1);
+                        if (((rows)-(0))%(1) == 0) {
+                            OMP_collapseTrip_0 = OMP_collapseTrip_0 - 1;
+                        }
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int j=0;
+                        int OMP_collapseTrip_1 = (int)((cols)-(0))/(1);
+                        if (((cols)-(0))%(1) == 0) {
+                            OMP_collapseTrip_1 = OMP_collapseTrip_1 - 1;
+                        }
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 - 1;
+                        long OMP_chunkSize = 0;
+                        final int OMP_scheduleThreads = Pyjama.omp_get_num_threads();
+                        final int OMP_scheduleThreadID = Pyjama.omp_get_thread_num();
+                        final java.util.concurrent.atomic.AtomicLong OMP_scheduleCursor = OMP_workShareSlot.cursorLong;
+                        final AdaptiveSchedule.Plan OMP_schedulePlan = PjRuntime.beginRunSchedule(OMP_workShareSlot, "PyjamaCode.TestingDirectives.LoopFor.loopFor_positive_test22#11", OMP_end, OMP_scheduleThreads);
+                        final int OMP_scheduleKind = OMP_schedulePlan.kind;
+                        final int OMP_scheduleChunk = OMP_schedulePlan.chunk;
+                        final long OMP_scheduleBusyStart = System.nanoTime();
+                        for (OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, -1, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID); OMP_iterator <= OMP_end; OMP_iterator = PjRuntime.getRunScheduleChunkStart(OMP_scheduleKind, OMP_scheduleChunk, OMP_scheduleCursor, OMP_iterator, OMP_end, OMP_scheduleThreads, OMP_scheduleThreadID)) {
+                            OMP_chunkSize = PjRuntime.getRunScheduleChunkSize(OMP_scheduleKind, OMP_scheduleChunk, OMP_iterator, OMP_end, OMP_scheduleThreads);
+                            final long OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            for (long OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_iterator) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                    OMP_collapseIndex_1 = 0;
+                                    ++OMP_collapseIndex_0;
+                                }
+                                i = 0 + OMP_collapseIndex_0 * (1);
+                                j = 0 + OMP_collapseIndex_1 * (1);
+                                {
+                                    array[i][j] += i * cols + j + 1;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                        OMP_schedulePlan.report(System.nanoTime() - OMP_scheduleBusyStart);
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#11) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    /**
+	 * collapse(3) with a descending loop and a non-unit stride,
+	 * array[i][j][k] holds how often the iteration (i, j, k) ran
+	 * */
+    public int[][][] parallel_loopFor_collapse3(int threadCount, int n1, int n2, int n3) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[][][] array = new int[n1][n2][n3];
+        /*OpenMP Parallel region (#12) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_12 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_12 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_12);
+        int _threadNum__OMP_ParallelRegion_12 = icv__OMP_ParallelRegion_12.nthreads_var.get(icv__OMP_ParallelRegion_12.levels_var);
+        _OMP_ParallelRegion_12 _OMP_ParallelRegion_12_in = new _OMP_ParallelRegion_12(_threadNum__OMP_ParallelRegion_12,icv__OMP_ParallelRegion_12);
+        _OMP_ParallelRegion_12_in.array = array;
+        _OMP_ParallelRegion_12_in.n2 = n2;
+        _OMP_ParallelRegion_12_in.n1 = n1;
+        _OMP_ParallelRegion_12_in.n3 = n3;
+        _OMP_ParallelRegion_12_in.runParallelCode();
+        array = _OMP_ParallelRegion_12_in.array;
+        n2 = _OMP_ParallelRegion_12_in.n2;
+        n1 = _OMP_ParallelRegion_12_in.n1;
+        n3 = _OMP_ParallelRegion_12_in.n3;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_12);
+        RuntimeException OMP_ee_12 = (RuntimeException) _OMP_ParallelRegion_12_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_12 != null) {throw OMP_ee_12;}
+        /*OpenMP Parallel region (#12) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_12{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int n1;
+        public int n2;
+        public int[][][] array;
+        public int n3;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_12(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#13) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_collapseTrip_0 = (int)((0)-(n1 - 1))/(-1);
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int j=0;
+                        int OMP_collapseTrip_1 = (int)((2 * n2)-(0))/(2);
+                        if (((2 * n2)-(0))%(2) == 0) {
+                            OMP_collapseTrip_1 = OMP_collapseTrip_1 - 1;
+                        }
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        int k=0;
+                        int OMP_collapseTrip_2 = (int)((n3)-(0))/(1);
+                        if (((n3)-(0))%(1) == 0) {
+                            OMP_collapseTrip_2 = OMP_collapseTrip_2 - 1;
+                        }
+                        OMP_collapseTrip_2 = Math.max(OMP_collapseTrip_2 + 1, 0);
+                        int OMP_collapseIndex_2 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 * OMP_collapseTrip_2 - 1;
+                        final java.util.concurrent.atomic.AtomicLong OMP_dynamicCursor = OMP_workShareSlot.cursorLong;
+                        final long OMP_chunkSize = 2;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final long OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            for (long OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_iterator) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_2 = (int)(OMP_collapseRest % OMP_collapseTrip_2);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_2;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_2 == OMP_collapseTrip_2) {
+                                    OMP_collapseIndex_2 = 0;
+                                    if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                        OMP_collapseIndex_1 = 0;
+                                        ++OMP_collapseIndex_0;
+                                    }
+                                }
+                                i = n1 - 1 + OMP_collapseIndex_0 * (-1);
+                                j = 0 + OMP_collapseIndex_1 * (2);
+                                k = 0 + OMP_collapseIndex_2 * (1);
+                                {
+                                    array[i][j / 2][k]++;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#13) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    /**
+	 * collapse(2) on a worksharing loop inside a parallel region, with reduction and lastprivate
+	 * */
+    public long[] parallel_loopFor_collapse2_reduction(int threadCount, int rows, int cols) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        long sum = 0;
+        long last = -1;
+        /*OpenMP Parallel region (#14) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_14 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_14 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_14);
+        int _threadNum__OMP_ParallelRegion_14 = icv__OMP_ParallelRegion_14.nthreads_var.get(icv__OMP_ParallelRegion_14.levels_var);
+        _OMP_ParallelRegion_14 _OMP_ParallelRegion_14_in = new _OMP_ParallelRegion_14(_threadNum__OMP_ParallelRegion_14,icv__OMP_ParallelRegion_14);
+        _OMP_ParallelRegion_14_in.rows = rows;
+        _OMP_ParallelRegion_14_in.last = last;
+        _OMP_ParallelRegion_14_in.cols = cols;
+        _OMP_ParallelRegion_14_in.sum = sum;
+        _OMP_ParallelRegion_14_in.runParallelCode();
+        rows = _OMP_ParallelRegion_14_in.rows;
+        last = _OMP_ParallelRegion_14_in.last;
+        cols = _OMP_ParallelRegion_14_in.cols;
+        sum = _OMP_ParallelRegion_14_in.sum;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_14);
+        RuntimeException OMP_ee_14 = (RuntimeException) _OMP_ParallelRegion_14_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_14 != null) {throw OMP_ee_14;}
+        /*OpenMP Parallel region (#14) -- END */
+
+        return new long[] { sum, last };
+    }
+    }
+class _OMP_ParallelRegion_14{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public long last;
+        public long sum;
+        public int rows;
+        public int cols;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_14(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        /*OpenMP Work Share region (#15) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    long OMP_WoRkShArInG_PRIVATE_15sum = 0L;
+                    long OMP_WoRkShArInG_PRIVATE_15last = 0L;
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_collapseTrip_0 = (int)((rows)-(1))/(1);
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int j=0;
+                        int OMP_collapseTrip_1 = (int)((cols)-(1))/(1);
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 - 1;
+                        long OMP_chunkSize = 0;
+                        final long OMP_guidedMinChunk = 2;
+                        final int OMP_guidedThreads = Pyjama.omp_get_num_threads();
+                        final java.util.concurrent.atomic.AtomicLong OMP_guidedCursor = OMP_workShareSlot.cursorLong;
+                        while ((OMP_iterator = PjRuntime.getGuidedChunkStart(OMP_guidedCursor, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk)) <= OMP_end) {
+                            OMP_chunkSize = PjRuntime.getGuidedChunkSize(OMP_iterator, OMP_end, OMP_guidedThreads, OMP_guidedMinChunk);
+                            final long OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            for (long OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_iterator) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                    OMP_collapseIndex_1 = 0;
+                                    ++OMP_collapseIndex_0;
+                                }
+                                i = 1 + OMP_collapseIndex_0 * (1);
+                                j = 1 + OMP_collapseIndex_1 * (1);
+                                {
+                                    OMP_WoRkShArInG_PRIVATE_15sum += i * j;
+                                    OMP_WoRkShArInG_PRIVATE_15last = i * 1000 + j;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                last = OMP_WoRkShArInG_PRIVATE_15last;
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_15sum, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            sum += OMP_reductionSlot.getLong(0);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                        /*OpenMP Work Share region (#15) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
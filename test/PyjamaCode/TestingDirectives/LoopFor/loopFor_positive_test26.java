@@ -0,0 +1,442 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingDirectives.LoopFor;
+
+import pj.Pyjama;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class loopFor_positive_test26 {
+
+    /**
+	 * Stream loop over a queue, the master thread puts the elements 0..count-1 while the other
+	 * threads already run the loop, then ends the stream. array[k] counts the runs of element k,
+	 * followed by the sum of the elements and the lastprivate element.
+	 * */
+    public int[] parallel_loopFor_stream_queue(int threadCount, int count, int batch) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[] array = new int[count + 2];
+        BlockingQueue<Integer> queue = new LinkedBlockingQueue<Integer>();
+        int sum = 0;
+        int last = -1;
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.array = array;
+        _OMP_ParallelRegion_0_in.queue = queue;
+        _OMP_ParallelRegion_0_in.batch = batch;
+        _OMP_ParallelRegion_0_in.last = last;
+        _OMP_ParallelRegion_0_in.sum = sum;
+        _OMP_ParallelRegion_0_in.count = count;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        array = _OMP_ParallelRegion_0_in.array;
+        queue = _OMP_ParallelRegion_0_in.queue;
+        batch = _OMP_ParallelRegion_0_in.batch;
+        last = _OMP_ParallelRegion_0_in.last;
+        sum = _OMP_ParallelRegion_0_in.sum;
+        count = _OMP_ParallelRegion_0_in.count;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        array[count] = sum;
+        array[count + 1] = last;
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int last;
+        public int[] array;
+        public int batch;
+        public int count;
+        public int sum;
+        public BlockingQueue<Integer> queue;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        if (0 == Pyjama.omp_get_thread_num()) {
+                            {
+                                for (int i = 0; i < count; i++) {
+                                    queue.add(i);
+                                }
+                                Pyjama.omp_end_stream(queue);
+                            }}
+
+                        /*OpenMP Work Share region (#1) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    int OMP_WoRkShArInG_PRIVATE_1sum = 0;
+                    int OMP_WoRkShArInG_PRIVATE_1last = 0;
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        final WorkShareStream OMP_stream = PjRuntime.beginStream(OMP_workShareSlot, queue);
+                        final int OMP_streamBatchSize = batch;
+                        final java.util.ArrayList<Object> OMP_elements = new java.util.ArrayList<Object>(Math.max(OMP_streamBatchSize, 1));
+                        long OMP_streamClaim = -1;
+                        long OMP_streamLastClaim = -1;
+                        Integer element = null;
+                        while ((OMP_streamClaim = OMP_stream.claim(OMP_elements, OMP_streamBatchSize)) >= 0) {
+                            OMP_streamLastClaim = OMP_streamClaim;
+                            for (int OMP_local_iterator = 0; OMP_local_iterator < OMP_elements.size(); OMP_local_iterator++) {
+                                element = (Integer) OMP_elements.get(OMP_local_iterator);
+                                {
+                                    array[element]++;
+                                    OMP_WoRkShArInG_PRIVATE_1sum += element;
+                                    OMP_WoRkShArInG_PRIVATE_1last = element;
+                                }
+                            }
+                        }
+                        if (OMP_stream.isLast(OMP_streamLastClaim)) {
+                            //BEGIN lastprivate variables value set
+                            last = OMP_WoRkShArInG_PRIVATE_1last;
+                            //END lastprivate variables value set
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1sum, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            sum += (int) OMP_reductionSlot.getLong(0);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                        /*OpenMP Work Share region (#1) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    /**
+	 * Stream loops over an iterator and over a queue ended before the loop, in for-each and
+	 * iterator style. array[k] counts the runs of element k, each of the 2 loops runs it once.
+	 * */
+    public int[] parallel_loopFor_stream_iterator(int threadCount, int count) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[] array = new int[count];
+        List<Integer> elements = new ArrayList<Integer>();
+        BlockingQueue<Integer> queue = new LinkedBlockingQueue<Integer>();
+        for (int i = 0; i < count; i++) {
+            elements.add(i);
+            queue.add(i);
+        }
+        Pyjama.omp_end_stream(queue);
+        Iterator<Integer> source = elements.iterator();
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 5 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.source = source;
+        _OMP_ParallelRegion_2_in.array = array;
+        _OMP_ParallelRegion_2_in.queue = queue;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        source = _OMP_ParallelRegion_2_in.source;
+        array = _OMP_ParallelRegion_2_in.array;
+        queue = _OMP_ParallelRegion_2_in.queue;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        return array;
+    }
+    }
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public Iterator<Integer> source;
+        public BlockingQueue<Integer> queue;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        /*OpenMP Work Share region (#3) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        final WorkShareStream OMP_stream = PjRuntime.beginStream(OMP_workShareSlot, source);
+                        final int OMP_streamBatchSize = 4;
+                        final java.util.ArrayList<Object> OMP_elements = new java.util.ArrayList<Object>(Math.max(OMP_streamBatchSize, 1));
+                        long OMP_streamClaim = -1;
+                        long OMP_streamLastClaim = -1;
+                        final ElementIterator<Integer> OMP_elementIterator = new ElementIterator<Integer>(OMP_elements);
+                        java.util.Iterator<Integer> iter = OMP_elementIterator;
+                        while ((OMP_streamClaim = OMP_stream.claim(OMP_elements, OMP_streamBatchSize)) >= 0) {
+                            OMP_streamLastClaim = OMP_streamClaim;
+                            for (int OMP_local_iterator = 0; OMP_local_iterator < OMP_elements.size(); OMP_local_iterator++) {
+                                OMP_elementIterator.moveTo(OMP_local_iterator);
+                                {
+                                    Integer element = iter.next();
+                                    synchronized (array) {
+                                        array[element]++;
+                                    }
+                                }
+                            }
+                        }
+                        if (OMP_stream.isLast(OMP_streamLastClaim)) {
+                            //BEGIN lastprivate variables value set
+                            //END lastprivate variables value set
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    PjRuntime.setBarrier();
+                }
+
+                        /*OpenMP Work Share region (#3) -- END */
+
+                        /*OpenMP Work Share region (#4) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        final WorkShareStream OMP_stream = PjRuntime.beginStream(OMP_workShareSlot, queue);
+                        final int OMP_streamBatchSize = WorkShareStream.DEFAULT_BATCH;
+                        final java.util.ArrayList<Object> OMP_elements = new java.util.ArrayList<Object>(Math.max(OMP_streamBatchSize, 1));
+                        long OMP_streamClaim = -1;
+                        long OMP_streamLastClaim = -1;
+                        Integer element = null;
+                        while ((OMP_streamClaim = OMP_stream.claim(OMP_elements, OMP_streamBatchSize)) >= 0) {
+                            OMP_streamLastClaim = OMP_streamClaim;
+                            for (int OMP_local_iterator = 0; OMP_local_iterator < OMP_elements.size(); OMP_local_iterator++) {
+                                element = (Integer) OMP_elements.get(OMP_local_iterator);
+                                {
+                                    synchronized (array) {
+                                        array[element]++;
+                                    }
+                                }
+                            }
+                        }
+                        if (OMP_stream.isLast(OMP_streamLastClaim)) {
+                            //BEGIN lastprivate variables value set
+                            //END lastprivate variables value set
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                        /*OpenMP Work Share region (#4) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
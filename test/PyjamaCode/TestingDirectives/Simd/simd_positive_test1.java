@@ -0,0 +1,733 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingDirectives.Simd;
+
+import pj.Pyjama;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class simd_positive_test1 {
+
+    /**
+	 * Dot product of a and b with a simd loop, a for simd loop and a parallel for simd loop.
+	 * The products are small integers, so the sums are exact in any order.
+	 * */
+    public double[] simd_dot(int threadCount, double[] a, double[] b) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        double[] sums = new double[3];
+        double sum = 0;
+        int n = a.length;
+        /*OpenMP simd loop -- START */
+        {
+            int i;
+            {
+                final int OMP_simdFirst = 0;
+                final int OMP_simdBound = n;
+                double OMP_simdLane1_sum = 0, OMP_simdLane2_sum = 0, OMP_simdLane3_sum = 0;
+                final int OMP_simdBlocks = (int) (((long) OMP_simdBound - OMP_simdFirst) / 4);
+                final int OMP_simdBlockEnd = OMP_simdFirst + OMP_simdBlocks * 4;
+                int OMP_simdIndex = OMP_simdFirst;
+                for (; OMP_simdIndex < OMP_simdBlockEnd; OMP_simdIndex += 4) {
+                    i = OMP_simdIndex;
+                    {
+                        sum += a[i] * b[i];
+                    }
+                    i = OMP_simdIndex + 1;
+                    {
+                        OMP_simdLane1_sum += a[i] * b[i];
+                    }
+                    i = OMP_simdIndex + 2;
+                    {
+                        OMP_simdLane2_sum += a[i] * b[i];
+                    }
+                    i = OMP_simdIndex + 3;
+                    {
+                        OMP_simdLane3_sum += a[i] * b[i];
+                    }
+                }
+                for (i = OMP_simdIndex; i < OMP_simdBound; i++) {
+                    {
+                        sum += a[i] * b[i];
+                    }
+                }
+                sum += OMP_simdLane1_sum;
+                sum += OMP_simdLane2_sum;
+                sum += OMP_simdLane3_sum;
+            }
+        }
+        /*OpenMP simd loop -- END */
+
+        sums[0] = sum;
+        double forSum = 0;
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.n = n;
+        _OMP_ParallelRegion_0_in.a = a;
+        _OMP_ParallelRegion_0_in.forSum = forSum;
+        _OMP_ParallelRegion_0_in.b = b;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        n = _OMP_ParallelRegion_0_in.n;
+        a = _OMP_ParallelRegion_0_in.a;
+        forSum = _OMP_ParallelRegion_0_in.forSum;
+        b = _OMP_ParallelRegion_0_in.b;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        sums[1] = forSum;
+        double parallelSum = 0;
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 2 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.parallelSum = parallelSum;
+        _OMP_ParallelRegion_2_in.n = n;
+        _OMP_ParallelRegion_2_in.a = a;
+        _OMP_ParallelRegion_2_in.b = b;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        parallelSum = _OMP_ParallelRegion_2_in.parallelSum;
+        n = _OMP_ParallelRegion_2_in.n;
+        a = _OMP_ParallelRegion_2_in.a;
+        b = _OMP_ParallelRegion_2_in.b;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        sums[2] = parallelSum;
+        return sums;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[] a;
+        public double[] b;
+        public double forSum;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        /*OpenMP Work Share region (#1) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    double OMP_WoRkShArInG_PRIVATE_1forSum = 0.0d;
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 7;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            {
+                                final int OMP_simdFirst = (0) + OMP_iterator;
+                                final int OMP_simdBound = (0) + OMP_chunkLast;
+                                double OMP_simdLane1_OMP_WoRkShArInG_PRIVATE_1forSum = 0, OMP_simdLane2_OMP_WoRkShArInG_PRIVATE_1forSum = 0, OMP_simdLane3_OMP_WoRkShArInG_PRIVATE_1forSum = 0;
+                                final int OMP_simdBlocks = (int) (((long) OMP_simdBound - OMP_simdFirst + 1) / 4);
+                                final int OMP_simdBlockEnd = OMP_simdFirst + OMP_simdBlocks * 4;
+                                int OMP_simdIndex = OMP_simdFirst;
+                                for (; OMP_simdIndex < OMP_simdBlockEnd; OMP_simdIndex += 4) {
+                                    i = OMP_simdIndex;
+                                    {
+                                        OMP_WoRkShArInG_PRIVATE_1forSum = OMP_WoRkShArInG_PRIVATE_1forSum + a[i] * b[i];
+                                    }
+                                    i = OMP_simdIndex + 1;
+                                    {
+                                        OMP_simdLane1_OMP_WoRkShArInG_PRIVATE_1forSum += a[i] * b[i];
+                                    }
+                                    i = OMP_simdIndex + 2;
+                                    {
+                                        OMP_simdLane2_OMP_WoRkShArInG_PRIVATE_1forSum += a[i] * b[i];
+                                    }
+                                    i = OMP_simdIndex + 3;
+                                    {
+                                        OMP_simdLane3_OMP_WoRkShArInG_PRIVATE_1forSum += a[i] * b[i];
+                                    }
+                                }
+                                for (i = OMP_simdIndex; i <= OMP_simdBound; i++) {
+                                    {
+                                        OMP_WoRkShArInG_PRIVATE_1forSum = OMP_WoRkShArInG_PRIVATE_1forSum + a[i] * b[i];
+                                    }
+                                }
+                                OMP_WoRkShArInG_PRIVATE_1forSum += OMP_simdLane1_OMP_WoRkShArInG_PRIVATE_1forSum;
+                                OMP_WoRkShArInG_PRIVATE_1forSum += OMP_simdLane2_OMP_WoRkShArInG_PRIVATE_1forSum;
+                                OMP_WoRkShArInG_PRIVATE_1forSum += OMP_simdLane3_OMP_WoRkShArInG_PRIVATE_1forSum;
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_1forSum, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            forSum += OMP_reductionSlot.getDouble(0);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                        /*OpenMP Work Share region (#1) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double parallelSum;
+        public double[] a;
+        public double[] b;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#3) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    double OMP_WoRkShArInG_PRIVATE_3parallelSum = 0.0d;
+                    //#set implicit barrier here, otherwise unexpected initial value happens
+                    PjRuntime.setBarrier();
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            {
+                                final int OMP_simdFirst = (0) + OMP_Chunk_Starting_point;
+                                final int OMP_simdBound = (0) + OMP_chunkLast;
+                                double OMP_simdLane1_OMP_WoRkShArInG_PRIVATE_3parallelSum = 0, OMP_simdLane2_OMP_WoRkShArInG_PRIVATE_3parallelSum = 0, OMP_simdLane3_OMP_WoRkShArInG_PRIVATE_3parallelSum = 0;
+                                final int OMP_simdBlocks = (int) (((long) OMP_simdBound - OMP_simdFirst + 1) / 4);
+                                final int OMP_simdBlockEnd = OMP_simdFirst + OMP_simdBlocks * 4;
+                                int OMP_simdIndex = OMP_simdFirst;
+                                for (; OMP_simdIndex < OMP_simdBlockEnd; OMP_simdIndex += 4) {
+                                    i = OMP_simdIndex;
+                                    {
+                                        double product = a[i] * b[i];
+                                        OMP_WoRkShArInG_PRIVATE_3parallelSum += product;
+                                    }
+                                    i = OMP_simdIndex + 1;
+                                    {
+                                        double product = a[i] * b[i];
+                                        OMP_simdLane1_OMP_WoRkShArInG_PRIVATE_3parallelSum += product;
+                                    }
+                                    i = OMP_simdIndex + 2;
+                                    {
+                                        double product = a[i] * b[i];
+                                        OMP_simdLane2_OMP_WoRkShArInG_PRIVATE_3parallelSum += product;
+                                    }
+                                    i = OMP_simdIndex + 3;
+                                    {
+                                        double product = a[i] * b[i];
+                                        OMP_simdLane3_OMP_WoRkShArInG_PRIVATE_3parallelSum += product;
+                                    }
+                                }
+                                for (i = OMP_simdIndex; i <= OMP_simdBound; i++) {
+                                    {
+                                        double product = a[i] * b[i];
+                                        OMP_WoRkShArInG_PRIVATE_3parallelSum += product;
+                                    }
+                                }
+                                OMP_WoRkShArInG_PRIVATE_3parallelSum += OMP_simdLane1_OMP_WoRkShArInG_PRIVATE_3parallelSum;
+                                OMP_WoRkShArInG_PRIVATE_3parallelSum += OMP_simdLane2_OMP_WoRkShArInG_PRIVATE_3parallelSum;
+                                OMP_WoRkShArInG_PRIVATE_3parallelSum += OMP_simdLane3_OMP_WoRkShArInG_PRIVATE_3parallelSum;
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    final ReductionSlot OMP_reductionSlot = PjRuntime.getReductionSlot();
+                    OMP_reductionSlot.put(OMP_WoRkShArInG_PRIVATE_3parallelSum, ReductionSlot.SUM);
+                    if (PjRuntime.combineReduction(OMP_reductionSlot)) {
+                        try {
+                            parallelSum += OMP_reductionSlot.getDouble(0);
+                        } finally {
+                            PjRuntime.endReduction();
+                        }
+                    }
+                    //END reduction
+                    //#the barrier combining the reductions is the end barrier
+                }
+
+                    /*OpenMP Work Share region (#3) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    /**
+	 * y = alpha * x + y with a parallel for simd loop, then y[i] += x[i-1] + x[i+1] on the inner
+	 * points with a simd loop over an existing induction variable, which ends at n - 1.
+	 * */
+    public int simd_saxpy_stencil(int threadCount, float alpha, float[] x, float[] y) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int n = x.length;
+        /*OpenMP Parallel region (#4) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_4 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_4 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_4);
+        int _threadNum__OMP_ParallelRegion_4 = icv__OMP_ParallelRegion_4.nthreads_var.get(icv__OMP_ParallelRegion_4.levels_var);
+        _OMP_ParallelRegion_4 _OMP_ParallelRegion_4_in = new _OMP_ParallelRegion_4(_threadNum__OMP_ParallelRegion_4,icv__OMP_ParallelRegion_4);
+        _OMP_ParallelRegion_4_in.n = n;
+        _OMP_ParallelRegion_4_in.y = y;
+        _OMP_ParallelRegion_4_in.x = x;
+        _OMP_ParallelRegion_4_in.alpha = alpha;
+        _OMP_ParallelRegion_4_in.runParallelCode();
+        n = _OMP_ParallelRegion_4_in.n;
+        y = _OMP_ParallelRegion_4_in.y;
+        x = _OMP_ParallelRegion_4_in.x;
+        alpha = _OMP_ParallelRegion_4_in.alpha;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_4);
+        RuntimeException OMP_ee_4 = (RuntimeException) _OMP_ParallelRegion_4_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_4 != null) {throw OMP_ee_4;}
+        /*OpenMP Parallel region (#4) -- END */
+
+        int i = 0;
+        /*OpenMP simd loop -- START */
+        {
+            final int OMP_simdFirst = 1;
+            final int OMP_simdBound = n - 2;
+            for (i = OMP_simdFirst; i <= OMP_simdBound; i++) {
+                {
+                    y[i] += x[i - 1] + x[i + 1];
+                }
+            }
+        }
+        /*OpenMP simd loop -- END */
+
+        return i;
+    }
+    }
+class _OMP_ParallelRegion_4{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public float alpha;
+        public float[] x;
+        public float[] y;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_4(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#5) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/(1);
+                        if (((n)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            {
+                                final int OMP_simdFirst = (0) + OMP_Chunk_Starting_point;
+                                final int OMP_simdBound = (0) + OMP_chunkLast;
+                                for (i = OMP_simdFirst; i <= OMP_simdBound; i++) {
+                                    {
+                                        y[i] = alpha * x[i] + y[i];
+                                    }
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#5) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    /**
+	 * Reductions of several variables with -, * and ^ in one simd loop, and a simd loop the
+	 * lanes cannot be split for, since its body reads the reduction variable.
+	 * */
+    public long[] simd_reductions(int count) {{
+        long difference = 0;
+        long product = 1;
+        int parity = 0;
+        long running = 0;
+        /*OpenMP simd loop -- START */
+        {
+            int k;
+            {
+                final int OMP_simdFirst = 1;
+                final int OMP_simdBound = count;
+                long OMP_simdLane1_difference = 0, OMP_simdLane2_difference = 0, OMP_simdLane3_difference = 0;
+                long OMP_simdLane1_product = 1, OMP_simdLane2_product = 1, OMP_simdLane3_product = 1;
+                int OMP_simdLane1_parity = 0, OMP_simdLane2_parity = 0, OMP_simdLane3_parity = 0;
+                final int OMP_simdBlocks = (int) (((long) OMP_simdBound - OMP_simdFirst + 1) / 4);
+                final int OMP_simdBlockEnd = OMP_simdFirst + OMP_simdBlocks * 4;
+                int OMP_simdIndex = OMP_simdFirst;
+                for (; OMP_simdIndex < OMP_simdBlockEnd; OMP_simdIndex += 4) {
+                    k = OMP_simdIndex;
+                    {
+                        difference -= k;
+                        product *= (k % 3 == 0) ? 2 : 1;
+                        parity ^= k;
+                    }
+                    k = OMP_simdIndex + 1;
+                    {
+                        OMP_simdLane1_difference -= k;
+                        OMP_simdLane1_product *= (k % 3 == 0) ? 2 : 1;
+                        OMP_simdLane1_parity ^= k;
+                    }
+                    k = OMP_simdIndex + 2;
+                    {
+                        OMP_simdLane2_difference -= k;
+                        OMP_simdLane2_product *= (k % 3 == 0) ? 2 : 1;
+                        OMP_simdLane2_parity ^= k;
+                    }
+                    k = OMP_simdIndex + 3;
+                    {
+                        OMP_simdLane3_difference -= k;
+                        OMP_simdLane3_product *= (k % 3 == 0) ? 2 : 1;
+                        OMP_simdLane3_parity ^= k;
+                    }
+                }
+                for (k = OMP_simdIndex; k <= OMP_simdBound; k++) {
+                    {
+                        difference -= k;
+                        product *= (k % 3 == 0) ? 2 : 1;
+                        parity ^= k;
+                    }
+                }
+                difference += OMP_simdLane1_difference;
+                difference += OMP_simdLane2_difference;
+                difference += OMP_simdLane3_difference;
+                product *= OMP_simdLane1_product;
+                product *= OMP_simdLane2_product;
+                product *= OMP_simdLane3_product;
+                parity ^= OMP_simdLane1_parity;
+                parity ^= OMP_simdLane2_parity;
+                parity ^= OMP_simdLane3_parity;
+            }
+        }
+        /*OpenMP simd loop -- END */
+
+        /*OpenMP simd loop -- START */
+        {
+            int k;
+            {
+                final int OMP_simdFirst = 0;
+                final int OMP_simdBound = count;
+                for (k = OMP_simdFirst; k < OMP_simdBound; k++) {
+                    {
+                        running += running % 2 + k;
+                    }
+                }
+            }
+        }
+        /*OpenMP simd loop -- END */
+
+        return new long[] { difference, product, parity, running };
+    }
+    }
+
+}
@@ -0,0 +1,535 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingDirectives.Taskloop;
+
+import pj.Pyjama;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class taskloop_positive_test1 {
+
+    /**
+	 * Taskloops encountered in a single block, with grainsize, num_tasks and the default
+	 * split, ascending and descending. array[k] counts the runs of iteration k, each of the
+	 * 3 taskloops runs it once.
+	 * */
+    public int[] parallel_taskloop_single(int threadCount, int count, int grainsize) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[] array = new int[count];
+        /*OpenMP Parallel region (#0) -- START */
+        //#barrier elimination: 3 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+        int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+        _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+        _OMP_ParallelRegion_0_in.count = count;
+        _OMP_ParallelRegion_0_in.grainsize = grainsize;
+        _OMP_ParallelRegion_0_in.array = array;
+        _OMP_ParallelRegion_0_in.runParallelCode();
+        count = _OMP_ParallelRegion_0_in.count;
+        grainsize = _OMP_ParallelRegion_0_in.grainsize;
+        array = _OMP_ParallelRegion_0_in.array;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+        RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_0 != null) {throw OMP_ee_0;}
+        /*OpenMP Parallel region (#0) -- END */
+
+        return array;
+    }
+    }
+class _OMP_TaskloopRegion_0 extends pj.pr.task.TargetTask<Void>{
+
+    //#BEGIN shared, private variables defined here
+    public int[] array;
+    //#END shared, private variables defined here
+    //#BEGIN firstprivate chunk bounds
+    int OMP_chunkFirst;
+    int OMP_stride;
+    long OMP_chunkCount;
+    //#END firstprivate chunk bounds
+
+    @Override
+    public Void call() {
+        int i = this.OMP_chunkFirst;
+        for (long OMP_local_iterator = 0; OMP_local_iterator < this.OMP_chunkCount; OMP_local_iterator++, i += this.OMP_stride) {
+            /****User Code BEGIN***/
+            {
+                synchronized (array) {
+                    array[i]++;
+                }
+            }
+            /****User Code END***/
+        }
+        this.setFinish();
+        return null;
+    }
+}
+
+
+class _OMP_TaskloopRegion_1 extends pj.pr.task.TargetTask<Void>{
+
+    //#BEGIN shared, private variables defined here
+    public int[] array;
+    //#END shared, private variables defined here
+    //#BEGIN firstprivate chunk bounds
+    long OMP_chunkFirst;
+    long OMP_stride;
+    long OMP_chunkCount;
+    //#END firstprivate chunk bounds
+
+    @Override
+    public Void call() {
+        long i = this.OMP_chunkFirst;
+        for (long OMP_local_iterator = 0; OMP_local_iterator < this.OMP_chunkCount; OMP_local_iterator++, i += this.OMP_stride) {
+            /****User Code BEGIN***/
+            {
+                synchronized (array) {
+                    array[(int) i]++;
+                }
+            }
+            /****User Code END***/
+        }
+        this.setFinish();
+        return null;
+    }
+}
+
+
+class _OMP_TaskloopRegion_2 extends pj.pr.task.TargetTask<Void>{
+
+    //#BEGIN shared, private variables defined here
+    public int[] array;
+    //#END shared, private variables defined here
+    //#BEGIN firstprivate chunk bounds
+    int OMP_chunkFirst;
+    int OMP_stride;
+    long OMP_chunkCount;
+    //#END firstprivate chunk bounds
+
+    @Override
+    public Void call() {
+        int i = this.OMP_chunkFirst;
+        for (long OMP_local_iterator = 0; OMP_local_iterator < this.OMP_chunkCount; OMP_local_iterator++, i += this.OMP_stride) {
+            /****User Code BEGIN***/
+            {
+                synchronized (array) {
+                    array[i]++;
+                }
+            }
+            /****User Code END***/
+        }
+        this.setFinish();
+        return null;
+    }
+}
+
+
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public int grainsize;
+        public int count;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        /*OpenMP Work Share region (#1) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int _OMP_VANCY_ITERATOR_=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((1)-(0))/(1);
+                        if (((1)-(0))%(1) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        int OMP_Chunk_Starting_point = 0;
+                        int OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final int OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            _OMP_VANCY_ITERATOR_ = 0 + OMP_Chunk_Starting_point * (1);
+                            for (int OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, _OMP_VANCY_ITERATOR_ += (1)) {
+                                {
+                                    /*OpenMP Taskloop block (#0) -- START */
+                                    {
+                                        final int OMP_taskloopInit = 0;
+                                        final int OMP_taskloopStride = 1;
+                                        final long OMP_taskloopCount = PjRuntime.getTaskloopTripCount(OMP_taskloopInit, count, OMP_taskloopStride, false);
+                                        final int OMP_taskloopTasks = PjRuntime.getTaskloopTaskCount(OMP_taskloopCount, grainsize, 0);
+                                        final pj.pr.task.TaskGroup OMP_taskGroup = new pj.pr.task.TaskGroup(OMP_taskloopTasks);
+                                        for (int OMP_taskloopTask = 0; OMP_taskloopTask < OMP_taskloopTasks; OMP_taskloopTask++) {
+                                            final long OMP_taskloopChunkStart = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask);
+                                            _OMP_TaskloopRegion_0 _OMP_TaskloopRegion_0_in = new _OMP_TaskloopRegion_0();
+                                            _OMP_TaskloopRegion_0_in.OMP_chunkFirst = (int)(OMP_taskloopInit + OMP_taskloopChunkStart * OMP_taskloopStride);
+                                            _OMP_TaskloopRegion_0_in.OMP_stride = OMP_taskloopStride;
+                                            _OMP_TaskloopRegion_0_in.OMP_chunkCount = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask + 1) - OMP_taskloopChunkStart;
+                                            _OMP_TaskloopRegion_0_in.array = array;
+                                            OMP_taskGroup.add(_OMP_TaskloopRegion_0_in);
+                                        }
+                                        PjRuntime.runTaskGroup(OMP_taskGroup);
+                                    }
+                                    /*OpenMP Taskloop block (#0) -- END */
+
+                                    /*OpenMP Taskloop block (#1) -- START */
+                                    {
+                                        final long OMP_taskloopInit = count - 1;
+                                        final long OMP_taskloopStride = -(1);
+                                        final long OMP_taskloopCount = PjRuntime.getTaskloopTripCount(OMP_taskloopInit, 0, OMP_taskloopStride, true);
+                                        final int OMP_taskloopTasks = PjRuntime.getTaskloopTaskCount(OMP_taskloopCount, 0, 7);
+                                        final pj.pr.task.TaskGroup OMP_taskGroup = new pj.pr.task.TaskGroup(OMP_taskloopTasks);
+                                        for (int OMP_taskloopTask = 0; OMP_taskloopTask < OMP_taskloopTasks; OMP_taskloopTask++) {
+                                            final long OMP_taskloopChunkStart = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask);
+                                            _OMP_TaskloopRegion_1 _OMP_TaskloopRegion_1_in = new _OMP_TaskloopRegion_1();
+                                            _OMP_TaskloopRegion_1_in.OMP_chunkFirst = (long)(OMP_taskloopInit + OMP_taskloopChunkStart * OMP_taskloopStride);
+                                            _OMP_TaskloopRegion_1_in.OMP_stride = OMP_taskloopStride;
+                                            _OMP_TaskloopRegion_1_in.OMP_chunkCount = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask + 1) - OMP_taskloopChunkStart;
+                                            _OMP_TaskloopRegion_1_in.array = array;
+                                            OMP_taskGroup.add(_OMP_TaskloopRegion_1_in);
+                                        }
+                                        PjRuntime.runTaskGroup(OMP_taskGroup);
+                                    }
+                                    /*OpenMP Taskloop block (#1) -- END */
+
+                                    /*OpenMP Taskloop block (#2) -- START */
+                                    {
+                                        final int OMP_taskloopInit = 0;
+                                        final int OMP_taskloopStride = 1;
+                                        final long OMP_taskloopCount = PjRuntime.getTaskloopTripCount(OMP_taskloopInit, count - 1, OMP_taskloopStride, true);
+                                        final int OMP_taskloopTasks = PjRuntime.getTaskloopTaskCount(OMP_taskloopCount, 0, 0);
+                                        final pj.pr.task.TaskGroup OMP_taskGroup = new pj.pr.task.TaskGroup(OMP_taskloopTasks);
+                                        for (int OMP_taskloopTask = 0; OMP_taskloopTask < OMP_taskloopTasks; OMP_taskloopTask++) {
+                                            final long OMP_taskloopChunkStart = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask);
+                                            _OMP_TaskloopRegion_2 _OMP_TaskloopRegion_2_in = new _OMP_TaskloopRegion_2();
+                                            _OMP_TaskloopRegion_2_in.OMP_chunkFirst = (int)(OMP_taskloopInit + OMP_taskloopChunkStart * OMP_taskloopStride);
+                                            _OMP_TaskloopRegion_2_in.OMP_stride = OMP_taskloopStride;
+                                            _OMP_TaskloopRegion_2_in.OMP_chunkCount = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask + 1) - OMP_taskloopChunkStart;
+                                            _OMP_TaskloopRegion_2_in.array = array;
+                                            OMP_taskGroup.add(_OMP_TaskloopRegion_2_in);
+                                        }
+                                        PjRuntime.runTaskGroup(OMP_taskGroup);
+                                    }
+                                    /*OpenMP Taskloop block (#2) -- END */
+
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                        /*OpenMP Work Share region (#1) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+
+    /**
+	 * Taskloops with a stride, encountered in a master block and outside of a parallel region.
+	 * array[k] counts the runs of iteration k, every third iteration runs twice.
+	 * */
+    public int[] parallel_taskloop_master(int threadCount, int count) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int[] array = new int[count];
+        /*OpenMP Parallel region (#2) -- START */
+        //#barrier elimination: 0 barrier(s) removed
+        InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+        InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+        int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+        _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+        _OMP_ParallelRegion_2_in.array = array;
+        _OMP_ParallelRegion_2_in.count = count;
+        _OMP_ParallelRegion_2_in.runParallelCode();
+        array = _OMP_ParallelRegion_2_in.array;
+        count = _OMP_ParallelRegion_2_in.count;
+        PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+        RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+        if (OMP_ee_2 != null) {throw OMP_ee_2;}
+        /*OpenMP Parallel region (#2) -- END */
+
+        /*OpenMP Taskloop block (#4) -- START */
+        {
+            final int OMP_taskloopInit = 0;
+            final int OMP_taskloopStride = 3;
+            final long OMP_taskloopCount = PjRuntime.getTaskloopTripCount(OMP_taskloopInit, count, OMP_taskloopStride, false);
+            final int OMP_taskloopTasks = PjRuntime.getTaskloopTaskCount(OMP_taskloopCount, 0, 4);
+            final pj.pr.task.TaskGroup OMP_taskGroup = new pj.pr.task.TaskGroup(OMP_taskloopTasks);
+            for (int OMP_taskloopTask = 0; OMP_taskloopTask < OMP_taskloopTasks; OMP_taskloopTask++) {
+                final long OMP_taskloopChunkStart = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask);
+                _OMP_TaskloopRegion_4 _OMP_TaskloopRegion_4_in = new _OMP_TaskloopRegion_4();
+                _OMP_TaskloopRegion_4_in.OMP_chunkFirst = (int)(OMP_taskloopInit + OMP_taskloopChunkStart * OMP_taskloopStride);
+                _OMP_TaskloopRegion_4_in.OMP_stride = OMP_taskloopStride;
+                _OMP_TaskloopRegion_4_in.OMP_chunkCount = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask + 1) - OMP_taskloopChunkStart;
+                _OMP_TaskloopRegion_4_in.array = array;
+                OMP_taskGroup.add(_OMP_TaskloopRegion_4_in);
+            }
+            PjRuntime.runTaskGroup(OMP_taskGroup);
+        }
+        /*OpenMP Taskloop block (#4) -- END */
+
+        return array;
+    }
+    }
+class _OMP_TaskloopRegion_3 extends pj.pr.task.TargetTask<Void>{
+
+    //#BEGIN shared, private variables defined here
+    public int[] array;
+    //#END shared, private variables defined here
+    //#BEGIN firstprivate chunk bounds
+    int OMP_chunkFirst;
+    int OMP_stride;
+    long OMP_chunkCount;
+    //#END firstprivate chunk bounds
+
+    @Override
+    public Void call() {
+        int i = this.OMP_chunkFirst;
+        for (long OMP_local_iterator = 0; OMP_local_iterator < this.OMP_chunkCount; OMP_local_iterator++, i += this.OMP_stride) {
+            /****User Code BEGIN***/
+            {
+                synchronized (array) {
+                    array[i]++;
+                }
+            }
+            /****User Code END***/
+        }
+        this.setFinish();
+        return null;
+    }
+}
+
+
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public int[] array;
+        public int count;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        if (0 == Pyjama.omp_get_thread_num()) {
+                            {
+                                /*OpenMP Taskloop block (#3) -- START */
+                                {
+                                    final int OMP_taskloopInit = count - 1;
+                                    final int OMP_taskloopStride = -1;
+                                    final long OMP_taskloopCount = PjRuntime.getTaskloopTripCount(OMP_taskloopInit, 0, OMP_taskloopStride, true);
+                                    final int OMP_taskloopTasks = PjRuntime.getTaskloopTaskCount(OMP_taskloopCount, 2, 0);
+                                    final pj.pr.task.TaskGroup OMP_taskGroup = new pj.pr.task.TaskGroup(OMP_taskloopTasks);
+                                    for (int OMP_taskloopTask = 0; OMP_taskloopTask < OMP_taskloopTasks; OMP_taskloopTask++) {
+                                        final long OMP_taskloopChunkStart = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask);
+                                        _OMP_TaskloopRegion_3 _OMP_TaskloopRegion_3_in = new _OMP_TaskloopRegion_3();
+                                        _OMP_TaskloopRegion_3_in.OMP_chunkFirst = (int)(OMP_taskloopInit + OMP_taskloopChunkStart * OMP_taskloopStride);
+                                        _OMP_TaskloopRegion_3_in.OMP_stride = OMP_taskloopStride;
+                                        _OMP_TaskloopRegion_3_in.OMP_chunkCount = PjRuntime.getTaskloopChunkStart(OMP_taskloopCount, OMP_taskloopTasks, OMP_taskloopTask + 1) - OMP_taskloopChunkStart;
+                                        _OMP_TaskloopRegion_3_in.array = array;
+                                        OMP_taskGroup.add(_OMP_TaskloopRegion_3_in);
+                                    }
+                                    PjRuntime.runTaskGroup(OMP_taskGroup);
+                                }
+                                /*OpenMP Taskloop block (#3) -- END */
+
+                            }}
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+class _OMP_TaskloopRegion_4 extends pj.pr.task.TargetTask<Void>{
+
+    //#BEGIN shared, private variables defined here
+    public int[] array;
+    //#END shared, private variables defined here
+    //#BEGIN firstprivate chunk bounds
+    int OMP_chunkFirst;
+    int OMP_stride;
+    long OMP_chunkCount;
+    //#END firstprivate chunk bounds
+
+    @Override
+    public Void call() {
+        int i = this.OMP_chunkFirst;
+        for (long OMP_local_iterator = 0; OMP_local_iterator < this.OMP_chunkCount; OMP_local_iterator++, i += this.OMP_stride) {
+            /****User Code BEGIN***/
+            {
+                array[i]++;
+            }
+            /****User Code END***/
+        }
+        this.setFinish();
+        return null;
+    }
+}
+
+
+
+}
@@ -0,0 +1,412 @@
+//Pyjama compiler version:v2.2.0
+package PyjamaCode.TestingDirectives.Tile;
+
+import pj.Pyjama;
+
+import pj.pr.*;
+import pj.PjRuntime;
+import pj.Pyjama;
+import pi.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.lang.reflect.InvocationTargetException;
+import pj.pr.exceptions.*;
+
+public class tile_positive_test1 {
+
+    /**
+	 * Fills a rows x cols grid with a tiled loop nest, which visits every cell once. rows and
+	 * cols need not be multiples of the tile sizes, so the last tiles are cut short.
+	 * */
+    public int[][] tile_visit(int rows, int cols, int bi, int bj) {{
+        int[][] visits = new int[rows][cols];
+        for (int OMP_tile_i = 0; OMP_tile_i < rows; OMP_tile_i += (bi)) for (int OMP_tile_j = 0; OMP_tile_j < cols; OMP_tile_j += (bj)) for (int i = OMP_tile_i, OMP_tileEnd_i = (rows) - OMP_tile_i < (bi) ? (rows) : OMP_tile_i + (bi); i < OMP_tileEnd_i; i++) for (int j = OMP_tile_j, OMP_tileEnd_j = (cols) - OMP_tile_j < (bj) ? (cols) : OMP_tile_j + (bj); j < OMP_tileEnd_j; j++) {
+            visits[i][j] += i * cols + j + 1;
+        }
+        return visits;
+    }
+    }
+
+
+    /**
+	 * Tiles one loop of stride 3 with an inclusive bound, and a two loop nest with
+	 * strides counting by += and = i + s, and returns the sums of the visited indices.
+	 * */
+    public long[] tile_strides(int n) {{
+        long[] sums = new long[2];
+        for (int OMP_tile_i = 1; OMP_tile_i <= n; OMP_tile_i += (4) * (3)) for (int i = OMP_tile_i, OMP_tileEnd_i = (n) - OMP_tile_i < (4) * (3) ? (n) : OMP_tile_i + (4) * (3) - 1; i <= OMP_tileEnd_i; i += 3) {
+            sums[0] += i;
+        }
+        for (long OMP_tile_i = 2; OMP_tile_i < n; OMP_tile_i += (5) * (2)) for (int OMP_tile_j = -n; OMP_tile_j <= n; OMP_tile_j += (3) * (7)) for (long i = OMP_tile_i, OMP_tileEnd_i = (n) - OMP_tile_i < (5) * (2) ? (n) : OMP_tile_i + (5) * (2); i < OMP_tileEnd_i; i = i + 2) for (int j = OMP_tile_j, OMP_tileEnd_j = (n) - OMP_tile_j < (3) * (7) ? (n) : OMP_tile_j + (3) * (7) - 1; j <= OMP_tileEnd_j; j += 7) {
+            sums[1] += i * j + 1;
+        }
+        return sums;
+    }
+    }
+
+
+    /**
+	 * Matrix product c = a * b with the tile loops shared out by a for loop, and by a
+	 * parallel for loop collapsing both tile loops.
+	 * */
+    public double[][] tile_matmul(int threadCount, double[][] a, double[][] b, boolean collapse) {{
+        Pyjama.omp_set_num_threads(threadCount);
+        int n = a.length;
+        int m = b[0].length;
+        int l = b.length;
+        double[][] c = new double[n][m];
+        if (collapse) {
+            /*OpenMP Parallel region (#0) -- START */
+            //#barrier elimination: 3 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_0 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_0 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_0);
+            int _threadNum__OMP_ParallelRegion_0 = icv__OMP_ParallelRegion_0.nthreads_var.get(icv__OMP_ParallelRegion_0.levels_var);
+            _OMP_ParallelRegion_0 _OMP_ParallelRegion_0_in = new _OMP_ParallelRegion_0(_threadNum__OMP_ParallelRegion_0,icv__OMP_ParallelRegion_0);
+            _OMP_ParallelRegion_0_in.c = c;
+            _OMP_ParallelRegion_0_in.n = n;
+            _OMP_ParallelRegion_0_in.b = b;
+            _OMP_ParallelRegion_0_in.m = m;
+            _OMP_ParallelRegion_0_in.a = a;
+            _OMP_ParallelRegion_0_in.l = l;
+            _OMP_ParallelRegion_0_in.runParallelCode();
+            c = _OMP_ParallelRegion_0_in.c;
+            n = _OMP_ParallelRegion_0_in.n;
+            b = _OMP_ParallelRegion_0_in.b;
+            m = _OMP_ParallelRegion_0_in.m;
+            a = _OMP_ParallelRegion_0_in.a;
+            l = _OMP_ParallelRegion_0_in.l;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_0);
+            RuntimeException OMP_ee_0 = (RuntimeException) _OMP_ParallelRegion_0_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_0 != null) {throw OMP_ee_0;}
+            /*OpenMP Parallel region (#0) -- END */
+
+        } else {
+            /*OpenMP Parallel region (#2) -- START */
+            //#barrier elimination: 3 barrier(s) removed
+            InternalControlVariables icv_previous__OMP_ParallelRegion_2 = PjRuntime.getCurrentThreadICV();
+            InternalControlVariables icv__OMP_ParallelRegion_2 = PjRuntime.inheritICV(icv_previous__OMP_ParallelRegion_2);
+            int _threadNum__OMP_ParallelRegion_2 = icv__OMP_ParallelRegion_2.nthreads_var.get(icv__OMP_ParallelRegion_2.levels_var);
+            _OMP_ParallelRegion_2 _OMP_ParallelRegion_2_in = new _OMP_ParallelRegion_2(_threadNum__OMP_ParallelRegion_2,icv__OMP_ParallelRegion_2);
+            _OMP_ParallelRegion_2_in.a = a;
+            _OMP_ParallelRegion_2_in.m = m;
+            _OMP_ParallelRegion_2_in.l = l;
+            _OMP_ParallelRegion_2_in.n = n;
+            _OMP_ParallelRegion_2_in.c = c;
+            _OMP_ParallelRegion_2_in.b = b;
+            _OMP_ParallelRegion_2_in.runParallelCode();
+            a = _OMP_ParallelRegion_2_in.a;
+            m = _OMP_ParallelRegion_2_in.m;
+            l = _OMP_ParallelRegion_2_in.l;
+            n = _OMP_ParallelRegion_2_in.n;
+            c = _OMP_ParallelRegion_2_in.c;
+            b = _OMP_ParallelRegion_2_in.b;
+            PjRuntime.recoverParentICV(icv_previous__OMP_ParallelRegion_2);
+            RuntimeException OMP_ee_2 = (RuntimeException) _OMP_ParallelRegion_2_in.OMP_CurrentParallelRegionExceptionSlot.get();
+            if (OMP_ee_2 != null) {throw OMP_ee_2;}
+            /*OpenMP Parallel region (#2) -- END */
+
+        }
+        return c;
+    }
+    }
+class _OMP_ParallelRegion_0{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[][] a;
+        public double[][] b;
+        public double[][] c;
+        public int l;
+        public int m;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_0(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    /*OpenMP Work Share region (#1) -- START */
+                    
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    try{
+                        int OMP_tile_i=0;
+                        int OMP_collapseTrip_0 = (int)((n)-(0))/((8));
+                        if (((n)-(0))%((8)) == 0) {
+                            OMP_collapseTrip_0 = OMP_collapseTrip_0 - 1;
+                        }
+                        OMP_collapseTrip_0 = Math.max(OMP_collapseTrip_0 + 1, 0);
+                        int OMP_collapseIndex_0 = 0;
+                        int OMP_tile_j=0;
+                        int OMP_collapseTrip_1 = (int)((m)-(0))/((16));
+                        if (((m)-(0))%((16)) == 0) {
+                            OMP_collapseTrip_1 = OMP_collapseTrip_1 - 1;
+                        }
+                        OMP_collapseTrip_1 = Math.max(OMP_collapseTrip_1 + 1, 0);
+                        int OMP_collapseIndex_1 = 0;
+                        long OMP_iterator = 0;
+                        long OMP_end = (long)OMP_collapseTrip_0 * OMP_collapseTrip_1 - 1;
+                        final int __omp_loop_thread_num = Pyjama.omp_get_thread_num();
+                        final int __omp_loop_num_threads = Pyjama.omp_get_num_threads();
+                        long OMP_Chunk_Starting_point = 0;
+                        long OMP_Default_chunkSize_autoGenerated = (OMP_end+1)/__omp_loop_num_threads;
+                        if (__omp_loop_thread_num < (OMP_end+1) % __omp_loop_num_threads) {
+                            ++OMP_Default_chunkSize_autoGenerated;
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated;
+                        } else {
+                            OMP_Chunk_Starting_point = __omp_loop_thread_num * OMP_Default_chunkSize_autoGenerated + (OMP_end+1) % __omp_loop_num_threads;
+                        }
+                        if (OMP_Default_chunkSize_autoGenerated > 0) {
+                            final long OMP_chunkLast = OMP_Default_chunkSize_autoGenerated > OMP_end - OMP_Chunk_Starting_point ? OMP_end : OMP_Chunk_Starting_point + OMP_Default_chunkSize_autoGenerated - 1;
+                            for (long OMP_local_iterator = OMP_Chunk_Starting_point; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++) {
+                                if (OMP_local_iterator == OMP_Chunk_Starting_point) {
+                                    long OMP_collapseRest = OMP_local_iterator;
+                                    OMP_collapseIndex_1 = (int)(OMP_collapseRest % OMP_collapseTrip_1);
+                                    OMP_collapseRest = OMP_collapseRest / OMP_collapseTrip_1;
+                                    OMP_collapseIndex_0 = (int)OMP_collapseRest;
+                                } else if (++OMP_collapseIndex_1 == OMP_collapseTrip_1) {
+                                    OMP_collapseIndex_1 = 0;
+                                    ++OMP_collapseIndex_0;
+                                }
+                                OMP_tile_i = 0 + OMP_collapseIndex_0 * ((8));
+                                OMP_tile_j = 0 + OMP_collapseIndex_1 * ((16));
+                                for (int i = OMP_tile_i, OMP_tileEnd_i = (n) - OMP_tile_i < (8) ? (n) : OMP_tile_i + (8); i < OMP_tileEnd_i; i++) for (int j = OMP_tile_j, OMP_tileEnd_j = (m) - OMP_tile_j < (16) ? (m) : OMP_tile_j + (16); j < OMP_tileEnd_j; j++) {
+                                    double sum = 0;
+                                    for (int k = 0; k < l; k++) {
+                                        sum += a[i][k] * b[k][j];
+                                    }
+                                    c[i][j] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;}
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                    /*OpenMP Work Share region (#1) -- END */
+
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+class _OMP_ParallelRegion_2{
+        private int OMP_threadNumber = 1;
+        private InternalControlVariables icv;
+        private ReentrantLock OMP_lock;
+        public AtomicReference<Throwable> OMP_CurrentParallelRegionExceptionSlot = new AtomicReference<Throwable>(null);
+
+        //#BEGIN shared, private, lastprivate, reduction variables defined here
+        public double[][] a;
+        public double[][] b;
+        public double[][] c;
+        public int l;
+        public int m;
+        public int n;
+        //#END shared, private, lastprivate, reduction variables defined here
+        public _OMP_ParallelRegion_2(int thread_num, InternalControlVariables icv) {
+            this.icv = icv;
+            if ((false == Pyjama.omp_get_nested()) && (Pyjama.omp_get_level() > 0)) {
+                this.OMP_threadNumber = 1;
+            }else {
+                this.OMP_threadNumber = thread_num;
+            }
+            icv.currentParallelRegionThreadNumber = this.OMP_threadNumber;
+            icv.OMP_CurrentParallelRegionBarrier = new PjCyclicBarrier(this.OMP_threadNumber);
+            icv.OMP_CurrentWorkShareRing = new WorkShareRing(this.OMP_threadNumber);
+        }
+
+        class MyCallable implements Callable<Void> {
+            private int alias_id;
+            //#BEGIN private/firstprivate reduction variables defined and initialised here
+            //#END private/firstprivate reduction variables defined and initialised here
+            MyCallable(int id){
+                this.alias_id = id;
+            }
+
+            @Override
+            public Void call() {
+                try {
+                    /****User Code BEGIN***/
+                    {
+                        /*OpenMP Work Share region (#3) -- START */
+                        
+                {//#BEGIN firstprivate lastprivate reduction variables defined and initialized here
+                    //#entry barrier eliminated, no private copy reads a variable written during the loop
+                    //#END firstprivate lastprivate reduction variables defined and initialized here
+                    final WorkShareRing.Slot OMP_workShareSlot = PjRuntime.enterWorkShare();
+                    try{
+                        int OMP_tile_i=0;
+                        int OMP_iterator = 0;
+                        int OMP_end = (int)((n)-(0))/((16));
+                        if (((n)-(0))%((16)) == 0) {
+                            OMP_end = OMP_end - 1;
+                        }
+                        final AtomicInteger OMP_dynamicCursor = OMP_workShareSlot.cursor;
+                        final int OMP_chunkSize = 1;
+                        while ((OMP_iterator = OMP_dynamicCursor.getAndAdd(OMP_chunkSize)) <= OMP_end) {
+                            final int OMP_chunkLast = OMP_chunkSize > OMP_end - OMP_iterator ? OMP_end : OMP_iterator + OMP_chunkSize - 1;
+                            OMP_tile_i = 0 + OMP_iterator * ((16));
+                            for (int OMP_local_iterator = OMP_iterator; OMP_local_iterator<=OMP_chunkLast; OMP_local_iterator++, OMP_tile_i += ((16))) {
+                                for (int OMP_tile_j = 0; OMP_tile_j < m; OMP_tile_j += (8)) for (int i = OMP_tile_i, OMP_tileEnd_i = (n) - OMP_tile_i < (16) ? (n) : OMP_tile_i + (16); i < OMP_tileEnd_i; i++) for (int j = OMP_tile_j, OMP_tileEnd_j = (m) - OMP_tile_j < (8) ? (m) : OMP_tile_j + (8); j < OMP_tileEnd_j; j++) {
+                                    double sum = 0;
+                                    for (int k = 0; k < l; k++) {
+                                        sum += a[i][k] * b[k][j];
+                                    }
+                                    c[i][j] = sum;
+                                }
+                            }
+                            if (OMP_end == OMP_chunkLast) {
+                                //BEGIN lastprivate variables value set
+                                //END lastprivate variables value set
+                            }
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingLocalCancellationException e){
+                        //TODO: work redistribution
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (pj.pr.exceptions.OmpWorksharingGlobalCancellationException e){
+                        //just escape from the work sharing region and wait other thread in next barrier
+                        PjExecutor.cancelCurrentWorksharing();
+                        Exception OMP_registered_e = e.getThrow();
+                        if (null != OMP_registered_e) {
+                            throw OMP_registered_e;
+                        }
+                    } catch (Exception e){throw e;
+                    } finally {
+                        OMP_workShareSlot.leave();
+                    }
+                    //BEGIN  reduction
+                    //END reduction
+                    //#implicit barrier eliminated, the next barrier follows directly
+                }
+
+                        /*OpenMP Work Share region (#3) -- END */
+
+                    }
+                    /****User Code END***/
+                    //BEGIN reduction procedure
+                    //END reduction procedure
+                    //There is an implicit PjRuntime.setBarrier() inside PjRuntime.taskWait();
+                    PjRuntime.taskWait();
+                } catch (OmpParallelRegionLocalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    if (null != e.getThrow()) {throw e.getThrow();}
+                } catch (OmpParallelRegionGlobalCancellationException e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    Exception OMP_registered_e = e.getThrow();
+                    if (null != OMP_registered_e) {
+                        OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, OMP_registered_e);
+                    }
+                } catch (Exception e) {
+                    PjRuntime.decreaseBarrierCount();
+                    PjExecutor.cancelCurrentThreadGroup();
+                    OMP_CurrentParallelRegionExceptionSlot.compareAndSet(null, e);
+                }
+                if (0 == this.alias_id) {
+                }
+                return null;
+            }
+        }
+        public void runParallelCode() {
+            for (int i = 1; i <= this.OMP_threadNumber-1; i++) {
+                Callable<Void> slaveThread = new MyCallable(i);
+                PjRuntime.submit(i, slaveThread, icv);
+            }
+            Callable<Void> masterThread = new MyCallable(0);
+            PjRuntime.getCurrentThreadICV().currentThreadAliasID = 0;
+            try {
+                masterThread.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+
+}
@@ -234,6 +234,38 @@ public class Barrier_corrTest {
 		if (!validate(actualArray,expectedArray)) fail("Test Failed");
 	}
 	
+	@Test
+	public void barrierEliminationTest1() {
+		threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		
+		barrier_positive_test2 test = new barrier_positive_test2();
+		Result result = new Result();
+		result.setTestName("Postive_test2_Case1");
+		result.setThreadCount(threadNumber);
+
+		//
+		int n = 1000;
+		int[] actualArray = test.parallel_barrier_elimination(threadNumber);
+		int[] expectedArray = new int[n + 2];
+		for (int i = 0; i < n; i++) {
+			expectedArray[i] = (n-1-i) + 2;
+			expectedArray[n] += (n-1-i) + 1;
+		}
+		expectedArray[n + 1] = n - 1;
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
 	private boolean validate(int[] actualArray,int[] expectedArray){
 		boolean flag=true;
 		for (int i = 0; i < actualArray.length; i++) {
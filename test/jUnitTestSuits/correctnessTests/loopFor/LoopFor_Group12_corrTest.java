@@ -0,0 +1,125 @@
+package jUnitTestSuits.correctnessTests.loopFor;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.LoopFor.*;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class LoopFor_Group12_corrTest {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "LoopFor", "CorrectnessJunitResults_Group12", false);
+	}
+	
+	@Test
+	public void LoopForTest1() {
+		loopFor_positive_test26 test = new loopFor_positive_test26();
+		Result result = new Result();
+		result.setTestName("Postive_test26_Case1");
+		int threadNumber = 3;
+		
+		int Count = 100;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray = test.parallel_loopFor_stream_queue(threadNumber, Count, 1);
+		
+		boolean success = true;
+		for (int i = 0; i < Count + 2; i++)
+			if (actualArray[i] != (i < Count ? 1 : (i == Count ? Count * (Count - 1) / 2 : Count - 1))) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+
+	
+	@Test
+	public void LoopForTest2() {
+		loopFor_positive_test26 test = new loopFor_positive_test26();
+		Result result = new Result();
+		result.setTestName("Postive_test26_Case2");
+		int threadNumber = 4;
+		
+		int Count = 1000;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray = test.parallel_loopFor_stream_queue(threadNumber, Count, 64);
+		
+		boolean success = true;
+		for (int i = 0; i < Count + 2; i++)
+			if (actualArray[i] != (i < Count ? 1 : (i == Count ? Count * (Count - 1) / 2 : Count - 1))) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+
+	
+	@Test
+	public void LoopForTest3() {
+		loopFor_positive_test26 test = new loopFor_positive_test26();
+		Result result = new Result();
+		result.setTestName("Postive_test26_Case3");
+		int threadNumber = 4;
+		
+		int Count = 257;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray = test.parallel_loopFor_stream_iterator(threadNumber, Count);
+		
+		boolean success = true;
+		for (int i = 0; i < Count; i++)
+			if (actualArray[i] != 2) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+}
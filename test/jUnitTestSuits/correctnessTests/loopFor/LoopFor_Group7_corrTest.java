@@ -0,0 +1,298 @@
+package jUnitTestSuits.correctnessTests.loopFor;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.LoopFor.*;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class LoopFor_Group7_corrTest {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "LoopFor", "CorrectnessJunitResults_Group7", false);
+	}
+	
+	@Test
+	public void LoopForTest1() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case1");
+		int threadNumber = 4;
+		
+		long InitialValue = 1L << 33;
+		int Count = 1000;
+		int Stride = 1;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest2() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case2");
+		int threadNumber = 3;
+		
+		long InitialValue = -(1L << 40);
+		int Count = 1000;
+		int Stride = 7;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest3() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case3");
+		int threadNumber = 4;
+		
+		long InitialValue = Integer.MAX_VALUE - 500L;
+		int Count = 1000;
+		int Stride = 1;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest4() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case4");
+		int threadNumber = 4;
+		
+		long InitialValue = 1L << 33;
+		int Count = 1000;
+		int Stride = 1;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor_dynamic(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest5() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case5");
+		int threadNumber = 3;
+		
+		long InitialValue = -(1L << 40);
+		int Count = 1000;
+		int Stride = 7;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor_dynamic(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest6() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case6");
+		int threadNumber = 4;
+		
+		long InitialValue = Integer.MAX_VALUE - 500L;
+		int Count = 1000;
+		int Stride = 1;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor_dynamic(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest7() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case7");
+		int threadNumber = 4;
+		
+		long InitialValue = 1L << 33;
+		int Count = 1000;
+		int Stride = 1;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor_guided(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest8() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case8");
+		int threadNumber = 3;
+		
+		long InitialValue = -(1L << 40);
+		int Count = 1000;
+		int Stride = 7;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor_guided(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest9() {
+		loopFor_positive_test21 test = new loopFor_positive_test21();
+		Result result = new Result();
+		result.setTestName("Postive_test21_Case9");
+		int threadNumber = 4;
+		
+		long InitialValue = Integer.MAX_VALUE - 500L;
+		int Count = 1000;
+		int Stride = 1;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue(InitialValue+"");
+		result.setEndValue((InitialValue + (long)Count * Stride)+"");
+		result.setStride(Stride+"");
+		result.setOperator("<");
+		
+		long[] actualArray = test.parallel_loopFor_guided(threadNumber, InitialValue, Count, Stride);
+
+		if (validate(actualArray, InitialValue, Stride))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, InitialValue, Stride))
+			fail("Test Failed");
+	}
+	
+	private boolean validate(long[] actualArray, long InitialValue, int Stride){
+		for (int k = 0; k < actualArray.length; k++) {
+			if (actualArray[k] != InitialValue + (long)k * Stride) return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,329 @@
+package jUnitTestSuits.correctnessTests.loopFor;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.LoopFor.*;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class LoopFor_Group8_corrTest {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "LoopFor", "CorrectnessJunitResults_Group8", false);
+	}
+	
+	@Test
+	public void LoopForTest1() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case1");
+		int threadNumber = 3;
+		
+		int Rows = 17;
+		int Cols = 13;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_collapse2(threadNumber, Rows, Cols);
+
+		if (validate(actualArray, Rows, Cols))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, Rows, Cols))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest2() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case2");
+		int threadNumber = 4;
+		
+		int Rows = 2;
+		int Cols = 50;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_collapse2(threadNumber, Rows, Cols);
+
+		if (validate(actualArray, Rows, Cols))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, Rows, Cols))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest3() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case3");
+		int threadNumber = 3;
+		
+		int Rows = 17;
+		int Cols = 13;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_collapse2_static(threadNumber, Rows, Cols);
+
+		if (validate(actualArray, Rows, Cols))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, Rows, Cols))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest4() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case4");
+		int threadNumber = 4;
+		
+		int Rows = 17;
+		int Cols = 13;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_collapse2_dynamic(threadNumber, Rows, Cols);
+
+		if (validate(actualArray, Rows, Cols))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, Rows, Cols))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest5() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case5");
+		int threadNumber = 4;
+		
+		int Rows = 64;
+		int Cols = 64;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_collapse2_guided(threadNumber, Rows, Cols);
+
+		if (validate(actualArray, Rows, Cols))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, Rows, Cols))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest6() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case6");
+		int threadNumber = 3;
+		
+		int Rows = 17;
+		int Cols = 13;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_collapse2_steal(threadNumber, Rows, Cols);
+
+		if (validate(actualArray, Rows, Cols))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, Rows, Cols))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest7() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case7");
+		int threadNumber = 4;
+		
+		int Rows = 17;
+		int Cols = 13;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_collapse2_runtime(threadNumber, Rows, Cols);
+
+		if (validate(actualArray, Rows, Cols))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, Rows, Cols))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest8() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case8");
+		int threadNumber = 4;
+		
+		int Rows = 0;
+		int Cols = 5;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_collapse2_dynamic(threadNumber, Rows, Cols);
+
+		if (validate(actualArray, Rows, Cols))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!validate(actualArray, Rows, Cols))
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest9() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case9");
+		int threadNumber = 4;
+		
+		int N1 = 7;
+		int N2 = 5;
+		int N3 = 3;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(N1 + "*" + N2 + "*" + N3);
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][][] actualArray = test.parallel_loopFor_collapse3(threadNumber, N1, N2, N3);
+		
+		boolean success = true;
+		for (int i = 0; i < N1; i++)
+			for (int j = 0; j < N2; j++)
+				for (int k = 0; k < N3; k++)
+					if (actualArray[i][j][k] != 1) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest10() {
+		loopFor_positive_test22 test = new loopFor_positive_test22();
+		Result result = new Result();
+		result.setTestName("Postive_test22_Case10");
+		int threadNumber = 4;
+		
+		int Rows = 23;
+		int Cols = 11;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("1");
+		result.setEndValue(Rows + "*" + Cols);
+		result.setStride("1");
+		result.setOperator("<=");
+		
+		long[] actual = test.parallel_loopFor_collapse2_reduction(threadNumber, Rows, Cols);
+		long expectedSum = (long)Rows * (Rows + 1) / 2 * Cols * (Cols + 1) / 2;
+		long expectedLast = Rows * 1000 + Cols;
+		boolean success = (actual[0] == expectedSum) && (actual[1] == expectedLast);
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	private boolean validate(int[][] actualArray, int Rows, int Cols){
+		for (int i = 0; i < Rows; i++) {
+			for (int j = 0; j < Cols; j++) {
+				if (actualArray[i][j] != i * Cols + j + 1) return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,352 @@
+package jUnitTestSuits.correctnessTests.loopFor;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.PjRuntime;
+import pj.Version;
+import pj.pr.backend.ExecutionBackend;
+import pj.pr.backend.ForkJoinBackend;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.LoopFor.*;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class LoopFor_Group9_corrTest {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "LoopFor", "CorrectnessJunitResults_Group9", false);
+	}
+	
+	@Test
+	public void LoopForTest1() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case1");
+		int threadNumber = 2;
+		
+		int Loops = 20;
+		int Count = 100;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_nowait(threadNumber, Loops, Count);
+		
+		boolean success = true;
+		for (int l = 0; l < Loops; l++)
+			for (int i = 0; i < Count; i++)
+				if (actualArray[l][i] != 11) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest2() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case2");
+		int threadNumber = 4;
+		
+		int Loops = 20;
+		int Count = 97;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_nowait(threadNumber, Loops, Count);
+		
+		boolean success = true;
+		for (int l = 0; l < Loops; l++)
+			for (int i = 0; i < Count; i++)
+				if (actualArray[l][i] != 11) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest3() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case3");
+		int threadNumber = 4;
+		
+		int Loops = 3;
+		int Count = 1000;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_nowait(threadNumber, Loops, Count);
+		
+		boolean success = true;
+		for (int l = 0; l < Loops; l++)
+			for (int i = 0; i < Count; i++)
+				if (actualArray[l][i] != 11) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest4() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case4");
+		int threadNumber = 8;
+		
+		int Loops = 12;
+		int Count = 50;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_nowait(threadNumber, Loops, Count);
+		
+		boolean success = true;
+		for (int l = 0; l < Loops; l++)
+			for (int i = 0; i < Count; i++)
+				if (actualArray[l][i] != 11) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest5() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case5");
+		int threadNumber = 3;
+		
+		int Count = 100;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray = test.parallel_loopFor_ordered_nowait(threadNumber, Count);
+		
+		boolean success = true;
+		for (int i = 0; i < 2 * Count; i++)
+			if (actualArray[i] != i) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	@Test
+	public void LoopForTest6() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case6");
+		int threadNumber = 4;
+		
+		int Count = 257;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray = test.parallel_loopFor_ordered_nowait(threadNumber, Count);
+		
+		boolean success = true;
+		for (int i = 0; i < 2 * Count; i++)
+			if (actualArray[i] != i) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	/*
+	 * the team is larger than the fork-join pool, the pool has to start the rest of the team
+	 * while its threads wait on the work-share ring
+	 */
+	@Test
+	public void LoopForTest7() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case7");
+		int threadNumber = 4;
+		
+		int Loops = 20;
+		int Count = 100;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray;
+		ExecutionBackend backend = PjRuntime.getExecutionBackend();
+		PjRuntime.setExecutionBackend(new ForkJoinBackend(new ForkJoinPool(1)));
+		try {
+			actualArray = test.parallel_loopFor_nowait(threadNumber, Loops, Count);
+		} finally {
+			PjRuntime.setExecutionBackend(backend);
+		}
+		
+		boolean success = true;
+		for (int l = 0; l < Loops; l++)
+			for (int i = 0; i < Count; i++)
+				if (actualArray[l][i] != 11) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	/*
+	 * the team is larger than the fork-join pool, the pool has to start the owners of the next
+	 * chunks while its threads are parked in ordered regions
+	 */
+	@Test
+	public void LoopForTest8() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case8");
+		int threadNumber = 4;
+		
+		int Count = 200;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray;
+		ExecutionBackend backend = PjRuntime.getExecutionBackend();
+		PjRuntime.setExecutionBackend(new ForkJoinBackend(new ForkJoinPool(1)));
+		try {
+			actualArray = test.parallel_loopFor_ordered_nowait(threadNumber, Count);
+		} finally {
+			PjRuntime.setExecutionBackend(backend);
+		}
+		
+		boolean success = true;
+		for (int i = 0; i < 2 * Count; i++)
+			if (actualArray[i] != i) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+	
+	/*
+	 * a thread leaves the team before the first loop, the loops after the work-share ring has
+	 * gone round once must not wait for it
+	 */
+	@Test
+	public void LoopForTest9() {
+		loopFor_positive_test23 test = new loopFor_positive_test23();
+		Result result = new Result();
+		result.setTestName("Postive_test23_Case9");
+		int threadNumber = 4;
+		
+		int Loops = 20;
+		int Count = 100;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] actualArray = test.parallel_loopFor_leave_team(threadNumber, Loops, Count);
+		
+		boolean success = true;
+		for (int l = 0; l < Loops; l++)
+			for (int i = 0; i < Count; i++)
+				if (actualArray[l][i] != 1) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+}
@@ -0,0 +1,131 @@
+package jUnitTestSuits.correctnessTests.reduction.group11;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingClauses.Reduction.reduction_positive_test11;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * Reductions over arrays and array sections, the elements are combined by the team after the
+ * reduction barrier. The arrays start at values other than the identity, which must be counted
+ * once only.
+ */
+public class Reduction_Group11_1Test {
+
+	private int threadNumber,arraySize;
+	private static Data Data = new Data();
+	private int processNum = SettingConstans.PROCESSNUM;
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Reduction","CorrectnessJunitResults_Group11", false);
+	}
+
+	@Test
+	public synchronized void ReductionTest1() {
+		threadNumber = 3;
+		arraySize = 1000;
+		int bins = 13;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test11 test = new reduction_positive_test11();
+		Result result = new Result();
+		result.setTestName("parallel_for_section_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		int[] expected = new int[bins + 2];
+		Arrays.fill(expected, 1);
+		for (int i = 0; i < arraySize; i++) {
+			expected[1 + (i * 7) % bins]++;
+		}
+		int[] actual = test.parallel_for_section_reduction(threadNumber, arraySize, bins);
+		result.setExpectedArrayValue(expected);
+		result.setActualArrayValue(actual);
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest2() {
+		threadNumber = 4;
+		arraySize = 1000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test11 test = new reduction_positive_test11();
+		Result result = new Result();
+		result.setTestName("parallel_for_array_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		double squares = 0;
+		for (int i = 0; i < arraySize; i++) {
+			squares += (double) i * i;
+		}
+		double[] expected = new double[]{arraySize, (double) arraySize * (arraySize - 1) / 2, squares};
+		double[] actual = test.parallel_for_array_reduction(threadNumber, arraySize);
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest3() {
+		threadNumber = 3;
+		arraySize = 40;
+		int rounds = 3;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test11 test = new reduction_positive_test11();
+		Result result = new Result();
+		result.setTestName("for_nowait_section_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		long power = 1L << (arraySize / 4 * rounds);
+		long[] expected = new long[]{power + arraySize * rounds, power, power, power};
+		long[] actual = test.for_nowait_reduction(threadNumber, arraySize, rounds);
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest4() {
+		threadNumber = 20;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test11 test = new reduction_positive_test11();
+		Result result = new Result();
+		result.setTestName("parallel_array_Case1");
+		result.setThreadCount(threadNumber);
+
+		int[] expected = new int[]{5 + threadNumber, 5 + threadNumber * (threadNumber - 1) / 2};
+		int[] actual = test.parallel_reduction(threadNumber);
+		result.setExpectedArrayValue(expected);
+		result.setActualArrayValue(actual);
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	private void check(Result result, boolean success) {
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+		Data.addResult(result);
+		if (!success)
+			fail("Test Failed");
+	}
+}
@@ -0,0 +1,169 @@
+package jUnitTestSuits.correctnessTests.reduction.group12;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingClauses.Reduction.reduction_positive_test12;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * min, max, minloc and maxloc reductions, the parallel results must equal the results of one
+ * thread, which runs the loops in order.
+ */
+public class Reduction_Group12_1Test {
+
+	private int threadNumber,arraySize;
+	private static Data Data = new Data();
+	private int processNum = SettingConstans.PROCESSNUM;
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Reduction","CorrectnessJunitResults_Group12", false);
+	}
+
+	@Test
+	public synchronized void ReductionTest1() {
+		threadNumber = 4;
+		arraySize = 1000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test12 test = new reduction_positive_test12();
+		Result result = new Result();
+		result.setTestName("parallel_for_min_max_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		Random random = new Random(arraySize);
+		int[] a = new int[arraySize];
+		for (int i = 0; i < arraySize; i++) {
+			a[i] = random.nextInt(1000) - 500;
+		}
+		String expected = test.parallel_for_min_max(1, a);
+		String actual = test.parallel_for_min_max(threadNumber, a);
+		result.setExpectedString(expected);
+		result.setActualString(actual);
+		check(result, expected.equals(actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest2() {
+		threadNumber = 3;
+		arraySize = 1000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test12 test = new reduction_positive_test12();
+		Result result = new Result();
+		result.setTestName("parallel_for_minloc_maxloc_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		//few distinct values, so the extremes occur at many locations and the first must win
+		Random random = new Random(arraySize);
+		double[] a = new double[arraySize];
+		for (int i = 0; i < arraySize; i++) {
+			a[i] = random.nextInt(20);
+		}
+		long[] expected = test.parallel_for_minloc_maxloc(1, a);
+		long[] actual = test.parallel_for_minloc_maxloc(threadNumber, a);
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest3() {
+		threadNumber = 20;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test12 test = new reduction_positive_test12();
+		Result result = new Result();
+		result.setTestName("parallel_maxloc_Case1");
+		result.setThreadCount(threadNumber);
+
+		int[] expected = new int[]{4, 4};
+		int[] actual = test.parallel_maxloc(threadNumber);
+		result.setExpectedArrayValue(expected);
+		result.setActualArrayValue(actual);
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest4() {
+		threadNumber = 3;
+		arraySize = 500;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test12 test = new reduction_positive_test12();
+		Result result = new Result();
+		result.setTestName("parallel_for_array_max_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		Random random = new Random(arraySize);
+		int[][] m = new int[arraySize][7];
+		for (int i = 0; i < arraySize; i++) {
+			for (int j = 0; j < 7; j++) {
+				m[i][j] = random.nextInt(100) - 90;
+			}
+		}
+		int[] expected = test.parallel_for_array_max(1, m);
+		int[] actual = test.parallel_for_array_max(threadNumber, m);
+		result.setExpectedArrayValue(expected);
+		result.setActualArrayValue(actual);
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest5() {
+		threadNumber = 8;
+		arraySize = 65536;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test12 test = new reduction_positive_test12();
+		Result result = new Result();
+		result.setTestName("parallel_histogram_last_loop_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		Random random = new Random(arraySize);
+		int[] keys = new int[arraySize];
+		for (int i = 0; i < arraySize; i++) {
+			keys[i] = random.nextInt(256);
+		}
+		int[] expected = test.parallel_histogram_last_loop(1, keys, 256);
+		expected[256] = threadNumber;
+		boolean success = true;
+		for (int run = 0; run < 20 && success; run++) {
+			int[] actual = test.parallel_histogram_last_loop(threadNumber, keys, 256);
+			result.setExpectedArrayValue(expected);
+			result.setActualArrayValue(actual);
+			success = Arrays.equals(expected, actual);
+		}
+		check(result, success);
+	}
+
+	private void check(Result result, boolean success) {
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+		Data.addResult(result);
+		if (!success)
+			fail("Test Failed");
+	}
+}
@@ -0,0 +1,136 @@
+package jUnitTestSuits.correctnessTests.reduction.group13;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingClauses.Reduction.reduction_positive_test13;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * reductions declared by declare reduction directives, the parallel results must equal the
+ * results of one thread.
+ */
+public class Reduction_Group13_1Test {
+
+	private int threadNumber,arraySize;
+	private static Data Data = new Data();
+	private int processNum = SettingConstans.PROCESSNUM;
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Reduction","CorrectnessJunitResults_Group13", false);
+	}
+
+	@Test
+	public synchronized void ReductionTest1() {
+		threadNumber = 4;
+		arraySize = 10000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test13 test = new reduction_positive_test13();
+		Result result = new Result();
+		result.setTestName("parallel_for_declared_add_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		Random random = new Random(arraySize);
+		int[] keys = new int[arraySize];
+		for (int i = 0; i < arraySize; i++) {
+			keys[i] = random.nextInt(64);
+		}
+		int[] expected = test.parallel_for_histogram(1, keys, 64);
+		int[] actual = test.parallel_for_histogram(threadNumber, keys, 64);
+		result.setExpectedArrayValue(expected);
+		result.setActualArrayValue(actual);
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest2() {
+		threadNumber = 3;
+		arraySize = 5000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test13 test = new reduction_positive_test13();
+		Result result = new Result();
+		result.setTestName("parallel_for_declared_bigsum_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		BigInteger expected = test.parallel_for_bigsum(1, arraySize);
+		BigInteger actual = test.parallel_for_bigsum(threadNumber, arraySize);
+		result.setExpectedString(expected.toString());
+		result.setActualString(actual.toString());
+		check(result, expected.equals(actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest3() {
+		threadNumber = 10;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test13 test = new reduction_positive_test13();
+		Result result = new Result();
+		result.setTestName("parallel_declared_gcd_Case1");
+		result.setThreadCount(threadNumber);
+
+		long[] expected = new long[]{12, 18};
+		long[] actual = test.parallel_gcd(threadNumber);
+		result.setExpectedString(Arrays.toString(expected));
+		result.setActualString(Arrays.toString(actual));
+		check(result, Arrays.equals(expected, actual));
+	}
+
+	@Test
+	public synchronized void ReductionTest4() {
+		threadNumber = 5;
+		arraySize = 2000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test13 test = new reduction_positive_test13();
+		Result result = new Result();
+		result.setTestName("parallel_for_declared_collect_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		Random random = new Random(arraySize);
+		int[] a = new int[arraySize];
+		for (int i = 0; i < arraySize; i++) {
+			a[i] = random.nextInt(300);
+		}
+		HashSet<Integer> expected = test.parallel_for_collect(1, a);
+		HashSet<Integer> actual = test.parallel_for_collect(threadNumber, a);
+		result.setExpectedString(expected.toString());
+		result.setActualString(actual.toString());
+		check(result, expected.equals(actual));
+	}
+
+	private void check(Result result, boolean success) {
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+		Data.addResult(result);
+		if (!success)
+			fail("Test Failed");
+	}
+}
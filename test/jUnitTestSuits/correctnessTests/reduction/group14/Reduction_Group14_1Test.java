@@ -0,0 +1,203 @@
+package jUnitTestSuits.correctnessTests.reduction.group14;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingClauses.Reduction.reduction_positive_test14;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * concat, union and merge reductions of collections, the parallel results must equal the results
+ * of one thread, concatenated lists in the same order whatever the schedule of the loop.
+ */
+public class Reduction_Group14_1Test {
+
+	private int threadNumber,arraySize;
+	private static Data Data = new Data();
+	private int processNum = SettingConstans.PROCESSNUM;
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Reduction","CorrectnessJunitResults_Group14", false);
+	}
+
+	@Test
+	public synchronized void ReductionTest1() {
+		threadNumber = 4;
+		arraySize = 10000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test14 test = new reduction_positive_test14();
+		Result result = new Result();
+		result.setTestName("parallel_for_concat_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		Object expected = test.parallel_for_concat(1, arraySize);
+		Object actual = test.parallel_for_concat(threadNumber, arraySize);
+		check(result, expected, actual);
+	}
+
+	@Test
+	public synchronized void ReductionTest2() {
+		threadNumber = 3;
+		arraySize = 1000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test14 test = new reduction_positive_test14();
+		Result result = new Result();
+		result.setTestName("parallel_for_concat_linked_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		String[] words = words(arraySize);
+		Object expected = test.parallel_for_concat_linked(1, words);
+		Object actual = test.parallel_for_concat_linked(threadNumber, words);
+		check(result, expected, actual);
+	}
+
+	@Test
+	public synchronized void ReductionTest3() {
+		threadNumber = 10;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test14 test = new reduction_positive_test14();
+		Result result = new Result();
+		result.setTestName("parallel_concat_Case1");
+		result.setThreadCount(threadNumber);
+
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < threadNumber; i++) {
+			expected.add(i);
+		}
+		Object actual = test.parallel_concat(threadNumber);
+		check(result, expected, actual);
+	}
+
+	@Test
+	public synchronized void ReductionTest4() {
+		threadNumber = 5;
+		arraySize = 20000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test14 test = new reduction_positive_test14();
+		Result result = new Result();
+		result.setTestName("parallel_for_union_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		Random random = new Random(arraySize);
+		int[] a = new int[arraySize];
+		for (int i = 0; i < arraySize; i++) {
+			a[i] = random.nextInt(100000);
+		}
+		Object expected = test.parallel_for_union(1, a);
+		Object actual = test.parallel_for_union(threadNumber, a);
+		check(result, expected, actual);
+	}
+
+	@Test
+	public synchronized void ReductionTest5() {
+		threadNumber = 4;
+		arraySize = 5000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test14 test = new reduction_positive_test14();
+		Result result = new Result();
+		result.setTestName("parallel_for_merge_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		String[] words = words(arraySize);
+		Object expected = test.parallel_for_merge(1, words);
+		Object actual = test.parallel_for_merge(threadNumber, words);
+		check(result, expected, actual);
+	}
+
+	@Test
+	public synchronized void ReductionTest6() {
+		threadNumber = 4;
+		arraySize = 1000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test14 test = new reduction_positive_test14();
+		Result result = new Result();
+		result.setTestName("parallel_for_concat_static_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		for (int chunk : new int[]{0, 3}) {
+			Object expected = test.parallel_for_concat_static(1, arraySize, chunk);
+			Object actual = test.parallel_for_concat_static(threadNumber, arraySize, chunk);
+			check(result, expected, actual);
+		}
+	}
+
+	@Test
+	public synchronized void ReductionTest7() {
+		threadNumber = 3;
+		arraySize = 2000;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+
+		reduction_positive_test14 test = new reduction_positive_test14();
+		Result result = new Result();
+		result.setTestName("parallel_for_concat_dynamic_Case1");
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		String[] words = words(arraySize);
+		for (boolean linked : new boolean[]{false, true}) {
+			Object expected = test.parallel_for_concat_dynamic(1, words, linked);
+			Object actual = test.parallel_for_concat_dynamic(threadNumber, words, linked);
+			check(result, expected, actual);
+		}
+	}
+
+	/*
+	 * random words of 1 to 6 letters out of few letters, so that words repeat
+	 */
+	private String[] words(int count) {
+		Random random = new Random(count);
+		String[] words = new String[count];
+		for (int i = 0; i < count; i++) {
+			StringBuilder word = new StringBuilder();
+			int length = 1 + random.nextInt(6);
+			for (int j = 0; j < length; j++) {
+				word.append((char) ('a' + random.nextInt(3)));
+			}
+			words[i] = word.toString();
+		}
+		return words;
+	}
+
+	private void check(Result result, Object expected, Object actual) {
+		boolean success = expected.equals(actual);
+		result.setExpectedString(String.valueOf(expected.hashCode()));
+		result.setActualString(String.valueOf(actual.hashCode()));
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+		Data.addResult(result);
+		if (!success)
+			fail("Test Failed");
+	}
+}
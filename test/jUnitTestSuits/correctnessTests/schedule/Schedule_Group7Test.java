@@ -0,0 +1,328 @@
+package jUnitTestSuits.correctnessTests.schedule;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Pyjama;
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingClauses.Schedule.schedule_positive_test4;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class Schedule_Group7Test {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Schedule", "CorrectnessJunitResults_Group7", false);
+	}
+	
+	@Test
+	public void ScheduleTest1() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Runtime_Static_Case1");
+		int threadNumber = 4;
+		result.setThreadCount(threadNumber);
+		int chunkSize=0;
+		result.setChunkSize("Default");
+		int arraySize=10;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_runtime(threadNumber, arraySize, Pyjama.omp_sched_static, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest2() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Runtime_Static_Case2");
+		int threadNumber = 3;
+		result.setThreadCount(threadNumber);
+		int chunkSize=3;
+		result.setChunkSize(chunkSize+"");
+		int arraySize=100;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_runtime(threadNumber, arraySize, Pyjama.omp_sched_static, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest3() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Runtime_Dynamic_Case1");
+		int threadNumber = 4;
+		result.setThreadCount(threadNumber);
+		int chunkSize=0;
+		result.setChunkSize("Default");
+		int arraySize=10;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_runtime(threadNumber, arraySize, Pyjama.omp_sched_dynamic, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest4() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Runtime_Dynamic_Case2");
+		int threadNumber = 3;
+		result.setThreadCount(threadNumber);
+		int chunkSize=5;
+		result.setChunkSize(chunkSize+"");
+		int arraySize=100;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_runtime(threadNumber, arraySize, Pyjama.omp_sched_dynamic, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest5() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Runtime_Guided_Case1");
+		int threadNumber = 4;
+		result.setThreadCount(threadNumber);
+		int chunkSize=0;
+		result.setChunkSize("Default");
+		int arraySize=10;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_runtime(threadNumber, arraySize, Pyjama.omp_sched_guided, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest6() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Runtime_Guided_Case2");
+		int threadNumber = 3;
+		result.setThreadCount(threadNumber);
+		int chunkSize=2;
+		result.setChunkSize(chunkSize+"");
+		int arraySize=100;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_runtime(threadNumber, arraySize, Pyjama.omp_sched_guided, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest7() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Runtime_Auto_Case1");
+		int threadNumber = 4;
+		result.setThreadCount(threadNumber);
+		int chunkSize=0;
+		result.setChunkSize("Default");
+		int arraySize=100;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_runtime(threadNumber, arraySize, Pyjama.omp_sched_auto, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest8() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Auto_Case1");
+		int threadNumber = 2;
+		result.setThreadCount(threadNumber);
+		result.setChunkSize("Default");
+		int arraySize=10;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_auto(threadNumber, arraySize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest9() {
+		schedule_positive_test4 test = new schedule_positive_test4();
+		Result result = new Result();
+		result.setTestName("Auto_Case2");
+		int threadNumber = 4;
+		result.setThreadCount(threadNumber);
+		result.setChunkSize("Default");
+		int arraySize=100;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule_auto(threadNumber, arraySize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	private boolean validate(int[] actualArray,int[] expectedArray){
+		boolean flag=true;
+		for (int i = 0; i < actualArray.length; i++) {
+			if (actualArray[i]!=expectedArray[i]) {
+				flag=false;
+			}
+		}
+		return flag;
+	} 
+
+}
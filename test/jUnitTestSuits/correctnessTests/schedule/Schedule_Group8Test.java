@@ -0,0 +1,230 @@
+package jUnitTestSuits.correctnessTests.schedule;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingClauses.Schedule.schedule_positive_test5;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class Schedule_Group8Test {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Schedule", "CorrectnessJunitResults_Group8", false);
+	}
+	
+	@Test
+	public void ScheduleTest1() {
+		schedule_positive_test5 test = new schedule_positive_test5();
+		Result result = new Result();
+		result.setTestName("Steal_Case1");
+		int threadNumber = 4;
+		result.setThreadCount(threadNumber);
+		result.setChunkSize("Default");
+		int arraySize=10;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule(threadNumber, arraySize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest2() {
+		schedule_positive_test5 test = new schedule_positive_test5();
+		Result result = new Result();
+		result.setTestName("Steal_Case2");
+		int threadNumber = 3;
+		result.setThreadCount(threadNumber);
+		result.setChunkSize("Default");
+		int arraySize=100;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule(threadNumber, arraySize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest3() {
+		schedule_positive_test5 test = new schedule_positive_test5();
+		Result result = new Result();
+		result.setTestName("Steal_Case3");
+		int threadNumber = 8;
+		result.setThreadCount(threadNumber);
+		result.setChunkSize("Default");
+		int arraySize=1000;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule(threadNumber, arraySize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest4() {
+		schedule_positive_test5 test = new schedule_positive_test5();
+		Result result = new Result();
+		result.setTestName("Steal_Case4");
+		int threadNumber = 4;
+		result.setThreadCount(threadNumber);
+		int chunkSize=1;
+		result.setChunkSize(chunkSize+"");
+		int arraySize=10;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule(threadNumber, arraySize, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest5() {
+		schedule_positive_test5 test = new schedule_positive_test5();
+		Result result = new Result();
+		result.setTestName("Steal_Case5");
+		int threadNumber = 3;
+		result.setThreadCount(threadNumber);
+		int chunkSize=5;
+		result.setChunkSize(chunkSize+"");
+		int arraySize=100;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule(threadNumber, arraySize, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	@Test
+	public void ScheduleTest6() {
+		schedule_positive_test5 test = new schedule_positive_test5();
+		Result result = new Result();
+		result.setTestName("Steal_Case6");
+		int threadNumber = 8;
+		result.setThreadCount(threadNumber);
+		int chunkSize=16;
+		result.setChunkSize(chunkSize+"");
+		int arraySize=1000;
+		result.setArraySize(arraySize);
+		
+		
+		int[] actualArray = test.parallel_for_schedule(threadNumber, arraySize, chunkSize);
+		int[] expectedArray = new int[arraySize];
+		
+		for (int i = 0; i < arraySize; i++) {
+			expectedArray[i]=1;
+		}
+		
+		if (validate(actualArray,expectedArray))
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		result.setActualArrayValue(actualArray);
+		result.setExpectedArrayValue(expectedArray);
+		Data.addResult(result);
+
+		if (!validate(actualArray,expectedArray)) fail("Test Failed");
+	}
+	
+	private boolean validate(int[] actualArray,int[] expectedArray){
+		boolean flag=true;
+		for (int i = 0; i < actualArray.length; i++) {
+			if (actualArray[i]!=expectedArray[i]) {
+				flag=false;
+			}
+		}
+		return flag;
+	} 
+
+}
@@ -0,0 +1,152 @@
+package jUnitTestSuits.correctnessTests.simd;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.Simd.*;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class Simd_corrTest {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Simd", "CorrectnessJunitResults", false);
+	}
+	
+	@Test
+	public void SimdTest1() {
+		simd_positive_test1 test = new simd_positive_test1();
+		Result result = new Result();
+		result.setTestName("Postive_test1_Case1");
+		int threadNumber = 3;
+		
+		//a length that is not a multiple of the lanes leaves iterations to the scalar tail
+		int Count = 1003;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		double[] a = new double[Count];
+		double[] b = new double[Count];
+		double expected = 0;
+		for (int i = 0; i < Count; i++) {
+			a[i] = i % 7;
+			b[i] = (i % 5) - 2;
+			expected += a[i] * b[i];
+		}
+		double[] actualSums = test.simd_dot(threadNumber, a, b);
+		
+		boolean success = true;
+		for (int i = 0; i < actualSums.length; i++)
+			if (actualSums[i] != expected) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+
+	
+	@Test
+	public void SimdTest2() {
+		simd_positive_test1 test = new simd_positive_test1();
+		Result result = new Result();
+		result.setTestName("Postive_test1_Case2");
+		int threadNumber = 4;
+		
+		int Count = 1001;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		float[] x = new float[Count];
+		float[] y = new float[Count];
+		float[] expected = new float[Count];
+		for (int i = 0; i < Count; i++) {
+			x[i] = i % 3;
+			y[i] = i % 4;
+			expected[i] = 2 * x[i] + y[i];
+		}
+		for (int i = 1; i < Count - 1; i++)
+			expected[i] += x[i - 1] + x[i + 1];
+		int end = test.simd_saxpy_stencil(threadNumber, 2f, x, y);
+		
+		boolean success = (end == Count - 1);
+		for (int i = 0; i < Count; i++)
+			if (y[i] != expected[i]) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+
+	
+	@Test
+	public void SimdTest3() {
+		simd_positive_test1 test = new simd_positive_test1();
+		Result result = new Result();
+		result.setTestName("Postive_test1_Case3");
+		
+		int Count = 99;
+		result.setThreadCount(1);
+		result.setInitialValue("1");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<=");
+		
+		long difference = 0;
+		long product = 1;
+		long parity = 0;
+		long running = 0;
+		for (int k = 1; k <= Count; k++) {
+			difference -= k;
+			product *= (k % 3 == 0) ? 2 : 1;
+			parity ^= k;
+		}
+		for (int k = 0; k < Count; k++)
+			running += running % 2 + k;
+		long[] actual = test.simd_reductions(Count);
+		
+		boolean success = actual[0] == difference && actual[1] == product && actual[2] == parity && actual[3] == running;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+}
@@ -0,0 +1,125 @@
+package jUnitTestSuits.correctnessTests.taskloop;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.Taskloop.*;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class Taskloop_corrTest {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Taskloop", "CorrectnessJunitResults", false);
+	}
+	
+	@Test
+	public void TaskloopTest1() {
+		taskloop_positive_test1 test = new taskloop_positive_test1();
+		Result result = new Result();
+		result.setTestName("Postive_test1_Case1");
+		int threadNumber = 3;
+		
+		int Count = 100;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray = test.parallel_taskloop_single(threadNumber, Count, 1);
+		
+		boolean success = true;
+		for (int i = 0; i < Count; i++)
+			if (actualArray[i] != 3) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+
+	
+	@Test
+	public void TaskloopTest2() {
+		taskloop_positive_test1 test = new taskloop_positive_test1();
+		Result result = new Result();
+		result.setTestName("Postive_test1_Case2");
+		int threadNumber = 4;
+		
+		int Count = 1000;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray = test.parallel_taskloop_single(threadNumber, Count, 64);
+		
+		boolean success = true;
+		for (int i = 0; i < Count; i++)
+			if (actualArray[i] != 3) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+
+	
+	@Test
+	public void TaskloopTest3() {
+		taskloop_positive_test1 test = new taskloop_positive_test1();
+		Result result = new Result();
+		result.setTestName("Postive_test1_Case3");
+		int threadNumber = 4;
+		
+		int Count = 257;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[] actualArray = test.parallel_taskloop_master(threadNumber, Count);
+		
+		boolean success = true;
+		for (int i = 0; i < Count; i++)
+			if (actualArray[i] != (i % 3 == 0 ? 2 : 1)) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+}
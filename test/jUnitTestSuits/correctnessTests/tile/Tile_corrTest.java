@@ -0,0 +1,153 @@
+package jUnitTestSuits.correctnessTests.tile;
+
+import static org.junit.Assert.*;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.Tile.*;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+public class Tile_corrTest {
+
+	private static Data Data = new Data();
+
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data, "JsonResult", "Tile", "CorrectnessJunitResults", false);
+	}
+	
+	@Test
+	public void TileTest1() {
+		tile_positive_test1 test = new tile_positive_test1();
+		Result result = new Result();
+		result.setTestName("Postive_test1_Case1");
+		
+		//neither size is a multiple of its tile size, so the last tiles are cut short
+		int rows = 37;
+		int cols = 23;
+		result.setThreadCount(1);
+		result.setInitialValue("0");
+		result.setEndValue(rows + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		int[][] visits = test.tile_visit(rows, cols, 8, 5);
+		
+		boolean success = true;
+		for (int i = 0; i < rows; i++)
+			for (int j = 0; j < cols; j++)
+				if (visits[i][j] != i * cols + j + 1) success = false;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+
+	
+	@Test
+	public void TileTest2() {
+		tile_positive_test1 test = new tile_positive_test1();
+		Result result = new Result();
+		result.setTestName("Postive_test1_Case2");
+		
+		int Count = 50;
+		result.setThreadCount(1);
+		result.setInitialValue("1");
+		result.setEndValue(Count + "");
+		result.setStride("3");
+		result.setOperator("<=");
+		
+		long expected0 = 0;
+		long expected1 = 0;
+		for (int i = 1; i <= Count; i += 3)
+			expected0 += i;
+		for (long i = 2; i < Count; i = i + 2)
+			for (int j = -Count; j <= Count; j += 7)
+				expected1 += i * j + 1;
+		long[] actual = test.tile_strides(Count);
+		
+		boolean success = actual[0] == expected0 && actual[1] == expected1;
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+
+	
+	@Test
+	public void TileTest3() {
+		tileMatmulTest("Postive_test1_Case3", 3, false);
+	}
+
+	
+	@Test
+	public void TileTest4() {
+		tileMatmulTest("Postive_test1_Case4", 4, true);
+	}
+	
+	private void tileMatmulTest(String testName, int threadNumber, boolean collapse) {
+		tile_positive_test1 test = new tile_positive_test1();
+		Result result = new Result();
+		result.setTestName(testName);
+		
+		int Count = 45;
+		result.setThreadCount(threadNumber);
+		result.setInitialValue("0");
+		result.setEndValue(Count + "");
+		result.setStride("1");
+		result.setOperator("<");
+		
+		double[][] a = new double[Count][Count + 3];
+		double[][] b = new double[Count + 3][Count + 2];
+		for (int i = 0; i < Count; i++)
+			for (int k = 0; k < Count + 3; k++)
+				a[i][k] = (i + k) % 5;
+		for (int k = 0; k < Count + 3; k++)
+			for (int j = 0; j < Count + 2; j++)
+				b[k][j] = (k * j) % 3;
+		double[][] c = test.tile_matmul(threadNumber, a, b, collapse);
+		
+		boolean success = true;
+		for (int i = 0; i < Count; i++)
+			for (int j = 0; j < Count + 2; j++) {
+				double expected = 0;
+				for (int k = 0; k < Count + 3; k++)
+					expected += a[i][k] * b[k][j];
+				if (c[i][j] != expected) success = false;
+			}
+
+		if (success)
+			result.setJunitResult("Success");
+		else
+			result.setJunitResult("Failed");
+
+		Data.addResult(result);
+
+		if (!success)
+			fail("Test Failed");
+	}
+}
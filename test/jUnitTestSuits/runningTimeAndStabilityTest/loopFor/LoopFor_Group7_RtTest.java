@@ -0,0 +1,89 @@
+package jUnitTestSuits.runningTimeAndStabilityTest.loopFor;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.LoopFor.loopFor_RT;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * Worksharing loops with a small body, a stride and lastprivate, where the running time
+ * is mostly the iteration code generated around the loop body.
+ */
+public class LoopFor_Group7_RtTest {
+
+	private static Data Data= new Data();
+	private static int arraySize = 1000000;
+	private static int repeat = 200;
+	private int processNum = SettingConstans.PROCESSNUM;
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data,"JsonResult","LoopFor","RunningTimeJunitResults",true);
+	}
+	
+	@Test
+	public void parallel_for_lastprivate_case1() {
+		int threadNumber = 1;
+		test(threadNumber, false);
+	}
+	@Test
+	public void parallel_for_lastprivate_case2() {
+		int threadNumber = 2;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber, false);
+	}
+	@Test
+	public void parallel_for_lastprivate_case3() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber, false);
+	}
+	@Test
+	public void parallel_for_lastprivate_dynamic_case1() {
+		int threadNumber = 1;
+		test(threadNumber, true);
+	}
+	@Test
+	public void parallel_for_lastprivate_dynamic_case2() {
+		int threadNumber = 2;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber, true);
+	}
+	@Test
+	public void parallel_for_lastprivate_dynamic_case3() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber, true);
+	}
+	
+	private void test(int threadNumber, boolean dynamic){
+		loopFor_RT test = new loopFor_RT();
+		Result result = new Result();
+		result.setTestName(arraySize + " size array " + repeat + " times parallel_for_lastprivate" + (dynamic ? "_dynamic" : ""));		
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+		
+		//warm up
+		if (dynamic) {
+			test.parallel_for_lastprivate_dynamic(threadNumber, arraySize, repeat);
+		} else {
+			test.parallel_for_lastprivate(threadNumber, arraySize, repeat);
+		}
+		long[] runningTime = dynamic ? test.parallel_for_lastprivate_dynamic(threadNumber, arraySize, repeat) 
+				: test.parallel_for_lastprivate(threadNumber, arraySize, repeat);
+		result.setTestRunningTime(runningTime[0], runningTime[1]);
+		Data.addResult(result);
+	}
+
+}
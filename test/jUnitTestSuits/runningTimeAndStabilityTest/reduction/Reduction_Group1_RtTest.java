@@ -0,0 +1,94 @@
+package jUnitTestSuits.runningTimeAndStabilityTest.reduction;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingClauses.Reduction.reduction_RT;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * Histogram with a reduction over the histogram array against a critical update of every
+ * count, and a list collected by a concat reduction against a critical add of every element,
+ * the critical versions serialise the team on the global critical lock.
+ */
+public class Reduction_Group1_RtTest {
+
+	private static Data Data= new Data();
+	private static int arraySize = 20000000;
+	private static int bins = 4096;
+	private int processNum = SettingConstans.PROCESSNUM;
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data,"JsonResult","Reduction","RunningTimeJunitResults",true);
+	}
+
+	@Test
+	public void histogram_critical_case1() {
+		test(1, false);
+	}
+	@Test
+	public void histogram_reduction_case1() {
+		test(1, true);
+	}
+	@Test
+	public void histogram_critical_case2() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber, false);
+	}
+	@Test
+	public void histogram_reduction_case2() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber, true);
+	}
+
+	@Test
+	public void collect_critical_case1() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		testCollect(threadNumber, false);
+	}
+	@Test
+	public void collect_concat_case1() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		testCollect(threadNumber, true);
+	}
+
+	private void testCollect(int threadNumber, boolean concatReduction){
+		reduction_RT test = new reduction_RT();
+		Result result = new Result();
+		result.setTestName("collect into list" + (concatReduction ? "_concat" : "_critical"));
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		long[] runningTime = test.collect(threadNumber, arraySize, concatReduction);
+		result.setTestRunningTime(runningTime[0], runningTime[1]);
+		Data.addResult(result);
+	}
+
+	private void test(int threadNumber, boolean sectionReduction){
+		reduction_RT test = new reduction_RT();
+		Result result = new Result();
+		result.setTestName(bins + " bins histogram" + (sectionReduction ? "_reduction" : "_critical"));
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+
+		long[] runningTime = test.histogram(threadNumber, arraySize, bins, sectionReduction);
+		result.setTestRunningTime(runningTime[0], runningTime[1]);
+		Data.addResult(result);
+	}
+
+}
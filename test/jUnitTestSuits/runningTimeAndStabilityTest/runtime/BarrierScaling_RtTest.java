@@ -0,0 +1,184 @@
+package jUnitTestSuits.runningTimeAndStabilityTest.runtime;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import pj.pr.PjCyclicBarrier;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * Team barrier scaling from 2 to 128 threads. The baseline is the lock based barrier PjCyclicBarrier
+ * was before it spun and combined arrivals in a tree, against PjCyclicBarrier with one flat counter
+ * (fan-in of the whole team) and with the combining tree of PjCyclicBarrier.FAN_IN parties per node.
+ */
+public class BarrierScaling_RtTest {
+
+	private static int[] threadNumbers = {2, 4, 8, 16, 32, 64, 128};
+	private static int roundNumber = 2000;
+	private static Data Data= new Data();
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+	
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data,"JsonResult","Runtime","RunningTimeJunitResults",true);
+	}
+	
+	@Test
+	public void barrier_lock_condition() throws InterruptedException {
+		for (int threadNumber : threadNumbers) {
+			measure("barrier_lock_condition", threadNumber, new LockConditionBarrier(threadNumber));
+		}
+	}
+	
+	@Test
+	public void barrier_centralized() throws InterruptedException {
+		for (int threadNumber : threadNumbers) {
+			measure("barrier_centralized", threadNumber, teamBarrier(threadNumber, threadNumber));
+		}
+	}
+	
+	@Test
+	public void barrier_combining_tree() throws InterruptedException {
+		for (int threadNumber : threadNumbers) {
+			measure("barrier_combining_tree", threadNumber, teamBarrier(threadNumber, PjCyclicBarrier.FAN_IN));
+		}
+	}
+	
+	private interface TeamBarrier {
+		void await(int aliasID) throws InterruptedException, BrokenBarrierException;
+	}
+	
+	private static TeamBarrier teamBarrier(int threadNumber, int fanIn) {
+		final PjCyclicBarrier barrier = new PjCyclicBarrier(threadNumber, null, null, fanIn);
+		return new TeamBarrier() {
+			@Override
+			public void await(int aliasID) throws InterruptedException, BrokenBarrierException {
+				barrier.await(aliasID);
+			}
+		};
+	}
+	
+	/*
+	 * The barrier of the runtime before it spun and combined arrivals: every arrival takes one lock,
+	 * the last one signals a condition all others wait on. Copied from the former PjCyclicBarrier,
+	 * which was based on java.util.concurrent.CyclicBarrier, written by Doug Lea with assistance
+	 * from members of JCP JSR-166 Expert Group and released to the public domain.
+	 */
+	private static class LockConditionBarrier implements TeamBarrier {
+		private static class Generation {
+			boolean broken = false;
+		}
+		
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition trip = lock.newCondition();
+		private final int parties;
+		private Generation generation = new Generation();
+		private int count;
+		
+		LockConditionBarrier(int parties) {
+			this.parties = parties;
+			this.count = parties;
+		}
+		
+		private void nextGeneration() {
+			trip.signalAll();
+			count = parties;
+			generation = new Generation();
+		}
+		
+		private void breakBarrier() {
+			generation.broken = true;
+			count = parties;
+			trip.signalAll();
+		}
+		
+		@Override
+		public void await(int aliasID) throws InterruptedException, BrokenBarrierException {
+			final ReentrantLock lock = this.lock;
+			lock.lock();
+			try {
+				final Generation g = generation;
+				if (g.broken)
+					throw new BrokenBarrierException();
+				if (Thread.interrupted()) {
+					breakBarrier();
+					throw new InterruptedException();
+				}
+				if (--count == 0) {
+					nextGeneration();
+					return;
+				}
+				for (;;) {
+					try {
+						trip.await();
+					} catch (InterruptedException ie) {
+						if (g == generation && !g.broken) {
+							breakBarrier();
+							throw ie;
+						} else {
+							Thread.currentThread().interrupt();
+						}
+					}
+					if (g.broken)
+						throw new BrokenBarrierException();
+					if (g != generation)
+						return;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+	
+	private static void measure(String testName, int threadNumber, TeamBarrier barrier) throws InterruptedException {
+		//warm up
+		run(barrier, threadNumber, roundNumber);
+		Result result = new Result();
+		result.setTestName(testName + ":" + threadNumber + "threads:" + roundNumber + "rounds");
+		long start = System.nanoTime();
+		run(barrier, threadNumber, roundNumber);
+		long end = System.nanoTime();
+		result.setTestRunningTime(start, end);
+		result.setRemark(((double)(end - start) / roundNumber) + " ns per barrier, "
+				+ Runtime.getRuntime().availableProcessors() + " processors");
+		Data.addResult(result);
+	}
+	
+	private static void run(final TeamBarrier barrier, int threadNumber, final int rounds) throws InterruptedException {
+		Thread[] team = new Thread[threadNumber];
+		for (int i = 0; i < threadNumber; i++) {
+			final int aliasID = i;
+			team[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						for (int r = 0; r < rounds; r++) {
+							barrier.await(aliasID);
+						}
+					} catch (InterruptedException e) {
+						e.printStackTrace();
+					} catch (BrokenBarrierException e) {
+						e.printStackTrace();
+					}
+				}
+			};
+			team[i].start();
+		}
+		for (Thread member : team) {
+			member.join();
+		}
+	}
+}
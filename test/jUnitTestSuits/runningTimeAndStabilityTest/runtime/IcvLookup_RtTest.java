@@ -0,0 +1,82 @@
+package jUnitTestSuits.runningTimeAndStabilityTest.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.PjRuntime;
+import pj.Pyjama;
+import pj.Version;
+import pj.pr.InternalControlVariables;
+import pj.pr.PjExecutor;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * Per-call cost of the ICV lookup behind omp_get_thread_num(), on the encountering
+ * thread (thread local ICV) and on a team worker (ICV field of PjWorkerThread).
+ */
+public class IcvLookup_RtTest {
+
+	private static int callNumber = 10000000;
+	private static Data Data= new Data();
+	private static volatile int sink;
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+	
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data,"JsonResult","Runtime","RunningTimeJunitResults",true);
+	}
+	
+	@Test
+	public void icv_lookup_encountering_thread() {
+		measure("icv_lookup_encountering_thread");
+	}
+	
+	@Test
+	public void icv_lookup_worker_thread() throws InterruptedException {
+		final CountDownLatch finished = new CountDownLatch(1);
+		InternalControlVariables icv = PjRuntime.getCurrentThreadICV();
+		PjExecutor.submit(1, new Callable<Void>() {
+			@Override
+			public Void call() {
+				measure("icv_lookup_worker_thread");
+				finished.countDown();
+				return null;
+			}
+		}, icv);
+		finished.await();
+	}
+	
+	private static void measure(String testName) {
+		Result result = new Result();
+		result.setTestName(testName + ":" + callNumber);
+		//warm up
+		loop(callNumber);
+		long start = System.nanoTime();
+		loop(callNumber);
+		long end = System.nanoTime();
+		result.setTestRunningTime(start, end);
+		result.setRemark(((double)(end - start) / callNumber) + " ns per call");
+		synchronized (Data) {
+			Data.addResult(result);
+		}
+	}
+	
+	private static void loop(int calls) {
+		int sum = 0;
+		for (int i = 0; i < calls; i++) {
+			sum += Pyjama.omp_get_thread_num();
+		}
+		sink = sum;
+	}
+}
@@ -0,0 +1,118 @@
+package jUnitTestSuits.runningTimeAndStabilityTest.schedule;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingClauses.Schedule.schedule_RT;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+
+public class Schedule_Group7_RtTest {
+
+	private static int arraySize = 4000;
+	private static Data Data= new Data();
+	private int processNum = SettingConstans.PROCESSNUM;
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+	
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data,"JsonResult","Schedule","RunningTimeJunitResults",true);
+	}
+	
+	@Test
+	public void schedule_case1() {
+		int threadNumber = 2;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber);
+	}
+	
+	@Test
+	public void schedule_case2() {
+		int threadNumber = 3;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber);
+	}
+	
+	@Test
+	public void schedule_case3() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber);
+	}
+	
+	@Test
+	public void schedule_case4() {
+		int threadNumber = 5;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber);
+	}
+	
+	@Test
+	public void schedule_case5() {
+		int threadNumber = 6;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber);
+	}
+	
+	@Test
+	public void schedule_case6() {
+		int threadNumber = 7;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber);
+	}
+	
+	@Test
+	public void schedule_case7() {
+		int threadNumber = 8;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber);
+	}
+	
+	/*
+	 * Triangular and irregular iteration costs under each schedule, so that guided, the adaptive
+	 * auto schedule and work stealing can be compared against static and dynamic on loops where
+	 * the iterations are not uniform.
+	 */
+	private void test(int threadNumber){
+		schedule_RT test = new schedule_RT();
+		String[] schedules = {"static", "dynamic", "guided", "auto", "steal"};
+		for (String schedule : schedules) {
+			record(threadNumber, "parallel_for_triangular_" + schedule, test);
+			record(threadNumber, "parallel_for_irregular_" + schedule, test);
+		}
+	}
+	
+	private void record(int threadNumber, String testName, schedule_RT test){
+		Result result = new Result();
+		result.setTestName(testName+":"+arraySize);	
+		result.setThreadCount(threadNumber);
+		
+		long[] runningTime = run(testName, test, threadNumber);
+		result.setTestRunningTime(runningTime[0], runningTime[1]);
+		Data.addResult(result);
+	}
+	
+	private long[] run(String testName, schedule_RT test, int threadNumber){
+		if (testName.equals("parallel_for_triangular_static")) return test.parallel_for_triangular_static(threadNumber, arraySize);
+		if (testName.equals("parallel_for_triangular_dynamic")) return test.parallel_for_triangular_dynamic(threadNumber, arraySize);
+		if (testName.equals("parallel_for_triangular_guided")) return test.parallel_for_triangular_guided(threadNumber, arraySize);
+		if (testName.equals("parallel_for_irregular_static")) return test.parallel_for_irregular_static(threadNumber, arraySize);
+		if (testName.equals("parallel_for_irregular_dynamic")) return test.parallel_for_irregular_dynamic(threadNumber, arraySize);
+		if (testName.equals("parallel_for_irregular_guided")) return test.parallel_for_irregular_guided(threadNumber, arraySize);
+		if (testName.equals("parallel_for_triangular_auto")) return test.parallel_for_triangular_auto(threadNumber, arraySize);
+		if (testName.equals("parallel_for_irregular_auto")) return test.parallel_for_irregular_auto(threadNumber, arraySize);
+		if (testName.equals("parallel_for_triangular_steal")) return test.parallel_for_triangular_steal(threadNumber, arraySize);
+		return test.parallel_for_irregular_steal(threadNumber, arraySize);
+	}
+
+}
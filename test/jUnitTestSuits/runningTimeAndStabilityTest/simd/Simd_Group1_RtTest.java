@@ -0,0 +1,102 @@
+package jUnitTestSuits.runningTimeAndStabilityTest.simd;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.Simd.simd_RT;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * Dot product, saxpy and stencil kernels as for simd loops and as for loops. The arrays
+ * fit in the cache, so the running time is mostly the chunk loops.
+ */
+public class Simd_Group1_RtTest {
+
+	private static Data Data= new Data();
+	private static int arraySize = 20000;
+	private static int repeat = 5000;
+	private int processNum = SettingConstans.PROCESSNUM;
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data,"JsonResult","Simd","RunningTimeJunitResults",true);
+	}
+	
+	@Test
+	public void dot_case1() {
+		test("dot", 1, false);
+	}
+	@Test
+	public void dot_simd_case1() {
+		test("dot", 1, true);
+	}
+	@Test
+	public void dot_simd_case2() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test("dot", threadNumber, true);
+	}
+	@Test
+	public void saxpy_case1() {
+		test("saxpy", 1, false);
+	}
+	@Test
+	public void saxpy_simd_case1() {
+		test("saxpy", 1, true);
+	}
+	@Test
+	public void saxpy_simd_case2() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test("saxpy", threadNumber, true);
+	}
+	@Test
+	public void stencil_case1() {
+		test("stencil", 1, false);
+	}
+	@Test
+	public void stencil_simd_case1() {
+		test("stencil", 1, true);
+	}
+	@Test
+	public void stencil_simd_case2() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test("stencil", threadNumber, true);
+	}
+	
+	private long[] run(simd_RT test, String kernel, int threadNumber, boolean simd) {
+		if ("dot".equals(kernel)) {
+			return test.dot(threadNumber, arraySize, repeat, simd);
+		} else if ("saxpy".equals(kernel)) {
+			return test.saxpy(threadNumber, arraySize, repeat, simd);
+		} else {
+			return test.stencil(threadNumber, arraySize, repeat, simd);
+		}
+	}
+	
+	private void test(String kernel, int threadNumber, boolean simd){
+		simd_RT test = new simd_RT();
+		Result result = new Result();
+		result.setTestName(arraySize + " size array " + repeat + " times " + kernel + (simd ? "_simd" : ""));		
+		result.setThreadCount(threadNumber);
+		result.setArraySize(arraySize);
+		
+		//warm up
+		run(test, kernel, threadNumber, simd);
+		long[] runningTime = run(test, kernel, threadNumber, simd);
+		result.setTestRunningTime(runningTime[0], runningTime[1]);
+		Data.addResult(result);
+	}
+
+}
@@ -0,0 +1,67 @@
+package jUnitTestSuits.runningTimeAndStabilityTest.tile;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import pj.Version;
+import Domain.SettingConstans;
+import Domain.Bean.Data;
+import Domain.Bean.Result;
+import PyjamaCode.TestingDirectives.Tile.tile_RT;
+import Utility.JSONDatabaseHelper.resultWriterHelper;
+
+/*
+ * Matrix product with and without tiling all three loops. The matrices are far larger
+ * than the cache, so the running time is mostly the cache misses on b.
+ */
+public class Tile_Group1_RtTest {
+
+	private static Data Data= new Data();
+	private static int matrixSize = 1024;
+	private int processNum = SettingConstans.PROCESSNUM;
+	@Rule
+	public Timeout globalTimeout = new Timeout(SettingConstans.TIMEOUT);
+	@AfterClass
+	public static void tearDownAfterClass() throws Exception {
+		Data.setVersion(Version.compilerVersion);
+		resultWriterHelper n = new resultWriterHelper();
+		n.write(Data,"JsonResult","Tile","RunningTimeJunitResults",true);
+	}
+	
+	@Test
+	public void matmul_case1() {
+		test(1, false);
+	}
+	@Test
+	public void matmul_tiled_case1() {
+		test(1, true);
+	}
+	@Test
+	public void matmul_case2() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber, false);
+	}
+	@Test
+	public void matmul_tiled_case2() {
+		int threadNumber = 4;
+		Assume.assumeTrue(processNum > threadNumber - 2);
+		test(threadNumber, true);
+	}
+	
+	private void test(int threadNumber, boolean tiled){
+		tile_RT test = new tile_RT();
+		Result result = new Result();
+		result.setTestName(matrixSize + " x " + matrixSize + " matmul" + (tiled ? "_tiled" : ""));		
+		result.setThreadCount(threadNumber);
+		result.setArraySize(matrixSize);
+		
+		long[] runningTime = test.matmul(threadNumber, matrixSize, tiled);
+		result.setTestRunningTime(runningTime[0], runningTime[1]);
+		Data.addResult(result);
+	}
+
+}